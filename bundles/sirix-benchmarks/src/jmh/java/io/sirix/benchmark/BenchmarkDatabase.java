@@ -0,0 +1,92 @@
+package io.sirix.benchmark;
+
+import io.sirix.access.DatabaseConfiguration;
+import io.sirix.access.Databases;
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.access.trx.node.HashType;
+import io.sirix.api.Database;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.exception.SirixIOException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.StringJoiner;
+
+/**
+ * A JSON database with a single resource in a temporary directory, which is removed once it's
+ * closed.
+ */
+final class BenchmarkDatabase implements AutoCloseable {
+
+  /**
+   * The name of the resource.
+   */
+  static final String RESOURCE = "benchmark";
+
+  private final Path databaseFile;
+
+  private final Database<JsonResourceSession> database;
+
+  private final JsonResourceSession session;
+
+  /**
+   * Create a database with a single resource.
+   *
+   * @param resourceConfigBuilder the builder of the resource configuration
+   */
+  BenchmarkDatabase(final ResourceConfiguration.Builder resourceConfigBuilder) {
+    try {
+      databaseFile = Files.createTempDirectory("sirix-benchmark").resolve("database");
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+    Databases.createJsonDatabase(new DatabaseConfiguration(databaseFile));
+    database = Databases.openJsonDatabase(databaseFile);
+    database.createResource(resourceConfigBuilder.build());
+    session = database.beginResourceSession(RESOURCE);
+  }
+
+  /**
+   * Get a builder of the resource configuration with the defaults of the benchmarks, that is without
+   * hashes, as these are not of interest in most benchmarks.
+   *
+   * @return the builder
+   */
+  static ResourceConfiguration.Builder newResourceConfigBuilder() {
+    return ResourceConfiguration.newBuilder(RESOURCE).hashKind(HashType.NONE);
+  }
+
+  /**
+   * Generate a JSON array of objects.
+   *
+   * @param numberOfObjects the number of objects
+   * @return the JSON string
+   */
+  static String generateJson(final int numberOfObjects) {
+    final var json = new StringJoiner(",", "[", "]");
+    for (int i = 0; i < numberOfObjects; i++) {
+      json.add("{\"id\":" + i + ",\"name\":\"name" + (i % 100) + "\",\"value\":" + (i * 0.5)
+                   + ",\"tags\":[\"tag" + (i % 7) + "\",\"tag" + (i % 13) + "\"]}");
+    }
+    return json.toString();
+  }
+
+  JsonResourceSession getSession() {
+    return session;
+  }
+
+  /**
+   * Clear the caches of the resource, such that pages are read from the storage again.
+   */
+  void clearCaches() {
+    Databases.getGlobalBufferManager().getBufferManager(session.getResourceConfig().resourcePath).clearAllCaches();
+  }
+
+  @Override
+  public void close() {
+    session.close();
+    database.close();
+    Databases.removeDatabase(databaseFile);
+  }
+}
@@ -0,0 +1,120 @@
+package io.sirix.benchmark;
+
+import io.brackit.query.atomic.Str;
+import io.brackit.query.jdm.Type;
+import io.brackit.query.util.path.PathException;
+import io.brackit.query.util.path.PathParser;
+import io.sirix.access.trx.node.json.JsonIndexController;
+import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import io.sirix.index.IndexDef;
+import io.sirix.index.IndexDefs;
+import io.sirix.index.SearchMode;
+import io.sirix.index.path.json.JsonPCRCollector;
+import io.sirix.index.redblacktree.keyvalue.NodeReferences;
+import io.sirix.service.json.shredder.JsonShredder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static io.brackit.query.util.path.Path.parse;
+
+/**
+ * Measures lookups in CAS, path and name indexes of a resource.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class IndexLookupBenchmark {
+
+  /**
+   * The number of objects, each of which consists of 11 nodes.
+   */
+  private static final int NUMBER_OF_OBJECTS = 100_000;
+
+  private static final String NAME_PATH = "/[]/name";
+
+  private static final String TAGS_PATH = "/[]/tags/[]";
+
+  private BenchmarkDatabase database;
+
+  private JsonNodeReadOnlyTrx rtx;
+
+  private JsonIndexController indexController;
+
+  private IndexDef casIndexDef;
+
+  private IndexDef pathIndexDef;
+
+  private IndexDef nameIndexDef;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    database = new BenchmarkDatabase(BenchmarkDatabase.newResourceConfigBuilder());
+
+    casIndexDef = IndexDefs.createCASIdxDef(false,
+                                            Type.STR,
+                                            Set.of(parse(NAME_PATH, PathParser.Type.JSON)),
+                                            0,
+                                            IndexDef.DbType.JSON);
+    pathIndexDef = IndexDefs.createPathIdxDef(Set.of(parse(TAGS_PATH, PathParser.Type.JSON)), 0, IndexDef.DbType.JSON);
+    nameIndexDef = IndexDefs.createNameIdxDef(0, IndexDef.DbType.JSON);
+
+    try (final var wtx = database.getSession().beginNodeTrx()) {
+      final JsonIndexController wtxIndexController =
+          database.getSession().getWtxIndexController(wtx.getRevisionNumber());
+      wtxIndexController.createIndexes(Set.of(casIndexDef, pathIndexDef, nameIndexDef), wtx);
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(BenchmarkDatabase.generateJson(NUMBER_OF_OBJECTS)));
+    }
+
+    rtx = database.getSession().beginNodeReadOnlyTrx();
+    indexController = database.getSession().getRtxIndexController(rtx.getRevisionNumber());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    rtx.close();
+    database.close();
+  }
+
+  @Benchmark
+  public void casIndexLookup(final Blackhole blackhole) throws PathException {
+    final var filter =
+        indexController.createCASFilter(Set.of(NAME_PATH), new Str("name42"), SearchMode.EQUAL, new JsonPCRCollector(rtx));
+    consume(indexController.openCASIndex(rtx.getPageTrx(), casIndexDef, filter), blackhole);
+  }
+
+  @Benchmark
+  public void pathIndexLookup(final Blackhole blackhole) throws PathException {
+    final var filter = indexController.createPathFilter(Set.of(TAGS_PATH), rtx);
+    consume(indexController.openPathIndex(rtx.getPageTrx(), pathIndexDef, filter), blackhole);
+  }
+
+  @Benchmark
+  public void nameIndexLookup(final Blackhole blackhole) {
+    final var filter = indexController.createNameFilter(Set.of("name"));
+    consume(indexController.openNameIndex(rtx.getPageTrx(), nameIndexDef, filter), blackhole);
+  }
+
+  private static void consume(final Iterator<NodeReferences> nodeReferences, final Blackhole blackhole) {
+    while (nodeReferences.hasNext()) {
+      blackhole.consume(nodeReferences.next().getNodeKeys().getLongCardinality());
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package io.sirix.benchmark;
+
+import io.sirix.api.json.JsonNodeTrx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.sirix.service.json.shredder.JsonShredder.createStringReader;
+
+/**
+ * Measures the throughput of inserting nodes with a {@link JsonNodeTrx}, either one node at a time
+ * or as a subtree, which is shredded. Each iteration starts with an empty resource.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JsonInsertBenchmark {
+
+  /**
+   * The number of nodes, which are inserted by an invocation.
+   */
+  private static final int NUMBER_OF_NODES = 1_000;
+
+  /**
+   * The number of objects of the subtree, each of which consists of 11 nodes.
+   */
+  private static final int NUMBER_OF_OBJECTS = 1_000;
+
+  private String json;
+
+  private BenchmarkDatabase database;
+
+  private JsonNodeTrx wtx;
+
+  @Setup(Level.Trial)
+  public void generateJson() {
+    json = BenchmarkDatabase.generateJson(NUMBER_OF_OBJECTS);
+  }
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    database = new BenchmarkDatabase(BenchmarkDatabase.newResourceConfigBuilder());
+    wtx = database.getSession().beginNodeTrx();
+    wtx.insertArrayAsFirstChild();
+    wtx.insertNumberValueAsFirstChild(0);
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() {
+    wtx.commit();
+    wtx.close();
+    database.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_NODES)
+  public void insertNumberValues() {
+    for (int i = 0; i < NUMBER_OF_NODES; i++) {
+      wtx.insertNumberValueAsRightSibling(i);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_OBJECTS * 11)
+  public void insertSubtree() {
+    wtx.insertSubtreeAsRightSibling(createStringReader(json), JsonNodeTrx.Commit.NO);
+  }
+}
@@ -0,0 +1,105 @@
+package io.sirix.benchmark;
+
+import io.sirix.service.json.serialize.JsonSerializer;
+import io.sirix.service.json.shredder.JsonShredder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time of the {@link JsonSerializer} to serialize the most recent revision of a resource.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JsonSerializerBenchmark {
+
+  /**
+   * The number of objects, each of which consists of 11 nodes.
+   */
+  private static final int NUMBER_OF_OBJECTS = 100_000;
+
+  @Param({ "false", "true" })
+  private boolean prettyPrint;
+
+  private BenchmarkDatabase database;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    database = new BenchmarkDatabase(BenchmarkDatabase.newResourceConfigBuilder());
+
+    try (final var wtx = database.getSession().beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(BenchmarkDatabase.generateJson(NUMBER_OF_OBJECTS)));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    database.close();
+  }
+
+  @Benchmark
+  public long serialize() {
+    final var writer = new CountingWriter();
+    final var builder = JsonSerializer.newBuilder(database.getSession(), writer);
+    if (prettyPrint) {
+      builder.prettyPrint();
+    }
+    builder.build().call();
+    return writer.numberOfCharacters;
+  }
+
+  /**
+   * Counts the written characters instead of buffering them, such that only the serializer is
+   * measured.
+   */
+  private static final class CountingWriter extends Writer {
+    private long numberOfCharacters;
+
+    @Override
+    public void write(final char[] buffer, final int offset, final int length) {
+      numberOfCharacters += length;
+    }
+
+    @Override
+    public void write(final String string, final int offset, final int length) {
+      numberOfCharacters += length;
+    }
+
+    @Override
+    public Writer append(final CharSequence charSequence) {
+      numberOfCharacters += charSequence == null ? 4 : charSequence.length();
+      return this;
+    }
+
+    @Override
+    public Writer append(final char character) {
+      numberOfCharacters++;
+      return this;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package io.sirix.benchmark;
+
+import io.sirix.api.PageReadOnlyTrx;
+import io.sirix.index.IndexType;
+import io.sirix.io.StorageType;
+import io.sirix.service.json.shredder.JsonShredder;
+import io.sirix.settings.Constants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads one record of each record page of a resource from the storage (with cleared caches), either
+ * in the order of the record pages or in a random order, to compare the storage backends.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StorageReadBenchmark {
+
+  /**
+   * The number of objects, each of which consists of 11 nodes.
+   */
+  private static final int NUMBER_OF_OBJECTS = 100_000;
+
+  /**
+   * The number of record pages, which are read by an invocation.
+   */
+  private static final int NUMBER_OF_PAGES_TO_READ = 1_000;
+
+  public enum Access {
+    SEQUENTIAL,
+
+    RANDOM
+  }
+
+  @Param({ "FILE_CHANNEL", "DIRECT_IO", "MEMORY_MAPPED", "IO_URING" })
+  private StorageType storageType;
+
+  @Param({ "SEQUENTIAL", "RANDOM" })
+  private Access access;
+
+  private BenchmarkDatabase database;
+
+  private long[] recordKeys;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    database = new BenchmarkDatabase(BenchmarkDatabase.newResourceConfigBuilder().storageType(storageType));
+
+    try (final var wtx = database.getSession().beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(BenchmarkDatabase.generateJson(NUMBER_OF_OBJECTS)));
+      final long maxNodeKey = wtx.getMaxNodeKey();
+      final int numberOfPages = (int) (maxNodeKey >> Constants.NDP_NODE_COUNT_EXPONENT);
+
+      recordKeys = new long[NUMBER_OF_PAGES_TO_READ];
+      for (int i = 0; i < NUMBER_OF_PAGES_TO_READ; i++) {
+        // Spread the pages to read over the whole resource.
+        recordKeys[i] = ((long) i * numberOfPages / NUMBER_OF_PAGES_TO_READ) << Constants.NDP_NODE_COUNT_EXPONENT;
+      }
+    }
+
+    if (access == Access.RANDOM) {
+      shuffle(recordKeys, new Random(42));
+    }
+  }
+
+  private static void shuffle(final long[] values, final Random random) {
+    for (int i = values.length - 1; i > 0; i--) {
+      final int j = random.nextInt(i + 1);
+      final long value = values[i];
+      values[i] = values[j];
+      values[j] = value;
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void clearCaches() {
+    database.clearCaches();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    database.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_PAGES_TO_READ)
+  public void readPages(final Blackhole blackhole) {
+    try (final PageReadOnlyTrx pageReadOnlyTrx = database.getSession().beginPageReadOnlyTrx()) {
+      for (final long recordKey : recordKeys) {
+        blackhole.consume(pageReadOnlyTrx.getRecord(recordKey, IndexType.DOCUMENT, -1));
+      }
+    }
+  }
+}
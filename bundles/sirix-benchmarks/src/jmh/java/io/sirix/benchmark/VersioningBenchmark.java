@@ -0,0 +1,106 @@
+package io.sirix.benchmark;
+
+import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import io.sirix.api.json.JsonNodeTrx;
+import io.sirix.node.NodeKind;
+import io.sirix.service.json.shredder.JsonShredder;
+import io.sirix.settings.Constants;
+import io.sirix.settings.VersioningType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the costs to reconstruct the record pages of the most recent revision (with cleared
+ * caches) depending on the versioning type and the number of revisions, in which each page has been
+ * modified.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class VersioningBenchmark {
+
+  /**
+   * The number of objects, each of which consists of 11 nodes.
+   */
+  private static final int NUMBER_OF_OBJECTS = 10_000;
+
+  /**
+   * The number of record pages of the resource.
+   */
+  private static final int NUMBER_OF_PAGES = (NUMBER_OF_OBJECTS * 11) >> Constants.NDP_NODE_COUNT_EXPONENT;
+
+  @Param({ "FULL", "DIFFERENTIAL", "INCREMENTAL", "SLIDING_SNAPSHOT" })
+  private VersioningType versioningType;
+
+  /**
+   * The number of revisions to restore and the number of revisions, in which each page is modified.
+   */
+  @Param({ "1", "4", "8", "16" })
+  private int chainDepth;
+
+  private BenchmarkDatabase database;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    database = new BenchmarkDatabase(BenchmarkDatabase.newResourceConfigBuilder()
+                                                      .versioningApproach(versioningType)
+                                                      .maxNumberOfRevisionsToRestore(chainDepth));
+
+    try (final var wtx = database.getSession().beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(BenchmarkDatabase.generateJson(NUMBER_OF_OBJECTS)));
+
+      for (int revision = 1; revision < chainDepth; revision++) {
+        modifyNumberValuesOfEachPage(wtx, revision);
+        wtx.commit();
+      }
+    }
+  }
+
+  private static void modifyNumberValuesOfEachPage(final JsonNodeTrx wtx, final int revision) {
+    final long maxNodeKey = wtx.getMaxNodeKey();
+    for (long nodeKey = revision % 16; nodeKey <= maxNodeKey; nodeKey += 16) {
+      if (wtx.moveTo(nodeKey) && wtx.getKind() == NodeKind.NUMBER_VALUE) {
+        wtx.setNumberValue(revision);
+      }
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void clearCaches() {
+    database.clearCaches();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    database.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_PAGES)
+  public void reconstructPages(final Blackhole blackhole) {
+    try (final JsonNodeReadOnlyTrx rtx = database.getSession().beginNodeReadOnlyTrx()) {
+      for (int page = 0; page < NUMBER_OF_PAGES; page++) {
+        rtx.moveTo((long) page << Constants.NDP_NODE_COUNT_EXPONENT);
+        blackhole.consume(rtx.getKind());
+      }
+    }
+  }
+}
@@ -5,6 +5,7 @@ import io.sirix.api.*;
 import io.sirix.api.json.JsonResourceSession;
 import io.sirix.api.xml.XmlResourceSession;
 import io.sirix.cache.BufferManager;
+import io.sirix.cache.GlobalBufferManager;
 import io.sirix.exception.SirixIOException;
 import io.sirix.exception.SirixUsageException;
 import io.sirix.utils.LogWrapper;
@@ -18,9 +19,12 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
 
 import static java.util.Objects.requireNonNull;
 
@@ -50,11 +54,62 @@ public final class Databases {
    */
   private static final ConcurrentMap<Path, ConcurrentMap<Path, BufferManager>> BUFFER_MANAGERS = new ConcurrentHashMap<>();
 
+  /**
+   * Memory budget of the caches of all resources, a quarter of the maximum heap size.
+   */
+  private static final long MAX_BUFFER_SIZE = Runtime.getRuntime().maxMemory() >> 2;
+
+  /**
+   * Buffer pool, which shares the budget between the caches of all resources. A quarter of the
+   * budget is used to keep record pages off-heap once they are evicted from the heap.
+   */
+  private static final GlobalBufferManager GLOBAL_BUFFER_MANAGER =
+      new GlobalBufferManager(MAX_BUFFER_SIZE, MAX_BUFFER_SIZE >> 2);
+
   /**
    * DI component that manages the database.
    */
   static final DatabaseManager MANAGER = DaggerDatabaseManager.create();
 
+  /**
+   * The number of locks, which guard creating, opening and removing databases.
+   */
+  private static final int NUMBER_OF_PATH_LOCKS = 64;
+
+  /**
+   * Locks, which guard creating, opening and removing databases, chosen by the database path, such
+   * that databases on different paths can be opened concurrently.
+   */
+  private static final ReentrantLock[] PATH_LOCKS = new ReentrantLock[NUMBER_OF_PATH_LOCKS];
+
+  static {
+    Arrays.setAll(PATH_LOCKS, unused -> new ReentrantLock());
+  }
+
+  /**
+   * The open databases, which are shared by all threads opening a database on the same path for the
+   * same user.
+   */
+  private static final ConcurrentMap<OpenDatabaseKey, SharedDatabase<?>> OPEN_DATABASES = new ConcurrentHashMap<>();
+
+  /**
+   * The key of an open database.
+   *
+   * @param databaseFile the normalized database path
+   * @param databaseType the type of the database
+   * @param user         the user, or {@code null} for the admin user
+   */
+  private record OpenDatabaseKey(Path databaseFile, DatabaseType databaseType, User user) {
+  }
+
+  private static ReentrantLock getPathLock(final Path databaseFile) {
+    return PATH_LOCKS[Math.floorMod(normalize(databaseFile).hashCode(), NUMBER_OF_PATH_LOCKS)];
+  }
+
+  private static Path normalize(final Path databaseFile) {
+    return databaseFile.toAbsolutePath().normalize();
+  }
+
   /**
    * Get the database type
    *
@@ -73,8 +128,8 @@ public final class Databases {
    * @return true if creation is valid, false otherwise
    * @throws SirixIOException if something odd happens within the creation process.
    */
-  public static synchronized boolean createXmlDatabase(final DatabaseConfiguration dbConfig) {
-    return createTheDatabase(dbConfig.setDatabaseType(DatabaseType.XML));
+  public static boolean createXmlDatabase(final DatabaseConfiguration dbConfig) {
+    return createDatabase(dbConfig.setDatabaseType(DatabaseType.XML));
   }
 
   /**
@@ -85,8 +140,18 @@ public final class Databases {
    * @return true if creation is valid, false otherwise
    * @throws SirixIOException if something odd happens within the creation process.
    */
-  public static synchronized boolean createJsonDatabase(final DatabaseConfiguration dbConfig) {
-    return createTheDatabase(dbConfig.setDatabaseType(DatabaseType.JSON));
+  public static boolean createJsonDatabase(final DatabaseConfiguration dbConfig) {
+    return createDatabase(dbConfig.setDatabaseType(DatabaseType.JSON));
+  }
+
+  private static boolean createDatabase(final DatabaseConfiguration dbConfig) {
+    final var lock = getPathLock(dbConfig.getDatabaseFile());
+    lock.lock();
+    try {
+      return createTheDatabase(dbConfig);
+    } finally {
+      lock.unlock();
+    }
   }
 
   private static boolean createTheDatabase(final DatabaseConfiguration dbConfig) {
@@ -157,7 +222,17 @@ public final class Databases {
    * @param dbFile the database at this path should be deleted
    * @throws SirixIOException if Sirix fails to delete the database
    */
-  public static synchronized void removeDatabase(final Path dbFile) {
+  public static void removeDatabase(final Path dbFile) {
+    final var lock = getPathLock(dbFile);
+    lock.lock();
+    try {
+      removeTheDatabase(dbFile);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static void removeTheDatabase(final Path dbFile) {
     // check that database must be closed beforehand and if file is existing and folder is a sirix-database, delete it
     if (!MANAGER.sessions().containsAnyEntry(dbFile) && Files.exists(dbFile)) {
       if (DatabaseConfiguration.DatabasePaths.compareStructure(dbFile) == 0) {
@@ -173,8 +248,8 @@ public final class Databases {
 
       ConcurrentMap<Path, BufferManager> bufferManagers = BUFFER_MANAGERS.remove(dbFile);
       if (bufferManagers != null && !bufferManagers.isEmpty()) {
-        // TODO: Why is this necessary? BUG!
-        bufferManagers.values().forEach(BufferManager::clearAllCaches);
+        // Entries of the resources must not be found, if a resource with the same path is created again.
+        bufferManagers.keySet().forEach(GLOBAL_BUFFER_MANAGER::removeBufferManager);
       }
       SirixFiles.recursiveRemove(dbFile);
     }
@@ -200,8 +275,9 @@ public final class Databases {
   }
 
   /**
-   * Open database. A database can be opened only once (even across JVMs). Afterwards a singleton
-   * instance bound to the {@link File} is returned.
+   * Open database. A database can be opened only once (even across JVMs). Afterwards the instance
+   * bound to the {@link File} and the user is shared. Each call returns a new handle, which has to be
+   * closed, and the database is closed once all of its handles have been closed.
    *
    * @param file determines where the database is located
    * @param user user used to open the database
@@ -210,13 +286,14 @@ public final class Databases {
    * @throws SirixUsageException  if Sirix is not used properly
    * @throws NullPointerException if {@code file} is {@code null}
    */
-  public static synchronized Database<XmlResourceSession> openXmlDatabase(final Path file, final User user) {
-    return openDatabase(file, user, DatabaseType.XML);
+  public static Database<XmlResourceSession> openXmlDatabase(final Path file, final User user) {
+    return openSharedDatabase(file, user, DatabaseType.XML);
   }
 
   /**
-   * Open database. A database can be opened only once (even across JVMs). Afterwards a singleton
-   * instance bound to the {@link File} is returned.
+   * Open database. A database can be opened only once (even across JVMs). Afterwards the instance
+   * bound to the {@link File} and the user is shared. Each call returns a new handle, which has to be
+   * closed, and the database is closed once all of its handles have been closed.
    *
    * @param file determines where the database is located
    * @param user the user who interacts with the db
@@ -225,13 +302,14 @@ public final class Databases {
    * @throws SirixUsageException  if Sirix is not used properly
    * @throws NullPointerException if {@code file} is {@code null}
    */
-  public static synchronized Database<JsonResourceSession> openJsonDatabase(final Path file, final User user) {
-    return openDatabase(file, user, DatabaseType.JSON);
+  public static Database<JsonResourceSession> openJsonDatabase(final Path file, final User user) {
+    return openSharedDatabase(file, user, DatabaseType.JSON);
   }
 
   /**
-   * Open database. A database can be opened only once (even across JVMs). Afterwards a singleton
-   * instance bound to the {@link File} is returned.
+   * Open database. A database can be opened only once (even across JVMs). Afterwards the instance
+   * bound to the {@link File} and the user is shared. Each call returns a new handle, which has to be
+   * closed, and the database is closed once all of its handles have been closed.
    *
    * @param file determines where the database is located
    * @return {@link Database} instance.
@@ -239,8 +317,8 @@ public final class Databases {
    * @throws SirixUsageException  if Sirix is not used properly
    * @throws NullPointerException if {@code file} is {@code null}
    */
-  public static synchronized Database<JsonResourceSession> openJsonDatabase(final Path file) {
-    return openDatabase(file, createAdminUser(), DatabaseType.JSON);
+  public static Database<JsonResourceSession> openJsonDatabase(final Path file) {
+    return openSharedDatabase(file, null, DatabaseType.JSON);
   }
 
   /**
@@ -253,8 +331,9 @@ public final class Databases {
   }
 
   /**
-   * Open database. A database can be opened only once (even across JVMs). Afterwards a singleton
-   * instance bound to the {@link File} is returned.
+   * Open database. A database can be opened only once (even across JVMs). Afterwards the instance
+   * bound to the {@link File} and the user is shared. Each call returns a new handle, which has to be
+   * closed, and the database is closed once all of its handles have been closed.
    *
    * @param file determines where the database is located
    * @return {@link Database} instance.
@@ -262,8 +341,55 @@ public final class Databases {
    * @throws SirixUsageException  if Sirix is not used properly
    * @throws NullPointerException if {@code file} is {@code null}
    */
-  public static synchronized Database<XmlResourceSession> openXmlDatabase(final Path file) {
-    return openDatabase(file, createAdminUser(), DatabaseType.XML);
+  public static Database<XmlResourceSession> openXmlDatabase(final Path file) {
+    return openSharedDatabase(file, null, DatabaseType.XML);
+  }
+
+  private static <M extends ResourceSession<R, W>, R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor> Database<M> openSharedDatabase(
+      final Path file, final User user, final DatabaseType databaseType) {
+    requireNonNull(file);
+    final var key = new OpenDatabaseKey(normalize(file), databaseType, user);
+
+    // Fast path without locking, if the database is already open.
+    final Database<M> openHandle = newHandleOfOpenDatabase(key);
+    if (openHandle != null) {
+      return openHandle;
+    }
+
+    final var lock = getPathLock(file);
+    lock.lock();
+    try {
+      final Database<M> handle = newHandleOfOpenDatabase(key);
+      if (handle != null) {
+        return handle;
+      }
+
+      final Database<M> database = openDatabase(file, user == null ? createAdminUser() : user, databaseType);
+      final var sharedDatabase = new SharedDatabase<M>(database,
+                                                       lock,
+                                                       newResourceSessionHandle(databaseType),
+                                                       closedDatabase -> OPEN_DATABASES.remove(key, closedDatabase));
+      final Database<M> firstHandle = sharedDatabase.firstHandle();
+      OPEN_DATABASES.put(key, sharedDatabase);
+      return firstHandle;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <M extends ResourceSession<? extends NodeReadOnlyTrx, ? extends NodeTrx>> BiFunction<M, Runnable, M> newResourceSessionHandle(
+      final DatabaseType databaseType) {
+    return switch (databaseType) {
+      case JSON -> (session, onClose) -> (M) new ResourceSessionHandle.Json((JsonResourceSession) session, onClose);
+      case XML -> (session, onClose) -> (M) new ResourceSessionHandle.Xml((XmlResourceSession) session, onClose);
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <M extends ResourceSession<? extends NodeReadOnlyTrx, ? extends NodeTrx>> Database<M> newHandleOfOpenDatabase(final OpenDatabaseKey key) {
+    final var openDatabase = (SharedDatabase<M>) OPEN_DATABASES.get(key);
+    return openDatabase == null ? null : openDatabase.newHandle();
   }
 
   private static <M extends ResourceSession<R, W>, R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor> Database<M> openDatabase(
@@ -285,11 +411,20 @@ public final class Databases {
    * @param dbPath database path
    * @return {@code true}, if database exists, {@code false} otherwise
    */
-  public static synchronized boolean existsDatabase(final Path dbPath) {
+  public static boolean existsDatabase(final Path dbPath) {
     return Files.exists(dbPath) && DatabaseConfiguration.DatabasePaths.compareStructure(dbPath) == 0;
   }
 
   public static ConcurrentMap<Path, BufferManager> getBufferManager(Path databaseFile) {
     return BUFFER_MANAGERS.computeIfAbsent(databaseFile, (unused) -> new ConcurrentHashMap<>());
   }
+
+  /**
+   * Get the buffer pool, which is shared by all resources.
+   *
+   * @return the global buffer manager
+   */
+  public static GlobalBufferManager getGlobalBufferManager() {
+    return GLOBAL_BUFFER_MANAGER;
+  }
 }
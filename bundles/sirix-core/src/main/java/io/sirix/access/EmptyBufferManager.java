@@ -15,6 +15,8 @@ public final class EmptyBufferManager implements BufferManager {
 
   private static final EmptyCache<Integer, RevisionRootPage> REVISION_ROOT_PAGE_CACHE = new EmptyCache<>();
 
+  private static final EmptyCache<IndexLogKey, PageReference> RECONSTRUCTED_PAGE_CACHE = new EmptyCache<>();
+
   private static final EmptyCache<RBIndexKey, Node> INDEX_CACHE = new EmptyCache<>();
 
   private static final EmptyCache<NamesCacheKey, Names> NAMES_CACHE = new EmptyCache<>();
@@ -39,6 +41,11 @@ public final class EmptyBufferManager implements BufferManager {
     return REVISION_ROOT_PAGE_CACHE;
   }
 
+  @Override
+  public Cache<IndexLogKey, PageReference> getReconstructedPageCache() {
+    return RECONSTRUCTED_PAGE_CACHE;
+  }
+
   @Override
   public Cache<RBIndexKey, Node> getIndexCache() {
     return INDEX_CACHE;
@@ -11,7 +11,6 @@ import com.google.crypto.tink.streamingaead.StreamingAeadKeyTemplates;
 import io.sirix.access.trx.node.AfterCommitState;
 import io.sirix.api.*;
 import io.sirix.cache.BufferManager;
-import io.sirix.cache.BufferManagerImpl;
 import io.sirix.exception.SirixException;
 import io.sirix.exception.SirixIOException;
 import io.sirix.exception.SirixUsageException;
@@ -118,12 +117,8 @@ public final class LocalDatabase<T extends ResourceSession<? extends NodeReadOnl
     this.bufferManagers = Databases.getBufferManager(dbConfig.getDatabaseFile());
   }
 
-  private void addResourceToBufferManagerMapping(Path resourceFile, ResourceConfiguration resourceConfig) {
-    if (resourceConfig.getStorageType() == StorageType.MEMORY_MAPPED) {
-      bufferManagers.put(resourceFile, new BufferManagerImpl(100, 1_000, 5_000, 50_000, 500, 20));
-    } else {
-      bufferManagers.put(resourceFile, new BufferManagerImpl(500, 1_000, 5_000, 50_000, 500, 20));
-    }
+  private void addResourceToBufferManagerMapping(Path resourceFile) {
+    bufferManagers.put(resourceFile, Databases.getGlobalBufferManager().getBufferManager(resourceFile));
   }
 
   @Override
@@ -152,7 +147,7 @@ public final class LocalDatabase<T extends ResourceSession<? extends NodeReadOnl
 
     // Add resource to buffer manager mapping.
     if (!bufferManagers.containsKey(resourcePath)) {
-      addResourceToBufferManagerMapping(resourcePath, resourceConfig);
+      addResourceToBufferManagerMapping(resourcePath);
     }
 
     return resourceStore.beginResourceSession(resourceConfig, bufferManagers.get(resourcePath), resourcePath);
@@ -224,7 +219,7 @@ public final class LocalDatabase<T extends ResourceSession<? extends NodeReadOnl
     }
 
     if (!bufferManagers.containsKey(path)) {
-      addResourceToBufferManagerMapping(path, resourceConfig);
+      addResourceToBufferManagerMapping(path);
     }
 
     return returnVal;
@@ -284,13 +279,8 @@ public final class LocalDatabase<T extends ResourceSession<? extends NodeReadOnl
 
       this.writeLocks.removeWriteLock(resourceFile);
 
-      var bufferManager = bufferManagers.remove(resourceFile);
-      if (bufferManager != null) {
-        try {
-          bufferManager.clearAllCaches();
-        } catch (Exception e) {
-          throw new RuntimeException(e);
-        }
+      if (bufferManagers.remove(resourceFile) != null) {
+        Databases.getGlobalBufferManager().removeBufferManager(resourceFile);
       }
 
       final var cache = StorageType.CACHE_REPOSITORY.remove(resourceFile);
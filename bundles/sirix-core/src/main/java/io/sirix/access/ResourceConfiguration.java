@@ -34,6 +34,7 @@ import com.google.gson.stream.JsonWriter;
 import io.sirix.access.trx.node.HashType;
 import io.sirix.node.NodeSerializerImpl;
 import io.sirix.node.interfaces.RecordSerializer;
+import io.sirix.node.compression.ValueCodecs;
 import net.openhft.hashing.LongHashFunction;
 import org.checkerframework.checker.index.qual.NonNegative;
 import io.sirix.BinaryEncodingVersion;
@@ -295,6 +296,17 @@ public final class ResourceConfiguration {
    */
   private final BinaryEncodingVersion binaryVersion;
 
+  /**
+   * The minimum number of page fragments, from which a record page has to be reconstructed, such
+   * that a full page checkpoint is written during the next commit ({@code 0} disables checkpoints).
+   */
+  private final int pageCheckpointThreshold;
+
+  /**
+   * The name of the codec, with which node values are compressed.
+   */
+  private final String valueCodec;
+
   // END MEMBERS FOR FIXED FIELDS
 
   /**
@@ -330,6 +342,8 @@ public final class ResourceConfiguration {
     customCommitTimestamps = builder.customCommitTimestamps;
     storeNodeHistory = builder.storeNodeHistory;
     binaryVersion = builder.binaryEncodingVersion;
+    pageCheckpointThreshold = builder.pageCheckpointThreshold;
+    valueCodec = builder.valueCodec;
   }
 
   public BinaryEncodingVersion getBinaryEncodingVersion() {
@@ -442,13 +456,34 @@ public final class ResourceConfiguration {
     return storeNodeHistory;
   }
 
+  /**
+   * Get the minimum number of page fragments, from which a record page has to be reconstructed, such
+   * that a full page checkpoint is written during the next commit.
+   *
+   * @return the threshold or {@code 0}, if no checkpoints are written
+   */
+  public int pageCheckpointThreshold() {
+    return pageCheckpointThreshold;
+  }
+
+  /**
+   * Get the name of the codec, with which node values are compressed.
+   *
+   * @return the name of the codec
+   * @see ValueCodecs
+   */
+  public String valueCodec() {
+    return valueCodec;
+  }
+
   /**
    * JSON names.
    */
   private static final String[] JSONNAMES =
       { "binaryEncoding", "revisioning", "revisioningClass", "numbersOfRevisiontoRestore", "byteHandlerClasses",
           "storageKind", "hashKind", "hashFunction", "compression", "pathSummary", "resourceID", "deweyIDsStored",
-          "persistenter", "storeDiffs", "customCommitTimestamps", "storeNodeHistory", "storeChildCount" };
+          "persistenter", "storeDiffs", "customCommitTimestamps", "storeNodeHistory", "storeChildCount",
+          "pageCheckpointThreshold", "valueCodec" };
 
   /**
    * Serialize the configuration.
@@ -500,6 +535,10 @@ public final class ResourceConfiguration {
       jsonWriter.name(JSONNAMES[15]).value(config.storeNodeHistory);
       // Child count.
       jsonWriter.name(JSONNAMES[16]).value(config.storeChildCount);
+      // Page checkpoint threshold.
+      jsonWriter.name(JSONNAMES[17]).value(config.pageCheckpointThreshold);
+      // Value codec.
+      jsonWriter.name(JSONNAMES[18]).value(config.valueCodec);
       jsonWriter.endObject();
     } catch (final IOException e) {
       throw new SirixIOException(e);
@@ -596,6 +635,20 @@ public final class ResourceConfiguration {
       name = jsonReader.nextName();
       assert name.equals(JSONNAMES[16]);
       final boolean storeChildCount = jsonReader.nextBoolean();
+      // Missing in configurations of resources, which have been created before checkpoints were added.
+      int pageCheckpointThreshold = 0;
+      if (jsonReader.hasNext()) {
+        name = jsonReader.nextName();
+        assert name.equals(JSONNAMES[17]);
+        pageCheckpointThreshold = jsonReader.nextInt();
+      }
+      // Missing in configurations of resources, which have been created before value codecs were added.
+      String valueCodec = ValueCodecs.DEFAULT_CODEC;
+      if (jsonReader.hasNext()) {
+        name = jsonReader.nextName();
+        assert name.equals(JSONNAMES[18]);
+        valueCodec = jsonReader.nextString();
+      }
 
       jsonReader.endObject();
       jsonReader.close();
@@ -619,7 +672,9 @@ public final class ResourceConfiguration {
              .storeDiffs(storeDiffs)
              .storeChildCount(storeChildCount)
              .customCommitTimestamps(customCommitTimestamps)
-             .storeNodeHistory(storeNodeHistory);
+             .storeNodeHistory(storeNodeHistory)
+             .pageCheckpointThreshold(pageCheckpointThreshold)
+             .valueCodec(valueCodec);
 
       // Deserialized instance.
       final ResourceConfiguration config = new ResourceConfiguration(builder);
@@ -713,6 +768,17 @@ public final class ResourceConfiguration {
 
     private BinaryEncodingVersion binaryEncodingVersion = BINARY_ENCODING_VERSION;
 
+    /**
+     * The minimum number of page fragments, from which a record page has to be reconstructed, such
+     * that a full page checkpoint is written during the next commit.
+     */
+    private int pageCheckpointThreshold;
+
+    /**
+     * The name of the codec, with which node values are compressed.
+     */
+    private String valueCodec = ValueCodecs.DEFAULT_CODEC;
+
     /**
      * Constructor, setting the mandatory fields.
      *
@@ -869,6 +935,39 @@ public final class ResourceConfiguration {
       return this;
     }
 
+    /**
+     * Set the minimum number of page fragments, from which a record page has to be reconstructed by a
+     * read-only transaction, such that the next commit writes the complete page as a checkpoint.
+     * Readers of later revisions then don't have to read and combine the fragments anymore.
+     *
+     * @param pageCheckpointThreshold the threshold, which must be {@code >= 2}, or {@code 0} to disable
+     *                                checkpoints (the default)
+     * @return reference to the builder object
+     */
+    public Builder pageCheckpointThreshold(final @NonNegative int pageCheckpointThreshold) {
+      checkArgument(pageCheckpointThreshold == 0 || pageCheckpointThreshold >= 2,
+                    "pageCheckpointThreshold must be 0 or >= 2!");
+      this.pageCheckpointThreshold = pageCheckpointThreshold;
+      return this;
+    }
+
+    /**
+     * Set the codec, with which the values of text, string, attribute, comment and processing
+     * instruction nodes are compressed, if text compression is enabled. Besides the built-in
+     * {@code deflate} (the default), {@code lz4} and {@code symbol-table} codecs, the codecs of
+     * {@link io.sirix.node.compression.ValueCodecFactory}s found by the {@link java.util.ServiceLoader}
+     * are available.
+     *
+     * @param valueCodec the name of the codec
+     * @return reference to the builder object
+     * @throws IllegalArgumentException if no codec with the given name is available
+     */
+    public Builder valueCodec(final String valueCodec) {
+      ValueCodecs.getFactory(valueCodec);
+      this.valueCodec = valueCodec;
+      return this;
+    }
+
     /**
      * Set the binary encoding version number.
      *
@@ -895,6 +994,8 @@ public final class ResourceConfiguration {
                         .add("Store node history", storeNodeHistory)
                         .add("Custom commit timestamps", customCommitTimestamps)
                         .add("Max number of revisions to restore", maxNumberOfRevisionsToRestore)
+                        .add("Page checkpoint threshold", pageCheckpointThreshold)
+                        .add("Value codec", valueCodec)
                         .add("Use deweyIDs", useDeweyIDs)
                         .add("Byte handler pipeline", byteHandler)
                         .toString();
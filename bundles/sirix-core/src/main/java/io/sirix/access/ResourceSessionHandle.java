@@ -0,0 +1,295 @@
+package io.sirix.access;
+
+import io.sirix.access.trx.node.AfterCommitState;
+import io.sirix.access.trx.node.IndexController;
+import io.sirix.api.NodeCursor;
+import io.sirix.api.NodeReadOnlyTrx;
+import io.sirix.api.NodeTrx;
+import io.sirix.api.PageReadOnlyTrx;
+import io.sirix.api.PageTrx;
+import io.sirix.api.ResourceSession;
+import io.sirix.api.RevisionInfo;
+import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import io.sirix.api.json.JsonNodeTrx;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.api.xml.XmlNodeReadOnlyTrx;
+import io.sirix.api.xml.XmlNodeTrx;
+import io.sirix.api.xml.XmlResourceSession;
+import io.sirix.cache.Cache;
+import io.sirix.cache.RBIndexKey;
+import io.sirix.index.path.summary.PathSummaryReader;
+import io.sirix.node.interfaces.Node;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The handle of a resource session, which is shared by the handles of a {@link SharedDatabase}. All
+ * methods are forwarded to the shared session, but closing the handle only releases it, such that
+ * the session stays open for the other handles.
+ *
+ * @param <R> the type of the read-only transactions
+ * @param <W> the type of the read/write transactions
+ */
+abstract class ResourceSessionHandle<R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor>
+    implements ResourceSession<R, W> {
+
+  /**
+   * The shared resource session.
+   */
+  private final ResourceSession<R, W> session;
+
+  /**
+   * Invoked once the handle has been closed.
+   */
+  private final Runnable onClose;
+
+  /**
+   * Determines if the handle has been closed.
+   */
+  private final AtomicBoolean isClosed = new AtomicBoolean();
+
+  /**
+   * Constructor.
+   *
+   * @param session the shared resource session
+   * @param onClose invoked once the handle has been closed, in order to release the session
+   */
+  ResourceSessionHandle(final ResourceSession<R, W> session, final Runnable onClose) {
+    this.session = requireNonNull(session);
+    this.onClose = requireNonNull(onClose);
+  }
+
+  private void assertNotClosed() {
+    if (isClosed.get()) {
+      throw new IllegalStateException("Resource manager is already closed!");
+    }
+  }
+
+  @Override
+  public Path getResourcePath() {
+    return session.getResourcePath();
+  }
+
+  @Override
+  public List<RevisionInfo> getHistory() {
+    assertNotClosed();
+    return session.getHistory();
+  }
+
+  @Override
+  public List<RevisionInfo> getHistory(final int revisions) {
+    assertNotClosed();
+    return session.getHistory(revisions);
+  }
+
+  @Override
+  public List<RevisionInfo> getHistory(final int fromRevision, final int toRevision) {
+    assertNotClosed();
+    return session.getHistory(fromRevision, toRevision);
+  }
+
+  @Override
+  public Optional<W> getNodeTrx() {
+    assertNotClosed();
+    return session.getNodeTrx();
+  }
+
+  @Override
+  public PageReadOnlyTrx beginPageReadOnlyTrx() {
+    assertNotClosed();
+    return session.beginPageReadOnlyTrx();
+  }
+
+  @Override
+  public PageReadOnlyTrx beginPageReadOnlyTrx(final int revision) {
+    assertNotClosed();
+    return session.beginPageReadOnlyTrx(revision);
+  }
+
+  @Override
+  public PageTrx beginPageTrx() {
+    assertNotClosed();
+    return session.beginPageTrx();
+  }
+
+  @Override
+  public PageTrx beginPageTrx(final int revision) {
+    assertNotClosed();
+    return session.beginPageTrx(revision);
+  }
+
+  @Override
+  public R beginNodeReadOnlyTrx() {
+    assertNotClosed();
+    return session.beginNodeReadOnlyTrx();
+  }
+
+  @Override
+  public R beginNodeReadOnlyTrx(final int revision) {
+    assertNotClosed();
+    return session.beginNodeReadOnlyTrx(revision);
+  }
+
+  @Override
+  public R beginNodeReadOnlyTrx(final Instant pointInTime) {
+    assertNotClosed();
+    return session.beginNodeReadOnlyTrx(pointInTime);
+  }
+
+  @Override
+  public W beginNodeTrx(final AfterCommitState afterCommitState) {
+    assertNotClosed();
+    return session.beginNodeTrx(afterCommitState);
+  }
+
+  @Override
+  public W beginNodeTrx(final int maxNodes, final AfterCommitState afterCommitState) {
+    assertNotClosed();
+    return session.beginNodeTrx(maxNodes, afterCommitState);
+  }
+
+  @Override
+  public W beginNodeTrx(final int maxTime, final TimeUnit timeUnit, final AfterCommitState afterCommitState) {
+    assertNotClosed();
+    return session.beginNodeTrx(maxTime, timeUnit, afterCommitState);
+  }
+
+  @Override
+  public W beginNodeTrx(final int maxNodes, final int maxTime, final TimeUnit timeUnit,
+      final AfterCommitState afterCommitState) {
+    assertNotClosed();
+    return session.beginNodeTrx(maxNodes, maxTime, timeUnit, afterCommitState);
+  }
+
+  @Override
+  public W beginNodeTrx() {
+    assertNotClosed();
+    return session.beginNodeTrx();
+  }
+
+  @Override
+  public W beginNodeTrx(final int maxNodes) {
+    assertNotClosed();
+    return session.beginNodeTrx(maxNodes);
+  }
+
+  @Override
+  public W beginNodeTrx(final int maxTime, final TimeUnit timeUnit) {
+    assertNotClosed();
+    return session.beginNodeTrx(maxTime, timeUnit);
+  }
+
+  @Override
+  public W beginNodeTrx(final int maxNodeCount, final int maxTime, final TimeUnit timeUnit) {
+    assertNotClosed();
+    return session.beginNodeTrx(maxNodeCount, maxTime, timeUnit);
+  }
+
+  @Override
+  public PathSummaryReader openPathSummary(final int revision) {
+    assertNotClosed();
+    return session.openPathSummary(revision);
+  }
+
+  @Override
+  public PathSummaryReader openPathSummary() {
+    assertNotClosed();
+    return session.openPathSummary();
+  }
+
+  @Override
+  public int getRevisionNumber(final Instant pointInTime) {
+    assertNotClosed();
+    return session.getRevisionNumber(pointInTime);
+  }
+
+  @Override
+  public void close() {
+    if (isClosed.compareAndSet(false, true)) {
+      onClose.run();
+    }
+  }
+
+  @Override
+  public boolean isClosed() {
+    return isClosed.get() || session.isClosed();
+  }
+
+  @Override
+  public int getMostRecentRevisionNumber() {
+    assertNotClosed();
+    return session.getMostRecentRevisionNumber();
+  }
+
+  @Override
+  public ResourceConfiguration getResourceConfig() {
+    return session.getResourceConfig();
+  }
+
+  @Override
+  public <C extends IndexController<R, W>> C getRtxIndexController(final int revision) {
+    assertNotClosed();
+    return session.getRtxIndexController(revision);
+  }
+
+  @Override
+  public <C extends IndexController<R, W>> C getWtxIndexController(final int revision) {
+    assertNotClosed();
+    return session.getWtxIndexController(revision);
+  }
+
+  @Override
+  public Optional<R> getNodeReadTrxByTrxId(final Long ID) {
+    assertNotClosed();
+    return session.getNodeReadTrxByTrxId(ID);
+  }
+
+  @Override
+  public boolean hasRunningNodeWriteTrx() {
+    assertNotClosed();
+    return session.hasRunningNodeWriteTrx();
+  }
+
+  @Override
+  public Optional<User> getUser() {
+    return session.getUser();
+  }
+
+  @Override
+  public Cache<RBIndexKey, Node> getIndexCache() {
+    assertNotClosed();
+    return session.getIndexCache();
+  }
+
+  @Override
+  public String toString() {
+    return session.toString();
+  }
+
+  /**
+   * The handle of a JSON resource session.
+   */
+  static final class Json extends ResourceSessionHandle<JsonNodeReadOnlyTrx, JsonNodeTrx>
+      implements JsonResourceSession {
+    Json(final JsonResourceSession session, final Runnable onClose) {
+      super(session, onClose);
+    }
+  }
+
+  /**
+   * The handle of an XML resource session.
+   */
+  static final class Xml extends ResourceSessionHandle<XmlNodeReadOnlyTrx, XmlNodeTrx>
+      implements XmlResourceSession {
+    Xml(final XmlResourceSession session, final Runnable onClose) {
+      super(session, onClose);
+    }
+  }
+}
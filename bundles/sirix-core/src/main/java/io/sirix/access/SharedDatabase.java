@@ -0,0 +1,300 @@
+package io.sirix.access;
+
+import io.sirix.api.Database;
+import io.sirix.api.NodeReadOnlyTrx;
+import io.sirix.api.NodeTrx;
+import io.sirix.api.ResourceSession;
+import io.sirix.api.Transaction;
+import org.checkerframework.checker.index.qual.NonNegative;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A reference counted database, which is shared by all threads opening the database on the same path
+ * for the same user. Each opener gets its own handle. Closing a handle releases it, and the database
+ * is closed once all of its handles have been released. Acquiring and releasing a handle, which
+ * isn't the last one, doesn't lock. Releasing the last handle closes the database under the lock of
+ * the path, such that no other database is opened on the same path until the database is closed.
+ * <p>
+ * The resource sessions of the database are shared as well. A handle gets its own handle of a
+ * resource session, which is released once it's closed or once the database handle is closed. A
+ * resource session is closed once all of its handles have been released.
+ * </p>
+ *
+ * @param <T> the type of the resource sessions
+ */
+final class SharedDatabase<T extends ResourceSession<? extends NodeReadOnlyTrx, ? extends NodeTrx>> {
+
+  /**
+   * The shared database.
+   */
+  private final Database<T> database;
+
+  /**
+   * The lock of the path of the database, which is also held while opening databases on the path.
+   */
+  private final Lock pathLock;
+
+  /**
+   * Invoked once the database has been closed.
+   */
+  private final Consumer<SharedDatabase<T>> onClose;
+
+  /**
+   * Creates the handle of a shared resource session, which invokes the given action once it's closed.
+   */
+  private final BiFunction<T, Runnable, T> newResourceSessionHandle;
+
+  /**
+   * The number of handles, which haven't been released, or {@code -1} once the database is closed.
+   */
+  private final AtomicInteger references = new AtomicInteger();
+
+  /**
+   * The shared resource sessions by resource name.
+   */
+  private final ConcurrentMap<String, SharedResourceSession> resourceSessions = new ConcurrentHashMap<>();
+
+  /**
+   * A resource session with the number of its handles, which haven't been released.
+   */
+  private final class SharedResourceSession {
+    private final T session;
+
+    private int references;
+
+    SharedResourceSession(final T session) {
+      this.session = session;
+    }
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param database                 the database to share
+   * @param pathLock                 the lock of the path of the database
+   * @param newResourceSessionHandle creates the handle of a shared resource session, which invokes the
+   *                                 given action once it's closed
+   * @param onClose                  invoked once the database has been closed
+   */
+  SharedDatabase(final Database<T> database, final Lock pathLock,
+      final BiFunction<T, Runnable, T> newResourceSessionHandle, final Consumer<SharedDatabase<T>> onClose) {
+    this.database = requireNonNull(database);
+    this.pathLock = requireNonNull(pathLock);
+    this.newResourceSessionHandle = requireNonNull(newResourceSessionHandle);
+    this.onClose = requireNonNull(onClose);
+  }
+
+  /**
+   * Get a new handle of the database.
+   *
+   * @return the handle or {@code null}, if the database has been closed in the meantime
+   */
+  Database<T> newHandle() {
+    int currentReferences;
+    do {
+      currentReferences = references.get();
+      if (currentReferences <= 0) {
+        return null;
+      }
+    } while (!references.compareAndSet(currentReferences, currentReferences + 1));
+
+    return new Handle();
+  }
+
+  /**
+   * Get a handle of the database, which has just been opened.
+   *
+   * @return the first handle
+   */
+  Database<T> firstHandle() {
+    if (!references.compareAndSet(0, 1)) {
+      throw new IllegalStateException("The database has already been shared.");
+    }
+    return new Handle();
+  }
+
+  /**
+   * Acquire the shared resource session of a resource, which is opened, if it isn't open.
+   *
+   * @param resourceName the name of the resource
+   * @return the resource session, which must be released by {@link #releaseResourceSession(String, Object)}
+   */
+  private T acquireResourceSession(final String resourceName) {
+    return resourceSessions.compute(resourceName, (unused, sharedSession) -> {
+      // A resource session, which has been closed directly or by removing the resource, is reopened.
+      if (sharedSession == null || sharedSession.session.isClosed()) {
+        sharedSession = new SharedResourceSession(database.beginResourceSession(resourceName));
+      }
+      sharedSession.references++;
+      return sharedSession;
+    }).session;
+  }
+
+  /**
+   * Release a shared resource session, which is closed, once it has been released by all handles.
+   *
+   * @param resourceName the name of the resource
+   * @param session      the resource session
+   */
+  private void releaseResourceSession(final String resourceName, final T session) {
+    resourceSessions.computeIfPresent(resourceName, (unused, sharedSession) -> {
+      if (sharedSession.session != session) {
+        // The resource session has been closed and reopened in the meantime.
+        return sharedSession;
+      }
+      if (--sharedSession.references > 0) {
+        return sharedSession;
+      }
+      session.close();
+      return null;
+    });
+  }
+
+  private void release() {
+    while (true) {
+      final int currentReferences = references.get();
+      if (currentReferences > 1) {
+        if (references.compareAndSet(currentReferences, currentReferences - 1)) {
+          return;
+        }
+        continue;
+      }
+
+      // Possibly the last handle. A concurrent newHandle() may still acquire a handle, in which case
+      // the compare-and-set fails and the count is decremented in the next iteration. Otherwise -1
+      // marks the database as closed, such that it can't be acquired again.
+      pathLock.lock();
+      try {
+        if (references.compareAndSet(1, -1)) {
+          try {
+            database.close();
+          } finally {
+            onClose.accept(this);
+          }
+          return;
+        }
+      } finally {
+        pathLock.unlock();
+      }
+    }
+  }
+
+  private final class Handle implements Database<T> {
+    private final AtomicBoolean isClosed = new AtomicBoolean();
+
+    /**
+     * The handles of the resource sessions, which have been opened through this handle, by resource name.
+     */
+    private final ConcurrentMap<String, T> resourceSessionHandles = new ConcurrentHashMap<>();
+
+    private void assertNotClosed() {
+      if (isClosed.get()) {
+        throw new IllegalStateException("Database is already closed.");
+      }
+    }
+
+    @Override
+    public boolean isOpen() {
+      return !isClosed.get() && database.isOpen();
+    }
+
+    @Override
+    public boolean createResource(final ResourceConfiguration config) {
+      assertNotClosed();
+      return database.createResource(config);
+    }
+
+    @Override
+    public boolean existsResource(final String resourceName) {
+      assertNotClosed();
+      return database.existsResource(resourceName);
+    }
+
+    @Override
+    public List<Path> listResources() {
+      assertNotClosed();
+      return database.listResources();
+    }
+
+    @Override
+    public T beginResourceSession(final String resourceName) {
+      assertNotClosed();
+      return resourceSessionHandles.compute(resourceName, (unused, resourceSessionHandle) -> {
+        if (resourceSessionHandle != null && !resourceSessionHandle.isClosed()) {
+          return resourceSessionHandle;
+        }
+        final T session = acquireResourceSession(resourceName);
+        return newResourceSessionHandle.apply(session, () -> {
+          // Forget the handle, unless it has already been replaced by a new one.
+          resourceSessionHandles.computeIfPresent(resourceName,
+                                                  (name, currentHandle) -> currentHandle.isClosed() ? null : currentHandle);
+          releaseResourceSession(resourceName, session);
+        });
+      });
+    }
+
+    @Override
+    public Database<T> removeResource(final String resourceName) {
+      assertNotClosed();
+      database.removeResource(resourceName);
+      return this;
+    }
+
+    @Override
+    public void close() {
+      if (isClosed.compareAndSet(false, true)) {
+        try {
+          for (final T resourceSessionHandle : resourceSessionHandles.values()) {
+            resourceSessionHandle.close();
+          }
+        } finally {
+          release();
+        }
+      }
+    }
+
+    @Override
+    public DatabaseConfiguration getDatabaseConfig() {
+      return database.getDatabaseConfig();
+    }
+
+    @Override
+    public Transaction beginTransaction() {
+      assertNotClosed();
+      return database.beginTransaction();
+    }
+
+    @Override
+    public String getResourceName(final @NonNegative long id) {
+      assertNotClosed();
+      return database.getResourceName(id);
+    }
+
+    @Override
+    public long getResourceID(final String name) {
+      assertNotClosed();
+      return database.getResourceID(name);
+    }
+
+    @Override
+    public String getName() {
+      return database.getName();
+    }
+
+    @Override
+    public String toString() {
+      return database.toString();
+    }
+  }
+}
@@ -148,12 +148,17 @@ public abstract class AbstractIndexController<R extends NodeReadOnlyTrx & NodeCu
 
   @Override
   public NameFilter createNameFilter(final Set<String> names) {
+    return createNameFilter(names, SearchMode.EQUAL);
+  }
+
+  @Override
+  public NameFilter createNameFilter(final Set<String> names, final SearchMode mode) {
     final Set<QNm> includes = new HashSet<>(names.size());
     for (final String name : names) {
       // TODO: Prefix/NspURI
       includes.add(new QNm(name));
     }
-    return new NameFilter(includes, Collections.emptySet());
+    return new NameFilter(includes, Collections.emptySet(), mode);
   }
 
   @Override
@@ -6,6 +6,8 @@ import io.sirix.access.trx.node.json.InternalJsonNodeReadOnlyTrx;
 import io.sirix.api.*;
 import io.sirix.axis.IncludeSelf;
 import io.sirix.axis.PostOrderAxis;
+import io.sirix.cache.Cache;
+import io.sirix.cache.PathSummaryData;
 import io.sirix.diff.DiffTuple;
 import io.sirix.exception.SirixException;
 import io.sirix.exception.SirixIOException;
@@ -17,6 +19,7 @@ import io.sirix.node.SirixDeweyID;
 import io.sirix.node.interfaces.Node;
 import io.sirix.node.interfaces.immutable.ImmutableNode;
 import io.sirix.page.UberPage;
+import io.sirix.settings.Fixed;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -128,6 +131,13 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
    */
   protected final RecordToRevisionsIndex nodeToRevisionsIndex;
 
+  /**
+   * The index of the nodes, which have been changed in a revision, or {@code null}, if the changes
+   * aren't tracked.
+   */
+  @Nullable
+  protected final ChangedNodesIndex changedNodesIndex;
+
   /**
    * Collection holding pre-commit hooks.
    */
@@ -138,6 +148,11 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
    */
   private final List<PostCommitHook> postCommitHooks = new ArrayList<>();
 
+  /**
+   * The user, who is stored with the commits, or {@code null} for the user of the resource session.
+   */
+  private volatile User user;
+
   /**
    * Hashes nodes.
    */
@@ -160,7 +175,8 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
       final R typeSpecificTrx, final InternalResourceSession<R, W> resourceManager,
       final AfterCommitState afterCommitState, final AbstractNodeHashing<N, R> nodeHashing,
       final PathSummaryWriter<R> pathSummaryWriter, final NF nodeFactory,
-      final RecordToRevisionsIndex nodeToRevisionsIndex, @Nullable final Lock transactionLock,
+      final RecordToRevisionsIndex nodeToRevisionsIndex, @Nullable final ChangedNodesIndex changedNodesIndex,
+      @Nullable final Lock transactionLock,
       final Duration afterCommitDelay, @NonNegative final int maxNodeCount) {
     // Do not accept negative values.
     checkArgument(maxNodeCount >= 0, "Negative argument for maxNodeCount is not accepted.");
@@ -178,6 +194,7 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
     this.pathSummaryWriter = pathSummaryWriter;
     this.indexController = resourceManager.getWtxIndexController(nodeReadOnlyTrx.getPageTrx().getRevisionNumber());
     this.nodeToRevisionsIndex = requireNonNull(nodeToRevisionsIndex);
+    this.changedNodesIndex = changedNodesIndex;
 
     this.updateOperationsOrdered = new TreeMap<>();
     this.updateOperationsUnordered = new HashMap<>();
@@ -208,11 +225,22 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
 
   @Override
   public Optional<User> getUser() {
-    return getResourceSession().getUser();
+    final User user = this.user;
+    return user == null ? getResourceSession().getUser() : Optional.of(user);
+  }
+
+  @Override
+  public W setUser(@Nullable final User user) {
+    this.user = user;
+    return self();
   }
 
   @Override
   public W setBulkInsertion(final boolean bulkInsertion) {
+    if (bulkInsertion && changedNodesIndex != null) {
+      // Bulk inserted nodes aren't tracked.
+      changedNodesIndex.setIncomplete();
+    }
     nodeHashing.setBulkInsert(bulkInsertion);
     return self();
   }
@@ -288,11 +316,31 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
 
       final var preCommitRevision = getRevisionNumber();
 
-      final UberPage uberPage = pageTrx.commit(commitMessage, commitTimestamp);
+      if (changedNodesIndex != null) {
+        // An intermediate commit of a subtree insertion doesn't know the inserted nodes.
+        if (nodeHashing.isBulkInsert()) {
+          changedNodesIndex.setIncomplete();
+        }
+        changedNodesIndex.commit();
+      }
+
+      // The in-memory path summary of the revision is shared with its readers and the next transaction.
+      final PathSummaryData pathSummaryData =
+          buildPathSummary ? pathSummaryWriter.getPathSummary().getPathSummaryData() : null;
+      final Cache<Integer, PathSummaryData> pathSummaryCache = pageTrx.getBufferManager().getPathSummaryCache();
+
+      final UberPage uberPage = pageTrx.commit(commitMessage, commitTimestamp, user);
 
       // Remember successfully committed uber page in resource manager.
       resourceSession.setLastCommittedUberPage(uberPage);
 
+      if (pathSummaryData != null) {
+        pathSummaryCache.put(preCommitRevision, pathSummaryData);
+      }
+
+      // Let the value codec adapt to the committed values, for instance by training a new dictionary.
+      resourceSession.getValueCompression().onCommit();
+
       if (resourceSession.getResourceConfig().storeDiffs()) {
         serializeUpdateDiffs(preCommitRevision);
       }
@@ -320,10 +368,24 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
    * @throws SirixException if anything weird happens
    */
   protected void checkAccessAndCommit() {
+    checkAccessAndCommit(Fixed.NULL_NODE_KEY.getStandardProperty());
+  }
+
+  /**
+   * Checking write access and intermediate commit, if the caller keeps the record of another node
+   * besides the current node for the upcoming modification.
+   *
+   * @param nodeKeyInUse the key of the other node, the record of which is kept
+   * @throws SirixException if anything weird happens
+   */
+  protected void checkAccessAndCommit(final long nodeKeyInUse) {
     nodeReadOnlyTrx.assertNotClosed();
     assertRunning();
     modificationCount++;
     intermediateCommitIfRequired();
+    // No records are kept between two modifications apart from the current node and the given node,
+    // thus it's safe to spill.
+    pageTrx.spillColdPagesIfRequired(nodeReadOnlyTrx.getNodeKey(), nodeKeyInUse);
   }
 
   /**
@@ -383,6 +445,10 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
     indexController.createIndexListeners(indexDefs, self());
 
     nodeToRevisionsIndex.setPageTrx(pageTrx);
+
+    if (changedNodesIndex != null) {
+      changedNodesIndex.setPageTrx(pageTrx);
+    }
   }
 
   @Override
@@ -464,6 +530,11 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
       // New index instances.
       reInstantiateIndexes();
 
+      if (changedNodesIndex != null) {
+        // The changes compared to the previous revision aren't known.
+        changedNodesIndex.setIncomplete();
+      }
+
       // Reset modification counter.
       modificationCount = 0L;
 
@@ -540,6 +611,12 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
     return (PageTrx) nodeReadOnlyTrx.getPageTrx();
   }
 
+  @Override
+  public boolean hasUncommittedModifications() {
+    nodeReadOnlyTrx.assertNotClosed();
+    return modificationCount > 0;
+  }
+
   @Override
   public Optional<User> getUserOfRevisionToRepresent() {
     return nodeReadOnlyTrx.getUser();
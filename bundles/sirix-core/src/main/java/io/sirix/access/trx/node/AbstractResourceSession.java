@@ -12,6 +12,7 @@ import io.sirix.access.ResourceStore;
 import io.sirix.access.User;
 import io.sirix.access.trx.node.xml.XmlResourceSessionImpl;
 import io.sirix.access.trx.page.NodePageReadOnlyTrx;
+import io.sirix.access.trx.page.PageCheckpointCandidates;
 import io.sirix.access.trx.page.PageTrxFactory;
 import io.sirix.access.trx.page.PageTrxReadOnlyFactory;
 import io.sirix.access.trx.page.RevisionRootPageReader;
@@ -29,9 +30,12 @@ import io.sirix.index.path.summary.PathSummaryReader;
 import io.sirix.io.IOStorage;
 import io.sirix.io.Reader;
 import io.sirix.io.Writer;
+import io.sirix.metrics.SirixMetrics;
+import io.sirix.node.compression.ValueCompression;
 import io.sirix.node.interfaces.Node;
 import io.sirix.page.UberPage;
 import io.sirix.settings.Fixed;
+import io.sirix.utils.ZlibCodecPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -136,6 +140,16 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
    */
   private final PageTrxFactory pageTrxFactory;
 
+  /**
+   * The record pages, for which a checkpoint is written during the next commit.
+   */
+  private final PageCheckpointCandidates pageCheckpointCandidates;
+
+  /**
+   * The compression of the node values.
+   */
+  private final ValueCompression valueCompression;
+
   /**
    * ID Generation exception message for duplicate ID.
    */
@@ -171,6 +185,8 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
     nodeTrxIDCounter = new AtomicLong();
     pageTrxIDCounter = new AtomicLong();
     commitLock = new ReentrantLock(false);
+    pageCheckpointCandidates = new PageCheckpointCandidates(resourceConf.pageCheckpointThreshold());
+    valueCompression = new ValueCompression(resourceConf);
 
     this.writeLock = requireNonNull(writeLock);
 
@@ -339,6 +355,16 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
     return commitLock;
   }
 
+  @Override
+  public PageCheckpointCandidates getPageCheckpointCandidates() {
+    return pageCheckpointCandidates;
+  }
+
+  @Override
+  public ValueCompression getValueCompression() {
+    return valueCompression;
+  }
+
   @Override
   public synchronized R beginNodeReadOnlyTrx(@NonNegative final int revision) {
     assertAccess(revision);
@@ -430,6 +456,7 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
     requireNonNull(timeUnit);
 
     // Make sure not to exceed available number of write transactions.
+    final long lockWaitStart = System.nanoTime();
     try {
       if (!writeLock.tryAcquire(5, TimeUnit.SECONDS)) {
         throw new SirixUsageException(
@@ -437,6 +464,8 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
       }
     } catch (final InterruptedException e) {
       throw new SirixThreadedException(e);
+    } finally {
+      SirixMetrics.get().writeLockWaitTime().record(System.nanoTime() - lockWaitStart);
     }
 
     LOGGER.trace("Lock: lock acquired (beginNodeTrx)");
@@ -490,6 +519,9 @@ public abstract class AbstractResourceSession<R extends NodeReadOnlyTrx & NodeCu
 
       storage.close();
 
+      // End the idle zlib codecs, which have been used to (de)compress the pages.
+      ZlibCodecPool.clear();
+
       if (pool.get() != null) {
         try {
           pool.get().shutdown();
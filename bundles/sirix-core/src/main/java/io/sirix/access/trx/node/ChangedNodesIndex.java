@@ -0,0 +1,112 @@
+package io.sirix.access.trx.node;
+
+import io.sirix.api.PageReadOnlyTrx;
+import io.sirix.api.PageTrx;
+import io.sirix.index.IndexType;
+import io.sirix.node.ChangedNodesNode;
+import io.sirix.node.interfaces.DataRecord;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Indexes the nodes, which have been changed in a revision. Each revision stores one record with
+ * the keys of the changed nodes, which is the last record of the index in the revision, such that a
+ * diff only has to compare the subtrees of the changed nodes.
+ *
+ * <p>
+ * No record is stored, if the changes of a revision are unknown, that is if the revision has been
+ * reverted to another revision or if nodes have been bulk inserted, without being tracked, before
+ * the commit.
+ * </p>
+ */
+public final class ChangedNodesIndex {
+
+  /**
+   * The page trx to create index-entries.
+   */
+  private PageTrx pageTrx;
+
+  /**
+   * The keys of the nodes, which have been changed in the current revision.
+   */
+  private final Roaring64Bitmap changedNodeKeys;
+
+  /**
+   * Determines if all changes of the current revision are known.
+   */
+  private boolean isComplete;
+
+  /**
+   * Constructor
+   *
+   * @param pageTrx the page trx to create index-entries.
+   */
+  public ChangedNodesIndex(final PageTrx pageTrx) {
+    this.pageTrx = requireNonNull(pageTrx);
+    changedNodeKeys = new Roaring64Bitmap();
+    isComplete = true;
+  }
+
+  /**
+   * Set the page trx of the next revision, whose changes are tracked from now on.
+   *
+   * @param pageTrx the page trx
+   */
+  public void setPageTrx(final PageTrx pageTrx) {
+    this.pageTrx = requireNonNull(pageTrx);
+    changedNodeKeys.clear();
+    isComplete = true;
+  }
+
+  /**
+   * Add a changed node.
+   *
+   * @param nodeKey the key of the inserted, removed, updated or replaced node
+   */
+  public void addChangedNode(final long nodeKey) {
+    changedNodeKeys.addLong(nodeKey);
+  }
+
+  /**
+   * Mark the changes of the current revision as unknown, such that no record is stored.
+   */
+  public void setIncomplete() {
+    isComplete = false;
+  }
+
+  /**
+   * Store the changed nodes of the current revision, if they are known. Must be called before the
+   * page trx is committed.
+   */
+  public void commit() {
+    if (isComplete) {
+      final long recordKey = pageTrx.getActualRevisionRootPage().getMaxNodeKeyInChangedNodesIndex() + 1;
+      pageTrx.createRecord(new ChangedNodesNode(recordKey, pageTrx.getRevisionNumber(), changedNodeKeys.clone()),
+                           IndexType.CHANGED_NODES,
+                           0);
+    }
+  }
+
+  /**
+   * Get the keys of the nodes, which have been changed in the revision of a page trx.
+   *
+   * @param pageReadTrx the page trx
+   * @return the keys of the changed nodes or {@code null}, if the changes of the revision are unknown
+   */
+  public static @Nullable Roaring64Bitmap getChangedNodes(final PageReadOnlyTrx pageReadTrx) {
+    final long recordKey = pageReadTrx.getActualRevisionRootPage().getMaxNodeKeyInChangedNodesIndex();
+    if (recordKey < 0) {
+      return null;
+    }
+
+    // The last record belongs to a previous revision, if the changes of the revision are unknown.
+    final DataRecord record = pageReadTrx.getRecord(recordKey, IndexType.CHANGED_NODES, 0);
+    if (record instanceof ChangedNodesNode changedNodesNode
+        && changedNodesNode.getRevision() == pageReadTrx.getRevisionNumber()) {
+      return changedNodesNode.getChangedNodeKeys();
+    }
+    return null;
+  }
+}
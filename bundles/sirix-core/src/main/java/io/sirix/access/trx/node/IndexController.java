@@ -143,6 +143,15 @@ public interface IndexController<R extends NodeReadOnlyTrx & NodeCursor, W exten
 
   NameFilter createNameFilter(Set<String> names);
 
+  /**
+   * Create a name filter, which includes the given names or all names starting with one of them.
+   *
+   * @param names the names
+   * @param mode  {@link SearchMode#EQUAL} or {@link SearchMode#STARTS_WITH}
+   * @return the name filter
+   */
+  NameFilter createNameFilter(Set<String> names, SearchMode mode);
+
   PathFilter createPathFilter(Set<String> paths, R rtx) throws PathException;
 
   CASFilter createCASFilter(Set<String> paths, Atomic key, SearchMode mode, PCRCollector pcrCollector)
@@ -1,6 +1,8 @@
 package io.sirix.access.trx.node;
 
+import io.sirix.access.trx.page.PageCheckpointCandidates;
 import io.sirix.api.*;
+import io.sirix.node.compression.ValueCompression;
 import io.sirix.page.UberPage;
 
 import java.nio.file.Path;
@@ -31,6 +33,20 @@ public interface InternalResourceSession<R extends NodeReadOnlyTrx & NodeCursor,
 
   Lock getCommitLock();
 
+  /**
+   * Get the record pages, for which a checkpoint should be written during the next commit.
+   *
+   * @return the candidates for page checkpoints
+   */
+  PageCheckpointCandidates getPageCheckpointCandidates();
+
+  /**
+   * Get the compression of the node values.
+   *
+   * @return the compression of the node values
+   */
+  ValueCompression getValueCompression();
+
   void setLastCommittedUberPage(UberPage lastUberPage);
 
   void closeWriteTransaction(long transactionID);
@@ -1,5 +1,6 @@
 package io.sirix.access.trx.node.json;
 
+import io.sirix.access.DatabaseType;
 import io.sirix.access.trx.node.AbstractIndexController;
 import io.sirix.api.PageTrx;
 import io.sirix.api.json.JsonNodeReadOnlyTrx;
@@ -8,19 +9,27 @@ import io.sirix.api.visitor.JsonNodeVisitor;
 import io.sirix.index.IndexBuilder;
 import io.sirix.index.IndexDef;
 import io.sirix.index.Indexes;
+import io.sirix.index.SortedIndexRun;
 import io.sirix.index.cas.json.JsonCASIndexImpl;
 import io.sirix.index.name.json.JsonNameIndexImpl;
 import io.sirix.index.path.PathFilter;
 import io.sirix.index.path.json.JsonPCRCollector;
 import io.sirix.index.path.json.JsonPathIndexImpl;
+import io.sirix.index.bplustree.BPlusTreeWriter;
+import io.sirix.index.redblacktree.RBTreeWriter;
+import io.sirix.index.redblacktree.keyvalue.CASValue;
+import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 import io.brackit.query.atomic.QNm;
 import io.brackit.query.util.path.Path;
 import io.brackit.query.util.path.PathException;
 import io.brackit.query.util.path.PathParser;
 import io.sirix.index.path.summary.PathSummaryReader;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Index controller, used to control the handling of indexes.
@@ -29,6 +38,11 @@ import java.util.Set;
  */
 public final class JsonIndexController extends AbstractIndexController<JsonNodeReadOnlyTrx, JsonNodeTrx> {
 
+  /**
+   * The minimum number of nodes of a revision, for which indexes are built in parallel.
+   */
+  private static final long MIN_NODES_FOR_PARALLEL_BUILD = 1L << 13;
+
   /**
    * Constructor.
    */
@@ -44,7 +58,11 @@ public final class JsonIndexController extends AbstractIndexController<JsonNodeR
   @Override
   public JsonIndexController createIndexes(final Set<IndexDef> indexDefs, final JsonNodeTrx nodeWriteTrx) {
     // Build the indexes.
-    IndexBuilder.build(nodeWriteTrx, createIndexBuilders(indexDefs, nodeWriteTrx));
+    if (canBuildInParallel(nodeWriteTrx)) {
+      buildInParallel(indexDefs, nodeWriteTrx);
+    } else {
+      IndexBuilder.build(nodeWriteTrx, createIndexBuilders(indexDefs, nodeWriteTrx));
+    }
 
     // Create index listeners for upcoming changes.
     createIndexListeners(indexDefs, nodeWriteTrx);
@@ -52,6 +70,76 @@ public final class JsonIndexController extends AbstractIndexController<JsonNodeR
     return this;
   }
 
+  /**
+   * Determines if the indexes can be built in parallel, which is the case if the nodes are the ones of
+   * a committed revision (read-only transactions only see committed revisions) and if the revision
+   * is large enough.
+   *
+   * @param nodeWriteTrx the {@link JsonNodeTrx}
+   * @return {@code true}, if the indexes can be built in parallel, {@code false} otherwise
+   */
+  private static boolean canBuildInParallel(final JsonNodeTrx nodeWriteTrx) {
+    return !nodeWriteTrx.hasUncommittedModifications() && nodeWriteTrx.getMaxNodeKey() >= MIN_NODES_FOR_PARALLEL_BUILD;
+  }
+
+  /**
+   * Build the indexes in parallel from the revision the write transaction is based on and write the
+   * collected entries to the index trees in ascending key order.
+   *
+   * @param indexDefs    the {@link IndexDef}s
+   * @param nodeWriteTrx the {@link JsonNodeTrx}
+   */
+  private void buildInParallel(final Set<IndexDef> indexDefs, final JsonNodeTrx nodeWriteTrx) {
+    final List<IndexDef> indexDefsToBuild = new ArrayList<>(indexDefs);
+    final PageTrx pageTrx = nodeWriteTrx.getPageWtx();
+    final List<SortedIndexRun<?>> runs = IndexBuilder.build(nodeWriteTrx.getResourceSession(),
+                                                            pageTrx.getRevisionToRepresent(),
+                                                            indexDefsToBuild,
+                                                            this::createIndexBuilder,
+                                                            ForkJoinPool.commonPool());
+
+    try {
+      for (int i = 0; i < indexDefsToBuild.size(); i++) {
+        write(pageTrx, indexDefsToBuild.get(i), runs.get(i));
+      }
+    } finally {
+      runs.forEach(SortedIndexRun::close);
+    }
+  }
+
+  private static <K extends Comparable<? super K>> void write(final PageTrx pageTrx, final IndexDef indexDef,
+      final SortedIndexRun<K> run) {
+    switch (indexDef.getStructure()) {
+      case RB_TREE -> run.writeTo(RBTreeWriter.<K, NodeReferences>getInstance(DatabaseType.JSON,
+                                                                              pageTrx,
+                                                                              indexDef.getType(),
+                                                                              indexDef.getID()));
+      case BPLUS_TREE ->
+          run.writeTo(BPlusTreeWriter.<K>getInstance(DatabaseType.JSON, pageTrx, indexDef.getType(), indexDef.getID()));
+    }
+  }
+
+  /**
+   * Create an index builder, which collects the index entries of a partition.
+   *
+   * @param indexDef          the {@link IndexDef}
+   * @param rtx               the transaction, which is used to traverse the partition
+   * @param pathSummaryReader the path summary of the revision
+   * @param run               the run, the builder adds the index entries to
+   * @return the created index builder
+   */
+  @SuppressWarnings("unchecked")
+  private JsonNodeVisitor createIndexBuilder(final IndexDef indexDef, final JsonNodeReadOnlyTrx rtx,
+      final PathSummaryReader pathSummaryReader, final SortedIndexRun<?> run) {
+    return switch (indexDef.getType()) {
+      case PATH -> (JsonNodeVisitor) pathIndex.createBuilder(pathSummaryReader, indexDef, (SortedIndexRun<Long>) run);
+      case CAS ->
+          (JsonNodeVisitor) casIndex.createBuilder(rtx, pathSummaryReader, indexDef, (SortedIndexRun<CASValue>) run);
+      case NAME -> (JsonNodeVisitor) nameIndex.createBuilder(indexDef, (SortedIndexRun<QNm>) run);
+      default -> throw new IllegalStateException("Index type not supported: " + indexDef.getType());
+    };
+  }
+
   /**
    * Create index builders.
    *
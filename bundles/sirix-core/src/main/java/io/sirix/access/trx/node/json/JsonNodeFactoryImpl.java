@@ -6,6 +6,8 @@ import io.sirix.index.path.summary.PathNode;
 import io.sirix.node.DeweyIDNode;
 import io.sirix.node.NodeKind;
 import io.sirix.node.SirixDeweyID;
+import io.sirix.node.compression.CompressionLevel;
+import io.sirix.node.compression.ValueCompression;
 import io.sirix.node.delegates.NameNodeDelegate;
 import io.sirix.node.delegates.NodeDelegate;
 import io.sirix.node.delegates.StructNodeDelegate;
@@ -14,14 +16,12 @@ import io.sirix.node.json.*;
 import io.sirix.page.PathSummaryPage;
 import io.sirix.settings.Constants;
 import io.sirix.settings.Fixed;
-import io.sirix.utils.Compression;
 import io.sirix.utils.NamePageHash;
 import net.openhft.hashing.LongHashFunction;
 import io.brackit.query.atomic.QNm;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.util.zip.Deflater;
 
 import static java.util.Objects.requireNonNull;
 
@@ -47,16 +47,24 @@ final class JsonNodeFactoryImpl implements JsonNodeFactory {
    */
   private final int revisionNumber;
 
+  /**
+   * The compression of the node values.
+   */
+  private final ValueCompression valueCompression;
+
   /**
    * Constructor.
    *
    * @param hashFunction hash function used to hash nodes
    * @param pageTrx      {@link PageTrx} implementation
+   * @param valueCompression the compression of the node values
    */
-  JsonNodeFactoryImpl(final LongHashFunction hashFunction, final PageTrx pageTrx) {
+  JsonNodeFactoryImpl(final LongHashFunction hashFunction, final PageTrx pageTrx,
+      final ValueCompression valueCompression) {
     this.hashFunction = requireNonNull(hashFunction);
     this.pageTrx = requireNonNull(pageTrx);
     this.revisionNumber = pageTrx.getRevisionNumber();
+    this.valueCompression = requireNonNull(valueCompression);
   }
 
   @Override
@@ -171,9 +179,11 @@ final class JsonNodeFactoryImpl implements JsonNodeFactory {
                          hashFunction, Constants.NULL_REVISION_NUMBER,
                          revisionNumber,
                          id);
-    final boolean compression = doCompress && value.length > 10;
-    final byte[] compressedValue = compression ? Compression.compress(value, Deflater.HUFFMAN_ONLY) : value;
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression);
+    final byte[] compressedValue =
+        doCompress && value.length > 10 ? valueCompression.compress(value, CompressionLevel.FAST) : null;
+    final boolean compression = compressedValue != null;
+    final ValueNodeDelegate valDel =
+        new ValueNodeDelegate(nodeDel, compression ? compressedValue : value, compression, valueCompression);
     final StructNodeDelegate structDel = new StructNodeDelegate(nodeDel,
                                                                 Fixed.NULL_NODE_KEY.getStandardProperty(),
                                                                 Fixed.NULL_NODE_KEY.getStandardProperty(),
@@ -249,9 +259,11 @@ final class JsonNodeFactoryImpl implements JsonNodeFactory {
                          hashFunction, Constants.NULL_REVISION_NUMBER,
                          revisionNumber,
                          id);
-    final boolean compression = doCompress && value.length > 40;
-    final byte[] compressedValue = compression ? Compression.compress(value, Deflater.BEST_COMPRESSION) : value;
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression);
+    final byte[] compressedValue =
+        doCompress && value.length > 40 ? valueCompression.compress(value, CompressionLevel.BEST) : null;
+    final boolean compression = compressedValue != null;
+    final ValueNodeDelegate valDel =
+        new ValueNodeDelegate(nodeDel, compression ? compressedValue : value, compression, valueCompression);
     final StructNodeDelegate structDel = new StructNodeDelegate(nodeDel,
                                                                 Fixed.NULL_NODE_KEY.getStandardProperty(),
                                                                 Fixed.NULL_NODE_KEY.getStandardProperty(),
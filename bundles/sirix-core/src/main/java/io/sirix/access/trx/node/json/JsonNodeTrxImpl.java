@@ -161,6 +161,7 @@ final class JsonNodeTrxImpl extends AbstractNodeTrxImpl<JsonNodeReadOnlyTrx, Jso
    * @param nodeFactory          to create nodes
    * @param afterCommitState     state after committing, keep open or close
    * @param nodeToRevisionsIndex the node to revisions index (when a node has changed)
+   * @param changedNodesIndex    the index of the nodes, which have been changed in a revision
    * @throws SirixIOException    if the reading of the props is failing
    * @throws SirixUsageException if {@code pMaxNodeCount < 0} or {@code pMaxTime < 0}
    */
@@ -170,7 +171,8 @@ final class JsonNodeTrxImpl extends AbstractNodeTrxImpl<JsonNodeReadOnlyTrx, Jso
       @Nullable final PathSummaryWriter<JsonNodeReadOnlyTrx> pathSummaryWriter, @NonNegative final int maxNodeCount,
       @Nullable final Lock transactionLock, final Duration afterCommitDelay, @NonNull final JsonNodeHashing nodeHashing,
       final JsonNodeFactory nodeFactory, @NonNull final AfterCommitState afterCommitState,
-      final RecordToRevisionsIndex nodeToRevisionsIndex, final boolean isAutoCommitting) {
+      final RecordToRevisionsIndex nodeToRevisionsIndex, final ChangedNodesIndex changedNodesIndex,
+      final boolean isAutoCommitting) {
     super(new JsonNodeTrxThreadFactory(),
           resourceManager.getResourceConfig().hashType,
           nodeReadTrx,
@@ -181,6 +183,7 @@ final class JsonNodeTrxImpl extends AbstractNodeTrxImpl<JsonNodeReadOnlyTrx, Jso
           pathSummaryWriter,
           nodeFactory,
           nodeToRevisionsIndex,
+          changedNodesIndex,
           transactionLock,
           afterCommitDelay,
           maxNodeCount);
@@ -860,6 +863,7 @@ final class JsonNodeTrxImpl extends AbstractNodeTrxImpl<JsonNodeReadOnlyTrx, Jso
   }
 
   private void adaptUpdateOperationsForInsert(SirixDeweyID id, long newNodeKey) {
+    changedNodesIndex.addChangedNode(newNodeKey);
     final var diffTuple = new DiffTuple(DiffFactory.DiffType.INSERTED,
                                         newNodeKey,
                                         0,
@@ -872,6 +876,8 @@ final class JsonNodeTrxImpl extends AbstractNodeTrxImpl<JsonNodeReadOnlyTrx, Jso
   }
 
   private void adaptUpdateOperationsForReplace(SirixDeweyID id, long oldNodeKey, long newNodeKey) {
+    changedNodesIndex.addChangedNode(oldNodeKey);
+    changedNodesIndex.addChangedNode(newNodeKey);
     if (id == null) {
       updateOperationsUnordered.put(newNodeKey,
                                     new DiffTuple(DiffFactory.DiffType.REPLACEDNEW, newNodeKey, oldNodeKey, null));
@@ -2143,6 +2149,7 @@ final class JsonNodeTrxImpl extends AbstractNodeTrxImpl<JsonNodeReadOnlyTrx, Jso
   }
 
   private void adaptUpdateOperationsForRemove(SirixDeweyID id, final long oldNodeKey) {
+    changedNodesIndex.addChangedNode(oldNodeKey);
     moveToNext();
     final var diffTuple =
         new DiffTuple(DiffFactory.DiffType.DELETED, 0, oldNodeKey, id == null ? null : new DiffDepth(0, id.getLevel()));
@@ -2257,6 +2264,7 @@ final class JsonNodeTrxImpl extends AbstractNodeTrxImpl<JsonNodeReadOnlyTrx, Jso
   }
 
   private void adaptUpdateOperationsForUpdate(SirixDeweyID id, long nodeKey) {
+    changedNodesIndex.addChangedNode(nodeKey);
     final var diffTuple = new DiffTuple(DiffFactory.DiffType.UPDATED,
                                         nodeKey,
                                         nodeKey,
@@ -2573,7 +2581,7 @@ final class JsonNodeTrxImpl extends AbstractNodeTrxImpl<JsonNodeReadOnlyTrx, Jso
 
   @Override
   protected JsonNodeFactory reInstantiateNodeFactory(PageTrx pageTrx) {
-    return new JsonNodeFactoryImpl(hashFunction, pageTrx);
+    return new JsonNodeFactoryImpl(hashFunction, pageTrx, resourceSession.getValueCompression());
   }
 
   private static final class JsonNodeTrxThreadFactory implements ThreadFactory {
@@ -26,6 +26,7 @@ import io.sirix.access.ResourceConfiguration;
 import io.sirix.access.ResourceStore;
 import io.sirix.access.User;
 import io.sirix.access.trx.node.AbstractResourceSession;
+import io.sirix.access.trx.node.ChangedNodesIndex;
 import io.sirix.access.trx.node.InternalResourceSession;
 import io.sirix.access.trx.node.RecordToRevisionsIndex;
 import io.sirix.access.trx.page.PageTrxFactory;
@@ -109,7 +110,7 @@ public final class JsonResourceSessionImpl extends AbstractResourceSession<JsonN
     final InternalJsonNodeReadOnlyTrx nodeReadOnlyTrx = createNodeReadOnlyTrx(nodeTrxId, pageTrx, documentNode);
 
     // Node factory.
-    final JsonNodeFactory nodeFactory = new JsonNodeFactoryImpl(getResourceConfig().nodeHashFunction, pageTrx);
+    final JsonNodeFactory nodeFactory = new JsonNodeFactoryImpl(getResourceConfig().nodeHashFunction, pageTrx, getValueCompression());
 
     // Path summary.
     final boolean buildPathSummary = getResourceConfig().withPathSummary;
@@ -135,6 +136,7 @@ public final class JsonResourceSessionImpl extends AbstractResourceSession<JsonN
                                nodeFactory,
                                afterCommitState,
                                new RecordToRevisionsIndex(pageTrx),
+                               new ChangedNodesIndex(pageTrx),
                                isAutoCommitting);
   }
 
@@ -5,6 +5,8 @@ import io.sirix.index.IndexType;
 import io.sirix.index.path.summary.PathNode;
 import io.sirix.node.NodeKind;
 import io.sirix.node.SirixDeweyID;
+import io.sirix.node.compression.CompressionLevel;
+import io.sirix.node.compression.ValueCompression;
 import io.sirix.node.delegates.NameNodeDelegate;
 import io.sirix.node.delegates.NodeDelegate;
 import io.sirix.node.delegates.StructNodeDelegate;
@@ -13,7 +15,6 @@ import io.sirix.node.xml.*;
 import io.sirix.page.PathSummaryPage;
 import io.sirix.settings.Constants;
 import io.sirix.settings.Fixed;
-import io.sirix.utils.Compression;
 import io.sirix.utils.NamePageHash;
 import it.unimi.dsi.fastutil.longs.LongArrayList;
 import net.openhft.hashing.LongHashFunction;
@@ -21,7 +22,6 @@ import io.brackit.query.atomic.QNm;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.util.zip.Deflater;
 
 import static java.util.Objects.requireNonNull;
 
@@ -47,13 +47,20 @@ final class XmlNodeFactoryImpl implements XmlNodeFactory {
    */
   private final int revisionNumber;
 
+  /**
+   * The compression of the node values.
+   */
+  private final ValueCompression valueCompression;
+
   /**
    * Constructor.
    *
    * @param hashFunction the hash function used for hashing nodes
    * @param pageWriteTrx {@link PageTrx} implementation
+   * @param valueCompression the compression of the node values
    */
-  XmlNodeFactoryImpl(final LongHashFunction hashFunction, final PageTrx pageWriteTrx) {
+  XmlNodeFactoryImpl(final LongHashFunction hashFunction, final PageTrx pageWriteTrx,
+      final ValueCompression valueCompression) {
     this.pageTrx = requireNonNull(pageWriteTrx);
     this.pageTrx.createNameKey("xs:untyped", NodeKind.ATTRIBUTE);
     this.pageTrx.createNameKey("xs:untyped", NodeKind.NAMESPACE);
@@ -61,6 +68,7 @@ final class XmlNodeFactoryImpl implements XmlNodeFactory {
     this.pageTrx.createNameKey("xs:untyped", NodeKind.PROCESSING_INSTRUCTION);
     this.hashFunction = requireNonNull(hashFunction);
     this.revisionNumber = pageWriteTrx.getRevisionNumber();
+    this.valueCompression = requireNonNull(valueCompression);
   }
 
   @Override
@@ -124,9 +132,11 @@ final class XmlNodeFactoryImpl implements XmlNodeFactory {
                          Constants.NULL_REVISION_NUMBER,
                          revisionNumber,
                          id);
-    final boolean compression = isCompressed && value.length > 10;
-    final byte[] compressedValue = compression ? Compression.compress(value, Deflater.HUFFMAN_ONLY) : value;
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression);
+    final byte[] compressedValue =
+        isCompressed && value.length > 10 ? valueCompression.compress(value, CompressionLevel.FAST) : null;
+    final boolean compression = compressedValue != null;
+    final ValueNodeDelegate valDel =
+        new ValueNodeDelegate(nodeDel, compression ? compressedValue : value, compression, valueCompression);
     final StructNodeDelegate structDel =
         new StructNodeDelegate(nodeDel, Fixed.NULL_NODE_KEY.getStandardProperty(), rightSibKey, leftSibKey, 0, 0);
     return pageTrx.createRecord(new TextNode(valDel, structDel), IndexType.DOCUMENT, -1);
@@ -149,7 +159,7 @@ final class XmlNodeFactoryImpl implements XmlNodeFactory {
                          revisionNumber,
                          id);
     final NameNodeDelegate nameDel = new NameNodeDelegate(nodeDel, uriKey, prefixKey, localNameKey, pathNodeKey);
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, value, false);
+    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, value, false, valueCompression);
 
     return pageTrx.createRecord(new AttributeNode(nodeDel, nameDel, valDel, name), IndexType.DOCUMENT, -1);
   }
@@ -196,7 +206,7 @@ final class XmlNodeFactoryImpl implements XmlNodeFactory {
     final StructNodeDelegate structDel =
         new StructNodeDelegate(nodeDel, Fixed.NULL_NODE_KEY.getStandardProperty(), rightSibKey, leftSibKey, 0, 0);
     final NameNodeDelegate nameDel = new NameNodeDelegate(nodeDel, uriKey, prefixKey, localNameKey, pathNodeKey);
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, content, false);
+    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, content, false, valueCompression);
 
     return pageTrx.createRecord(new PINode(structDel, nameDel, valDel, pageTrx), IndexType.DOCUMENT, -1);
   }
@@ -211,9 +221,11 @@ final class XmlNodeFactoryImpl implements XmlNodeFactory {
                          Constants.NULL_REVISION_NUMBER,
                          revisionNumber,
                          id);
-    final boolean compression = isCompressed && value.length > 10;
-    final byte[] compressedValue = compression ? Compression.compress(value, Deflater.HUFFMAN_ONLY) : value;
-    final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, compressedValue, compression);
+    final byte[] compressedValue =
+        isCompressed && value.length > 10 ? valueCompression.compress(value, CompressionLevel.FAST) : null;
+    final boolean compression = compressedValue != null;
+    final ValueNodeDelegate valDel =
+        new ValueNodeDelegate(nodeDel, compression ? compressedValue : value, compression, valueCompression);
     final StructNodeDelegate structDel =
         new StructNodeDelegate(nodeDel, Fixed.NULL_NODE_KEY.getStandardProperty(), rightSibKey, leftSibKey, 0, 0);
     return pageTrx.createRecord(new CommentNode(valDel, structDel), IndexType.DOCUMENT, -1);
@@ -133,6 +133,7 @@ final class XmlNodeTrxImpl extends AbstractNodeTrxImpl<XmlNodeReadOnlyTrx, XmlNo
           pathSummaryWriter,
           nodeFactory,
           nodeToRevisionsIndex,
+          null,
           transactionLock,
           afterCommitDelay,
           maxNodeCount);
@@ -169,7 +170,7 @@ final class XmlNodeTrxImpl extends AbstractNodeTrxImpl<XmlNodeReadOnlyTrx, XmlNo
       if (nodeToMove instanceof StructNode && getCurrentNode().getKind() == NodeKind.ELEMENT) {
         // Safe to cast (because StructNode is a subtype of Node).
         checkAncestors((Node) nodeToMove);
-        checkAccessAndCommit();
+        checkAccessAndCommit(nodeToMove.getNodeKey());
 
         final ElementNode nodeAnchor = (ElementNode) getCurrentNode();
 
@@ -303,7 +304,7 @@ final class XmlNodeTrxImpl extends AbstractNodeTrxImpl<XmlNodeReadOnlyTrx, XmlNo
       final DataRecord nodeToMove = node;
       if (nodeToMove instanceof StructNode toMove && getCurrentNode() instanceof StructNode nodeAnchor) {
         checkAncestors(toMove);
-        checkAccessAndCommit();
+        checkAccessAndCommit(toMove.getNodeKey());
 
         if (nodeAnchor.getRightSiblingKey() != nodeToMove.getNodeKey()) {
           final long parentKey = nodeAnchor.getParentKey();
@@ -1994,6 +1995,8 @@ final class XmlNodeTrxImpl extends AbstractNodeTrxImpl<XmlNodeReadOnlyTrx, XmlNo
 
   @Override
   protected XmlNodeFactory reInstantiateNodeFactory(PageTrx pageTrx) {
-    return new XmlNodeFactoryImpl(resourceSession.getResourceConfig().nodeHashFunction, pageTrx);
+    return new XmlNodeFactoryImpl(resourceSession.getResourceConfig().nodeHashFunction,
+                                  pageTrx,
+                                  resourceSession.getValueCompression());
   }
 }
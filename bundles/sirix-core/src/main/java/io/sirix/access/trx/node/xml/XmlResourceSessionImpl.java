@@ -111,7 +111,9 @@ public final class XmlResourceSessionImpl extends AbstractResourceSession<XmlNod
         new XmlNodeReadOnlyTrxImpl(this, nodeTrxId, pageTrx, (ImmutableXmlNode) documentNode);
 
     // Node factory.
-    final XmlNodeFactory nodeFactory = new XmlNodeFactoryImpl(this.getResourceConfig().nodeHashFunction, pageTrx);
+    final XmlNodeFactory nodeFactory = new XmlNodeFactoryImpl(this.getResourceConfig().nodeHashFunction,
+                                                              pageTrx,
+                                                              getValueCompression());
 
     // Path summary.
     final boolean buildPathSummary = getResourceConfig().withPathSummary;
@@ -51,6 +51,11 @@ public abstract class AbstractForwardingPageWriteTrx extends AbstractForwardingP
     delegate().removeRecord(recordKey, indexType, index);
   }
 
+  @Override
+  public void spillColdPagesIfRequired(long... documentNodeKeys) {
+    delegate().spillColdPagesIfRequired(documentNodeKeys);
+  }
+
   @Override
   public int createNameKey(String name, @NonNull NodeKind kind) {
     return delegate().createNameKey(name, kind);
@@ -34,6 +34,7 @@ import io.sirix.exception.SirixIOException;
 import io.sirix.index.IndexType;
 import io.sirix.io.BytesUtils;
 import io.sirix.io.Reader;
+import io.sirix.metrics.SirixMetrics;
 import io.sirix.node.DeletedNode;
 import io.sirix.node.NodeKind;
 import io.sirix.node.interfaces.DataRecord;
@@ -45,17 +46,18 @@ import io.sirix.settings.Constants;
 import io.sirix.settings.Fixed;
 import io.sirix.settings.VersioningType;
 import net.openhft.chronicle.bytes.Bytes;
+import net.openhft.chronicle.bytes.BytesIn;
+import net.openhft.chronicle.bytes.PointerBytesStore;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.foreign.MemorySegment;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
@@ -139,6 +141,16 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
 
   private final Bytes<ByteBuffer> byteBufferForRecords = Bytes.elasticByteBuffer(40);
 
+  /**
+   * Points to the native memory of a slot, which hasn't been copied from the serialized page.
+   */
+  private final PointerBytesStore slotMemoryStore = new PointerBytesStore();
+
+  /**
+   * The view of {@link #slotMemoryStore}, which is reused to deserialize the records of all slots.
+   */
+  private Bytes<Void> slotMemoryBytes;
+
   /**
    * Standard constructor.
    *
@@ -279,13 +291,20 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     final var offset = PageReadOnlyTrx.recordPageOffset(nodeKey);
     DataRecord record = page.getRecord(offset);
     if (record == null) {
-      byte[] data = page.getSlot(offset);
-      if (data != null) {
-        record = getDataRecord(nodeKey, offset, data, page);
+      // Deserialize directly from the memory of the serialized page, if the slot hasn't been copied.
+      final MemorySegment slotMemory = page.getSlotMemory(offset);
+      if (slotMemory != null) {
+        record = getDataRecord(nodeKey, offset, wrapForRead(slotMemory), page);
+      } else {
+        final byte[] data = page.getSlot(offset);
+        if (data != null) {
+          record = getDataRecord(nodeKey, offset, data, page);
+        }
       }
       if (record != null) {
         return record;
       }
+      final byte[] data;
       try {
         final PageReference reference = page.getPageReference(nodeKey);
         if (reference != null && reference.getKey() != Constants.NULL_ID_LONG) {
@@ -301,11 +320,38 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     return record;
   }
 
+  /**
+   * Get a view of the memory of a slot. The view of native memory is reused, thus it's only valid
+   * until the next slot is read.
+   *
+   * @param slotMemory the memory of the slot
+   * @return the view with position {@code 0} and limit the size of the slot
+   */
+  private BytesIn<?> wrapForRead(final MemorySegment slotMemory) {
+    if (!slotMemory.isNative()) {
+      return Bytes.wrapForRead(slotMemory.asByteBuffer());
+    }
+
+    slotMemoryStore.set(slotMemory.address(), slotMemory.byteSize());
+    if (slotMemoryBytes == null) {
+      slotMemoryBytes = slotMemoryStore.bytesForRead();
+    } else {
+      slotMemoryBytes.clear();
+      slotMemoryBytes.readLimit(slotMemory.byteSize());
+    }
+    return slotMemoryBytes;
+  }
+
   private DataRecord getDataRecord(long key, int offset, byte[] data, KeyValueLeafPage page) {
     byteBufferForRecords.clear();
     BytesUtils.doWrite(byteBufferForRecords, data);
-    var record = resourceConfig.recordPersister.deserialize(byteBufferForRecords, key, page.getDeweyId(offset), this);
+    final DataRecord record = getDataRecord(key, offset, byteBufferForRecords, page);
     byteBufferForRecords.clear();
+    return record;
+  }
+
+  private DataRecord getDataRecord(long key, int offset, BytesIn<?> source, KeyValueLeafPage page) {
+    var record = resourceConfig.recordPersister.deserialize(source, key, page.getDeweyId(offset), this);
     page.setRecord(record);
     return record;
   }
@@ -433,24 +479,39 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       return secondMostRecentlyReadRecordPage.page();
     }
 
-    // Second: Traverse trie.
-    final var pageReferenceToRecordPage = getLeafPageReference(indexLogKey.getRecordPageKey(),
-                                                               indexLogKey.getIndexNumber(),
-                                                               requireNonNull(indexLogKey.getIndexType()));
+    // Second: Check the references to reconstructed pages of committed revisions, to skip traversing the trie.
+    PageReference pageReferenceToRecordPage = null;
+    if (trxIntentLog == null) {
+      final PageReference reconstructedPageReference =
+          resourceBufferManager.getReconstructedPageCache().get(indexLogKey);
+      if (reconstructedPageReference != null) {
+        // Copied, as the page is set on the reference, but must only be kept by the record page cache.
+        pageReferenceToRecordPage = new PageReference(reconstructedPageReference);
+      }
+    }
 
+    // Third: Traverse trie.
     if (pageReferenceToRecordPage == null) {
-      return null;
+      pageReferenceToRecordPage = getLeafPageReference(indexLogKey.getRecordPageKey(),
+                                                       indexLogKey.getIndexNumber(),
+                                                       requireNonNull(indexLogKey.getIndexType()));
+
+      if (pageReferenceToRecordPage == null) {
+        return null;
+      }
     }
 
-    // Third: Try to get in-memory instance.
+    // Fourth: Try to get in-memory instance.
     var page = getInMemoryPageInstance(indexLogKey, pageReferenceToRecordPage);
     if (page != null) {
+      putIntoReconstructedPageCacheIfItIsNotAWriteTrx(indexLogKey, pageReferenceToRecordPage);
       return page;
     }
 
-    // Fourth: Try to get from resource buffer manager.
+    // Fifth: Try to get from resource buffer manager.
     Page recordPageFromBuffer = getFromBufferManager(indexLogKey, pageReferenceToRecordPage);
     if (recordPageFromBuffer != null) {
+      putIntoReconstructedPageCacheIfItIsNotAWriteTrx(indexLogKey, pageReferenceToRecordPage);
       return recordPageFromBuffer;
     }
 
@@ -459,7 +520,25 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       return null;
     }
 
-    return loadDataPageFromDurableStorageAndCombinePageFragments(indexLogKey, pageReferenceToRecordPage);
+    page = loadDataPageFromDurableStorageAndCombinePageFragments(indexLogKey, pageReferenceToRecordPage);
+    if (page != null) {
+      putIntoReconstructedPageCacheIfItIsNotAWriteTrx(indexLogKey, pageReferenceToRecordPage);
+    }
+    return page;
+  }
+
+  private void putIntoReconstructedPageCacheIfItIsNotAWriteTrx(IndexLogKey indexLogKey,
+      PageReference pageReferenceToRecordPage) {
+    if (trxIntentLog == null) {
+      final var reference = new PageReference(pageReferenceToRecordPage);
+      reference.setPage(null);
+      // The key is copied, as the key of the caller is mutable.
+      final var key = new IndexLogKey(indexLogKey.getIndexType(),
+                                      indexLogKey.getRecordPageKey(),
+                                      indexLogKey.getIndexNumber(),
+                                      indexLogKey.getRevisionNumber());
+      resourceBufferManager.getReconstructedPageCache().put(key, reference);
+    }
   }
 
   private boolean isMostRecentlyReadPathSummaryPage(IndexLogKey indexLogKey) {
@@ -528,9 +607,15 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     final int maxRevisionsToRestore = resourceConfig.maxNumberOfRevisionsToRestore;
     final VersioningType versioningApproach = resourceConfig.versioningType;
     final Page completePage = versioningApproach.combineRecordPages(pages, maxRevisionsToRestore, this);
+    SirixMetrics.get().fragmentsPerReconstructedPage().record(pages.size());
 
     if (trxIntentLog == null) {
       resourceBufferManager.getRecordPageCache().put(pageReferenceToRecordPage, completePage);
+      resourceSession.getPageCheckpointCandidates()
+                     .recordReconstruction(indexLogKey.getIndexType(),
+                                           indexLogKey.getIndexNumber(),
+                                           indexLogKey.getRecordPageKey(),
+                                           pages.size());
     }
 
     pageReferenceToRecordPage.setPage(completePage);
@@ -608,44 +693,39 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
   }
 
   private List<KeyValuePage<DataRecord>> getPreviousPageFragments(final List<PageFragmentKey> pageFragments) {
-    final var pages = pageFragments.stream().map(this::readPage).collect(Collectors.toList());
-    return sequence(pages).join()
-                          .stream()
-                          .sorted(Comparator.<KeyValuePage<DataRecord>, Integer>comparing(KeyValuePage::getRevision)
-                                            .reversed())
-                          .collect(Collectors.toList());
-  }
+    final List<KeyValuePage<DataRecord>> pages = new ArrayList<>(pageFragments.size());
+    final List<PageReference> pageReferencesToRead = new ArrayList<>(pageFragments.size());
 
-  private CompletableFuture<KeyValuePage<DataRecord>> readPage(final PageFragmentKey pageFragmentKey) {
-    final var pageReference = new PageReference().setKey(pageFragmentKey.key());
-    if (trxIntentLog == null) {
-      final var pageFromBufferManager = resourceBufferManager.getPageCache().get(pageReference);
-      if (pageFromBufferManager != null) {
-        assert pageFragmentKey.revision() == ((KeyValuePage<DataRecord>) pageFromBufferManager).getRevision();
-        return CompletableFuture.completedFuture((KeyValuePage<DataRecord>) pageFromBufferManager);
+    for (final PageFragmentKey pageFragmentKey : pageFragments) {
+      final var pageReference = new PageReference().setKey(pageFragmentKey.key());
+      if (trxIntentLog == null) {
+        final var pageFromBufferManager = resourceBufferManager.getPageCache().get(pageReference);
+        if (pageFromBufferManager != null) {
+          assert pageFragmentKey.revision() == ((KeyValuePage<DataRecord>) pageFromBufferManager).getRevision();
+          pages.add((KeyValuePage<DataRecord>) pageFromBufferManager);
+          continue;
+        }
       }
+      pageReferencesToRead.add(pageReference);
     }
-    final var pageReadOnlyTrx = resourceSession.beginPageReadOnlyTrx(pageFragmentKey.revision());
-    return (CompletableFuture<KeyValuePage<DataRecord>>) pageReadOnlyTrx.getReader()
-                                                                        .readAsync(pageReference, pageReadOnlyTrx)
-                                                                        .whenComplete((page, exception) -> {
-                                                                          pageReadOnlyTrx.close();
-                                                                          if (trxIntentLog == null) {
-                                                                            assert pageFragmentKey.revision()
-                                                                                == ((KeyValuePage<DataRecord>) page).getRevision();
-                                                                            resourceBufferManager.getPageCache()
-                                                                                                 .put(pageReference,
-                                                                                                      page);
-                                                                          }
-                                                                        });
-  }
-
-  static CompletableFuture<List<KeyValuePage<DataRecord>>> sequence(
-      List<CompletableFuture<KeyValuePage<DataRecord>>> listOfCompletableFutures) {
-    return CompletableFuture.allOf(listOfCompletableFutures.toArray(new CompletableFuture[0]))
-                            .thenApply(v -> listOfCompletableFutures.stream()
-                                                                    .map(CompletableFuture::join)
-                                                                    .collect(Collectors.toList()));
+
+    if (!pageReferencesToRead.isEmpty()) {
+      // The fragments are read in one batch by the reader of this transaction instead of a transaction per
+      // revision. A fragment is addressed by its key in the storage of the resource, which is the same for all
+      // revisions, and deserializing it only depends on the resource configuration and the revision stored in it.
+      final List<Page> pagesFromStorage = pageReader.readAll(pageReferencesToRead, this);
+
+      for (int i = 0; i < pagesFromStorage.size(); i++) {
+        final var page = (KeyValuePage<DataRecord>) pagesFromStorage.get(i);
+        if (trxIntentLog == null) {
+          resourceBufferManager.getPageCache().put(pageReferencesToRead.get(i), page);
+        }
+        pages.add(page);
+      }
+    }
+
+    pages.sort(Comparator.<KeyValuePage<DataRecord>, Integer>comparing(KeyValuePage::getRevision).reversed());
+    return pages;
   }
 
   /**
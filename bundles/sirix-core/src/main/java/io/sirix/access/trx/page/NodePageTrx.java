@@ -34,6 +34,8 @@ import io.sirix.cache.TransactionIntentLog;
 import io.sirix.exception.SirixIOException;
 import io.sirix.index.IndexType;
 import io.sirix.io.Writer;
+import io.sirix.metrics.SirixMetrics;
+import io.sirix.metrics.SirixMetrics.CommitPhase;
 import io.sirix.node.DeletedNode;
 import io.sirix.node.NodeKind;
 import io.sirix.node.SirixDeweyID;
@@ -45,6 +47,10 @@ import io.sirix.page.interfaces.KeyValuePage;
 import io.sirix.settings.Constants;
 import io.sirix.settings.Fixed;
 import io.sirix.settings.VersioningType;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.openhft.chronicle.bytes.Bytes;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -57,10 +63,25 @@ import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -149,6 +170,57 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
 
   private final LinkedHashMap<IndexLogKey, PageContainer> pageContainerCache;
 
+  /**
+   * The maximum number of key/value leaf pages, which are serialized ahead of the writer during a commit.
+   */
+  private static final int MAX_NUMBER_OF_PAGES_IN_FLIGHT = Runtime.getRuntime().availableProcessors() << 2;
+
+  /**
+   * The number of threads, which serialize the key/value leaf pages during a commit.
+   */
+  private static final int NUMBER_OF_SERIALIZATION_THREADS = Runtime.getRuntime().availableProcessors();
+
+  /**
+   * The time in seconds, after which an idle serialization thread ends.
+   */
+  private static final long SERIALIZATION_THREAD_KEEP_ALIVE_SECONDS = 30;
+
+  /**
+   * The executor, which serializes the key/value leaf pages during a commit, or {@code null}, if it
+   * hasn't been created yet.
+   */
+  private ExecutorService serializationExecutor;
+
+  /**
+   * The log keys of key/value leaf pages, which have already been written during the current commit,
+   * mapped to a reference, which stores the offset and hash.
+   */
+  private final Int2ObjectMap<PageReference> writtenKeyValueLeafPages;
+
+  /**
+   * A key/value leaf page of the transaction intent log, which has been serialized during a commit.
+   *
+   * @param logKey the log key of the page
+   * @param page   the page
+   */
+  private record SerializedKeyValueLeafPage(int logKey, KeyValueLeafPage page) {
+  }
+
+  /**
+   * Creates the daemon threads, which serialize the key/value leaf pages during a commit.
+   */
+  private static final class SerializationThreadFactory implements ThreadFactory {
+    @Override
+    public Thread newThread(@NonNull final Runnable runnable) {
+      final var thread = new Thread(runnable, "NodePageTrxSerializationThread");
+
+      thread.setPriority(Thread.NORM_PRIORITY);
+      thread.setDaemon(true);
+
+      return thread;
+    }
+  }
+
   /**
    * Constructor.
    *
@@ -182,6 +254,7 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
         return size() > 2_500;
       }
     };
+    writtenKeyValueLeafPages = new Int2ObjectOpenHashMap<>();
   }
 
   @Override
@@ -341,6 +414,15 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
       return;
     }
 
+    final PageReference writtenReference = writtenKeyValueLeafPages.remove(reference.getLogKey());
+
+    if (writtenReference != null) {
+      // Already written by the commit pipeline, a spilled page therefore doesn't have to be read back.
+      reference.setKey(writtenReference.getKey());
+      reference.setHash(writtenReference.getHash());
+      return;
+    }
+
     PageContainer container = log.get(reference);
 
     if (container == null) {
@@ -363,7 +445,8 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
   }
 
   @Override
-  public UberPage commit(@Nullable final String commitMessage, @Nullable final Instant commitTimestamp) {
+  public UberPage commit(@Nullable final String commitMessage, @Nullable final Instant commitTimestamp,
+      @Nullable final User user) {
     pageRtx.assertNotClosed();
 
     pageRtx.resourceSession.getCommitLock().lock();
@@ -379,20 +462,30 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
       final UberPage uberPage = pageRtx.getUberPage();
       uberPageReference.setPage(uberPage);
 
-      setUserIfPresent();
+      setUserIfPresent(user);
       setCommitMessageAndTimestampIfRequired(commitMessage, commitTimestamp);
 
-      parallelSerializationOfKeyValuePages();
+      final SirixMetrics metrics = SirixMetrics.get();
+      long start = System.nanoTime();
+
+      writePageCheckpoints();
+      start = recordCommitPhaseTime(metrics, CommitPhase.PAGE_CHECKPOINTS, start);
+
+      pipelinedSerializationAndWritingOfKeyValuePages();
+      start = recordCommitPhaseTime(metrics, CommitPhase.KEY_VALUE_PAGES, start);
 
       // Recursively write indirectly referenced pages.
       uberPage.commit(this);
+      start = recordCommitPhaseTime(metrics, CommitPhase.INDIRECT_PAGES, start);
 
       uberPageReference.setPage(uberPage);
       storagePageReaderWriter.writeUberPageReference(this, uberPageReference, bufferBytes);
       uberPageReference.setPage(null);
+      start = recordCommitPhaseTime(metrics, CommitPhase.UBER_PAGE, start);
 
       final int revision = uberPage.getRevisionNumber();
       serializeIndexDefinitions(revision);
+      recordCommitPhaseTime(metrics, CommitPhase.INDEX_DEFINITIONS, start);
 
       log.clear();
       pageContainerCache.clear();
@@ -404,12 +497,28 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
         throw new SirixIOException("Commit file couldn't be deleted!");
       }
     } finally {
+      // Also if the commit failed, such that a retry doesn't skip writing the pages.
+      writtenKeyValueLeafPages.clear();
       pageRtx.resourceSession.getCommitLock().unlock();
     }
 
     return readUberPage();
   }
 
+  /**
+   * Record the duration of a commit phase.
+   *
+   * @param metrics the metrics
+   * @param phase   the commit phase
+   * @param start   the start of the phase in nanoseconds
+   * @return the end of the phase in nanoseconds, which is the start of the next phase
+   */
+  private static long recordCommitPhaseTime(final SirixMetrics metrics, final CommitPhase phase, final long start) {
+    final long end = System.nanoTime();
+    metrics.commitPhaseTime(phase).record(end - start);
+    return end;
+  }
+
   private void setCommitMessageAndTimestampIfRequired(@org.jetbrains.annotations.Nullable String commitMessage,
       @Nullable Instant commitTimestamp) {
     if (commitMessage != null) {
@@ -435,15 +544,178 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
     }
   }
 
-  private void parallelSerializationOfKeyValuePages() {
-    log.getList()
-       .parallelStream()
-       .map(PageContainer::getModified)
-       .filter(page -> page instanceof KeyValueLeafPage)
-       .forEach(page -> {
-         final Bytes<ByteBuffer> bytes = Bytes.elasticByteBuffer(60_000);
-         PageKind.KEYVALUELEAFPAGE.serializePage(this, bytes, page, SerializationType.DATA);
-       });
+  /**
+   * Add the complete pages of record pages, which read-only transactions had to reconstruct from many
+   * page fragments, to the transaction intent log. The pages are written as checkpoints without any
+   * previous fragments, such that readers of this and later revisions only have to read a single page.
+   * The checkpoints are part of the new revision, thus older revisions still refer to their fragments.
+   */
+  private void writePageCheckpoints() {
+    final PageCheckpointCandidates candidates = pageRtx.resourceSession.getPageCheckpointCandidates();
+
+    if (!candidates.isEnabled()) {
+      return;
+    }
+
+    for (final PageCheckpointCandidates.Candidate candidate : candidates.drain()) {
+      final PageReference reference = getLeafPageReference(candidate);
+
+      if (reference == null || reference.getKey() == Constants.NULL_ID_LONG
+          || reference.getPageFragments().size() + 1 < candidates.getThreshold()) {
+        // Either not yet committed or the fragments have been combined in the meantime.
+        continue;
+      }
+
+      final PageContainer pageContainer =
+          prepareRecordPage(candidate.recordPageKey(), candidate.indexNumber(), candidate.indexType());
+
+      @SuppressWarnings("unchecked") final var completePage = (KeyValuePage<DataRecord>) pageContainer.getComplete();
+      @SuppressWarnings("unchecked") final var modifiedPage = (KeyValuePage<DataRecord>) pageContainer.getModified();
+      final DataRecord[] modifiedRecords = modifiedPage.records();
+
+      for (int offset = 0; offset < Constants.NDP_NODE_COUNT; offset++) {
+        if (modifiedRecords[offset] == null && !modifiedPage.hasSlot(offset) && completePage.hasSlot(offset)) {
+          modifiedPage.setSlot(completePage, offset);
+        }
+        if (modifiedPage.getDeweyId(offset) == null && completePage.getDeweyId(offset) != null) {
+          modifiedPage.setDeweyId(completePage.getDeweyId(offset), offset);
+        }
+      }
+
+      for (final Map.Entry<Long, PageReference> entry : completePage.referenceEntrySet()) {
+        if (modifiedPage.getPageReference(entry.getKey()) == null) {
+          modifiedPage.setPageReference(entry.getKey(), entry.getValue());
+        }
+      }
+
+      // The reference to the record page of the new revision, which is stored in the log.
+      requireNonNull(getLeafPageReference(candidate)).setPageFragments(new ArrayList<>());
+    }
+  }
+
+  @Nullable
+  private PageReference getLeafPageReference(final PageCheckpointCandidates.Candidate candidate) {
+    final PageReference pageReference =
+        pageRtx.getPageReference(newRevisionRootPage, candidate.indexType(), candidate.indexNumber());
+    return pageRtx.getLeafPageReference(pageReference,
+                                        candidate.recordPageKey(),
+                                        candidate.indexNumber(),
+                                        candidate.indexType(),
+                                        newRevisionRootPage);
+  }
+
+  /**
+   * Serialize and compress the key/value leaf pages of the transaction intent log in parallel and
+   * write them through a single writer (the committing thread) as soon as they are serialized. The
+   * number of serialized, but not yet written pages is bounded. The writer assigns the offsets in
+   * the order in which the pages are written, such that CPU work and I/O overlap. As key/value leaf
+   * pages don't reference other pages in the log, they can be written before the recursive commit
+   * of the page tree, which then only has to write the indirect pages. Spilled pages are read from
+   * the scratch file by the serializing threads and are dropped once they have been written, thus
+   * they are not put back on the heap.
+   *
+   * <p>
+   * The other pages are serialized and compressed by the writer during the recursive commit, as they
+   * store the offsets and hashes of the pages they reference, which are only known once these have
+   * been written. Apart from the indirect pages, which are small compared to the leaf pages, there
+   * are only a few of them per revision.
+   * </p>
+   */
+  private void pipelinedSerializationAndWritingOfKeyValuePages() {
+    final IntList logKeys = new IntArrayList();
+    for (int logKey = 0, size = log.size(); logKey < size; logKey++) {
+      if (log.isKeyValueLeafPage(logKey)) {
+        logKeys.add(logKey);
+      }
+    }
+
+    // The pages are written in the order of the log, that is in the order they are serialized, such that the
+    // layout of the data file doesn't depend on the scheduling of the serializing tasks.
+    final Deque<CompletableFuture<SerializedKeyValueLeafPage>> serializedPages = new ArrayDeque<>();
+    // The serialization buffers, which are reused by the serializing tasks. A task returns its buffer
+    // once the page is serialized, thus at most one buffer per concurrently running task is created.
+    final Queue<Bytes<ByteBuffer>> serializationBuffers = new ConcurrentLinkedQueue<>();
+    final int numberOfPages = logKeys.size();
+    int nextPageToSerialize = 0;
+
+    try {
+      while (nextPageToSerialize < numberOfPages && nextPageToSerialize < MAX_NUMBER_OF_PAGES_IN_FLIGHT) {
+        serializedPages.add(serializeAsync(logKeys.getInt(nextPageToSerialize++), serializationBuffers));
+      }
+
+      while (!serializedPages.isEmpty()) {
+        final SerializedKeyValueLeafPage serializedPage = serializedPages.peek().join();
+        serializedPages.poll();
+
+        if (nextPageToSerialize < numberOfPages) {
+          serializedPages.add(serializeAsync(logKeys.getInt(nextPageToSerialize++), serializationBuffers));
+        }
+
+        final KeyValueLeafPage page = serializedPage.page();
+        final PageReference reference = new PageReference();
+        reference.setPage(page);
+        page.commit(this);
+        storagePageReaderWriter.write(this, reference, bufferBytes);
+        reference.setPage(null);
+        page.clearPage();
+
+        final PageContainer container = log.getList().get(serializedPage.logKey());
+        if (container != null) {
+          container.getComplete().clearPage();
+        }
+
+        writtenKeyValueLeafPages.put(serializedPage.logKey(), reference);
+      }
+    } catch (final CompletionException e) {
+      throw new SirixIOException("Key/value leaf page couldn't be serialized.", e.getCause());
+    } finally {
+      // If writing failed, wait for the pages, which are still serialized, as they use the buffers.
+      for (final CompletableFuture<SerializedKeyValueLeafPage> pendingPage : serializedPages) {
+        pendingPage.handle((unused, exception) -> null).join();
+      }
+      Bytes<ByteBuffer> serializationBuffer;
+      while ((serializationBuffer = serializationBuffers.poll()) != null) {
+        serializationBuffer.releaseLast();
+      }
+    }
+  }
+
+  private CompletableFuture<SerializedKeyValueLeafPage> serializeAsync(final int logKey,
+      final Queue<Bytes<ByteBuffer>> serializationBuffers) {
+    return CompletableFuture.supplyAsync(() -> {
+      final KeyValueLeafPage page = requireNonNull(log.getModifiedKeyValueLeafPage(logKey));
+      Bytes<ByteBuffer> bytes = serializationBuffers.poll();
+      if (bytes == null) {
+        bytes = Bytes.elasticByteBuffer(60_000);
+      }
+      try {
+        PageKind.KEYVALUELEAFPAGE.serializePage(this, bytes, page, SerializationType.DATA);
+      } finally {
+        bytes.clear();
+        serializationBuffers.add(bytes);
+      }
+      return new SerializedKeyValueLeafPage(logKey, page);
+    }, getSerializationExecutor());
+  }
+
+  /**
+   * Get the executor, which serializes the key/value leaf pages during a commit. It's created on the
+   * first commit and its threads end, once they are idle for some time.
+   *
+   * @return the executor
+   */
+  private ExecutorService getSerializationExecutor() {
+    if (serializationExecutor == null) {
+      final var executor = new ThreadPoolExecutor(NUMBER_OF_SERIALIZATION_THREADS,
+                                                  NUMBER_OF_SERIALIZATION_THREADS,
+                                                  SERIALIZATION_THREAD_KEEP_ALIVE_SECONDS,
+                                                  TimeUnit.SECONDS,
+                                                  new LinkedBlockingQueue<>(),
+                                                  new SerializationThreadFactory());
+      executor.allowCoreThreadTimeOut(true);
+      serializationExecutor = executor;
+    }
+    return serializationExecutor;
   }
 
   private UberPage readUberPage() {
@@ -460,7 +732,11 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
     }
   }
 
-  private void setUserIfPresent() {
+  private void setUserIfPresent(@Nullable final User user) {
+    if (user != null) {
+      newRevisionRootPage.setUser(user);
+      return;
+    }
     final Optional<User> optionalUser = pageRtx.resourceSession.getUser();
     optionalUser.ifPresent(newRevisionRootPage::setUser);
   }
@@ -485,6 +761,9 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
         pageRtx.resourceSession.closePageWriteTransaction(pageRtx.getTrxId());
       }
 
+      if (serializationExecutor != null) {
+        serializationExecutor.shutdown();
+      }
       log.close();
       pageRtx.close();
       storagePageReaderWriter.close();
@@ -627,6 +906,55 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
     return currPageContainer;
   }
 
+  /**
+   * Spill cold page containers of the transaction intent log to disk. The page containers of the
+   * given document nodes and the most recently used page containers stay on the heap. The page
+   * containers of the path summary are never spilled, as the in-memory path summary references their
+   * records. Spilled page containers are removed from the page container cache, such that they are
+   * not kept on the heap.
+   *
+   * @param documentNodeKeys the keys of the document nodes, the records of which the node trx keeps
+   */
+  @Override
+  public void spillColdPagesIfRequired(final long... documentNodeKeys) {
+    pageRtx.assertNotClosed();
+
+    if (!log.isSpillingRequired()) {
+      return;
+    }
+
+    final Set<PageContainer> pinnedPageContainers =
+        Collections.newSetFromMap(new IdentityHashMap<>(documentNodeKeys.length + 3));
+    pinnedPageContainers.add(mostRecentPageContainer.pageContainer);
+    pinnedPageContainers.add(secondMostRecentPageContainer.pageContainer);
+    pinnedPageContainers.add(mostRecentPathSummaryPageContainer.pageContainer);
+    for (final long documentNodeKey : documentNodeKeys) {
+      if (documentNodeKey < 0) {
+        continue;
+      }
+      final PageContainer pageContainer =
+          getPageContainer(pageRtx.pageKey(documentNodeKey, IndexType.DOCUMENT), -1, IndexType.DOCUMENT);
+      if (pageContainer != null) {
+        pinnedPageContainers.add(pageContainer);
+      }
+    }
+
+    final List<PageContainer> spilledPageContainers = log.spill(this,
+        pageContainer -> pinnedPageContainers.contains(pageContainer) || isPathSummaryPageContainer(pageContainer));
+
+    if (!spilledPageContainers.isEmpty()) {
+      final Set<PageContainer> spilled =
+          Collections.newSetFromMap(new IdentityHashMap<>(spilledPageContainers.size()));
+      spilled.addAll(spilledPageContainers);
+      pageContainerCache.values().removeIf(spilled::contains);
+    }
+  }
+
+  private static boolean isPathSummaryPageContainer(final PageContainer pageContainer) {
+    return pageContainer.getModified() instanceof KeyValueLeafPage page
+        && page.getIndexType() == IndexType.PATH_SUMMARY;
+  }
+
   /**
    * Dereference record page reference.
    *
@@ -0,0 +1,130 @@
+package io.sirix.access.trx.page;
+
+import io.sirix.index.IndexType;
+import org.checkerframework.checker.index.qual.NonNegative;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Record pages of a resource, which read-only transactions had to reconstruct from at least
+ * {@code threshold} page fragments since the last commit. The next commit writes the complete pages
+ * of the most frequently reconstructed candidates as checkpoints, that is as pages without any
+ * previous fragments, such that readers of later revisions only have to read a single page.
+ */
+public final class PageCheckpointCandidates {
+
+  /**
+   * The maximum number of candidates, which are tracked between two commits.
+   */
+  private static final int MAX_NUMBER_OF_CANDIDATES = 1 << 14;
+
+  /**
+   * The maximum number of checkpoints, which are written during a single commit.
+   */
+  static final int MAX_NUMBER_OF_CHECKPOINTS_PER_COMMIT = 1 << 10;
+
+  /**
+   * A record page, which is a candidate for a checkpoint.
+   *
+   * @param indexType     the index type of the page
+   * @param indexNumber   the index number of the page
+   * @param recordPageKey the record page key
+   */
+  record Candidate(IndexType indexType, int indexNumber, long recordPageKey) {
+  }
+
+  /**
+   * The minimum number of fragments or {@code 0}, if checkpoints are disabled.
+   */
+  private final int threshold;
+
+  /**
+   * The number of reconstructions of each candidate.
+   */
+  private final ConcurrentMap<Candidate, AtomicInteger> reconstructions;
+
+  /**
+   * Constructor.
+   *
+   * @param threshold the minimum number of page fragments, from which a page has to be reconstructed
+   *                  to become a candidate, or {@code 0} to disable checkpoints
+   */
+  public PageCheckpointCandidates(final @NonNegative int threshold) {
+    this.threshold = threshold;
+    reconstructions = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Determines if checkpoints are written.
+   *
+   * @return {@code true}, if checkpoints are written, {@code false} otherwise
+   */
+  public boolean isEnabled() {
+    return threshold != 0;
+  }
+
+  int getThreshold() {
+    return threshold;
+  }
+
+  /**
+   * Record the reconstruction of a record page.
+   *
+   * @param indexType         the index type of the page
+   * @param indexNumber       the index number of the page
+   * @param recordPageKey     the record page key
+   * @param numberOfFragments the number of fragments, which have been combined
+   */
+  void recordReconstruction(final IndexType indexType, final int indexNumber, final long recordPageKey,
+      final int numberOfFragments) {
+    if (threshold == 0 || numberOfFragments < threshold) {
+      return;
+    }
+
+    final var candidate = new Candidate(indexType, indexNumber, recordPageKey);
+    final AtomicInteger numberOfReconstructions = reconstructions.get(candidate);
+
+    if (numberOfReconstructions != null) {
+      numberOfReconstructions.incrementAndGet();
+    } else if (reconstructions.size() < MAX_NUMBER_OF_CANDIDATES) {
+      reconstructions.computeIfAbsent(candidate, unused -> new AtomicInteger()).incrementAndGet();
+    }
+  }
+
+  /**
+   * Remove the most frequently reconstructed candidates.
+   *
+   * @return the candidates, ordered by their number of reconstructions in descending order
+   */
+  List<Candidate> drain() {
+    final List<Map.Entry<Candidate, AtomicInteger>> entries = new ArrayList<>(reconstructions.entrySet());
+    entries.sort(Comparator.comparingInt((Map.Entry<Candidate, AtomicInteger> entry) -> entry.getValue().get())
+                           .reversed());
+
+    final int numberOfCheckpoints = Math.min(entries.size(), MAX_NUMBER_OF_CHECKPOINTS_PER_COMMIT);
+    final List<Candidate> candidates = new ArrayList<>(numberOfCheckpoints);
+
+    for (int i = 0; i < numberOfCheckpoints; i++) {
+      final Candidate candidate = entries.get(i).getKey();
+      reconstructions.remove(candidate);
+      candidates.add(candidate);
+    }
+
+    return candidates;
+  }
+
+  /**
+   * Get the number of candidates.
+   *
+   * @return the number of candidates
+   */
+  public int size() {
+    return reconstructions.size();
+  }
+}
@@ -35,6 +35,17 @@ import io.sirix.cache.TransactionIntentLog;
  */
 final class TransactionIntentLogFactoryImpl implements TransactionIntentLogFactory {
 
+  /**
+   * The system property, which overrides the maximum number of key/value leaf page containers kept
+   * on the heap, before cold ones are spilled to disk.
+   */
+  static final String MAX_IN_MEMORY_CAPACITY_PROPERTY = "sirix.intentLog.maxInMemoryPages";
+
+  /**
+   * The default maximum number of key/value leaf page containers kept on the heap.
+   */
+  private static final int MAX_IN_MEMORY_CAPACITY = 1 << 12;
+
   /**
    * Package private constructor.
    */
@@ -43,6 +54,7 @@ final class TransactionIntentLogFactoryImpl implements TransactionIntentLogFacto
 
   @Override
   public TransactionIntentLog createTrxIntentLog(final ResourceConfiguration resourceConfig) {
-    return new TransactionIntentLog(1 << 12);
+    return new TransactionIntentLog(resourceConfig,
+                                    Integer.getInteger(MAX_IN_MEMORY_CAPACITY_PROPERTY, MAX_IN_MEMORY_CAPACITY));
   }
 }
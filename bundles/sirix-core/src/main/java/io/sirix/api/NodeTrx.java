@@ -79,6 +79,15 @@ public interface NodeTrx extends NodeReadOnlyTrx, AutoCloseable {
    */
   NodeTrx truncateTo(int revision);
 
+  /**
+   * Set the user, who is stored with the commits of this transaction instead of the user of the
+   * resource session.
+   *
+   * @param user the user, or {@code null} for the user of the resource session
+   * @return NodeTrx return current instance
+   */
+  NodeTrx setUser(@Nullable User user);
+
   /**
    * Get the {@link PathSummaryReader} associated with the current write transaction -- might be
    * {@code null} if no path summary index is used.
@@ -102,6 +111,14 @@ public interface NodeTrx extends NodeReadOnlyTrx, AutoCloseable {
    */
   PageTrx getPageWtx();
 
+  /**
+   * Determines if nodes have been modified since the last commit or rollback. Otherwise the nodes
+   * are the ones of the revision the page read-write transaction represents.
+   *
+   * @return {@code true}, if there are uncommitted modifications, {@code false} otherwise
+   */
+  boolean hasUncommittedModifications();
+
   /**
    * Get the user who committed the revision you reverted to, if available.
    *
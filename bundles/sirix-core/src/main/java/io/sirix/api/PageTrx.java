@@ -1,5 +1,6 @@
 package io.sirix.api;
 
+import io.sirix.access.User;
 import io.sirix.cache.TransactionIntentLog;
 import io.sirix.index.IndexType;
 import io.sirix.node.NodeKind;
@@ -84,6 +85,18 @@ public interface PageTrx extends PageReadOnlyTrx {
    */
   void removeRecord(long key, @NonNull IndexType indexType, int index);
 
+  /**
+   * Spill cold record pages of the transaction intent log to disk, if the log exceeds its in-memory
+   * capacity. Records of spilled pages are read back as new instances, thus this method must only be
+   * called at a safe point between two modifications, at which the caller doesn't keep records, which
+   * have been returned by {@link #prepareRecordForModification(long, IndexType, int)},
+   * {@link #createRecord(DataRecord, IndexType, int)} or {@code getRecord(long, IndexType, int)},
+   * apart from the given document nodes, the pages of which stay on the heap.
+   *
+   * @param documentNodeKeys the keys of the document nodes, the records of which the caller keeps
+   */
+  void spillColdPagesIfRequired(long... documentNodeKeys);
+
   /**
    * Creating a namekey for a given name.
    *
@@ -126,7 +139,21 @@ public interface PageTrx extends PageReadOnlyTrx {
    * @return UberPage the revision after commit
    * @throws SirixException if Sirix fails to commit
    */
-  UberPage commit(@Nullable String commitMessage, @Nullable Instant commitTimeStamp);
+  default UberPage commit(@Nullable String commitMessage, @Nullable Instant commitTimeStamp) {
+    return commit(commitMessage, commitTimeStamp, null);
+  }
+
+  /**
+   * Commit the transaction, that is persist changes if any and create a new revision. The commit
+   * message and the user are going to be persisted as well.
+   *
+   * @param commitMessage the commit message
+   * @param commitTimeStamp the commit timestamp
+   * @param user the user, who commits, or {@code null} for the user of the resource session
+   * @return UberPage the revision after commit
+   * @throws SirixException if Sirix fails to commit
+   */
+  UberPage commit(@Nullable String commitMessage, @Nullable Instant commitTimeStamp, @Nullable User user);
 
   /**
    * Committing a {@link PageTrx}. This method is recursively invoked by all {@link PageReference}s.
@@ -21,6 +21,7 @@
 
 package io.sirix.api.xml;
 
+import io.sirix.access.User;
 import io.sirix.exception.SirixException;
 import io.sirix.exception.SirixIOException;
 import io.brackit.query.atomic.QNm;
@@ -613,4 +614,7 @@ public interface XmlNodeTrx extends XmlNodeReadOnlyTrx, NodeTrx {
 
   @Override
   XmlNodeTrx truncateTo(int revision);
+
+  @Override
+  XmlNodeTrx setUser(@Nullable User user);
 }
@@ -6,14 +6,86 @@ import io.sirix.api.NodeTrx;
 import io.sirix.api.ResourceSession;
 import com.google.common.collect.AbstractIterator;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * TemporalAxis abstract class.
+ * <p>
+ * The transactions, which are returned by an axis, are owned by the caller. Transactions, which an
+ * axis has opened for its own lookups, are kept in a small cache, such that they can be returned
+ * later on, and are closed once the cache is full or the axis is done or closed.
+ * </p>
  *
  * @author Johannes Lichtenberger
  *
  */
 public abstract class AbstractTemporalAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor>
-    extends AbstractIterator<R> {
+    extends AbstractIterator<R> implements AutoCloseable {
+
+  /**
+   * The maximum number of transactions, which are kept open by an axis without having been returned.
+   */
+  private static final int MAX_OPEN_TRXS = 4;
+
+  /**
+   * The transactions, which have been opened by this axis, but haven't been returned, keyed by their
+   * revision.
+   */
+  private final Map<Integer, R> openTrxs = new LinkedHashMap<>(MAX_OPEN_TRXS, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<Integer, R> eldest) {
+      if (size() > MAX_OPEN_TRXS) {
+        eldest.getValue().close();
+        return true;
+      }
+      return false;
+    }
+  };
 
   public abstract ResourceSession<R, W> getResourceManager();
+
+  /**
+   * Get a transaction on a revision, which is either taken from the transactions, which this axis has
+   * opened before, or opened. The caller owns the transaction, unless it's handed back by means of
+   * {@link #releaseTrx(NodeReadOnlyTrx)}.
+   *
+   * @param revision the revision
+   * @return the transaction
+   */
+  protected final R getTrx(final int revision) {
+    final R rtx = openTrxs.remove(revision);
+    return rtx == null ? getResourceManager().beginNodeReadOnlyTrx(revision) : rtx;
+  }
+
+  /**
+   * Hand back a transaction, which isn't returned by this axis.
+   *
+   * @param rtx the transaction
+   */
+  protected final void releaseTrx(final R rtx) {
+    final R previousRtx = openTrxs.put(rtx.getRevisionNumber(), rtx);
+    if (previousRtx != null && previousRtx != rtx) {
+      previousRtx.close();
+    }
+  }
+
+  /**
+   * Close the transactions of this axis and signal the end of the iteration.
+   *
+   * @return {@code null}
+   */
+  protected final R done() {
+    close();
+    return endOfData();
+  }
+
+  /**
+   * Close the transactions, which have been opened by this axis, but haven't been returned.
+   */
+  @Override
+  public void close() {
+    openTrxs.values().forEach(NodeReadOnlyTrx::close);
+    openTrxs.clear();
+  }
 }
@@ -62,6 +62,11 @@ public final class TemporalJsonNodeReadFilterAxis<F extends Filter<JsonNodeReadO
     return endOfData();
   }
 
+  @Override
+  public void close() {
+    mAxis.close();
+  }
+
   private boolean doFilter(final JsonNodeReadOnlyTrx rtx) {
     boolean filterResult = true;
     for (final F filter : mAxisFilter) {
@@ -62,6 +62,11 @@ public final class TemporalXmlNodeReadFilterAxis<F extends Filter<XmlNodeReadOnl
     return endOfData();
   }
 
+  @Override
+  public void close() {
+    axis.close();
+  }
+
   private boolean doFilter(final XmlNodeReadOnlyTrx rtx) {
     boolean filterResult = true;
     for (final F filter : axisFilter) {
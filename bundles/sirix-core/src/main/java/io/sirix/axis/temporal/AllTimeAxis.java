@@ -6,6 +6,7 @@ import io.sirix.api.NodeTrx;
 import io.sirix.api.ResourceSession;
 import io.sirix.api.xml.XmlNodeReadOnlyTrx;
 import io.sirix.axis.AbstractTemporalAxis;
+import io.sirix.node.RevisionReferencesNode;
 
 import static java.util.Objects.requireNonNull;
 
@@ -13,6 +14,8 @@ import static java.util.Objects.requireNonNull;
  * Retrieve a node by node key in all revisions. In each revision a {@link XmlNodeReadOnlyTrx} is
  * opened which is moved to the node with the given node key if it exists. Otherwise the iterator
  * has no more elements (the {@link XmlNodeReadOnlyTrx} moved to the node by it's node key).
+ * If the resource stores the node history in the {@code RECORD_TO_REVISIONS} index, only the
+ * revisions, in which the node has been created or changed, are visited.
  *
  * @author Johannes Lichtenberger
  *
@@ -29,6 +32,9 @@ public final class AllTimeAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
   /** Node key to lookup and retrieve. */
   private final long nodeKey;
 
+  /** The revisions, in which the node has been changed, or {@code null} if they aren't indexed. */
+  private final RevisionReferencesNode revisions;
+
   /** Determines if node has been found before and now has been deleted. */
   private boolean hasMoved;
 
@@ -40,25 +46,34 @@ public final class AllTimeAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
    */
   public AllTimeAxis(final ResourceSession<R, W> resourceSession, final R rtx) {
     this.resourceSession = requireNonNull(resourceSession);
-    revision = 1;
     nodeKey = rtx.getNodeKey();
+    if (resourceSession.getResourceConfig().storeNodeHistory()) {
+      // Later revisions are only indexed in the most recent revision.
+      final R rtxInMostRecentRevision = getTrx(resourceSession.getMostRecentRevisionNumber());
+      revisions = RecordRevisions.getRevisions(rtxInMostRecentRevision, nodeKey);
+      releaseTrx(rtxInMostRecentRevision);
+    } else {
+      revisions = null;
+    }
+    revision = revisions == null ? 1 : revisions.getFirstRevision();
   }
 
   @Override
   protected R computeNext() {
-    while (revision <= resourceSession.getMostRecentRevisionNumber()) {
-      final R rtx = resourceSession.beginNodeReadOnlyTrx(revision);
-      revision++;
+    while (revision != -1 && revision <= resourceSession.getMostRecentRevisionNumber()) {
+      final R rtx = getTrx(revision);
+      revision = RecordRevisions.getNextRevision(revisions, revision);
       if (rtx.moveTo(nodeKey)) {
         hasMoved = true;
         return rtx;
-      } else if (hasMoved) {
-        rtx.close();
-        return endOfData();
+      }
+      releaseTrx(rtx);
+      if (hasMoved) {
+        return done();
       }
     }
 
-    return endOfData();
+    return done();
   }
 
   @Override
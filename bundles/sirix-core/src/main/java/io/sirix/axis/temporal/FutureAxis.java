@@ -7,6 +7,7 @@ import io.sirix.api.ResourceSession;
 import io.sirix.api.xml.XmlNodeReadOnlyTrx;
 import io.sirix.axis.AbstractTemporalAxis;
 import io.sirix.axis.IncludeSelf;
+import io.sirix.node.RevisionReferencesNode;
 
 import static java.util.Objects.requireNonNull;
 
@@ -14,7 +15,9 @@ import static java.util.Objects.requireNonNull;
  * Retrieve a node by node key in all future revisions. In each revision a
  * {@link XmlNodeReadOnlyTrx} is opened which is moved to the node with the given node key if it
  * exists. Otherwise the iterator has no more elements (the {@link XmlNodeReadOnlyTrx} moved to the
- * node by it's node key).
+ * node by it's node key). If the resource stores the node history in the
+ * {@code RECORD_TO_REVISIONS} index, only the revisions, in which the node has been changed, are
+ * visited.
  *
  * @author Johannes Lichtenberger
  *
@@ -31,6 +34,9 @@ public final class FutureAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
   /** Node key to lookup and retrieve. */
   private final long nodeKey;
 
+  /** The revisions, in which the node has been changed, or {@code null} if they aren't indexed. */
+  private final RevisionReferencesNode revisions;
+
   /**
    * Constructor.
    *
@@ -51,25 +57,33 @@ public final class FutureAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
   public FutureAxis(final ResourceSession<R, W> resourceSession, final R rtx, final IncludeSelf includeSelf) {
     this.resourceSession = requireNonNull(resourceSession);
     nodeKey = rtx.getNodeKey();
+    if (resourceSession.getResourceConfig().storeNodeHistory()) {
+      // Later revisions are only indexed in the most recent revision.
+      final R rtxInMostRecentRevision = getTrx(resourceSession.getMostRecentRevisionNumber());
+      revisions = RecordRevisions.getRevisions(rtxInMostRecentRevision, nodeKey);
+      releaseTrx(rtxInMostRecentRevision);
+    } else {
+      revisions = null;
+    }
     revision = requireNonNull(includeSelf) == IncludeSelf.YES
         ? rtx.getRevisionNumber()
-        : rtx.getRevisionNumber() + 1;
+        : RecordRevisions.getNextRevision(revisions, rtx.getRevisionNumber());
   }
 
   @Override
   protected R computeNext() {
     // != a little bit faster?
-    if (revision <= resourceSession.getMostRecentRevisionNumber()) {
-      final R rtx = resourceSession.beginNodeReadOnlyTrx(revision);
-      revision++;
+    if (revision != -1 && revision <= resourceSession.getMostRecentRevisionNumber()) {
+      final R rtx = getTrx(revision);
+      revision = RecordRevisions.getNextRevision(revisions, revision);
       if (rtx.moveTo(nodeKey)) {
         return rtx;
       } else {
-        rtx.close();
-        return endOfData();
+        releaseTrx(rtx);
+        return done();
       }
     } else {
-      return endOfData();
+      return done();
     }
   }
 
@@ -5,11 +5,14 @@ import io.sirix.api.NodeReadOnlyTrx;
 import io.sirix.api.NodeTrx;
 import io.sirix.api.ResourceSession;
 import io.sirix.axis.AbstractTemporalAxis;
+import io.sirix.node.RevisionReferencesNode;
 
 import static java.util.Objects.requireNonNull;
 
 /**
- * Open the next revision and try to move to the node with the given node key.
+ * Open the next revision and try to move to the node with the given node key. If the resource
+ * stores the node history in the {@code RECORD_TO_REVISIONS} index, the next revision, in which the
+ * node has been changed, is opened.
  *
  * @author Johannes Lichtenberger
  *
@@ -36,19 +39,25 @@ public final class NextAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends No
    */
   public NextAxis(final ResourceSession<R, W> resourceSession, final R rtx) {
     this.resourceSession = requireNonNull(resourceSession);
-    revision = 0;
     nodeKey = rtx.getNodeKey();
-    revision = rtx.getRevisionNumber() + 1;
+    RevisionReferencesNode revisions = null;
+    if (resourceSession.getResourceConfig().storeNodeHistory()) {
+      final R rtxInMostRecentRevision = getTrx(resourceSession.getMostRecentRevisionNumber());
+      revisions = RecordRevisions.getRevisions(rtxInMostRecentRevision, nodeKey);
+      releaseTrx(rtxInMostRecentRevision);
+    }
+    revision = RecordRevisions.getNextRevision(revisions, rtx.getRevisionNumber());
     first = true;
   }
 
   @Override
   protected R computeNext() {
-    if (revision <= resourceSession.getMostRecentRevisionNumber() && first) {
+    if (revision != -1 && revision <= resourceSession.getMostRecentRevisionNumber() && first) {
       first = false;
 
-      final R rtx = resourceSession.beginNodeReadOnlyTrx(revision);
-      revision++;
+      final R rtx = getTrx(revision);
+      // Only one transaction is returned.
+      close();
 
       if (rtx.moveTo(nodeKey)) {
         return rtx;
@@ -57,7 +66,7 @@ public final class NextAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends No
         return endOfData();
       }
     } else {
-      return endOfData();
+      return done();
     }
   }
 
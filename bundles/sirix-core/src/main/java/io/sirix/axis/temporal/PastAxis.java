@@ -7,6 +7,7 @@ import io.sirix.api.ResourceSession;
 import io.sirix.api.xml.XmlNodeReadOnlyTrx;
 import io.sirix.axis.AbstractTemporalAxis;
 import io.sirix.axis.IncludeSelf;
+import io.sirix.node.RevisionReferencesNode;
 
 import static java.util.Objects.requireNonNull;
 
@@ -14,7 +15,9 @@ import static java.util.Objects.requireNonNull;
  * Retrieve a node by node key in all earlier revisions. In each revision a
  * {@link XmlNodeReadOnlyTrx} is opened which is moved to the node with the given node key if it
  * exists. Otherwise the iterator has no more elements (the {@link XmlNodeReadOnlyTrx} moved to the
- * node by it's node key).
+ * node by it's node key). If the resource stores the node history in the
+ * {@code RECORD_TO_REVISIONS} index, only the revisions of the earlier versions of the node are
+ * visited.
  *
  * @author Johannes Lichtenberger
  *
@@ -31,6 +34,9 @@ public final class PastAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends No
   /** Node key to lookup and retrieve. */
   private final long nodeKey;
 
+  /** The revisions, in which the node has been changed, or {@code null} if they aren't indexed. */
+  private final RevisionReferencesNode revisions;
+
   /**
    * Constructor.
    *
@@ -50,27 +56,28 @@ public final class PastAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends No
    */
   public PastAxis(final ResourceSession<R, W> resourceSession, final R rtx, final IncludeSelf includeSelf) {
     this.resourceSession = requireNonNull(resourceSession);
-    revision = 0;
     nodeKey = rtx.getNodeKey();
+    // The index of the revision of the transaction contains all earlier revisions.
+    revisions = RecordRevisions.getRevisions(rtx, nodeKey);
     revision = requireNonNull(includeSelf) == IncludeSelf.YES
         ? rtx.getRevisionNumber()
-        : rtx.getRevisionNumber() - 1;
+        : RecordRevisions.getPreviousRevision(revisions, rtx.getRevisionNumber());
   }
 
   @Override
   protected R computeNext() {
     if (revision > 0) {
-      final R rtx = resourceSession.beginNodeReadOnlyTrx(revision);
-      revision--;
+      final R rtx = getTrx(revision);
+      revision = RecordRevisions.getPreviousRevision(revisions, revision);
 
       if (rtx.moveTo(nodeKey))
         return rtx;
       else {
-        rtx.close();
-        return endOfData();
+        releaseTrx(rtx);
+        return done();
       }
     } else {
-      return endOfData();
+      return done();
     }
   }
 
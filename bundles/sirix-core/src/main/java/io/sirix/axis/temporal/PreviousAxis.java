@@ -9,7 +9,9 @@ import io.sirix.axis.AbstractTemporalAxis;
 import static java.util.Objects.requireNonNull;
 
 /**
- * Open the previous revision and try to move to the node with the given node key.
+ * Open the previous revision and try to move to the node with the given node key. If the resource
+ * stores the node history in the {@code RECORD_TO_REVISIONS} index, the revision of the previous
+ * version of the node is opened.
  *
  * @author Johannes Lichtenberger
  *
@@ -37,7 +39,8 @@ public final class PreviousAxis<R extends NodeReadOnlyTrx & NodeCursor, W extend
   public PreviousAxis(final ResourceSession<R, W> resourceSession, final R rtx) {
     this.resourceSession = requireNonNull(resourceSession);
     nodeKey = rtx.getNodeKey();
-    revision = rtx.getRevisionNumber() - 1;
+    revision = RecordRevisions.getPreviousRevision(RecordRevisions.getRevisions(rtx, nodeKey),
+                                                   rtx.getRevisionNumber());
     first = true;
   }
 
@@ -45,15 +48,15 @@ public final class PreviousAxis<R extends NodeReadOnlyTrx & NodeCursor, W extend
   protected R computeNext() {
     if (revision > 0 && first) {
       first = false;
-      final R rtx = resourceSession.beginNodeReadOnlyTrx(revision);
+      final R rtx = getTrx(revision);
       if (rtx.moveTo(nodeKey)) {
         return rtx;
       } else {
-        rtx.close();
-        return endOfData();
+        releaseTrx(rtx);
+        return done();
       }
     } else {
-      return endOfData();
+      return done();
     }
   }
 
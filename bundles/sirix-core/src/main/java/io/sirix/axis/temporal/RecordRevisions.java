@@ -0,0 +1,73 @@
+package io.sirix.axis.temporal;
+
+import io.sirix.api.NodeReadOnlyTrx;
+import io.sirix.index.IndexType;
+import io.sirix.node.RevisionReferencesNode;
+import io.sirix.node.interfaces.DataRecord;
+
+/**
+ * Looks up the revisions, in which a node has been created, modified or removed, in the
+ * {@link IndexType#RECORD_TO_REVISIONS} index, such that the temporal axes only visit the revisions
+ * of the versions of the node instead of every revision. Without the index every revision is visited.
+ */
+final class RecordRevisions {
+
+  /**
+   * Private constructor to prevent instantiation.
+   */
+  private RecordRevisions() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Get the revisions, in which a node has been changed, up to the revision of the given transaction.
+   * The cursor of the transaction isn't moved.
+   *
+   * @param rtx     the transaction, whose revision index is looked up
+   * @param nodeKey the key of the node
+   * @return the revisions or {@code null}, if the node isn't indexed, for instance because the
+   *         resource doesn't store the node history
+   */
+  static RevisionReferencesNode getRevisions(final NodeReadOnlyTrx rtx, final long nodeKey) {
+    if (!rtx.getResourceSession().getResourceConfig().storeNodeHistory() || nodeKey <= 0) {
+      return null;
+    }
+
+    final DataRecord record = rtx.getPageTrx().getRecord(nodeKey, IndexType.RECORD_TO_REVISIONS, 0);
+
+    if (!(record instanceof RevisionReferencesNode revisionReferencesNode)
+        || revisionReferencesNode.getNumberOfRevisions() == 0) {
+      return null;
+    }
+
+    return revisionReferencesNode;
+  }
+
+  /**
+   * Get the latest revision before the given revision, in which the node visible in the given
+   * revision has been changed, that is the revision of its previous version.
+   *
+   * @param revisions the revisions, in which the node has been changed, or {@code null}
+   * @param revision  the revision
+   * @return the revision or {@code -1}, if there's no previous version
+   */
+  static int getPreviousRevision(final RevisionReferencesNode revisions, final int revision) {
+    if (revisions == null) {
+      return revision - 1;
+    }
+    final int changeRevision =
+        revisions.containsRevision(revision) ? revision : revisions.getRevisionBefore(revision);
+    return changeRevision == -1 ? -1 : revisions.getRevisionBefore(changeRevision);
+  }
+
+  /**
+   * Get the earliest revision after the given revision, in which the node has been changed.
+   *
+   * @param revisions the revisions, in which the node has been changed, or {@code null}
+   * @param revision  the revision
+   * @return the revision or {@code -1}, if the node hasn't been changed afterwards
+   */
+  static int getNextRevision(final RevisionReferencesNode revisions, final int revision) {
+    return revisions == null ? revision + 1 : revisions.getRevisionAfter(revision);
+  }
+}
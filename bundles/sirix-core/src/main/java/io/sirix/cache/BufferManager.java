@@ -13,6 +13,15 @@ public interface BufferManager extends AutoCloseable {
 
   Cache<Integer, RevisionRootPage> getRevisionRootPageCache();
 
+  /**
+   * Get the cache of the references to record pages of committed revisions, keyed by the record page
+   * key and the revision, such that the trie doesn't have to be traversed again. The reconstructed
+   * pages themselves are cached by the record page cache.
+   *
+   * @return the cache of references to reconstructed record pages
+   */
+  Cache<IndexLogKey, PageReference> getReconstructedPageCache();
+
   Cache<RBIndexKey, Node> getIndexCache();
 
   Cache<NamesCacheKey, Names> getNamesCache();
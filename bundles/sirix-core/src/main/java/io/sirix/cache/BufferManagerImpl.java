@@ -12,6 +12,8 @@ public final class BufferManagerImpl implements BufferManager {
 
   private final RevisionRootPageCache revisionRootPageCache;
 
+  private final ReconstructedPageCache reconstructedPageCache;
+
   private final RedBlackTreeNodeCache redBlackTreeNodeCache;
 
   private final NamesCache namesCache;
@@ -20,9 +22,40 @@ public final class BufferManagerImpl implements BufferManager {
 
   public BufferManagerImpl(int maxPageCacheSize, int maxRecordPageCacheSize,
       int maxRevisionRootPageCache, int maxRBTreeNodeCache, int maxNamesCacheSize, int maxPathSummaryCacheSize) {
-    pageCache = new PageCache(maxPageCacheSize);
-    recordPageCache = new RecordPageCache(maxRecordPageCacheSize);
+    this(maxPageCacheSize,
+         maxRecordPageCacheSize,
+         maxRevisionRootPageCache,
+         maxRBTreeNodeCache,
+         maxNamesCacheSize,
+         maxPathSummaryCacheSize,
+         0);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maxPageCacheSize                the maximum number of pages in the page cache
+   * @param maxRecordPageCacheSize          the maximum number of pages in the record page cache
+   * @param maxRevisionRootPageCache        the maximum number of revision root pages
+   * @param maxRBTreeNodeCache              the maximum number of red-black tree nodes
+   * @param maxNamesCacheSize               the maximum number of names
+   * @param maxPathSummaryCacheSize         the maximum number of path summaries
+   * @param maxOffHeapPageCacheSizeInBytes  the maximum number of bytes of record pages evicted from the page
+   *                                        cache and the record page cache, which are kept off-heap by each of
+   *                                        them, or {@code 0} to disable off-heap caching
+   */
+  public BufferManagerImpl(int maxPageCacheSize, int maxRecordPageCacheSize, int maxRevisionRootPageCache,
+      int maxRBTreeNodeCache, int maxNamesCacheSize, int maxPathSummaryCacheSize,
+      long maxOffHeapPageCacheSizeInBytes) {
+    final boolean isOffHeapCacheEnabled = maxOffHeapPageCacheSizeInBytes > 0;
+    pageCache = new PageCache(maxPageCacheSize,
+                              isOffHeapCacheEnabled ? new OffHeapPageCache<>(maxOffHeapPageCacheSizeInBytes) : null);
+    recordPageCache = new RecordPageCache(maxRecordPageCacheSize,
+                                          isOffHeapCacheEnabled
+                                              ? new OffHeapPageCache<>(maxOffHeapPageCacheSizeInBytes)
+                                              : null);
     revisionRootPageCache = new RevisionRootPageCache(maxRevisionRootPageCache);
+    reconstructedPageCache = new ReconstructedPageCache(maxRecordPageCacheSize);
     redBlackTreeNodeCache = new RedBlackTreeNodeCache(maxRBTreeNodeCache);
     namesCache = new NamesCache(maxNamesCacheSize);
     pathSummaryCache = new PathSummaryCache(maxPathSummaryCacheSize);
@@ -43,6 +76,11 @@ public final class BufferManagerImpl implements BufferManager {
     return revisionRootPageCache;
   }
 
+  @Override
+  public Cache<IndexLogKey, PageReference> getReconstructedPageCache() {
+    return reconstructedPageCache;
+  }
+
   @Override
   public Cache<RBIndexKey, Node> getIndexCache() {
     return redBlackTreeNodeCache;
@@ -60,6 +98,8 @@ public final class BufferManagerImpl implements BufferManager {
 
   @Override
   public void close() {
+    pageCache.close();
+    recordPageCache.close();
   }
 
   @Override
@@ -67,6 +107,7 @@ public final class BufferManagerImpl implements BufferManager {
     pageCache.clear();
     recordPageCache.clear();
     revisionRootPageCache.clear();
+    reconstructedPageCache.clear();
     redBlackTreeNodeCache.clear();
     namesCache.clear();
     pathSummaryCache.clear();
@@ -0,0 +1,77 @@
+package io.sirix.cache;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit, miss and eviction counts of the caches of a resource, which are managed by the
+ * {@link GlobalBufferManager}.
+ */
+public final class BufferManagerStatistics {
+
+  private final LongAdder hits = new LongAdder();
+
+  private final LongAdder misses = new LongAdder();
+
+  private final LongAdder evictions = new LongAdder();
+
+  void recordHit() {
+    hits.increment();
+  }
+
+  void recordMiss() {
+    misses.increment();
+  }
+
+  void recordEviction() {
+    evictions.increment();
+  }
+
+  /**
+   * Get the number of cache lookups, which found an entry.
+   *
+   * @return the number of hits
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Get the number of cache lookups, which didn't find an entry.
+   *
+   * @return the number of misses
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Get the number of entries, which have been evicted due to the memory budget.
+   *
+   * @return the number of evictions
+   */
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
+  /**
+   * Get the ratio of hits to lookups.
+   *
+   * @return the hit ratio or {@code 1.0}, if no lookup has been made
+   */
+  public double getHitRatio() {
+    final long hitCount = getHitCount();
+    final long lookupCount = hitCount + getMissCount();
+    return lookupCount == 0 ? 1.0 : (double) hitCount / lookupCount;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("hits", getHitCount())
+                      .add("misses", getMissCount())
+                      .add("evictions", getEvictionCount())
+                      .toString();
+  }
+}
@@ -0,0 +1,391 @@
+package io.sirix.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.sirix.index.name.Names;
+import io.sirix.page.KeyValueLeafPage;
+import io.sirix.page.PageReference;
+import io.sirix.page.interfaces.Page;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Process-wide buffer pool, which shares a single memory budget between the page caches, record page
+ * caches, revision root page caches, reconstructed page caches, names caches and path summary caches
+ * of all resources.
+ * <p>
+ * All entries are stored in one cache, which is bounded by the estimated number of bytes of its
+ * entries. Thus, a hot resource is able to use the capacity of idle resources. Each resource has a
+ * soft quota, which is either set explicitly or a fair share of the budget. Once the budget is
+ * exhausted, the coldest entries of resources, which exceed their quota, are evicted first. Only if
+ * no such entries are found, the cache falls back to its own eviction policy.
+ * </p>
+ * <p>
+ * Evicted record pages are moved to a second-level cache, which stores them off-heap. The
+ * second-level cache is shared by all resources and its capacity is part of the budget.
+ * </p>
+ */
+public final class GlobalBufferManager implements AutoCloseable {
+
+  /**
+   * The kinds of caches, which share the budget.
+   */
+  enum CacheKind {
+    PAGE,
+
+    RECORD_PAGE,
+
+    REVISION_ROOT_PAGE,
+
+    RECONSTRUCTED_PAGE,
+
+    NAMES,
+
+    PATH_SUMMARY;
+
+    boolean holdsPages() {
+      return this == PAGE || this == RECORD_PAGE;
+    }
+  }
+
+  /**
+   * Key of an entry.
+   *
+   * @param resourceId the ID of the resource within this buffer manager
+   * @param kind       the kind of cache
+   * @param key        the key within the cache of the resource
+   */
+  private record Key(int resourceId, CacheKind kind, Object key) {
+  }
+
+  /**
+   * Value of an entry.
+   *
+   * @param value  the cached value
+   * @param weight the weight of the entry, as determined on insertion
+   */
+  private record Value(Object value, int weight) {
+  }
+
+  /**
+   * The number of coldest entries, which are scanned for entries of resources exceeding their quota.
+   */
+  private static final int COLDEST_ENTRIES_TO_SCAN = 128;
+
+  /**
+   * The estimated number of bytes of the fields of a page, which don't depend on its content.
+   */
+  private static final int PAGE_HEADER_SIZE = 128;
+
+  /**
+   * The estimated number of bytes of a {@link PageReference}.
+   */
+  private static final int PAGE_REFERENCE_SIZE = 64;
+
+  /**
+   * The estimated number of bytes of a record, which hasn't been serialized into a slot.
+   */
+  private static final int RECORD_SIZE = 96;
+
+  /**
+   * The estimated number of bytes of a path summary node and its mappings.
+   */
+  private static final int PATH_NODE_SIZE = 160;
+
+  /**
+   * The shared cache.
+   */
+  private final com.github.benmanes.caffeine.cache.Cache<Key, Value> cache;
+
+  /**
+   * The second-level cache of evicted record pages (or {@code null}).
+   */
+  private final @Nullable OffHeapPageCache<Key> secondCache;
+
+  /**
+   * The memory budget in bytes.
+   */
+  private final long maxSizeInBytes;
+
+  /**
+   * The part of the budget, which is used by on-heap entries.
+   */
+  private final long maxOnHeapSizeInBytes;
+
+  /**
+   * The estimated number of bytes of all on-heap entries.
+   */
+  private final AtomicLong size;
+
+  /**
+   * Generates the IDs of resources.
+   */
+  private final AtomicInteger resourceIds;
+
+  /**
+   * The buffer managers of the resources, mapped by the resource paths.
+   */
+  private final ConcurrentMap<Path, ResourceBufferManager> bufferManagers;
+
+  /**
+   * The buffer managers of the resources, mapped by their IDs.
+   */
+  private final ConcurrentMap<Integer, ResourceBufferManager> bufferManagersById;
+
+  /**
+   * Constructor.
+   *
+   * @param maxSizeInBytes                 the memory budget in bytes, including the off-heap cache
+   * @param maxOffHeapPageCacheSizeInBytes the part of the budget, which is used to keep evicted record
+   *                                       pages off-heap, or {@code 0} to disable off-heap caching
+   */
+  public GlobalBufferManager(final long maxSizeInBytes, final long maxOffHeapPageCacheSizeInBytes) {
+    checkArgument(maxOffHeapPageCacheSizeInBytes >= 0 && maxOffHeapPageCacheSizeInBytes < maxSizeInBytes,
+                  "The size of the off-heap cache must be part of the budget.");
+    this.maxSizeInBytes = maxSizeInBytes;
+    maxOnHeapSizeInBytes = maxSizeInBytes - maxOffHeapPageCacheSizeInBytes;
+    secondCache =
+        maxOffHeapPageCacheSizeInBytes > 0 ? new OffHeapPageCache<>(maxOffHeapPageCacheSizeInBytes) : null;
+    size = new AtomicLong();
+    resourceIds = new AtomicInteger();
+    bufferManagers = new ConcurrentHashMap<>();
+    bufferManagersById = new ConcurrentHashMap<>();
+    cache = Caffeine.newBuilder()
+                    .maximumWeight(maxOnHeapSizeInBytes)
+                    .weigher((Key key, Value value) -> value.weight())
+                    .removalListener(this::onRemoval)
+                    .executor(Runnable::run)
+                    .scheduler(Cache.scheduler)
+                    .build();
+  }
+
+  /**
+   * Get the buffer manager of a resource, which is created if it doesn't exist.
+   *
+   * @param resourceFile the path of the resource
+   * @return the buffer manager of the resource
+   */
+  public ResourceBufferManager getBufferManager(final Path resourceFile) {
+    return bufferManagers.computeIfAbsent(resourceFile, path -> {
+      final int resourceId = resourceIds.getAndIncrement();
+      final ResourceBufferManager bufferManager = new ResourceBufferManager(this, resourceId, path);
+      bufferManagersById.put(resourceId, bufferManager);
+      return bufferManager;
+    });
+  }
+
+  /**
+   * Remove the buffer manager of a resource and all of its entries.
+   *
+   * @param resourceFile the path of the resource
+   */
+  public void removeBufferManager(final Path resourceFile) {
+    final ResourceBufferManager bufferManager = bufferManagers.remove(resourceFile);
+    if (bufferManager != null) {
+      bufferManager.clearAllCaches();
+      bufferManagersById.remove(bufferManager.getResourceId());
+      bufferManager.close();
+    }
+  }
+
+  /**
+   * Set the soft quota of a resource.
+   *
+   * @param resourceFile the path of the resource
+   * @param quotaInBytes the quota in bytes or {@code -1} to use a fair share of the budget
+   */
+  public void setQuota(final Path resourceFile, final long quotaInBytes) {
+    getBufferManager(resourceFile).setQuota(quotaInBytes);
+  }
+
+  /**
+   * Get the memory budget.
+   *
+   * @return the memory budget in bytes
+   */
+  public long getMaxSize() {
+    return maxSizeInBytes;
+  }
+
+  /**
+   * Get the estimated number of bytes of all on-heap entries.
+   *
+   * @return the number of bytes
+   */
+  public long getSize() {
+    return size.get();
+  }
+
+  /**
+   * Get the number of bytes of all record pages, which are kept off-heap.
+   *
+   * @return the number of bytes
+   */
+  public long getOffHeapSize() {
+    return secondCache == null ? 0 : secondCache.size();
+  }
+
+  /**
+   * Get the fair share of the on-heap part of the budget of each resource.
+   *
+   * @return the fair share in bytes
+   */
+  long getFairShare() {
+    return maxOnHeapSizeInBytes / Math.max(1, bufferManagers.size());
+  }
+
+  /**
+   * Get the estimated number of bytes, which a value occupies on the heap.
+   * <p>
+   * A reconstructed page is cached by means of the reference to its record page, such that the page
+   * itself is only weighed once, as an entry of the record page cache.
+   * </p>
+   *
+   * @param value the value
+   * @return the estimated number of bytes
+   */
+  static int weigh(final Object value) {
+    final long weight;
+    if (value instanceof KeyValueLeafPage page) {
+      final long copySize = page.getCopySize();
+      weight = PAGE_HEADER_SIZE + (copySize == -1 ? (long) page.size() * RECORD_SIZE : copySize);
+    } else if (value instanceof Page page) {
+      weight = PAGE_HEADER_SIZE + (long) page.getReferences().size() * PAGE_REFERENCE_SIZE;
+    } else if (value instanceof PageReference) {
+      weight = PAGE_REFERENCE_SIZE;
+    } else if (value instanceof Names names) {
+      weight = names.getEstimatedSize();
+    } else if (value instanceof PathSummaryData pathSummaryData) {
+      final long numberOfMappings = pathSummaryData.pathNodeMapping().size() + pathSummaryData.qnmMapping().size();
+      weight = PAGE_HEADER_SIZE + numberOfMappings * PATH_NODE_SIZE;
+    } else {
+      weight = PAGE_HEADER_SIZE;
+    }
+    return (int) Math.min(weight, Integer.MAX_VALUE);
+  }
+
+  @Nullable Object get(final ResourceBufferManager bufferManager, final CacheKind kind, final Object key) {
+    final Value value = cache.getIfPresent(new Key(bufferManager.getResourceId(), kind, key));
+    return value == null ? null : value.value();
+  }
+
+  /**
+   * Get a record page from the second-level cache, which removes it from the second-level cache.
+   */
+  @Nullable KeyValueLeafPage getFromSecondCache(final ResourceBufferManager bufferManager, final CacheKind kind,
+      final Object key) {
+    return secondCache == null ? null : secondCache.get(new Key(bufferManager.getResourceId(), kind, key));
+  }
+
+  boolean hasSecondCache() {
+    return secondCache != null;
+  }
+
+  void put(final ResourceBufferManager bufferManager, final CacheKind kind, final Object key, final Object value) {
+    requireNonNull(value);
+    final int weight = weigh(value);
+
+    if (size.get() + weight > maxOnHeapSizeInBytes) {
+      evictFromResourcesExceedingTheirQuota(size.get() + weight - maxOnHeapSizeInBytes);
+    }
+
+    size.addAndGet(weight);
+    bufferManager.addToSize(weight);
+    cache.put(new Key(bufferManager.getResourceId(), kind, key), new Value(value, weight));
+  }
+
+  void remove(final ResourceBufferManager bufferManager, final CacheKind kind, final Object key) {
+    final Key cacheKey = new Key(bufferManager.getResourceId(), kind, key);
+    cache.invalidate(cacheKey);
+    if (secondCache != null) {
+      secondCache.remove(cacheKey);
+    }
+  }
+
+  void clear(final ResourceBufferManager bufferManager, final @Nullable CacheKind kind) {
+    final Predicate<Key> isEntryOfCache =
+        key -> key.resourceId() == bufferManager.getResourceId() && (kind == null || key.kind() == kind);
+    cache.asMap().keySet().removeIf(isEntryOfCache);
+    if (secondCache != null) {
+      secondCache.removeIf(isEntryOfCache);
+    }
+  }
+
+  void toSecondCache(final ResourceBufferManager bufferManager, final CacheKind kind) {
+    if (secondCache == null || !kind.holdsPages()) {
+      throw new UnsupportedOperationException();
+    }
+    cache.asMap().forEach((key, value) -> {
+      if (key.resourceId() == bufferManager.getResourceId() && key.kind() == kind) {
+        toSecondCache(key, value);
+      }
+    });
+  }
+
+  private void evictFromResourcesExceedingTheirQuota(long bytesToEvict) {
+    final Policy.Eviction<Key, Value> eviction = cache.policy().eviction().orElseThrow();
+
+    for (final Map.Entry<Key, Value> entry : eviction.coldest(COLDEST_ENTRIES_TO_SCAN).entrySet()) {
+      if (bytesToEvict <= 0) {
+        return;
+      }
+
+      final ResourceBufferManager owner = bufferManagersById.get(entry.getKey().resourceId());
+
+      // Removing the entry is reported as an explicit removal, thus it's moved to the second-level cache here.
+      if (owner != null && owner.isExceedingQuota() && cache.asMap().remove(entry.getKey(), entry.getValue())) {
+        owner.getStatistics().recordEviction();
+        toSecondCache(entry.getKey(), entry.getValue());
+        bytesToEvict -= entry.getValue().weight();
+      }
+    }
+  }
+
+  private void onRemoval(final @Nullable Key key, final @Nullable Value value, final RemovalCause cause) {
+    assert key != null && value != null;
+
+    size.addAndGet(-value.weight());
+
+    if (key.kind().holdsPages()) {
+      ((PageReference) key.key()).setPage(null);
+    }
+
+    final ResourceBufferManager owner = bufferManagersById.get(key.resourceId());
+
+    if (owner == null) {
+      return;
+    }
+
+    owner.addToSize(-value.weight());
+
+    if (cause.wasEvicted()) {
+      owner.getStatistics().recordEviction();
+      toSecondCache(key, value);
+    }
+  }
+
+  private void toSecondCache(final Key key, final Value value) {
+    if (secondCache != null && key.kind().holdsPages() && value.value() instanceof KeyValueLeafPage page) {
+      secondCache.put(key, page);
+    }
+  }
+
+  @Override
+  public void close() {
+    bufferManagers.keySet().forEach(this::removeBufferManager);
+    if (secondCache != null) {
+      secondCache.close();
+    }
+  }
+}
@@ -47,7 +47,7 @@ public final class IndexLogKey {
   @Override
   public int hashCode() {
     if (hash == 0) {
-      hash = indexType.getID() + Long.hashCode(recordPageKey) + indexNumber + revisionNumber;
+      hash = ((31 * Long.hashCode(recordPageKey) + revisionNumber) * 31 + indexNumber) * 31 + indexType.getID();
     }
     return hash;
   }
@@ -0,0 +1,151 @@
+package io.sirix.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.page.KeyValueLeafPage;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentScope;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Second-level cache for {@link KeyValueLeafPage}s, which have been evicted from an on-heap cache.
+ * The pages are copied into native memory and the cache is bounded by the number of bytes. Getting a
+ * page removes it from this cache, as it's supposed to be promoted to the on-heap cache again.
+ * <p>
+ * Pages created from native memory reference the memory instead of copying their slots. The memory
+ * is therefore allocated with an automatic scope and released once neither the cache nor a page
+ * references it anymore.
+ * </p>
+ *
+ * @param <K> the key
+ */
+public final class OffHeapPageCache<K> implements Cache<K, KeyValueLeafPage> {
+
+  /**
+   * A page copied into native memory.
+   *
+   * @param memory         the memory of the page
+   * @param resourceConfig the resource configuration needed to create the page again
+   */
+  private record OffHeapPage(MemorySegment memory, ResourceConfiguration resourceConfig) {
+  }
+
+  private final com.github.benmanes.caffeine.cache.Cache<K, OffHeapPage> pageCache;
+
+  /**
+   * Constructor, which evicts pages only based on their size and the frequency of accesses.
+   *
+   * @param maxSizeInBytes the maximum number of bytes of all cached pages
+   */
+  public OffHeapPageCache(final long maxSizeInBytes) {
+    this(maxSizeInBytes, null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maxSizeInBytes    the maximum number of bytes of all cached pages
+   * @param expireAfterAccess the duration after which a page is evicted if it hasn't been accessed,
+   *                          or {@code null} to evict pages only based on their size and the frequency
+   *                          of accesses
+   */
+  public OffHeapPageCache(final long maxSizeInBytes, final @Nullable Duration expireAfterAccess) {
+    final Caffeine<K, OffHeapPage> builder =
+        Caffeine.newBuilder()
+                .maximumWeight(maxSizeInBytes)
+                .weigher((K key, OffHeapPage value) -> (int) value.memory().byteSize())
+                .scheduler(scheduler);
+
+    if (expireAfterAccess != null) {
+      builder.expireAfterAccess(expireAfterAccess);
+    }
+
+    pageCache = builder.build();
+  }
+
+  @Override
+  public void clear() {
+    pageCache.invalidateAll();
+  }
+
+  @Override
+  public KeyValueLeafPage get(K key) {
+    final OffHeapPage page = pageCache.asMap().remove(key);
+
+    if (page == null) {
+      return null;
+    }
+
+    return KeyValueLeafPage.copyOf(page.memory(), page.resourceConfig());
+  }
+
+  @Override
+  public void put(K key, @NonNull KeyValueLeafPage value) {
+    final long size = value.getCopySize();
+
+    if (size == -1) {
+      return;
+    }
+
+    final MemorySegment memory = MemorySegment.allocateNative(size, SegmentScope.auto());
+    value.copyTo(memory);
+    pageCache.put(key, new OffHeapPage(memory, value.getResourceConfig()));
+  }
+
+  @Override
+  public void putAll(Map<? extends K, ? extends KeyValueLeafPage> map) {
+    map.forEach(this::put);
+  }
+
+  @Override
+  public void toSecondCache() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Map<K, KeyValueLeafPage> getAll(Iterable<? extends K> keys) {
+    final Map<K, KeyValueLeafPage> pages = new HashMap<>();
+    for (final K key : keys) {
+      final KeyValueLeafPage page = get(key);
+      if (page != null) {
+        pages.put(key, page);
+      }
+    }
+    return pages;
+  }
+
+  @Override
+  public void remove(K key) {
+    pageCache.invalidate(key);
+  }
+
+  /**
+   * Remove all pages, whose keys match the given predicate.
+   *
+   * @param filter the predicate
+   */
+  public void removeIf(final Predicate<? super K> filter) {
+    pageCache.asMap().keySet().removeIf(filter);
+  }
+
+  /**
+   * Get the number of bytes of all cached pages.
+   *
+   * @return the number of bytes
+   */
+  public long size() {
+    pageCache.cleanUp();
+    return pageCache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+  }
+
+  @Override
+  public void close() {
+    pageCache.invalidateAll();
+  }
+}
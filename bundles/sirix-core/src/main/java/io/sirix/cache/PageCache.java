@@ -3,8 +3,10 @@ package io.sirix.cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.RemovalListener;
+import io.sirix.page.KeyValueLeafPage;
 import io.sirix.page.PageReference;
 import io.sirix.page.interfaces.Page;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -13,9 +15,30 @@ public final class PageCache implements Cache<PageReference, Page> {
 
   private final com.github.benmanes.caffeine.cache.Cache<PageReference, Page> pageCache;
 
+  /**
+   * Second-level cache for evicted {@link KeyValueLeafPage}s (or {@code null}).
+   */
+  private final @Nullable OffHeapPageCache<PageReference> secondCache;
+
   public PageCache(final int maxSize) {
+    this(maxSize, null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maxSize     the maximum number of pages
+   * @param secondCache second-level cache, which stores evicted {@link KeyValueLeafPage}s off-heap and
+   *                    promotes them back into this cache on a hit (or {@code null})
+   */
+  public PageCache(final int maxSize, final @Nullable OffHeapPageCache<PageReference> secondCache) {
+    this.secondCache = secondCache;
+
     RemovalListener<PageReference, Page> removalListener = (PageReference key, Page value, RemovalCause cause) -> {
       key.setPage(null);
+      if (secondCache != null && cause.wasEvicted() && value instanceof KeyValueLeafPage keyValueLeafPage) {
+        secondCache.put(key, keyValueLeafPage);
+      }
       //      if (value instanceof KeyValueLeafPage keyValueLeafPage) {
       //        keyValueLeafPage.clearPage();
       //      }
@@ -32,11 +55,21 @@ public final class PageCache implements Cache<PageReference, Page> {
   @Override
   public void clear() {
     pageCache.invalidateAll();
+    if (secondCache != null) {
+      secondCache.clear();
+    }
   }
 
   @Override
   public Page get(PageReference key) {
-    return pageCache.getIfPresent(key);
+    Page page = pageCache.getIfPresent(key);
+    if (page == null && secondCache != null) {
+      page = secondCache.get(key);
+      if (page != null) {
+        pageCache.put(key, page);
+      }
+    }
+    return page;
   }
 
   @Override
@@ -51,7 +84,14 @@ public final class PageCache implements Cache<PageReference, Page> {
 
   @Override
   public void toSecondCache() {
-    throw new UnsupportedOperationException();
+    if (secondCache == null) {
+      throw new UnsupportedOperationException();
+    }
+    pageCache.asMap().forEach((key, value) -> {
+      if (value instanceof KeyValueLeafPage keyValueLeafPage) {
+        secondCache.put(key, keyValueLeafPage);
+      }
+    });
   }
 
   @Override
@@ -62,9 +102,15 @@ public final class PageCache implements Cache<PageReference, Page> {
   @Override
   public void remove(PageReference key) {
     pageCache.invalidate(key);
+    if (secondCache != null) {
+      secondCache.remove(key);
+    }
   }
 
   @Override
   public void close() {
+    if (secondCache != null) {
+      secondCache.close();
+    }
   }
 }
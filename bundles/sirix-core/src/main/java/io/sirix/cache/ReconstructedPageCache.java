@@ -0,0 +1,64 @@
+package io.sirix.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.sirix.page.PageReference;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of the references to record pages of committed revisions, keyed by the record page key and
+ * the revision, such that the trie doesn't have to be traversed again. The pages, which have been
+ * reconstructed from their fragments, are cached by the record page cache, so that they are
+ * neither cached twice nor kept reachable once they are evicted from the record page cache.
+ */
+public final class ReconstructedPageCache implements Cache<IndexLogKey, PageReference> {
+  private final com.github.benmanes.caffeine.cache.Cache<IndexLogKey, PageReference> pageCache;
+
+  public ReconstructedPageCache(final int maxSize) {
+    pageCache = Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfterAccess(5, TimeUnit.MINUTES)
+                        .scheduler(scheduler)
+                        .build();
+  }
+
+  @Override
+  public void clear() {
+    pageCache.invalidateAll();
+  }
+
+  @Override
+  public PageReference get(IndexLogKey key) {
+    return pageCache.getIfPresent(key);
+  }
+
+  @Override
+  public void put(IndexLogKey key, PageReference value) {
+    pageCache.put(key, value);
+  }
+
+  @Override
+  public void putAll(Map<? extends IndexLogKey, ? extends PageReference> map) {
+    pageCache.putAll(map);
+  }
+
+  @Override
+  public void toSecondCache() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Map<IndexLogKey, PageReference> getAll(Iterable<? extends IndexLogKey> keys) {
+    return pageCache.getAllPresent(keys);
+  }
+
+  @Override
+  public void remove(IndexLogKey key) {
+    pageCache.invalidate(key);
+  }
+
+  @Override
+  public void close() {
+  }
+}
@@ -0,0 +1,165 @@
+package io.sirix.cache;
+
+import io.sirix.cache.GlobalBufferManager.CacheKind;
+import io.sirix.index.name.Names;
+import io.sirix.node.interfaces.Node;
+import io.sirix.page.PageReference;
+import io.sirix.page.RevisionRootPage;
+import io.sirix.page.interfaces.Page;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The buffer manager of a resource, whose caches share the memory budget of a
+ * {@link GlobalBufferManager}. Only the index cache is private to the resource.
+ */
+public final class ResourceBufferManager implements BufferManager {
+
+  private final GlobalBufferManager globalBufferManager;
+
+  private final int resourceId;
+
+  private final Path resourceFile;
+
+  private final ResourceCache<PageReference, Page> pageCache;
+
+  private final ResourceCache<PageReference, Page> recordPageCache;
+
+  private final ResourceCache<Integer, RevisionRootPage> revisionRootPageCache;
+
+  private final ResourceCache<IndexLogKey, PageReference> reconstructedPageCache;
+
+  private final ResourceCache<NamesCacheKey, Names> namesCache;
+
+  private final ResourceCache<Integer, PathSummaryData> pathSummaryCache;
+
+  private final RedBlackTreeNodeCache redBlackTreeNodeCache;
+
+  private final BufferManagerStatistics statistics;
+
+  /**
+   * The estimated number of bytes of the entries of this resource.
+   */
+  private final AtomicLong size;
+
+  /**
+   * The soft quota in bytes or {@code -1} to use a fair share of the budget.
+   */
+  private volatile long quota;
+
+  ResourceBufferManager(final GlobalBufferManager globalBufferManager, final int resourceId,
+      final Path resourceFile) {
+    this.globalBufferManager = globalBufferManager;
+    this.resourceId = resourceId;
+    this.resourceFile = resourceFile;
+    pageCache = new ResourceCache<>(globalBufferManager, this, CacheKind.PAGE);
+    recordPageCache = new ResourceCache<>(globalBufferManager, this, CacheKind.RECORD_PAGE);
+    revisionRootPageCache = new ResourceCache<>(globalBufferManager, this, CacheKind.REVISION_ROOT_PAGE);
+    reconstructedPageCache = new ResourceCache<>(globalBufferManager, this, CacheKind.RECONSTRUCTED_PAGE);
+    namesCache = new ResourceCache<>(globalBufferManager, this, CacheKind.NAMES);
+    pathSummaryCache = new ResourceCache<>(globalBufferManager, this, CacheKind.PATH_SUMMARY);
+    redBlackTreeNodeCache = new RedBlackTreeNodeCache(50_000);
+    statistics = new BufferManagerStatistics();
+    size = new AtomicLong();
+    quota = -1;
+  }
+
+  @Override
+  public Cache<PageReference, Page> getRecordPageCache() {
+    return recordPageCache;
+  }
+
+  @Override
+  public Cache<PageReference, Page> getPageCache() {
+    return pageCache;
+  }
+
+  @Override
+  public Cache<Integer, RevisionRootPage> getRevisionRootPageCache() {
+    return revisionRootPageCache;
+  }
+
+  @Override
+  public Cache<IndexLogKey, PageReference> getReconstructedPageCache() {
+    return reconstructedPageCache;
+  }
+
+  @Override
+  public Cache<RBIndexKey, Node> getIndexCache() {
+    return redBlackTreeNodeCache;
+  }
+
+  @Override
+  public Cache<NamesCacheKey, Names> getNamesCache() {
+    return namesCache;
+  }
+
+  @Override
+  public Cache<Integer, PathSummaryData> getPathSummaryCache() {
+    return pathSummaryCache;
+  }
+
+  /**
+   * Get the hit, miss and eviction counts of the caches of this resource.
+   *
+   * @return the statistics
+   */
+  public BufferManagerStatistics getStatistics() {
+    return statistics;
+  }
+
+  /**
+   * Get the path of the resource.
+   *
+   * @return the path of the resource
+   */
+  public Path getResourceFile() {
+    return resourceFile;
+  }
+
+  /**
+   * Get the estimated number of bytes of the cached entries of this resource.
+   *
+   * @return the number of bytes
+   */
+  public long getSize() {
+    return size.get();
+  }
+
+  /**
+   * Get the soft quota of this resource.
+   *
+   * @return the quota in bytes
+   */
+  public long getQuota() {
+    final long quota = this.quota;
+    return quota == -1 ? globalBufferManager.getFairShare() : quota;
+  }
+
+  void setQuota(final long quota) {
+    this.quota = quota;
+  }
+
+  boolean isExceedingQuota() {
+    return size.get() > getQuota();
+  }
+
+  int getResourceId() {
+    return resourceId;
+  }
+
+  void addToSize(final long bytes) {
+    size.addAndGet(bytes);
+  }
+
+  @Override
+  public void clearAllCaches() {
+    globalBufferManager.clear(this, null);
+    redBlackTreeNodeCache.clear();
+  }
+
+  @Override
+  public void close() {
+  }
+}
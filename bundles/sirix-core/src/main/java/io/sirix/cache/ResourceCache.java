@@ -0,0 +1,96 @@
+package io.sirix.cache;
+
+import io.sirix.cache.GlobalBufferManager.CacheKind;
+import io.sirix.metrics.SirixMetrics;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A cache of a resource, whose entries are stored in the shared cache of the
+ * {@link GlobalBufferManager}.
+ *
+ * @param <K> the key
+ * @param <V> the value
+ */
+final class ResourceCache<K, V> implements Cache<K, V> {
+
+  private final GlobalBufferManager globalBufferManager;
+
+  private final ResourceBufferManager bufferManager;
+
+  private final CacheKind kind;
+
+  ResourceCache(final GlobalBufferManager globalBufferManager, final ResourceBufferManager bufferManager,
+      final CacheKind kind) {
+    this.globalBufferManager = globalBufferManager;
+    this.bufferManager = bufferManager;
+    this.kind = kind;
+  }
+
+  @Override
+  public void clear() {
+    globalBufferManager.clear(bufferManager, kind);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public V get(K key) {
+    V value = (V) globalBufferManager.get(bufferManager, kind, key);
+
+    if (value == null && kind.holdsPages()) {
+      value = (V) globalBufferManager.getFromSecondCache(bufferManager, kind, key);
+      if (value != null) {
+        globalBufferManager.put(bufferManager, kind, key, value);
+      }
+    }
+
+    final SirixMetrics.CacheMeters meters = SirixMetrics.get().cacheMeters(kind.name());
+    if (value == null) {
+      bufferManager.getStatistics().recordMiss();
+      meters.misses().increment();
+    } else {
+      bufferManager.getStatistics().recordHit();
+      meters.hits().increment();
+    }
+
+    return value;
+  }
+
+  @Override
+  public void put(K key, @NonNull V value) {
+    globalBufferManager.put(bufferManager, kind, key, value);
+  }
+
+  @Override
+  public void putAll(Map<? extends K, ? extends V> map) {
+    map.forEach(this::put);
+  }
+
+  @Override
+  public void toSecondCache() {
+    globalBufferManager.toSecondCache(bufferManager, kind);
+  }
+
+  @Override
+  public Map<K, V> getAll(Iterable<? extends K> keys) {
+    final Map<K, V> values = new HashMap<>();
+    for (final K key : keys) {
+      final V value = get(key);
+      if (value != null) {
+        values.put(key, value);
+      }
+    }
+    return values;
+  }
+
+  @Override
+  public void remove(K key) {
+    globalBufferManager.remove(bufferManager, kind, key);
+  }
+
+  @Override
+  public void close() {
+  }
+}
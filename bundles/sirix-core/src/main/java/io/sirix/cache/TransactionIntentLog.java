@@ -1,20 +1,45 @@
 package io.sirix.cache;
 
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.api.PageReadOnlyTrx;
+import io.sirix.metrics.SirixMetrics;
+import io.sirix.page.KeyValueLeafPage;
+import io.sirix.page.KeyValueLeafPageSpillSerializer;
 import io.sirix.page.PageReference;
 import io.sirix.settings.Constants;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntLinkedOpenHashSet;
+import net.openhft.chronicle.bytes.Bytes;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
 
 /**
  * The transaction intent log, used for caching everything the read/write-transaction changes.
+ * <p>
+ * The log keeps at most {@code maxInMemoryCapacity} page
+ * containers of key/value leaf pages on the heap. The least recently used ones are spilled to an
+ * append-only, memory-mapped scratch file in the transaction intent log folder of the resource and
+ * are read back on demand. During a commit, spilled pages are read from the scratch file one at a
+ * time via {@link #getModifiedKeyValueLeafPage(int)}, without putting them back on the heap.
+ * </p>
  *
- * @author Johannes Lichtenberger
+ * <p>
+ * The number of spilled pages and bytes and the number of reloaded pages are published through
+ * {@link SirixMetrics}.
+ * </p>
  */
 public final class TransactionIntentLog implements AutoCloseable {
 
   /**
-   * The collection to hold the maps.
+   * The collection to hold the maps. Spilled entries are {@code null}.
    */
   private final List<PageContainer> list;
 
@@ -24,13 +49,50 @@ public final class TransactionIntentLog implements AutoCloseable {
   private int logKey;
 
   /**
-   * Creates a new transaction intent log.
+   * The maximum number of key/value leaf page containers to keep on the heap.
+   */
+  private final int maxInMemoryCapacity;
+
+  /**
+   * The resource configuration used to deserialize spilled pages.
+   */
+  private final ResourceConfiguration resourceConfig;
+
+  /**
+   * The scratch file.
+   */
+  private final TransactionIntentLogSpillFile spillFile;
+
+  /**
+   * Log keys of key/value leaf page containers, which are on the heap in access order.
+   */
+  private final IntLinkedOpenHashSet inMemoryKeyValueLogKeys;
+
+  /**
+   * Log keys of spilled entries mapped to the location in the scratch file.
+   */
+  private final Int2ObjectMap<TransactionIntentLogSpillFile.Location> spilledEntries;
+
+  /**
+   * Buffer used to serialize spilled entries.
+   */
+  private final Bytes<ByteBuffer> spillBuffer;
+
+  /**
+   * Creates a new transaction intent log, which spills cold key/value leaf page containers to disk.
    *
-   * @param maxInMemoryCapacity the maximum size of the in-memory map
+   * @param resourceConfig      the resource configuration
+   * @param maxInMemoryCapacity the maximum number of key/value leaf page containers to keep on the heap
    */
-  public TransactionIntentLog(final int maxInMemoryCapacity) {
+  public TransactionIntentLog(final ResourceConfiguration resourceConfig, final int maxInMemoryCapacity) {
     logKey = 0;
     list = new ArrayList<>(maxInMemoryCapacity);
+    this.maxInMemoryCapacity = maxInMemoryCapacity;
+    this.resourceConfig = requireNonNull(resourceConfig);
+    spillFile = new TransactionIntentLogSpillFile(resourceConfig.resourcePath.resolve(ResourceConfiguration.ResourcePaths.TRANSACTION_INTENT_LOG.getPath()));
+    inMemoryKeyValueLogKeys = new IntLinkedOpenHashSet(maxInMemoryCapacity);
+    spilledEntries = new Int2ObjectOpenHashMap<>();
+    spillBuffer = Bytes.elasticByteBuffer(60_000);
   }
 
   /**
@@ -45,7 +107,18 @@ public final class TransactionIntentLog implements AutoCloseable {
     if ((logKey >= this.logKey) || logKey < 0) {
       return null;
     }
-    return list.get(logKey);
+
+    final var value = list.get(logKey);
+
+    if (value == null) {
+      return readSpilledEntry(logKey);
+    }
+
+    if (value.getModified() instanceof KeyValueLeafPage) {
+      inMemoryKeyValueLogKeys.addAndMoveToLast(logKey);
+    }
+
+    return value;
   }
 
   /**
@@ -61,19 +134,170 @@ public final class TransactionIntentLog implements AutoCloseable {
     key.setLogKey(logKey);
 
     list.add(value);
+
+    if (value.getModified() instanceof KeyValueLeafPage) {
+      inMemoryKeyValueLogKeys.add(logKey);
+    }
+
     logKey++;
   }
 
+  /**
+   * Determines if the number of key/value leaf page containers on the heap exceeds the maximum
+   * in-memory capacity.
+   *
+   * @return {@code true}, if {@link #spill(PageReadOnlyTrx, Predicate)} should be called, {@code false} otherwise
+   */
+  public boolean isSpillingRequired() {
+    return inMemoryKeyValueLogKeys.size() > maxInMemoryCapacity;
+  }
+
+  /**
+   * Spill the least recently used key/value leaf page containers to the scratch file, until only
+   * three quarters of the maximum in-memory capacity are used.
+   *
+   * @param pageTrx  the page transaction used to serialize the records of the pages
+   * @param isPinned determines if a container is still in use by the caller and must stay on the heap
+   * @return the spilled page containers, which the caller must no longer reference
+   */
+  public List<PageContainer> spill(final PageReadOnlyTrx pageTrx, final Predicate<PageContainer> isPinned) {
+    if (!isSpillingRequired()) {
+      return List.of();
+    }
+
+    final int targetSize = maxInMemoryCapacity - (maxInMemoryCapacity >> 2);
+    final List<PageContainer> spilledContainers = new ArrayList<>();
+    final SirixMetrics metrics = SirixMetrics.get();
+
+    final IntIterator iterator = inMemoryKeyValueLogKeys.iterator();
+    while (inMemoryKeyValueLogKeys.size() > targetSize && iterator.hasNext()) {
+      final int currentLogKey = iterator.nextInt();
+      final PageContainer container = list.get(currentLogKey);
+
+      if (isPinned.test(container)) {
+        continue;
+      }
+
+      final var complete = container.getCompleteAsUnorderedKeyValuePage();
+      final var modified = container.getModifiedAsUnorderedKeyValuePage();
+
+      // The modified page comes first, such that a commit only has to deserialize the modified page.
+      spillBuffer.clear();
+      spillBuffer.writeBoolean(complete == modified);
+      KeyValueLeafPageSpillSerializer.serialize(pageTrx, spillBuffer, modified);
+      if (complete != modified) {
+        KeyValueLeafPageSpillSerializer.serialize(pageTrx, spillBuffer, complete);
+      }
+
+      final var location = spillFile.append(spillBuffer.toByteArray());
+      spillBuffer.clear();
+
+      spilledEntries.put(currentLogKey, location);
+      list.set(currentLogKey, null);
+      iterator.remove();
+
+      metrics.intentLogSpilledPages().increment();
+      metrics.intentLogSpilledBytes().increment(location.length());
+      spilledContainers.add(container);
+    }
+
+    return spilledContainers;
+  }
+
+  /**
+   * Get the number of entries.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    return logKey;
+  }
+
+  /**
+   * Determines if an entry is a key/value leaf page container, regardless of whether it's spilled.
+   *
+   * @param logKey the log key of the entry
+   * @return {@code true}, if the entry is a key/value leaf page container, {@code false} otherwise
+   */
+  public boolean isKeyValueLeafPage(final int logKey) {
+    if (logKey >= this.logKey || logKey < 0) {
+      return false;
+    }
+
+    final var value = list.get(logKey);
+    return value == null ? spilledEntries.containsKey(logKey) : value.getModified() instanceof KeyValueLeafPage;
+  }
+
+  /**
+   * Get the modified key/value leaf page of an entry to write it during a commit. The page of a
+   * spilled entry is read from the scratch file, but isn't put back on the heap, thus the entry
+   * stays spilled and the caller should only reference the page until it has been written.
+   *
+   * @param logKey the log key of the entry
+   * @return the modified key/value leaf page or {@code null}, if the entry isn't a key/value leaf page
+   */
+  @Nullable
+  public KeyValueLeafPage getModifiedKeyValueLeafPage(final int logKey) {
+    if (logKey >= this.logKey || logKey < 0) {
+      return null;
+    }
+
+    final var value = list.get(logKey);
+
+    if (value != null) {
+      return value.getModified() instanceof KeyValueLeafPage page ? page : null;
+    }
+
+    final var location = spilledEntries.get(logKey);
+
+    if (location == null) {
+      return null;
+    }
+
+    final var bytes = Bytes.wrapForRead(spillFile.read(location));
+    bytes.readBoolean();
+    return KeyValueLeafPageSpillSerializer.deserialize(bytes, resourceConfig);
+  }
+
+  @Nullable
+  private PageContainer readSpilledEntry(final int logKey) {
+    final var location = spilledEntries.remove(logKey);
+
+    if (location == null) {
+      return null;
+    }
+
+    final var bytes = Bytes.wrapForRead(spillFile.read(location));
+    final boolean isSameInstance = bytes.readBoolean();
+    final KeyValueLeafPage modified = KeyValueLeafPageSpillSerializer.deserialize(bytes, resourceConfig);
+    final KeyValueLeafPage complete =
+        isSameInstance ? modified : KeyValueLeafPageSpillSerializer.deserialize(bytes, resourceConfig);
+
+    final PageContainer container = PageContainer.getInstance(complete, modified);
+    list.set(logKey, container);
+    inMemoryKeyValueLogKeys.add(logKey);
+    SirixMetrics.get().intentLogReloadedPages().increment();
+
+    return container;
+  }
+
   /**
    * Clears the cache.
    */
   public void clear() {
     logKey = 0;
     list.clear();
+    clearSpilledEntries();
+  }
+
+  private void clearSpilledEntries() {
+    inMemoryKeyValueLogKeys.clear();
+    spilledEntries.clear();
+    spillFile.clear();
   }
 
   /**
-   * Get a view of the underlying map.
+   * Get a view of the underlying map. Entries, which are currently spilled to disk are {@code null}.
    *
    * @return an unmodifiable view of all entries in the cache
    */
@@ -85,5 +309,8 @@ public final class TransactionIntentLog implements AutoCloseable {
   public void close() {
     logKey = 0;
     list.clear();
+    inMemoryKeyValueLogKeys.clear();
+    spilledEntries.clear();
+    spillFile.close();
   }
 }
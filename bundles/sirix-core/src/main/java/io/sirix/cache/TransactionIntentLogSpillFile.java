@@ -0,0 +1,174 @@
+package io.sirix.cache;
+
+import io.sirix.exception.SirixIOException;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Append-only, memory-mapped scratch file, to which the {@link TransactionIntentLog} spills cold
+ * page containers. The file is mapped in regions, which are pre-extended in chunks of
+ * {@link #REGION_SIZE} bytes. Entries are never updated in place. An entry, which is read back
+ * into the in-memory tier, simply becomes garbage until the log is cleared.
+ */
+final class TransactionIntentLogSpillFile implements AutoCloseable {
+
+  /**
+   * Size of a mapped region (64 MiB).
+   */
+  static final long REGION_SIZE = 1L << 26;
+
+  private static final ValueLayout.OfByte LAYOUT_BYTE = ValueLayout.JAVA_BYTE;
+
+  /**
+   * Location of a spilled entry.
+   *
+   * @param region the index of the mapped region
+   * @param offset the offset in the region
+   * @param length the length of the entry
+   */
+  record Location(int region, long offset, int length) {
+  }
+
+  /**
+   * The directory of the scratch file.
+   */
+  private final Path directory;
+
+  /**
+   * The mapped regions.
+   */
+  private final List<MemorySegment> regions;
+
+  /**
+   * The scratch file, created lazily on the first spill.
+   */
+  private Path file;
+
+  private FileChannel fileChannel;
+
+  private Arena arena;
+
+  /**
+   * The file offset of the next region to map.
+   */
+  private long nextRegionFileOffset;
+
+  /**
+   * The write offset in the current (last) region.
+   */
+  private long regionWriteOffset;
+
+  /**
+   * Constructor.
+   *
+   * @param directory the directory, in which to create the scratch file
+   */
+  TransactionIntentLogSpillFile(final Path directory) {
+    this.directory = requireNonNull(directory);
+    regions = new ArrayList<>();
+  }
+
+  /**
+   * Append an entry.
+   *
+   * @param data the serialized entry
+   * @return the location of the entry
+   */
+  Location append(final byte[] data) {
+    try {
+      if (fileChannel == null) {
+        Files.createDirectories(directory);
+        file = Files.createTempFile(directory, "trx-intent-log", ".spill");
+        fileChannel = FileChannel.open(file,
+                                       StandardOpenOption.READ,
+                                       StandardOpenOption.WRITE,
+                                       StandardOpenOption.DELETE_ON_CLOSE);
+      }
+
+      if (arena == null) {
+        arena = Arena.openShared();
+      }
+
+      if (regions.isEmpty() || regionWriteOffset + data.length > regions.get(regions.size() - 1).byteSize()) {
+        mapNewRegion(Math.max(REGION_SIZE, data.length));
+      }
+
+      final int region = regions.size() - 1;
+      final long offset = regionWriteOffset;
+      MemorySegment.copy(data, 0, regions.get(region), LAYOUT_BYTE, offset, data.length);
+      regionWriteOffset += data.length;
+
+      return new Location(region, offset, data.length);
+    } catch (final IOException e) {
+      throw new SirixIOException("Couldn't spill to the transaction intent log scratch file.", e);
+    }
+  }
+
+  /**
+   * Read an entry.
+   *
+   * @param location the location of the entry
+   * @return the serialized entry
+   */
+  byte[] read(final Location location) {
+    final byte[] data = new byte[location.length()];
+    MemorySegment.copy(regions.get(location.region()), LAYOUT_BYTE, location.offset(), data, 0, location.length());
+    return data;
+  }
+
+  private void mapNewRegion(final long size) throws IOException {
+    final long alignedSize = ((size + REGION_SIZE - 1) / REGION_SIZE) * REGION_SIZE;
+    regions.add(fileChannel.map(FileChannel.MapMode.READ_WRITE, nextRegionFileOffset, alignedSize, arena.scope()));
+    nextRegionFileOffset += alignedSize;
+    regionWriteOffset = 0;
+  }
+
+  /**
+   * Unmap all regions and truncate the scratch file.
+   */
+  void clear() {
+    if (arena != null) {
+      arena.close();
+      arena = null;
+    }
+
+    regions.clear();
+    nextRegionFileOffset = 0;
+    regionWriteOffset = 0;
+
+    if (fileChannel != null) {
+      try {
+        fileChannel.truncate(0);
+      } catch (final IOException e) {
+        throw new SirixIOException(e);
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    clear();
+
+    if (fileChannel != null) {
+      try {
+        fileChannel.close();
+        Files.deleteIfExists(file);
+      } catch (final IOException e) {
+        throw new SirixIOException(e);
+      }
+      fileChannel = null;
+      file = null;
+    }
+  }
+}
@@ -32,10 +32,17 @@ import io.sirix.node.NodeKind;
 import io.sirix.exception.SirixException;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 import io.sirix.diff.DiffFactory.Builder;
 import io.sirix.diff.DiffFactory.DiffOptimized;
 import io.sirix.diff.DiffFactory.DiffType;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -47,6 +54,11 @@ import static java.util.Objects.requireNonNull;
 abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor>
     extends AbstractDiffObservable {
 
+  /**
+   * The minimum number of descendants of a subtree, whose diff is forked onto the pool.
+   */
+  private static final long MIN_DESCENDANTS_TO_FORK = 1 << 10;
+
   /**
    * The old maximum depth.
    */
@@ -153,6 +165,16 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
    */
   private final boolean skipSubtrees;
 
+  /**
+   * The builder, with which the diffs of subtrees are created.
+   */
+  private final Builder<R, W> builder;
+
+  /**
+   * Determines if the transactions have been opened by this diff and have to be closed.
+   */
+  private final boolean ownsTransactions;
+
   /**
    * Constructor.
    *
@@ -160,13 +182,20 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
    * @throws SirixException if setting up transactions failes
    */
   AbstractDiff(final Builder<R, W> builder) throws SirixException {
+    this.builder = requireNonNull(builder);
     skipSubtrees = builder.skipSubtrees;
-    diffKind = requireNonNull(builder).kind;
+    diffKind = builder.kind;
     oldMaxDepth = builder.oldMaxDepth;
-    synchronized (builder.resMgr) {
-      newRtx = builder.resMgr.beginNodeReadOnlyTrx(builder.newRev);
-      oldRtx = builder.resMgr.beginNodeReadOnlyTrx(builder.oldRev);
-      hashKind = builder.hashKind;
+    hashKind = builder.hashKind;
+    ownsTransactions = builder.newRtx == null;
+    if (ownsTransactions) {
+      synchronized (builder.resMgr) {
+        newRtx = builder.resMgr.beginNodeReadOnlyTrx(builder.newRev);
+        oldRtx = builder.resMgr.beginNodeReadOnlyTrx(builder.oldRev);
+      }
+    } else {
+      newRtx = builder.newRtx;
+      oldRtx = requireNonNull(builder.oldRtx);
     }
     newRtxMoved = newRtx.moveTo(builder.newStartKey);
     oldRtxMoved = oldRtx.moveTo(builder.oldStartKey);
@@ -207,7 +236,7 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
       if (!isGUI || depth.getNewDepth() == 0) {
         fireInserts();
       }
-      done();
+      diffDone();
       return;
     }
     if (!oldRtxMoved) {
@@ -215,7 +244,7 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
       if (!isGUI || depth.getOldDepth() == 0) {
         fireDeletes();
       }
-      done();
+      diffDone();
       return;
     }
 
@@ -228,6 +257,18 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
 
     isFirst = false;
 
+    if (diff == DiffType.SAME && isForkingSubtrees()) {
+      final LongList children = getChildrenOfBothRevisions();
+      if (children != null) {
+        final boolean[] isLargeSubtree = getLargeSubtrees(children);
+        if (isLargeSubtree != null) {
+          diffChildren(children, isLargeSubtree);
+          diffDone();
+          return;
+        }
+      }
+    }
+
     // Iterate over new revision (order of operators significant -- regarding
     // the OR).
     if (diff != DiffType.SAMEHASH) {
@@ -290,9 +331,161 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
    * @throws SirixException if sirix fails to close the transactions
    */
   private void diffDone() throws SirixException {
-    newRtx.close();
-    oldRtx.close();
-    done();
+    if (ownsTransactions) {
+      newRtx.close();
+      oldRtx.close();
+    }
+    if (!builder.isSubtreeDiff) {
+      done();
+    }
+  }
+
+  /**
+   * Determine if the diffs of the subtrees of the current node might be forked.
+   *
+   * @return {@code true}, if the diffs of the subtrees might be forked, {@code false} otherwise
+   */
+  private boolean isForkingSubtrees() {
+    return builder.forkJoinPool != null && diffKind == DiffOptimized.HASHED && hashKind != HashType.NONE
+        && oldMaxDepth == 0 && newRtx.getDescendantCount() >= MIN_DESCENDANTS_TO_FORK && newRtx.hasFirstChild()
+        && oldRtx.hasFirstChild();
+  }
+
+  /**
+   * Get the keys of the children of the current node, if the node has the same children in both
+   * revisions. Then, the subtrees of the children are independent of each other and can be diffed
+   * separately.
+   *
+   * @return the keys of the children or {@code null}, if the children differ
+   */
+  private @Nullable LongList getChildrenOfBothRevisions() {
+    final long nodeKey = newRtx.getNodeKey();
+    final LongList children = new LongArrayList();
+    boolean newRtxMoved = newRtx.moveToFirstChild();
+    boolean oldRtxMoved = oldRtx.moveToFirstChild();
+    while (newRtxMoved && oldRtxMoved && newRtx.getNodeKey() == oldRtx.getNodeKey()) {
+      children.add(newRtx.getNodeKey());
+      newRtxMoved = newRtx.moveToRightSibling();
+      oldRtxMoved = oldRtx.moveToRightSibling();
+    }
+    final boolean haveSameChildren = !newRtxMoved && !oldRtxMoved;
+    newRtx.moveTo(nodeKey);
+    oldRtx.moveTo(nodeKey);
+    return haveSameChildren ? children : null;
+  }
+
+  /**
+   * Determine the subtrees of the children, which differ and are large enough to fork their diffs.
+   *
+   * @param children the keys of the children, which are the same in both revisions
+   * @return for each child, if its subtree is large and differs, or {@code null}, if there's no such
+   * subtree
+   */
+  private boolean @Nullable [] getLargeSubtrees(final LongList children) {
+    final long nodeKey = newRtx.getNodeKey();
+    final boolean[] isLargeSubtree = new boolean[children.size()];
+    boolean hasLargeSubtree = false;
+    for (int i = 0; i < children.size(); i++) {
+      moveTo(children.getLong(i));
+      if (newRtx.getHash() != oldRtx.getHash() && newRtx.getDescendantCount() >= MIN_DESCENDANTS_TO_FORK) {
+        isLargeSubtree[i] = true;
+        hasLargeSubtree = true;
+      }
+    }
+    moveTo(nodeKey);
+    return hasLargeSubtree ? isLargeSubtree : null;
+  }
+
+  /**
+   * Diff the subtrees of the children of the current node. Subtrees with the same hash in both
+   * revisions are skipped. The diffs of large subtrees are forked onto the pool, each with its own
+   * transactions, if there are at least two of them. All other subtrees are diffed with the
+   * transactions of this diff, while the forked diffs run, such that a single large subtree is split
+   * up further. The differences are reported in document order.
+   *
+   * @param children       the keys of the children, which are the same in both revisions
+   * @param isLargeSubtree for each child, if its subtree is large and differs
+   */
+  private void diffChildren(final LongList children, final boolean[] isLargeSubtree) {
+    final int depthIncrement = newRtx.getKind() == NodeKind.OBJECT_KEY ? 0 : 1;
+    final int newDepth = depth.getNewDepth() + depthIncrement;
+    final int oldDepth = depth.getOldDepth() + depthIncrement;
+
+    int numberOfLargeSubtrees = 0;
+    for (final boolean isLarge : isLargeSubtree) {
+      if (isLarge) {
+        numberOfLargeSubtrees++;
+      }
+    }
+
+    final List<ForkJoinTask<List<DiffTuple>>> forkedDiffs = new ArrayList<>(children.size());
+    for (int i = 0; i < children.size(); i++) {
+      final long nodeKey = children.getLong(i);
+      forkedDiffs.add(numberOfLargeSubtrees > 1 && isLargeSubtree[i]
+                          ? builder.forkJoinPool.submit(() -> diffSubtree(nodeKey, newDepth, oldDepth))
+                          : null);
+    }
+
+    final DiffObserver forwardingObserver = new DiffObserver() {
+      @Override
+      public void diffListener(final DiffType diffType, final long newNodeKey, final long oldNodeKey,
+          final DiffDepth depth) {
+        fireDiff(diffType, newNodeKey, oldNodeKey, depth);
+      }
+
+      @Override
+      public void diffDone() {
+      }
+    };
+
+    for (int i = 0; i < children.size(); i++) {
+      final ForkJoinTask<List<DiffTuple>> forkedDiff = forkedDiffs.get(i);
+      if (forkedDiff == null) {
+        final long nodeKey = children.getLong(i);
+        moveTo(nodeKey);
+        if (newRtx.getHash() == oldRtx.getHash()) {
+          optimizedDiff(newRtx, oldRtx, new DepthCounter(newDepth, oldDepth));
+        } else {
+          newSubtreeDiff(builder.subtreeBuilder(nodeKey, newDepth, oldDepth, forwardingObserver, newRtx, oldRtx))
+              .diffMovement();
+        }
+      } else {
+        for (final DiffTuple diffTuple : forkedDiff.join()) {
+          fireDiff(diffTuple.getDiff(), diffTuple.getNewNodeKey(), diffTuple.getOldNodeKey(), diffTuple.getDepth());
+        }
+      }
+    }
+  }
+
+  /**
+   * Diff a subtree with new transactions.
+   *
+   * @param nodeKey  the key of the root node of the subtree
+   * @param newDepth the depth of the root node in the new revision
+   * @param oldDepth the depth of the root node in the old revision
+   * @return the differences in document order
+   */
+  private List<DiffTuple> diffSubtree(final long nodeKey, final int newDepth, final int oldDepth) {
+    final List<DiffTuple> diffTuples = new ArrayList<>();
+    final DiffObserver collectingObserver = new DiffObserver() {
+      @Override
+      public void diffListener(final DiffType diffType, final long newNodeKey, final long oldNodeKey,
+          final DiffDepth depth) {
+        diffTuples.add(new DiffTuple(diffType, newNodeKey, oldNodeKey, depth));
+      }
+
+      @Override
+      public void diffDone() {
+      }
+    };
+    newSubtreeDiff(builder.subtreeBuilder(nodeKey, newDepth, oldDepth, collectingObserver, null, null))
+        .diffMovement();
+    return diffTuples;
+  }
+
+  private void moveTo(final long nodeKey) {
+    newRtx.moveTo(nodeKey);
+    oldRtx.moveTo(nodeKey);
   }
 
   /**
@@ -753,4 +946,12 @@ abstract class AbstractDiff<R extends NodeReadOnlyTrx & NodeCursor, W extends No
    * @return the document node kind
    */
   abstract NodeKind documentNode();
+
+  /**
+   * Create a diff of the same kind for a subtree.
+   *
+   * @param builder the builder of the subtree diff
+   * @return the diff
+   */
+  abstract AbstractDiff<R, W> newSubtreeDiff(Builder<R, W> builder);
 }
@@ -0,0 +1,247 @@
+package io.sirix.diff;
+
+import io.sirix.access.trx.node.ChangedNodesIndex;
+import io.sirix.api.PageReadOnlyTrx;
+import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import io.sirix.api.json.JsonNodeTrx;
+import io.sirix.diff.DiffFactory.Builder;
+import io.sirix.diff.DiffFactory.DiffType;
+import io.sirix.index.IndexType;
+import io.sirix.node.NodeKind;
+import io.sirix.node.SirixDeweyID;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Diffs only the subtrees of the nodes, which have been changed between two revisions according to
+ * the {@link IndexType#CHANGED_NODES} index, instead of traversing both revisions. Thus, the cost
+ * is proportional to the number of changes instead of the size of the document.
+ *
+ * <p>
+ * The changed nodes of all revisions in between are united. A changed node, which exists in both
+ * revisions, is diffed itself. Otherwise its nearest ancestor, which exists in both revisions, is
+ * diffed, as the children of the ancestor have changed. Subtrees, which are contained in another
+ * subtree, which is diffed, are skipped. The subtrees are diffed with the usual algorithm, starting
+ * at their root nodes, and in document order, such that the differences are reported in the same
+ * order as by a full diff. Differences of unchanged nodes outside the subtrees are not reported.
+ * </p>
+ */
+final class ChangedNodesDiff {
+
+  /**
+   * The builder of the diff.
+   */
+  private final Builder<JsonNodeReadOnlyTrx, JsonNodeTrx> builder;
+
+  /**
+   * Constructor.
+   *
+   * @param builder the builder of the diff, whose start keys must be the document root
+   */
+  ChangedNodesDiff(final Builder<JsonNodeReadOnlyTrx, JsonNodeTrx> builder) {
+    this.builder = requireNonNull(builder);
+  }
+
+  /**
+   * Do the diff.
+   *
+   * @return {@code true}, if the diff has been done, {@code false}, if the changed nodes of a revision
+   * between the two revisions aren't known, such that a full diff is required
+   */
+  boolean diffMovement() {
+    final Roaring64Bitmap changedNodeKeys = getChangedNodeKeys();
+    if (changedNodeKeys == null) {
+      return false;
+    }
+
+    final DiffObserver forwardingObserver = new DiffObserver() {
+      @Override
+      public void diffListener(final DiffType diffType, final long newNodeKey, final long oldNodeKey,
+          final DiffDepth depth) {
+        for (final DiffObserver observer : builder.observers) {
+          observer.diffListener(diffType, newNodeKey, oldNodeKey, depth);
+        }
+      }
+
+      @Override
+      public void diffDone() {
+      }
+    };
+
+    try (final JsonNodeReadOnlyTrx newRtx = builder.resMgr.beginNodeReadOnlyTrx(builder.newRev);
+         final JsonNodeReadOnlyTrx oldRtx = builder.resMgr.beginNodeReadOnlyTrx(builder.oldRev)) {
+      for (final long nodeKey : getSubtreeRoots(changedNodeKeys, newRtx, oldRtx)) {
+        final int newDepth = getDepth(newRtx, nodeKey);
+        final int oldDepth = getDepth(oldRtx, nodeKey);
+        new JsonDiff(builder.subtreeBuilder(nodeKey, newDepth, oldDepth, forwardingObserver, newRtx, oldRtx))
+            .diffMovement();
+      }
+    }
+
+    for (final DiffObserver observer : builder.observers) {
+      observer.diffDone();
+    }
+
+    return true;
+  }
+
+  /**
+   * Get the keys of the nodes, which have been changed in the revisions after the older revision up
+   * to and including the newer revision.
+   *
+   * @return the keys of the changed nodes or {@code null}, if the changes of a revision aren't known
+   */
+  private @Nullable Roaring64Bitmap getChangedNodeKeys() {
+    final int fromRevision = Math.min(builder.oldRev, builder.newRev);
+    final int toRevision = Math.max(builder.oldRev, builder.newRev);
+
+    final Roaring64Bitmap changedNodeKeys = new Roaring64Bitmap();
+    for (int revision = fromRevision + 1; revision <= toRevision; revision++) {
+      try (final PageReadOnlyTrx pageReadTrx = builder.resMgr.beginPageReadOnlyTrx(revision)) {
+        final Roaring64Bitmap changedNodeKeysInRevision = ChangedNodesIndex.getChangedNodes(pageReadTrx);
+        if (changedNodeKeysInRevision == null) {
+          return null;
+        }
+        changedNodeKeys.or(changedNodeKeysInRevision);
+      }
+    }
+    return changedNodeKeys;
+  }
+
+  /**
+   * Get the roots of the subtrees to diff in document order.
+   *
+   * @param changedNodeKeys the keys of the changed nodes
+   * @param newRtx          transaction on the new revision
+   * @param oldRtx          transaction on the old revision
+   * @return the keys of the root nodes, which exist in both revisions
+   */
+  private LongList getSubtreeRoots(final Roaring64Bitmap changedNodeKeys, final JsonNodeReadOnlyTrx newRtx,
+      final JsonNodeReadOnlyTrx oldRtx) {
+    final LongSet roots = new LongOpenHashSet();
+    for (final LongIterator iterator = changedNodeKeys.getLongIterator(); iterator.hasNext(); ) {
+      final long nodeKey = iterator.next();
+      if (newRtx.moveTo(nodeKey)) {
+        roots.add(getSubtreeRoot(newRtx, oldRtx));
+      } else if (oldRtx.moveTo(nodeKey)) {
+        roots.add(getSubtreeRoot(oldRtx, newRtx));
+      }
+      // Otherwise the node has been inserted and removed in between.
+    }
+
+    // Skip subtrees, which are diffed as part of another subtree.
+    final LongSet ancestors = new LongOpenHashSet();
+    final LongList subtreeRoots = new LongArrayList(roots.size());
+    for (final long nodeKey : roots) {
+      newRtx.moveTo(nodeKey);
+      boolean isContained = false;
+      while (newRtx.moveToParent()) {
+        if (roots.contains(newRtx.getNodeKey())) {
+          isContained = true;
+          break;
+        }
+      }
+      if (!isContained) {
+        subtreeRoots.add(nodeKey);
+        newRtx.moveTo(nodeKey);
+        while (newRtx.moveToParent() && ancestors.add(newRtx.getNodeKey())) {
+          // Collect the ancestors.
+        }
+      }
+    }
+
+    if (subtreeRoots.size() <= 1) {
+      return subtreeRoots;
+    }
+
+    if (builder.resMgr.getResourceConfig().areDeweyIDsStored) {
+      final SortedMap<SirixDeweyID, Long> rootsByDeweyID = new TreeMap<>();
+      for (final long nodeKey : subtreeRoots) {
+        newRtx.moveTo(nodeKey);
+        rootsByDeweyID.put(newRtx.getDeweyID(), nodeKey);
+      }
+      return new LongArrayList(rootsByDeweyID.values());
+    }
+
+    final LongSet rootSet = new LongOpenHashSet(subtreeRoots);
+    final LongList sortedRoots = new LongArrayList(subtreeRoots.size());
+    newRtx.moveToDocumentRoot();
+    addInDocumentOrder(newRtx, rootSet, ancestors, sortedRoots);
+    return sortedRoots;
+  }
+
+  /**
+   * Get the root of the subtree to diff for a changed node.
+   *
+   * @param rtx      transaction, which is located at the changed node in the revision, in which it
+   *                 exists
+   * @param otherRtx transaction on the other revision
+   * @return the key of the root node
+   */
+  private static long getSubtreeRoot(final JsonNodeReadOnlyTrx rtx, final JsonNodeReadOnlyTrx otherRtx) {
+    // A node, which exists at the same place in both revisions, has been updated.
+    if (otherRtx.moveTo(rtx.getNodeKey()) && otherRtx.getParentKey() == rtx.getParentKey()) {
+      return rtx.getNodeKey();
+    }
+    while (rtx.moveToParent()) {
+      if (otherRtx.moveTo(rtx.getNodeKey())) {
+        return rtx.getNodeKey();
+      }
+    }
+    return rtx.getNodeKey();
+  }
+
+  /**
+   * Add the subtree roots in the subtree of the current node in document order. Only the subtrees
+   * of the ancestors of the roots are traversed.
+   *
+   * @param rtx         transaction, which is located at the current node
+   * @param roots       the keys of the subtree roots
+   * @param ancestors   the keys of the ancestors of the subtree roots
+   * @param sortedRoots the keys of the subtree roots in document order
+   */
+  private static void addInDocumentOrder(final JsonNodeReadOnlyTrx rtx, final LongSet roots, final LongSet ancestors,
+      final LongList sortedRoots) {
+    if (!rtx.moveToFirstChild()) {
+      return;
+    }
+    do {
+      final long nodeKey = rtx.getNodeKey();
+      if (roots.contains(nodeKey)) {
+        sortedRoots.add(nodeKey);
+      } else if (ancestors.contains(nodeKey)) {
+        addInDocumentOrder(rtx, roots, ancestors, sortedRoots);
+        rtx.moveTo(nodeKey);
+      }
+    } while (rtx.moveToRightSibling());
+  }
+
+  /**
+   * Get the depth of a node, as it's counted by the diff, that is the children of the document root
+   * and the values of object keys don't increase the depth.
+   *
+   * @param rtx     transaction on the revision
+   * @param nodeKey the key of the node
+   * @return the depth
+   */
+  private static int getDepth(final JsonNodeReadOnlyTrx rtx, final long nodeKey) {
+    rtx.moveTo(nodeKey);
+    int depth = 0;
+    while (rtx.moveToParent() && rtx.getKind() != NodeKind.JSON_DOCUMENT) {
+      if (rtx.getKind() != NodeKind.OBJECT_KEY) {
+        depth++;
+      }
+    }
+    return depth;
+  }
+}
@@ -25,6 +25,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import io.sirix.access.trx.node.HashType;
 import io.sirix.api.NodeCursor;
@@ -38,6 +39,7 @@ import io.sirix.api.xml.XmlNodeTrx;
 import io.sirix.api.xml.XmlResourceSession;
 import io.sirix.exception.SirixException;
 import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Factory method for public access.
@@ -208,6 +210,18 @@ public final class DiffFactory {
     /** The maximum depth. */
       transient long oldMaxDepth;
 
+    /** The pool, onto which the diffs of large subtrees are forked, or {@code null}. */
+    transient ForkJoinPool forkJoinPool;
+
+    /** The transaction on the new revision, if it is shared with another diff. */
+    transient R newRtx;
+
+    /** The transaction on the old revision, if it is shared with another diff. */
+    transient R oldRtx;
+
+    /** Determines if the differences of a subtree are computed for another diff. */
+    transient boolean isSubtreeDiff;
+
     /**
      * Constructor.
      *
@@ -332,6 +346,49 @@ public final class DiffFactory {
       this.skipSubtrees = skipSubtrees;
       return this;
     }
+
+    /**
+     * Set the pool, onto which the diffs of large sibling subtrees are forked, if their hashes differ.
+     * The differences are still reported in document order. Subtrees are only diffed concurrently, if
+     * the diff is {@link DiffOptimized#HASHED hashed} and the maximum depth isn't restricted.
+     *
+     * @param forkJoinPool the pool or {@code null}, to diff sequentially (the default)
+     * @return this builder
+     */
+    public Builder<R, W> forkJoinPool(final @Nullable ForkJoinPool forkJoinPool) {
+      this.forkJoinPool = forkJoinPool;
+      return this;
+    }
+
+    /**
+     * Create a builder for the diff of a subtree, which is computed for the diff of this builder.
+     *
+     * @param nodeKey  the key of the root node of the subtree in both revisions
+     * @param newDepth the depth of the root node in the new revision
+     * @param oldDepth the depth of the root node in the old revision
+     * @param observer the observer of the differences in the subtree
+     * @param newRtx   the transaction on the new revision to share or {@code null}, to open a new one
+     * @param oldRtx   the transaction on the old revision to share or {@code null}, to open a new one
+     * @return the builder
+     */
+    Builder<R, W> subtreeBuilder(final @NonNegative long nodeKey, final int newDepth, final int oldDepth,
+        final DiffObserver observer, final @Nullable R newRtx, final @Nullable R oldRtx) {
+      final Builder<R, W> builder = new Builder<>(resMgr, newRev, oldRev, kind, Set.of(observer));
+      builder.newStartKey = nodeKey;
+      builder.oldStartKey = nodeKey;
+      builder.newDepth = newDepth;
+      builder.oldDepth = oldDepth;
+      builder.mDiffKind = mDiffKind;
+      builder.hashKind = hashKind;
+      builder.isGUI = isGUI;
+      builder.skipSubtrees = skipSubtrees;
+      builder.oldMaxDepth = oldMaxDepth;
+      builder.forkJoinPool = forkJoinPool;
+      builder.newRtx = newRtx;
+      builder.oldRtx = oldRtx;
+      builder.isSubtreeDiff = true;
+      return builder;
+    }
   }
 
   /**
@@ -347,16 +404,33 @@ public final class DiffFactory {
    *
    * @param builder {@link Builder} reference
    */
-  public static synchronized void invokeJsonDiff(final Builder<JsonNodeReadOnlyTrx, JsonNodeTrx> builder) {
+  public static void invokeJsonDiff(final Builder<JsonNodeReadOnlyTrx, JsonNodeTrx> builder) {
     DiffAlgorithm.JSON.invoke(builder);
   }
 
+  /**
+   * Do a JSON diff of the subtrees, which have been changed between the two revisions according to
+   * the {@link io.sirix.index.IndexType#CHANGED_NODES} index. Thus, the cost is proportional to the
+   * number of changes instead of the size of the document. In contrast to a full diff, unchanged
+   * nodes outside of these subtrees aren't reported. A full diff is done, if the changes of a
+   * revision in between aren't known, if the diff doesn't start at the document root or if the
+   * depth is restricted.
+   *
+   * @param builder {@link Builder} reference
+   */
+  public static void invokeJsonDiffOfChangedNodes(final Builder<JsonNodeReadOnlyTrx, JsonNodeTrx> builder) {
+    if (builder.newStartKey != 0 || builder.oldStartKey != 0 || builder.oldMaxDepth != 0
+        || !new ChangedNodesDiff(builder).diffMovement()) {
+      invokeJsonDiff(builder);
+    }
+  }
+
   /**
    * Do a full diff.
    *
    * @param builder {@link Builder} reference
    */
-  public static synchronized void invokeFullXmlDiff(final Builder<XmlNodeReadOnlyTrx, XmlNodeTrx> builder) {
+  public static void invokeFullXmlDiff(final Builder<XmlNodeReadOnlyTrx, XmlNodeTrx> builder) {
     DiffAlgorithm.XML_FULL.invoke(builder);
   }
 
@@ -365,7 +439,7 @@ public final class DiffFactory {
    *
    * @param builder {@link Builder} reference
    */
-  public static synchronized void invokeStructuralXmlDiff(final Builder<XmlNodeReadOnlyTrx, XmlNodeTrx> builder) {
+  public static void invokeStructuralXmlDiff(final Builder<XmlNodeReadOnlyTrx, XmlNodeTrx> builder) {
     DiffAlgorithm.XML_STRUCTURAL.invoke(builder);
   }
 }
@@ -48,6 +48,12 @@ final class JsonDiff extends AbstractDiff<JsonNodeReadOnlyTrx, JsonNodeTrx> {
     return NodeKind.JSON_DOCUMENT;
   }
 
+  @Override
+  AbstractDiff<JsonNodeReadOnlyTrx, JsonNodeTrx> newSubtreeDiff(
+      final DiffFactory.Builder<JsonNodeReadOnlyTrx, JsonNodeTrx> builder) {
+    return new JsonDiff(builder);
+  }
+
   @Override
   boolean checkNodes(final JsonNodeReadOnlyTrx newRtx, final JsonNodeReadOnlyTrx oldRtx) {
     boolean found = false;
@@ -53,6 +53,12 @@ final class XmlFullDiff extends AbstractDiff<XmlNodeReadOnlyTrx, XmlNodeTrx> {
     return NodeKind.XML_DOCUMENT;
   }
 
+  @Override
+  AbstractDiff<XmlNodeReadOnlyTrx, XmlNodeTrx> newSubtreeDiff(
+      final DiffFactory.Builder<XmlNodeReadOnlyTrx, XmlNodeTrx> builder) {
+    return new XmlFullDiff(builder);
+  }
+
   @Override
   boolean checkNodes(final XmlNodeReadOnlyTrx newRtx, final XmlNodeReadOnlyTrx oldRtx) {
     boolean found = false;
@@ -49,6 +49,12 @@ final class XmlStructuralDiff extends AbstractDiff<XmlNodeReadOnlyTrx, XmlNodeTr
     return NodeKind.XML_DOCUMENT;
   }
 
+  @Override
+  AbstractDiff<XmlNodeReadOnlyTrx, XmlNodeTrx> newSubtreeDiff(
+      final DiffFactory.Builder<XmlNodeReadOnlyTrx, XmlNodeTrx> builder) {
+    return new XmlStructuralDiff(builder);
+  }
+
   @Override
   boolean checkNodes(final XmlNodeReadOnlyTrx newRtx, final XmlNodeReadOnlyTrx oldRtx) {
     boolean found = false;
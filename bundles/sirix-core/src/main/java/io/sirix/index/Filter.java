@@ -4,5 +4,15 @@ import io.sirix.index.redblacktree.RBNodeKey;
 
 public interface Filter {
 
-  <K extends Comparable<? super K>> boolean filter(RBNodeKey<K> node);
+  default <K extends Comparable<? super K>> boolean filter(RBNodeKey<K> node) {
+    return filter(node.getKey());
+  }
+
+  /**
+   * Filter an index key, regardless of the structure the index is stored in.
+   *
+   * @param key the index key
+   * @return {@code true} if the key passes the filter, {@code false} otherwise
+   */
+  <K extends Comparable<? super K>> boolean filter(K key);
 }
@@ -1,13 +1,24 @@
 package io.sirix.index;
 
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.api.json.JsonResourceSession;
 import io.sirix.axis.DescendantAxis;
+import io.sirix.axis.IncludeSelf;
 import io.sirix.axis.NonStructuralWrapperAxis;
 import io.sirix.api.json.JsonNodeReadOnlyTrx;
 import io.sirix.api.visitor.JsonNodeVisitor;
 import io.sirix.api.visitor.XmlNodeVisitor;
 import io.sirix.api.xml.XmlNodeReadOnlyTrx;
+import io.sirix.index.path.summary.PathSummaryReader;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * Build an index by traversing the current revision.
@@ -17,6 +28,42 @@ import java.util.Set;
  */
 public final class IndexBuilder {
 
+  /**
+   * The number of partitions per thread of the pool, such that the work is balanced, even if the
+   * subtrees differ in size.
+   */
+  private static final int PARTITIONS_PER_THREAD = 4;
+
+  /**
+   * The maximum number of keys of an index, which the runs of all partitions keep on the heap. Each
+   * run spills its entries to disk, once it holds its share of the keys.
+   */
+  private static final int MAX_KEYS_IN_MEMORY = 1 << 20;
+
+  /**
+   * The minimum number of keys, which a run keeps on the heap, such that the spill files don't get
+   * too small.
+   */
+  private static final int MIN_KEYS_IN_MEMORY_PER_RUN = 1 << 12;
+
+  /**
+   * Creates the builder of an index for a partition of a document.
+   */
+  @FunctionalInterface
+  public interface JsonIndexBuilderFactory {
+    /**
+     * Create the builder of an index for a partition.
+     *
+     * @param indexDef          the index definition
+     * @param rtx               the transaction, which is used to traverse the partition
+     * @param pathSummaryReader the path summary of the revision
+     * @param run               the run, the builder adds the index entries to
+     * @return the index builder
+     */
+    JsonNodeVisitor create(IndexDef indexDef, JsonNodeReadOnlyTrx rtx, PathSummaryReader pathSummaryReader,
+        SortedIndexRun<?> run);
+  }
+
   /**
    * Build the index.
    *
@@ -58,4 +105,186 @@ public final class IndexBuilder {
     rtx.moveTo(nodeKey);
   }
 
+  /**
+   * Build indexes of a committed revision in parallel. The document is partitioned into subtrees,
+   * which are traversed on the pool, each partition with its own read-only transaction. The builders
+   * of a partition collect the index entries in sorted runs, which spill their entries to disk beyond
+   * their share of {@link #MAX_KEYS_IN_MEMORY} keys. The runs are merged afterwards, such that they
+   * can be written to the index trees in one pass. The returned runs must be closed to delete their
+   * spill files.
+   *
+   * @param resourceSession the resource session
+   * @param revision        the committed revision to index
+   * @param indexDefs       the definitions of the indexes to build
+   * @param builderFactory  creates the index builders of each partition
+   * @param pool            the pool, on which the partitions are traversed
+   * @return the merged runs, in the order of the index definitions
+   */
+  public static List<SortedIndexRun<?>> build(final JsonResourceSession resourceSession, final int revision,
+      final List<IndexDef> indexDefs, final JsonIndexBuilderFactory builderFactory, final ForkJoinPool pool) {
+    final int numberOfPartitions = pool.getParallelism() * PARTITIONS_PER_THREAD;
+    final int maxKeysInMemoryPerRun =
+        Math.max(MIN_KEYS_IN_MEMORY_PER_RUN, MAX_KEYS_IN_MEMORY / (numberOfPartitions + 1));
+    final Path spillDirectory = resourceSession.getResourceConfig()
+        .resourcePath.resolve(ResourceConfiguration.ResourcePaths.INDEXES.getPath());
+    final LongList singleNodes = new LongArrayList();
+    final LongList subtrees;
+
+    try (final JsonNodeReadOnlyTrx rtx = resourceSession.beginNodeReadOnlyTrx(revision)) {
+      subtrees = partition(rtx, numberOfPartitions, singleNodes);
+    }
+
+    final List<ForkJoinTask<List<SortedIndexRun<?>>>> partitions = new ArrayList<>(numberOfPartitions + 1);
+    partitions.add(pool.submit(() -> collect(resourceSession,
+                                             revision,
+                                             indexDefs,
+                                             builderFactory,
+                                             singleNodes,
+                                             IncludeSelf.NO,
+                                             spillDirectory,
+                                             maxKeysInMemoryPerRun)));
+
+    final int numberOfSubtreePartitions = Math.min(subtrees.size(), numberOfPartitions);
+    for (int i = 0; i < numberOfSubtreePartitions; i++) {
+      final LongList subtreesOfPartition = subtrees.subList(subtrees.size() * i / numberOfSubtreePartitions,
+                                                            subtrees.size() * (i + 1) / numberOfSubtreePartitions);
+      partitions.add(pool.submit(() -> collect(resourceSession,
+                                               revision,
+                                               indexDefs,
+                                               builderFactory,
+                                               subtreesOfPartition,
+                                               IncludeSelf.YES,
+                                               spillDirectory,
+                                               maxKeysInMemoryPerRun)));
+    }
+
+    List<SortedIndexRun<?>> runs = null;
+    try {
+      for (final ForkJoinTask<List<SortedIndexRun<?>>> partition : partitions) {
+        final List<SortedIndexRun<?>> runsOfPartition = partition.join();
+        if (runs == null) {
+          runs = runsOfPartition;
+        } else {
+          for (int j = 0; j < runs.size(); j++) {
+            merge(runs.get(j), runsOfPartition.get(j));
+          }
+        }
+      }
+    } catch (final RuntimeException e) {
+      // Delete the spill files of all partitions. The runs of merged partitions are empty.
+      for (final ForkJoinTask<List<SortedIndexRun<?>>> partition : partitions) {
+        try {
+          partition.join().forEach(SortedIndexRun::close);
+        } catch (final RuntimeException suppressed) {
+          e.addSuppressed(suppressed);
+        }
+      }
+      throw e;
+    }
+    return runs;
+  }
+
+  /**
+   * Partition the document into subtrees. Starting with the subtrees of the children of the document
+   * root, the subtrees are replaced by the subtrees of their children level by level, until there are
+   * enough subtrees. The roots of replaced subtrees are added to the single nodes.
+   *
+   * @param rtx                the read-only transaction
+   * @param numberOfPartitions the number of subtrees to aim for
+   * @param singleNodes        the nodes, which are not part of any subtree
+   * @return the root node keys of the subtrees in document order
+   */
+  private static LongList partition(final JsonNodeReadOnlyTrx rtx, final int numberOfPartitions,
+      final LongList singleNodes) {
+    rtx.moveToDocumentRoot();
+    LongList subtrees = new LongArrayList();
+    addChildren(rtx, subtrees);
+
+    boolean hasSplitSubtree = true;
+    while (subtrees.size() < numberOfPartitions && hasSplitSubtree) {
+      hasSplitSubtree = false;
+      final LongList subtreesOfNextLevel = new LongArrayList();
+      for (int i = 0; i < subtrees.size(); i++) {
+        final long nodeKey = subtrees.getLong(i);
+        rtx.moveTo(nodeKey);
+        if (rtx.hasFirstChild()) {
+          singleNodes.add(nodeKey);
+          addChildren(rtx, subtreesOfNextLevel);
+          hasSplitSubtree = true;
+        } else {
+          subtreesOfNextLevel.add(nodeKey);
+        }
+      }
+      subtrees = subtreesOfNextLevel;
+    }
+    return subtrees;
+  }
+
+  private static void addChildren(final JsonNodeReadOnlyTrx rtx, final LongList nodeKeys) {
+    if (rtx.moveToFirstChild()) {
+      do {
+        nodeKeys.add(rtx.getNodeKey());
+      } while (rtx.moveToRightSibling());
+    }
+  }
+
+  /**
+   * Collect the index entries of a partition.
+   *
+   * @param resourceSession the resource session
+   * @param revision        the revision to index
+   * @param indexDefs       the definitions of the indexes to build
+   * @param builderFactory  creates the index builders
+   * @param nodeKeys        the keys of the nodes of the partition
+   * @param includeSelf     {@link IncludeSelf#YES}, if the nodes are roots of subtrees, which are
+   *                        part of the partition, {@link IncludeSelf#NO}, if only the nodes themselves
+   *                        are part of the partition
+   * @param spillDirectory  the directory, in which the runs create their spill files
+   * @param maxKeysInMemory the maximum number of keys, which each run keeps on the heap
+   * @return the runs, in the order of the index definitions
+   */
+  private static List<SortedIndexRun<?>> collect(final JsonResourceSession resourceSession, final int revision,
+      final List<IndexDef> indexDefs, final JsonIndexBuilderFactory builderFactory, final LongList nodeKeys,
+      final IncludeSelf includeSelf, final Path spillDirectory, final int maxKeysInMemory) {
+    final List<SortedIndexRun<?>> runs = new ArrayList<>(indexDefs.size());
+
+    try (final JsonNodeReadOnlyTrx rtx = resourceSession.beginNodeReadOnlyTrx(revision);
+         final PathSummaryReader pathSummaryReader = resourceSession.openPathSummary(revision)) {
+      final List<JsonNodeVisitor> builders = new ArrayList<>(indexDefs.size());
+      for (final IndexDef indexDef : indexDefs) {
+        final SortedIndexRun<?> run = new SortedIndexRun<>(indexDef.getType(), spillDirectory, maxKeysInMemory);
+        runs.add(run);
+        builders.add(builderFactory.create(indexDef, rtx, pathSummaryReader, run));
+      }
+
+      for (int i = 0; i < nodeKeys.size(); i++) {
+        rtx.moveTo(nodeKeys.getLong(i));
+
+        if (includeSelf == IncludeSelf.YES) {
+          final var axis = new DescendantAxis(rtx, IncludeSelf.YES);
+          while (axis.hasNext()) {
+            axis.nextLong();
+            for (final JsonNodeVisitor builder : builders) {
+              rtx.acceptVisitor(builder);
+            }
+          }
+        } else {
+          for (final JsonNodeVisitor builder : builders) {
+            rtx.acceptVisitor(builder);
+          }
+        }
+      }
+    } catch (final RuntimeException e) {
+      runs.forEach(SortedIndexRun::close);
+      throw e;
+    }
+
+    return runs;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <K extends Comparable<? super K>> void merge(final SortedIndexRun<K> run,
+      final SortedIndexRun<?> otherRun) {
+    run.merge((SortedIndexRun<K>) otherRun);
+  }
 }
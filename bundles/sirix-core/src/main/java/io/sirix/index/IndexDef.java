@@ -36,6 +36,8 @@ public final class IndexDef implements Materializable {
 
   private static final QNm ID_ATTRIBUTE = new QNm("id");
 
+  private static final QNm STRUCTURE_ATTRIBUTE = new QNm("structure");
+
   public static final QNm INDEX_TAG = new QNm("index");
 
   private DbType dbType;
@@ -51,6 +53,9 @@ public final class IndexDef implements Materializable {
   // populated when index is built
   private int id;
 
+  // the structure the index entries are stored in
+  private IndexStructure structure = IndexStructure.RB_TREE;
+
   public enum DbType {
     XML,
 
@@ -76,35 +81,39 @@ public final class IndexDef implements Materializable {
   /**
    * Name index.
    */
-  IndexDef(final Set<QNm> included, final Set<QNm> excluded, final int indexDefNo, final DbType dbType) {
+  IndexDef(final Set<QNm> included, final Set<QNm> excluded, final int indexDefNo, final DbType dbType,
+      final IndexStructure structure) {
     type = IndexType.NAME;
     this.included.addAll(included);
     this.excluded.addAll(excluded);
     id = indexDefNo;
     this.dbType = dbType;
+    this.structure = requireNonNull(structure);
   }
 
   /**
    * Path index.
    */
-  IndexDef(final Set<Path<QNm>> paths, final int indexDefNo, final DbType dbType) {
+  IndexDef(final Set<Path<QNm>> paths, final int indexDefNo, final DbType dbType, final IndexStructure structure) {
     type = IndexType.PATH;
     this.paths.addAll(paths);
     id = indexDefNo;
     this.dbType = dbType;
+    this.structure = requireNonNull(structure);
   }
 
   /**
    * CAS index.
    */
   IndexDef(final Type contentType, final Set<Path<QNm>> paths, final boolean unique,
-      final int indexDefNo, final DbType dbType) {
+      final int indexDefNo, final DbType dbType, final IndexStructure structure) {
     type = IndexType.CAS;
     this.contentType = requireNonNull(contentType);
     this.paths.addAll(paths);
     this.unique = unique;
     id = indexDefNo;
     this.dbType = dbType;
+    this.structure = requireNonNull(structure);
   }
 
   @Override
@@ -124,6 +133,10 @@ public final class IndexDef implements Materializable {
       tmp.attribute(UNIQUE_ATTRIBUTE, new Una(Boolean.toString(unique)));
     }
 
+    if (structure != IndexStructure.RB_TREE) {
+      tmp.attribute(STRUCTURE_ATTRIBUTE, new Una(structure.toString()));
+    }
+
     if (!paths.isEmpty()) {
       for (final Path<QNm> path : paths) {
         tmp.openElement(PATH_TAG);
@@ -201,6 +214,11 @@ public final class IndexDef implements Materializable {
       dbType = DbType.ofString(attribute.getValue().stringValue()).orElseThrow(() -> new DocumentException("Invalid db type"));
     }
 
+    attribute = root.getAttribute(STRUCTURE_ATTRIBUTE);
+    if (attribute != null) {
+      structure = IndexStructure.valueOf(attribute.getValue().stringValue());
+    }
+
     try (Stream<? extends Node<?>> children = root.getChildren()) {
       Node<?> child;
       while ((child = children.next()) != null) {
@@ -265,6 +283,10 @@ public final class IndexDef implements Materializable {
     return id;
   }
 
+  public IndexStructure getStructure() {
+    return structure;
+  }
+
   public IndexType getType() {
     return type;
   }
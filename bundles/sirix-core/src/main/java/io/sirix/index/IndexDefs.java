@@ -32,8 +32,22 @@ public final class IndexDefs {
    */
   public static IndexDef createCASIdxDef(final boolean unique, final Type optType, final Set<Path<QNm>> paths,
       final int indexDefNo, final IndexDef.DbType dbType) {
+    return createCASIdxDef(unique, optType, paths, indexDefNo, dbType, IndexStructure.RB_TREE);
+  }
+
+  /**
+   * Create a CAS {@link IndexDef} instance.
+   *
+   * @param unique    determine if it's unique
+   * @param optType   an optional type
+   * @param paths     the paths to index
+   * @param structure the structure the index entries are stored in
+   * @return a new {@link IndexDef} instance
+   */
+  public static IndexDef createCASIdxDef(final boolean unique, final Type optType, final Set<Path<QNm>> paths,
+      final int indexDefNo, final IndexDef.DbType dbType, final IndexStructure structure) {
     final Type type = optType == null ? Type.STR : optType;
-    return new IndexDef(type, paths, unique, indexDefNo, dbType);
+    return new IndexDef(type, paths, unique, indexDefNo, dbType, structure);
   }
 
   /**
@@ -44,35 +58,75 @@ public final class IndexDefs {
    */
   public static IndexDef createPathIdxDef(final Set<Path<QNm>> paths, final int indexDefNo,
       final IndexDef.DbType dbType) {
-    return new IndexDef(paths, indexDefNo, dbType);
+    return createPathIdxDef(paths, indexDefNo, dbType, IndexStructure.RB_TREE);
+  }
+
+  /**
+   * Create a path {@link IndexDef}.
+   *
+   * @param paths     the paths to index
+   * @param structure the structure the index entries are stored in
+   * @return a new path {@link IndexDef} instance
+   */
+  public static IndexDef createPathIdxDef(final Set<Path<QNm>> paths, final int indexDefNo,
+      final IndexDef.DbType dbType, final IndexStructure structure) {
+    return new IndexDef(paths, indexDefNo, dbType, structure);
   }
 
   public static IndexDef createNameIdxDef(final int indexDefNo, final IndexDef.DbType dbType) {
+    return createNameIdxDef(indexDefNo, dbType, IndexStructure.RB_TREE);
+  }
+
+  public static IndexDef createNameIdxDef(final int indexDefNo, final IndexDef.DbType dbType,
+      final IndexStructure structure) {
     return switch (dbType) {
       case JSON -> new IndexDef(ImmutableSet.of(),
                                 ImmutableSet.of(),
                                 PageConstants.JSON_NAME_INDEX_OFFSET + indexDefNo,
-                                dbType);
+                                dbType,
+                                structure);
       case XML -> new IndexDef(ImmutableSet.of(),
                                ImmutableSet.of(),
                                PageConstants.XML_NAME_INDEX_OFFSET + indexDefNo,
-                               dbType);
+                               dbType,
+                               structure);
     };
   }
 
   public static IndexDef createFilteredNameIdxDef(final Set<QNm> excluded, final int indexDefNo,
       final IndexDef.DbType dbType) {
     return switch (dbType) {
-      case JSON -> new IndexDef(ImmutableSet.of(), excluded, PageConstants.JSON_NAME_INDEX_OFFSET + indexDefNo, dbType);
-      case XML -> new IndexDef(ImmutableSet.of(), excluded, PageConstants.XML_NAME_INDEX_OFFSET + indexDefNo, dbType);
+      case JSON -> new IndexDef(ImmutableSet.of(),
+                                excluded,
+                                PageConstants.JSON_NAME_INDEX_OFFSET + indexDefNo,
+                                dbType,
+                                IndexStructure.RB_TREE);
+      case XML -> new IndexDef(ImmutableSet.of(),
+                               excluded,
+                               PageConstants.XML_NAME_INDEX_OFFSET + indexDefNo,
+                               dbType,
+                               IndexStructure.RB_TREE);
     };
   }
 
   public static IndexDef createSelectiveNameIdxDef(final Set<QNm> included, final int indexDefNo,
       final IndexDef.DbType dbType) {
+    return createSelectiveNameIdxDef(included, indexDefNo, dbType, IndexStructure.RB_TREE);
+  }
+
+  public static IndexDef createSelectiveNameIdxDef(final Set<QNm> included, final int indexDefNo,
+      final IndexDef.DbType dbType, final IndexStructure structure) {
     return switch (dbType) {
-      case JSON -> new IndexDef(included, ImmutableSet.of(), PageConstants.JSON_NAME_INDEX_OFFSET + indexDefNo, dbType);
-      case XML -> new IndexDef(included, ImmutableSet.of(), PageConstants.XML_NAME_INDEX_OFFSET + indexDefNo, dbType);
+      case JSON -> new IndexDef(included,
+                                ImmutableSet.of(),
+                                PageConstants.JSON_NAME_INDEX_OFFSET + indexDefNo,
+                                dbType,
+                                structure);
+      case XML -> new IndexDef(included,
+                               ImmutableSet.of(),
+                               PageConstants.XML_NAME_INDEX_OFFSET + indexDefNo,
+                               dbType,
+                               structure);
     };
   }
 }
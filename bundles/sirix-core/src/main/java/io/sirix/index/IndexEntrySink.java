@@ -0,0 +1,37 @@
+package io.sirix.index;
+
+import io.sirix.index.redblacktree.RBTreeReader;
+import io.sirix.index.redblacktree.RBTreeWriter;
+import io.sirix.index.redblacktree.keyvalue.NodeReferences;
+
+/**
+ * Receives the entries of an index, that is the keys and the keys of the nodes, which are indexed
+ * under them, as they are found by the index builders.
+ *
+ * @param <K> the type of the index keys
+ */
+@FunctionalInterface
+public interface IndexEntrySink<K> {
+  /**
+   * Add an index entry.
+   *
+   * @param key     the index key
+   * @param nodeKey the key of the indexed node
+   */
+  void add(K key, long nodeKey);
+
+  /**
+   * Get a sink, which adds each entry to the node references of the key in an index tree.
+   *
+   * @param indexWriter the writer of the index tree
+   * @param <K>         the type of the index keys
+   * @return the sink
+   */
+  static <K extends Comparable<? super K>> IndexEntrySink<K> of(final RBTreeWriter<K, NodeReferences> indexWriter) {
+    return (key, nodeKey) -> {
+      // Moves the cursor to the key or to the node, where the key has to be inserted.
+      final NodeReferences references = indexWriter.get(key, SearchMode.EQUAL).orElseGet(NodeReferences::new);
+      indexWriter.index(key, references.addNodeKey(nodeKey), RBTreeReader.MoveCursor.NO_MOVE);
+    };
+  }
+}
@@ -0,0 +1,16 @@
+package io.sirix.index;
+
+/**
+ * The structure, the entries of a CAS, path or name index are stored in.
+ */
+public enum IndexStructure {
+  /**
+   * A red-black tree, each key and its node references are stored in records of their own.
+   */
+  RB_TREE,
+
+  /**
+   * A B+-tree, whose nodes store many keys and node references each, with linked leaves.
+   */
+  BPLUS_TREE
+}
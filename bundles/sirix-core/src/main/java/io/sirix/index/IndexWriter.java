@@ -0,0 +1,64 @@
+package io.sirix.index;
+
+import io.sirix.access.DatabaseType;
+import io.sirix.api.PageTrx;
+import io.sirix.index.bplustree.BPlusTreeWriter;
+import io.sirix.index.redblacktree.RBTreeWriter;
+import io.sirix.index.redblacktree.keyvalue.NodeReferences;
+
+/**
+ * Adds and removes the entries of a CAS, path or name index, regardless of the structure the index
+ * is stored in.
+ *
+ * @param <K> the type of the index keys
+ */
+public interface IndexWriter<K> extends IndexEntrySink<K> {
+  /**
+   * Remove the key of an indexed node from the node references of an index key.
+   *
+   * @param key     the index key
+   * @param nodeKey the key of the indexed node
+   * @return {@code true}, if the node key has been removed, {@code false} otherwise
+   */
+  boolean remove(K key, long nodeKey);
+
+  /**
+   * Get a writer of the index, which stores the entries in the structure the index definition
+   * determines. The index is created, if it doesn't exist yet.
+   *
+   * @param databaseType the type of the database
+   * @param pageTrx      the page transaction to write to
+   * @param indexDef     the index definition
+   * @param <K>          the type of the index keys
+   * @return the writer
+   */
+  static <K extends Comparable<? super K>> IndexWriter<K> getInstance(final DatabaseType databaseType,
+      final PageTrx pageTrx, final IndexDef indexDef) {
+    return switch (indexDef.getStructure()) {
+      case RB_TREE -> of(RBTreeWriter.getInstance(databaseType, pageTrx, indexDef.getType(), indexDef.getID()));
+      case BPLUS_TREE -> BPlusTreeWriter.getInstance(databaseType, pageTrx, indexDef.getType(), indexDef.getID());
+    };
+  }
+
+  /**
+   * Get a writer, which adds and removes entries of a red-black tree index.
+   *
+   * @param indexWriter the writer of the red-black tree
+   * @param <K>         the type of the index keys
+   * @return the writer
+   */
+  static <K extends Comparable<? super K>> IndexWriter<K> of(final RBTreeWriter<K, NodeReferences> indexWriter) {
+    final IndexEntrySink<K> indexEntrySink = IndexEntrySink.of(indexWriter);
+    return new IndexWriter<>() {
+      @Override
+      public void add(final K key, final long nodeKey) {
+        indexEntrySink.add(key, nodeKey);
+      }
+
+      @Override
+      public boolean remove(final K key, final long nodeKey) {
+        return indexWriter.remove(key, nodeKey);
+      }
+    };
+  }
+}
@@ -1,5 +1,7 @@
 package io.sirix.index;
 
+import io.brackit.query.atomic.Atomic;
+import io.brackit.query.atomic.QNm;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import java.util.Comparator;
 
@@ -78,8 +80,33 @@ public enum SearchMode {
         Comparator<? super K> comparator) {
       return comparator.compare(firstKey, secondKey);
     }
+  },
+
+  /** Starts with the specified key, which has to be a string or a name. */
+  STARTS_WITH {
+    @Override
+    public <K extends Comparable<? super K>> int compare(K firstKey, @NonNull K secondKey) {
+      return startsWith(secondKey, firstKey) ? 0 : -1;
+    }
+
+    @Override
+    public <K extends Comparable<? super K>> int compare(K firstKey, K secondKey,
+        Comparator<? super K> comparator) {
+      return startsWith(secondKey, firstKey) ? 0 : -1;
+    }
   };
 
+  private static boolean startsWith(final Object key, final Object prefix) {
+    if (key instanceof final QNm name && prefix instanceof final QNm namePrefix) {
+      return name.getNamespaceURI().equals(namePrefix.getNamespaceURI())
+          && name.getLocalName().startsWith(namePrefix.getLocalName());
+    }
+    if (key instanceof final Atomic atomic && prefix instanceof final Atomic atomicPrefix) {
+      return atomic.stringValue().startsWith(atomicPrefix.stringValue());
+    }
+    throw new IllegalStateException("Only strings and names can be searched by prefix!");
+  }
+
   /**
    * Compare two keys.
    *
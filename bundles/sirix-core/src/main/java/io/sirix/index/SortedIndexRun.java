@@ -0,0 +1,339 @@
+package io.sirix.index;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import io.sirix.exception.SirixIOException;
+import io.sirix.index.bplustree.BPlusTreeNode;
+import io.sirix.index.bplustree.BPlusTreeWriter;
+import io.sirix.index.redblacktree.RBTreeReader;
+import io.sirix.index.redblacktree.RBTreeWriter;
+import io.sirix.index.redblacktree.keyvalue.NodeReferences;
+import io.sirix.node.NodeKind;
+import net.openhft.chronicle.bytes.Bytes;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Collects the entries of an index, sorted by the index keys. Once a run holds the maximum number of
+ * keys on the heap, the entries are spilled to a file in ascending key order. Runs, which are
+ * collected for parts of a document, are merged and written to the index tree in one pass by a k-way
+ * merge of the spill files and the entries on the heap, such that each key is inserted only once.
+ *
+ * <p>
+ * A spill file consists of blocks, each of which is a B+-tree leaf with up to
+ * {@link BPlusTreeWriter#MAX_KEYS} keys, serialized like the leaves of the index and prefixed with
+ * its length. Thus, a merge only holds one block of each spill file on the heap.
+ * </p>
+ *
+ * @param <K> the type of the index keys
+ */
+public final class SortedIndexRun<K extends Comparable<? super K>> implements IndexEntrySink<K>, AutoCloseable {
+
+  /**
+   * The type of the index.
+   */
+  private final IndexType indexType;
+
+  /**
+   * The directory, in which the spill files are created.
+   */
+  private final Path spillDirectory;
+
+  /**
+   * The maximum number of keys on the heap.
+   */
+  private final int maxKeysInMemory;
+
+  /**
+   * The keys of the indexed nodes for each index key, which haven't been spilled.
+   */
+  private final TreeMap<K, Roaring64Bitmap> entries = new TreeMap<>();
+
+  /**
+   * The spill files, each of which holds entries in ascending key order.
+   */
+  private final List<Path> spillFiles = new ArrayList<>();
+
+  /**
+   * Constructor.
+   *
+   * @param indexType       the type of the index
+   * @param spillDirectory  the directory, in which the spill files are created
+   * @param maxKeysInMemory the maximum number of keys on the heap, before the entries are spilled
+   */
+  public SortedIndexRun(final IndexType indexType, final Path spillDirectory, final int maxKeysInMemory) {
+    checkArgument(maxKeysInMemory > 0, "The maximum number of keys in memory must be positive.");
+    this.indexType = requireNonNull(indexType);
+    this.spillDirectory = requireNonNull(spillDirectory);
+    this.maxKeysInMemory = maxKeysInMemory;
+  }
+
+  @Override
+  public void add(final K key, final long nodeKey) {
+    entries.computeIfAbsent(key, unused -> new Roaring64Bitmap()).addLong(nodeKey);
+
+    if (entries.size() >= maxKeysInMemory) {
+      spill();
+    }
+  }
+
+  /**
+   * Merge the entries of another run into this run. If the entries of both runs don't fit on the heap
+   * of this run, the entries of the other run are spilled and its spill files are merged, when this
+   * run is written.
+   *
+   * @param other the other run, which must not be used afterwards
+   * @return this run
+   */
+  public SortedIndexRun<K> merge(final SortedIndexRun<K> other) {
+    if (other.spillFiles.isEmpty() && entries.size() + other.entries.size() <= maxKeysInMemory) {
+      for (final Map.Entry<K, Roaring64Bitmap> entry : other.entries.entrySet()) {
+        entries.merge(entry.getKey(), entry.getValue(), (nodeKeys, otherNodeKeys) -> {
+          nodeKeys.or(otherNodeKeys);
+          return nodeKeys;
+        });
+      }
+      other.entries.clear();
+    } else {
+      other.spill();
+      spillFiles.addAll(other.spillFiles);
+      other.spillFiles.clear();
+    }
+    return this;
+  }
+
+  /**
+   * Write the entries to an index tree in ascending key order.
+   *
+   * @param indexWriter the writer of the index tree
+   */
+  public void writeTo(final RBTreeWriter<K, NodeReferences> indexWriter) {
+    forEachEntry(entriesToWrite -> entriesToWrite.forEachRemaining(entry -> {
+      final K key = entry.getKey();
+      // Moves the cursor to the key or to the node, where the key has to be inserted.
+      final NodeReferences references = indexWriter.get(key, SearchMode.EQUAL).map(existingReferences -> {
+        existingReferences.getNodeKeys().or(entry.getValue());
+        return existingReferences;
+      }).orElseGet(() -> new NodeReferences(entry.getValue()));
+      indexWriter.index(key, references, RBTreeReader.MoveCursor.NO_MOVE);
+    }));
+  }
+
+  /**
+   * Write the entries to a B+-tree. An empty tree is bulk loaded, otherwise the entries are inserted
+   * in ascending key order.
+   *
+   * @param indexWriter the writer of the B+-tree
+   */
+  public void writeTo(final BPlusTreeWriter<K> indexWriter) {
+    forEachEntry(entriesToWrite -> indexWriter.bulkLoad(() -> entriesToWrite));
+  }
+
+  /**
+   * Delete the spill files and discard the entries on the heap.
+   */
+  @Override
+  public void close() {
+    entries.clear();
+    try {
+      for (final Path spillFile : spillFiles) {
+        Files.deleteIfExists(spillFile);
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException("Couldn't delete the spill file of an index run.", e);
+    } finally {
+      spillFiles.clear();
+    }
+  }
+
+  /**
+   * Pass the merged entries of the heap and the spill files in ascending key order to a consumer.
+   * The node keys of equal keys, which have been spilled to different files, are merged.
+   *
+   * @param consumer the consumer, which must not keep the iterator
+   */
+  private void forEachEntry(final Consumer<Iterator<Map.Entry<K, Roaring64Bitmap>>> consumer) {
+    final List<SpillFileIterator> spillFileIterators = new ArrayList<>(spillFiles.size());
+    try {
+      final List<Iterator<Map.Entry<K, Roaring64Bitmap>>> sortedIterators = new ArrayList<>(spillFiles.size() + 1);
+      sortedIterators.add(entries.entrySet().iterator());
+      for (final Path spillFile : spillFiles) {
+        final SpillFileIterator spillFileIterator = new SpillFileIterator(spillFile);
+        spillFileIterators.add(spillFileIterator);
+        sortedIterators.add(spillFileIterator);
+      }
+
+      final PeekingIterator<Map.Entry<K, Roaring64Bitmap>> sortedEntries =
+          Iterators.peekingIterator(Iterators.mergeSorted(sortedIterators, Map.Entry.comparingByKey()));
+
+      consumer.accept(new AbstractIterator<>() {
+        @Override
+        protected Map.Entry<K, Roaring64Bitmap> computeNext() {
+          if (!sortedEntries.hasNext()) {
+            return endOfData();
+          }
+          final Map.Entry<K, Roaring64Bitmap> entry = sortedEntries.next();
+          final Roaring64Bitmap nodeKeys = entry.getValue();
+          while (sortedEntries.hasNext() && sortedEntries.peek().getKey().compareTo(entry.getKey()) == 0) {
+            nodeKeys.or(sortedEntries.next().getValue());
+          }
+          return Map.entry(entry.getKey(), nodeKeys);
+        }
+      });
+    } catch (final IOException e) {
+      throw new SirixIOException("Couldn't read the spill file of an index run.", e);
+    } finally {
+      for (final SpillFileIterator spillFileIterator : spillFileIterators) {
+        spillFileIterator.close();
+      }
+    }
+  }
+
+  /**
+   * Spill the entries on the heap to a new spill file.
+   */
+  private void spill() {
+    if (entries.isEmpty()) {
+      return;
+    }
+
+    final Bytes<ByteBuffer> sink = Bytes.elasticByteBuffer();
+    try {
+      Files.createDirectories(spillDirectory);
+      final Path spillFile = Files.createTempFile(spillDirectory, "index-run", ".spill");
+      spillFiles.add(spillFile);
+
+      try (final FileChannel channel = FileChannel.open(spillFile, StandardOpenOption.WRITE)) {
+        BPlusTreeNode<K> block = BPlusTreeNode.newLeaf(0, indexType);
+        for (final Map.Entry<K, Roaring64Bitmap> entry : entries.entrySet()) {
+          block.getKeys().add(entry.getKey());
+          block.getValues().add(new NodeReferences(entry.getValue()));
+          if (block.size() == BPlusTreeWriter.MAX_KEYS) {
+            writeBlock(channel, sink, block);
+            block = BPlusTreeNode.newLeaf(0, indexType);
+          }
+        }
+        if (block.size() > 0) {
+          writeBlock(channel, sink, block);
+        }
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException("Couldn't spill the entries of an index run.", e);
+    } finally {
+      sink.releaseLast();
+    }
+
+    entries.clear();
+  }
+
+  private static void writeBlock(final FileChannel channel, final Bytes<ByteBuffer> sink,
+      final BPlusTreeNode<?> block) throws IOException {
+    sink.clear();
+    NodeKind.BPLUS_TREE_NODE.serialize(sink, block, null);
+
+    final ByteBuffer data = sink.underlyingObject().duplicate();
+    data.position(0).limit((int) sink.writePosition());
+    final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES).putInt(0, data.remaining());
+
+    final ByteBuffer[] buffers = { header, data };
+    while (data.hasRemaining()) {
+      channel.write(buffers);
+    }
+  }
+
+  /**
+   * Iterates over the entries of a spill file, reading one block at a time.
+   */
+  private final class SpillFileIterator extends AbstractIterator<Map.Entry<K, Roaring64Bitmap>>
+      implements AutoCloseable {
+
+    private final FileChannel channel;
+
+    private final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+
+    private BPlusTreeNode<K> block;
+
+    private int position;
+
+    SpillFileIterator(final Path spillFile) throws IOException {
+      channel = FileChannel.open(spillFile, StandardOpenOption.READ);
+    }
+
+    @Override
+    protected Map.Entry<K, Roaring64Bitmap> computeNext() {
+      if ((block == null || position == block.size()) && !readBlock()) {
+        return endOfData();
+      }
+      final Map.Entry<K, Roaring64Bitmap> entry =
+          Map.entry(block.getKeys().get(position), block.getValues().get(position).getNodeKeys());
+      position++;
+      return entry;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean readBlock() {
+      try {
+        header.clear();
+        if (!readFully(header)) {
+          return false;
+        }
+
+        final ByteBuffer data = ByteBuffer.allocate(header.getInt(0));
+        if (!readFully(data)) {
+          throw new EOFException("The spill file of an index run is truncated.");
+        }
+
+        block = (BPlusTreeNode<K>) NodeKind.BPLUS_TREE_NODE.deserialize(Bytes.wrapForRead(data.array()), 0, null, null);
+        position = 0;
+        return true;
+      } catch (final IOException e) {
+        throw new SirixIOException("Couldn't read the spill file of an index run.", e);
+      }
+    }
+
+    /**
+     * Fill a buffer from the file.
+     *
+     * @param buffer the buffer
+     * @return {@code false}, if the end of the file has been reached before the first byte
+     * @throws EOFException if the end of the file has been reached after the first byte
+     */
+    private boolean readFully(final ByteBuffer buffer) throws IOException {
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer) < 0) {
+          if (buffer.position() == 0) {
+            return false;
+          }
+          throw new EOFException("The spill file of an index run is truncated.");
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public void close() {
+      try {
+        channel.close();
+      } catch (final IOException e) {
+        throw new SirixIOException(e);
+      }
+    }
+  }
+}
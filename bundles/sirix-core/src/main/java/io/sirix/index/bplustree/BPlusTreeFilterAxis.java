@@ -0,0 +1,73 @@
+package io.sirix.index.bplustree;
+
+import com.google.common.collect.AbstractIterator;
+import io.sirix.index.Filter;
+import io.sirix.index.redblacktree.keyvalue.NodeReferences;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Iterates over the node references of the entries of a B+-tree in ascending key order, whose keys
+ * pass all filters. The iteration stops at the first key, which is out of the scanned key range.
+ *
+ * @param <K> the type of the index keys
+ */
+public final class BPlusTreeFilterAxis<K extends Comparable<? super K>> extends AbstractIterator<NodeReferences> {
+
+  private final Iterator<Map.Entry<K, NodeReferences>> iter;
+
+  private final Set<? extends Filter> filter;
+
+  private final Predicate<? super K> inRange;
+
+  /**
+   * Constructor.
+   *
+   * @param iter    the iterator over the entries of the tree
+   * @param filter  the filters, the keys have to pass
+   * @param inRange determines if a key is in the scanned key range
+   */
+  public BPlusTreeFilterAxis(final Iterator<Map.Entry<K, NodeReferences>> iter, final Set<? extends Filter> filter,
+      final Predicate<? super K> inRange) {
+    this.iter = requireNonNull(iter);
+    this.filter = requireNonNull(filter);
+    this.inRange = requireNonNull(inRange);
+  }
+
+  /**
+   * Constructor, to scan all keys.
+   *
+   * @param iter   the iterator over the entries of the tree
+   * @param filter the filters, the keys have to pass
+   */
+  public BPlusTreeFilterAxis(final Iterator<Map.Entry<K, NodeReferences>> iter, final Set<? extends Filter> filter) {
+    this(iter, filter, key -> true);
+  }
+
+  @Override
+  protected NodeReferences computeNext() {
+    while (iter.hasNext()) {
+      final Map.Entry<K, NodeReferences> entry = iter.next();
+      final K key = entry.getKey();
+      if (!inRange.test(key)) {
+        break;
+      }
+      boolean filterResult = true;
+      for (final Filter filter : filter) {
+        filterResult = filter.filter(key);
+        if (!filterResult) {
+          break;
+        }
+      }
+      if (filterResult) {
+        return entry.getValue();
+      }
+    }
+    return endOfData();
+  }
+}
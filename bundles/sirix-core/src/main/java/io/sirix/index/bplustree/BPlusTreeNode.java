@@ -0,0 +1,281 @@
+package io.sirix.index.bplustree;
+
+import com.google.common.base.MoreObjects;
+import io.sirix.index.IndexType;
+import io.sirix.index.redblacktree.keyvalue.NodeReferences;
+import io.sirix.node.NodeKind;
+import io.sirix.node.SirixDeweyID;
+import io.sirix.node.interfaces.DataRecord;
+import io.sirix.node.interfaces.RecordSerializer;
+import io.sirix.settings.Fixed;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A node of a B+-tree index, which is stored as one record. Inner nodes store the separator keys and
+ * the keys of their children, leaves store the index keys, the node references of each key and the
+ * key of their right sibling leaf.
+ *
+ * <p>
+ * The {@code i}-th child of an inner node contains the keys {@code k} with
+ * {@code keys[i - 1] <= k < keys[i]}.
+ * </p>
+ *
+ * @param <K> the type of the index keys
+ */
+public final class BPlusTreeNode<K extends Comparable<? super K>> implements DataRecord {
+
+  /**
+   * The key of this node.
+   */
+  private final long nodeKey;
+
+  /**
+   * The type of the index (CAS, PATH or NAME), which determines the type of the keys.
+   */
+  private final IndexType indexType;
+
+  /**
+   * Determines if the node is a leaf.
+   */
+  private final boolean isLeaf;
+
+  /**
+   * The index keys of a leaf or the separator keys of an inner node.
+   */
+  private final List<K> keys;
+
+  /**
+   * The node references of each key of a leaf.
+   */
+  private final List<NodeReferences> values;
+
+  /**
+   * The keys of the children of an inner node.
+   */
+  private final LongList childKeys;
+
+  /**
+   * The key of the right sibling of a leaf.
+   */
+  private long nextLeafKey;
+
+  /**
+   * Constructor.
+   *
+   * @param nodeKey     the key of this node
+   * @param indexType   the type of the index
+   * @param isLeaf      determines if the node is a leaf
+   * @param keys        the index keys or separator keys
+   * @param values      the node references of each key of a leaf (empty for inner nodes)
+   * @param childKeys   the keys of the children of an inner node (empty for leaves)
+   * @param nextLeafKey the key of the right sibling of a leaf
+   */
+  public BPlusTreeNode(final long nodeKey, final IndexType indexType, final boolean isLeaf, final List<K> keys,
+      final List<NodeReferences> values, final LongList childKeys, final long nextLeafKey) {
+    this.nodeKey = nodeKey;
+    this.indexType = requireNonNull(indexType);
+    this.isLeaf = isLeaf;
+    this.keys = requireNonNull(keys);
+    this.values = requireNonNull(values);
+    this.childKeys = requireNonNull(childKeys);
+    this.nextLeafKey = nextLeafKey;
+  }
+
+  /**
+   * Create an empty leaf.
+   *
+   * @param nodeKey   the key of the leaf
+   * @param indexType the type of the index
+   * @param <K>       the type of the index keys
+   * @return the leaf
+   */
+  public static <K extends Comparable<? super K>> BPlusTreeNode<K> newLeaf(final long nodeKey,
+      final IndexType indexType) {
+    return new BPlusTreeNode<K>(nodeKey,
+                                indexType,
+                                true,
+                                new ArrayList<>(),
+                                new ArrayList<>(),
+                                new LongArrayList(),
+                                Fixed.NULL_NODE_KEY.getStandardProperty());
+  }
+
+  /**
+   * Create an empty inner node.
+   *
+   * @param nodeKey   the key of the inner node
+   * @param indexType the type of the index
+   * @param <K>       the type of the index keys
+   * @return the inner node
+   */
+  public static <K extends Comparable<? super K>> BPlusTreeNode<K> newInnerNode(final long nodeKey,
+      final IndexType indexType) {
+    return new BPlusTreeNode<K>(nodeKey,
+                                indexType,
+                                false,
+                                new ArrayList<>(),
+                                new ArrayList<>(),
+                                new LongArrayList(),
+                                Fixed.NULL_NODE_KEY.getStandardProperty());
+  }
+
+  @Override
+  public long getNodeKey() {
+    return nodeKey;
+  }
+
+  public IndexType getIndexType() {
+    return indexType;
+  }
+
+  public boolean isLeaf() {
+    return isLeaf;
+  }
+
+  /**
+   * Get the index keys of a leaf or the separator keys of an inner node, which may be modified, if the
+   * node has been prepared for modification.
+   *
+   * @return the keys
+   */
+  public List<K> getKeys() {
+    return keys;
+  }
+
+  /**
+   * Get the node references of the keys of a leaf.
+   *
+   * @return the node references
+   */
+  public List<NodeReferences> getValues() {
+    return values;
+  }
+
+  /**
+   * Get the keys of the children of an inner node.
+   *
+   * @return the keys of the children
+   */
+  public LongList getChildKeys() {
+    return childKeys;
+  }
+
+  public long getNextLeafKey() {
+    return nextLeafKey;
+  }
+
+  public boolean hasNextLeaf() {
+    return nextLeafKey != Fixed.NULL_NODE_KEY.getStandardProperty();
+  }
+
+  public void setNextLeafKey(final long nextLeafKey) {
+    this.nextLeafKey = nextLeafKey;
+  }
+
+  /**
+   * Get the number of keys.
+   *
+   * @return the number of keys
+   */
+  public int size() {
+    return keys.size();
+  }
+
+  /**
+   * Get the position of the first key, which is greater than or equal to the given key, or the number
+   * of keys, if all keys are lower.
+   *
+   * @param key the key to search for
+   * @return the position
+   */
+  public int lowerBound(final K key) {
+    int low = 0;
+    int high = keys.size();
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (keys.get(mid).compareTo(key) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Get the position of the child of an inner node, whose subtree has to contain the given key.
+   *
+   * @param key the key to search for
+   * @return the position of the child
+   */
+  public int childPosition(final K key) {
+    int low = 0;
+    int high = keys.size();
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (keys.get(mid).compareTo(key) <= 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  @Override
+  public SirixDeweyID getDeweyID() {
+    return null;
+  }
+
+  @Override
+  public byte[] getDeweyIDAsBytes() {
+    return null;
+  }
+
+  @Override
+  public RecordSerializer getKind() {
+    return NodeKind.BPLUS_TREE_NODE;
+  }
+
+  @Override
+  public int getPreviousRevisionNumber() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public int getLastModifiedRevisionNumber() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(nodeKey);
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object obj) {
+    if (obj instanceof final BPlusTreeNode<?> other) {
+      return nodeKey == other.nodeKey;
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("nodeKey", nodeKey)
+                      .add("indexType", indexType)
+                      .add("isLeaf", isLeaf)
+                      .add("keys", keys)
+                      .add("childKeys", childKeys)
+                      .add("nextLeafKey", nextLeafKey)
+                      .toString();
+  }
+}
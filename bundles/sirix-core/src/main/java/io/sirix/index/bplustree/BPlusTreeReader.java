@@ -0,0 +1,244 @@
+package io.sirix.index.bplustree;
+
+import com.google.common.collect.AbstractIterator;
+import io.sirix.api.PageReadOnlyTrx;
+import io.sirix.index.IndexType;
+import io.sirix.index.redblacktree.keyvalue.NodeReferences;
+import io.sirix.node.interfaces.DataRecord;
+import io.sirix.node.interfaces.StructNode;
+import io.sirix.settings.Fixed;
+import org.checkerframework.checker.index.qual.NonNegative;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reads a B+-tree index. The root of the tree is the first child of the document root of the index.
+ * A point lookup reads one node per level of the tree, a range scan descends once and then follows
+ * the links between the leaves.
+ *
+ * @param <K> the type of the index keys
+ */
+public final class BPlusTreeReader<K extends Comparable<? super K>> {
+
+  /**
+   * {@link PageReadOnlyTrx} for persistent storage.
+   */
+  final PageReadOnlyTrx pageReadOnlyTrx;
+
+  /**
+   * The index type.
+   */
+  final IndexType indexType;
+
+  /**
+   * The index number.
+   */
+  final int index;
+
+  /**
+   * Private constructor.
+   *
+   * @param pageReadOnlyTrx {@link PageReadOnlyTrx} for persistent storage
+   * @param indexType       the index type
+   * @param index           the index number
+   */
+  private BPlusTreeReader(final PageReadOnlyTrx pageReadOnlyTrx, final IndexType indexType, final int index) {
+    this.pageReadOnlyTrx = requireNonNull(pageReadOnlyTrx);
+    this.indexType = requireNonNull(indexType);
+    this.index = index;
+  }
+
+  /**
+   * Get a new instance.
+   *
+   * @param pageReadOnlyTrx {@link PageReadOnlyTrx} for persistent storage
+   * @param indexType       the index type
+   * @param index           the index number
+   * @param <K>             the type of the index keys
+   * @return new reader instance
+   */
+  public static <K extends Comparable<? super K>> BPlusTreeReader<K> getInstance(
+      final PageReadOnlyTrx pageReadOnlyTrx, final IndexType indexType, @NonNegative final int index) {
+    return new BPlusTreeReader<>(pageReadOnlyTrx, indexType, index);
+  }
+
+  /**
+   * Get the document root of the index.
+   *
+   * @return the document root or {@code null}, if the index doesn't exist
+   */
+  StructNode getDocumentRoot() {
+    final DataRecord documentRoot =
+        pageReadOnlyTrx.getRecord(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), indexType, index);
+    return documentRoot instanceof StructNode structNode ? structNode : null;
+  }
+
+  /**
+   * Get the key of the root node of the tree.
+   *
+   * @return the key of the root node or {@link Fixed#NULL_NODE_KEY}, if the tree is empty
+   */
+  long getRootKey() {
+    final StructNode documentRoot = getDocumentRoot();
+    return documentRoot == null ? Fixed.NULL_NODE_KEY.getStandardProperty() : documentRoot.getFirstChildKey();
+  }
+
+  /**
+   * Get a node of the tree.
+   *
+   * @param nodeKey the key of the node
+   * @return the node
+   */
+  BPlusTreeNode<K> getNode(final long nodeKey) {
+    final BPlusTreeNode<K> node = pageReadOnlyTrx.getRecord(nodeKey, indexType, index);
+    if (node == null) {
+      throw new IllegalStateException("B+-tree node " + nodeKey + " couldn't be fetched from persistent storage!");
+    }
+    return node;
+  }
+
+  /**
+   * Determines if the tree has no entries.
+   *
+   * @return {@code true}, if the tree is empty, {@code false} otherwise
+   */
+  public boolean isEmpty() {
+    return getRootKey() == Fixed.NULL_NODE_KEY.getStandardProperty();
+  }
+
+  /**
+   * Get the number of index keys.
+   *
+   * @return the number of index keys
+   */
+  public long size() {
+    final StructNode documentRoot = getDocumentRoot();
+    return documentRoot == null ? 0 : documentRoot.getDescendantCount();
+  }
+
+  /**
+   * Get the node references of an index key.
+   *
+   * @param key the index key
+   * @return the node references, or an empty optional, if the key isn't indexed
+   */
+  public Optional<NodeReferences> get(final K key) {
+    requireNonNull(key);
+    long nodeKey = getRootKey();
+    if (nodeKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      return Optional.empty();
+    }
+    BPlusTreeNode<K> node = getNode(nodeKey);
+    while (!node.isLeaf()) {
+      node = getNode(node.getChildKeys().getLong(node.childPosition(key)));
+    }
+    final int position = node.lowerBound(key);
+    if (position < node.size() && node.getKeys().get(position).compareTo(key) == 0) {
+      return Optional.of(node.getValues().get(position));
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Get an iterator over all entries in ascending key order.
+   *
+   * @return the iterator
+   */
+  public Iterator<Map.Entry<K, NodeReferences>> iterator() {
+    final long rootKey = getRootKey();
+    if (rootKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      return new EntryIterator(null, 0);
+    }
+    BPlusTreeNode<K> node = getNode(rootKey);
+    while (!node.isLeaf()) {
+      node = getNode(node.getChildKeys().getLong(0));
+    }
+    return new EntryIterator(node, 0);
+  }
+
+  /**
+   * Get an iterator over the entries in ascending key order, starting with the first key, which is
+   * greater than or equal to the given key according to the comparator. The comparator must be
+   * consistent with the natural ordering of the keys, but may be coarser, for instance to compare
+   * only a prefix of the keys.
+   *
+   * @param fromKey    the key to start from
+   * @param comparator the comparator
+   * @return the iterator
+   */
+  public Iterator<Map.Entry<K, NodeReferences>> iterator(final K fromKey, final Comparator<? super K> comparator) {
+    requireNonNull(fromKey);
+    requireNonNull(comparator);
+    final long rootKey = getRootKey();
+    if (rootKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      return new EntryIterator(null, 0);
+    }
+    BPlusTreeNode<K> node = getNode(rootKey);
+    while (!node.isLeaf()) {
+      // Keys, which are equal according to the comparator, may also be stored left of an equal separator.
+      node = getNode(node.getChildKeys().getLong(lowerBound(node, fromKey, comparator)));
+    }
+    return new EntryIterator(node, lowerBound(node, fromKey, comparator));
+  }
+
+  private int lowerBound(final BPlusTreeNode<K> node, final K key, final Comparator<? super K> comparator) {
+    int low = 0;
+    int high = node.size();
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (comparator.compare(node.getKeys().get(mid), key) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Iterates over the entries of the leaves, following the links to the right siblings.
+   */
+  private final class EntryIterator extends AbstractIterator<Map.Entry<K, NodeReferences>> {
+
+    /**
+     * The current leaf.
+     */
+    private BPlusTreeNode<K> leaf;
+
+    /**
+     * The position of the next entry in the current leaf.
+     */
+    private int position;
+
+    /**
+     * Constructor.
+     *
+     * @param leaf     the leaf to start with, or {@code null}, if there are no entries
+     * @param position the position of the first entry
+     */
+    EntryIterator(final BPlusTreeNode<K> leaf, final int position) {
+      this.leaf = leaf;
+      this.position = position;
+    }
+
+    @Override
+    protected Map.Entry<K, NodeReferences> computeNext() {
+      while (leaf != null) {
+        if (position < leaf.size()) {
+          final Map.Entry<K, NodeReferences> entry =
+              Map.entry(leaf.getKeys().get(position), leaf.getValues().get(position));
+          position++;
+          return entry;
+        }
+        leaf = leaf.hasNextLeaf() ? getNode(leaf.getNextLeafKey()) : null;
+        position = 0;
+      }
+      return endOfData();
+    }
+  }
+}
@@ -0,0 +1,386 @@
+package io.sirix.index.bplustree;
+
+import io.sirix.access.DatabaseType;
+import io.sirix.api.PageTrx;
+import io.sirix.cache.PageContainer;
+import io.sirix.exception.SirixIOException;
+import io.sirix.index.IndexType;
+import io.sirix.index.IndexWriter;
+import io.sirix.index.redblacktree.keyvalue.NodeReferences;
+import io.sirix.node.interfaces.StructNode;
+import io.sirix.page.CASPage;
+import io.sirix.page.NamePage;
+import io.sirix.page.PathPage;
+import io.sirix.page.RevisionRootPage;
+import io.sirix.settings.Fixed;
+import io.sirix.utils.LogWrapper;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Writes a B+-tree index. Each node of the tree is stored as one record in the record pages of the
+ * index, such that a node is copied on write together with the page it's stored in, and unchanged
+ * nodes are shared between revisions. Nodes, which are created one after the other, are stored in
+ * the same record page, such that a bulk load from sorted entries stores the leaves and their
+ * parents clustered.
+ *
+ * <p>
+ * Entries are never removed from the tree, only node keys are removed from the node references, as
+ * in the red-black tree.
+ * </p>
+ *
+ * @param <K> the type of the index keys
+ */
+public final class BPlusTreeWriter<K extends Comparable<? super K>> implements IndexWriter<K> {
+
+  /**
+   * Logger.
+   */
+  private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(BPlusTreeWriter.class));
+
+  /**
+   * The maximum number of keys of a node, before it's split.
+   */
+  public static final int MAX_KEYS = 128;
+
+  /**
+   * The number of keys of the leaves written by a bulk load, such that some keys can be inserted
+   * afterwards without splitting the leaves immediately.
+   */
+  static final int BULK_LOAD_KEYS = MAX_KEYS * 3 / 4;
+
+  /**
+   * {@link BPlusTreeReader} instance.
+   */
+  private final BPlusTreeReader<K> reader;
+
+  /**
+   * {@link PageTrx} instance.
+   */
+  private final PageTrx pageTrx;
+
+  /**
+   * Private constructor.
+   *
+   * @param databaseType the type of database
+   * @param pageTrx      {@link PageTrx} for persistent storage
+   * @param indexType    the index type
+   * @param index        the index number
+   */
+  private BPlusTreeWriter(final DatabaseType databaseType, final PageTrx pageTrx, final IndexType indexType,
+      final @NonNegative int index) {
+    try {
+      final RevisionRootPage revisionRootPage = pageTrx.getActualRevisionRootPage();
+      switch (indexType) {
+        case PATH -> {
+          // Create path index tree if needed.
+          final PathPage pathPage = pageTrx.getPathPage(revisionRootPage);
+          pageTrx.appendLogRecord(revisionRootPage.getPathPageReference(),
+                                  PageContainer.getInstance(pathPage, pathPage));
+          pathPage.createPathIndexTree(databaseType, pageTrx, index, pageTrx.getLog());
+        }
+        case CAS -> {
+          // Create CAS index tree if needed.
+          final CASPage casPage = pageTrx.getCASPage(revisionRootPage);
+          pageTrx.appendLogRecord(revisionRootPage.getCASPageReference(), PageContainer.getInstance(casPage, casPage));
+          casPage.createCASIndexTree(databaseType, pageTrx, index, pageTrx.getLog());
+        }
+        case NAME -> {
+          // Create name index tree if needed.
+          final NamePage namePage = pageTrx.getNamePage(revisionRootPage);
+          pageTrx.appendLogRecord(revisionRootPage.getNamePageReference(),
+                                  PageContainer.getInstance(namePage, namePage));
+          namePage.createNameIndexTree(databaseType, pageTrx, index, pageTrx.getLog());
+        }
+        default -> throw new IllegalArgumentException("Index type not supported: " + indexType);
+      }
+    } catch (final SirixIOException e) {
+      LOGGER.error(e.getMessage(), e);
+    }
+    reader = BPlusTreeReader.getInstance(pageTrx, indexType, index);
+    this.pageTrx = pageTrx;
+  }
+
+  /**
+   * Get a new instance.
+   *
+   * @param databaseType the type of database
+   * @param pageTrx      {@link PageTrx} for persistent storage
+   * @param indexType    the index type
+   * @param index        the index number
+   * @param <K>          the type of the index keys
+   * @return new writer instance
+   */
+  public static <K extends Comparable<? super K>> BPlusTreeWriter<K> getInstance(final DatabaseType databaseType,
+      final PageTrx pageTrx, final IndexType indexType, final int index) {
+    return new BPlusTreeWriter<>(databaseType, pageTrx, indexType, index);
+  }
+
+  /**
+   * Get the {@link BPlusTreeReader} used to search the tree.
+   *
+   * @return {@link BPlusTreeReader} reference
+   */
+  public BPlusTreeReader<K> getReader() {
+    return reader;
+  }
+
+  /**
+   * Get the node references of an index key.
+   *
+   * @param key the index key
+   * @return the node references, or an empty optional, if the key isn't indexed
+   */
+  public Optional<NodeReferences> get(final K key) {
+    return reader.get(key);
+  }
+
+  @Override
+  public void add(final K key, final long nodeKey) {
+    checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
+    addAll(key, Roaring64Bitmap.bitmapOf(nodeKey));
+  }
+
+  /**
+   * Add the keys of indexed nodes to the node references of an index key. The key is inserted, if
+   * it isn't indexed yet.
+   *
+   * @param key      the index key
+   * @param nodeKeys the keys of the indexed nodes
+   */
+  public void addAll(final K key, final Roaring64Bitmap nodeKeys) {
+    requireNonNull(key);
+    requireNonNull(nodeKeys);
+    if (reader.isEmpty()) {
+      final BPlusTreeNode<K> root = createNode(true);
+      root.getKeys().add(key);
+      root.getValues().add(new NodeReferences(nodeKeys));
+      final StructNode documentRoot = prepareDocumentRoot();
+      documentRoot.setFirstChildKey(root.getNodeKey());
+      documentRoot.incrementChildCount();
+      documentRoot.incrementDescendantCount();
+      return;
+    }
+
+    // Remember the inner nodes on the path to the leaf and the positions of the children.
+    final LongArrayList pathNodeKeys = new LongArrayList();
+    final IntArrayList pathPositions = new IntArrayList();
+    BPlusTreeNode<K> node = reader.getNode(reader.getRootKey());
+    while (!node.isLeaf()) {
+      final int position = node.childPosition(key);
+      pathNodeKeys.add(node.getNodeKey());
+      pathPositions.add(position);
+      node = reader.getNode(node.getChildKeys().getLong(position));
+    }
+
+    final BPlusTreeNode<K> leaf = prepareNode(node.getNodeKey());
+    final int position = leaf.lowerBound(key);
+    if (position < leaf.size() && leaf.getKeys().get(position).compareTo(key) == 0) {
+      leaf.getValues().get(position).getNodeKeys().or(nodeKeys);
+      return;
+    }
+
+    leaf.getKeys().add(position, key);
+    leaf.getValues().add(position, new NodeReferences(nodeKeys));
+    prepareDocumentRoot().incrementDescendantCount();
+
+    if (leaf.size() > MAX_KEYS) {
+      split(leaf, pathNodeKeys, pathPositions);
+    }
+  }
+
+  @Override
+  public boolean remove(final K key, final long nodeKey) {
+    checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
+    requireNonNull(key);
+    final long rootKey = reader.getRootKey();
+    if (rootKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      return false;
+    }
+    BPlusTreeNode<K> node = reader.getNode(rootKey);
+    while (!node.isLeaf()) {
+      node = reader.getNode(node.getChildKeys().getLong(node.childPosition(key)));
+    }
+    final int position = node.lowerBound(key);
+    if (position == node.size() || node.getKeys().get(position).compareTo(key) != 0
+        || !node.getValues().get(position).contains(nodeKey)) {
+      return false;
+    }
+    final BPlusTreeNode<K> leaf = prepareNode(node.getNodeKey());
+    return leaf.getValues().get(position).removeNodeKey(nodeKey);
+  }
+
+  /**
+   * Load entries, which are sorted in ascending key order without duplicates. If the tree is empty,
+   * the leaves are written from left to right and the inner nodes level by level above them, such
+   * that each node is written once. Otherwise, the entries are inserted one after the other.
+   *
+   * @param entries the entries, sorted in ascending key order
+   */
+  public void bulkLoad(final Iterable<Map.Entry<K, Roaring64Bitmap>> entries) {
+    requireNonNull(entries);
+    if (!reader.isEmpty()) {
+      for (final Map.Entry<K, Roaring64Bitmap> entry : entries) {
+        addAll(entry.getKey(), entry.getValue());
+      }
+      return;
+    }
+
+    // The nodes of the level written last and the smallest key of each of their subtrees.
+    List<BPlusTreeNode<K>> level = new ArrayList<>();
+    List<K> minKeys = new ArrayList<>();
+    BPlusTreeNode<K> leaf = null;
+    long numberOfKeys = 0;
+    K previousKey = null;
+    for (final Map.Entry<K, Roaring64Bitmap> entry : entries) {
+      final K key = entry.getKey();
+      checkArgument(previousKey == null || previousKey.compareTo(key) < 0, "Entries must be sorted and unique.");
+      previousKey = key;
+      if (leaf == null || leaf.size() == BULK_LOAD_KEYS) {
+        final BPlusTreeNode<K> nextLeaf = createNode(true);
+        if (leaf != null) {
+          leaf.setNextLeafKey(nextLeaf.getNodeKey());
+        }
+        leaf = nextLeaf;
+        level.add(leaf);
+        minKeys.add(key);
+      }
+      leaf.getKeys().add(key);
+      leaf.getValues().add(new NodeReferences(entry.getValue()));
+      numberOfKeys++;
+    }
+
+    if (level.isEmpty()) {
+      return;
+    }
+
+    while (level.size() > 1) {
+      final List<BPlusTreeNode<K>> parentLevel = new ArrayList<>();
+      final List<K> parentMinKeys = new ArrayList<>();
+      BPlusTreeNode<K> parent = null;
+      for (int i = 0; i < level.size(); i++) {
+        if (parent == null || parent.getChildKeys().size() == BULK_LOAD_KEYS + 1) {
+          parent = createNode(false);
+          parentLevel.add(parent);
+          parentMinKeys.add(minKeys.get(i));
+        } else {
+          parent.getKeys().add(minKeys.get(i));
+        }
+        parent.getChildKeys().add(level.get(i).getNodeKey());
+      }
+      level = parentLevel;
+      minKeys = parentMinKeys;
+    }
+
+    final StructNode documentRoot = prepareDocumentRoot();
+    documentRoot.setFirstChildKey(level.get(0).getNodeKey());
+    documentRoot.incrementChildCount();
+    documentRoot.setDescendantCount(numberOfKeys);
+  }
+
+  /**
+   * Split a node, which has too many keys, and insert the new right sibling into the parent node,
+   * which is split in turn, if required.
+   *
+   * @param node          the node to split, which has been prepared for modification
+   * @param pathNodeKeys  the keys of the inner nodes on the path from the root to the node
+   * @param pathPositions the positions of the children on the path from the root to the node
+   */
+  private void split(BPlusTreeNode<K> node, final LongArrayList pathNodeKeys, final IntArrayList pathPositions) {
+    while (node.size() > MAX_KEYS) {
+      final int middle = node.size() >>> 1;
+      final BPlusTreeNode<K> right = createNode(node.isLeaf());
+      final K separator;
+      if (node.isLeaf()) {
+        separator = node.getKeys().get(middle);
+        moveTail(node.getKeys(), right.getKeys(), middle);
+        moveTail(node.getValues(), right.getValues(), middle);
+        right.setNextLeafKey(node.getNextLeafKey());
+        node.setNextLeafKey(right.getNodeKey());
+      } else {
+        // The middle key moves up to the parent.
+        separator = node.getKeys().get(middle);
+        moveTail(node.getKeys(), right.getKeys(), middle + 1);
+        node.getKeys().remove(middle);
+        final LongList childKeys = node.getChildKeys();
+        right.getChildKeys().addAll(childKeys.subList(middle + 1, childKeys.size()));
+        childKeys.removeElements(middle + 1, childKeys.size());
+      }
+
+      if (pathNodeKeys.isEmpty()) {
+        final BPlusTreeNode<K> root = createNode(false);
+        root.getKeys().add(separator);
+        root.getChildKeys().add(node.getNodeKey());
+        root.getChildKeys().add(right.getNodeKey());
+        prepareDocumentRoot().setFirstChildKey(root.getNodeKey());
+        return;
+      }
+
+      final int depth = pathNodeKeys.size() - 1;
+      final BPlusTreeNode<K> parent = prepareNode(pathNodeKeys.removeLong(depth));
+      final int position = pathPositions.removeInt(depth);
+      parent.getKeys().add(position, separator);
+      parent.getChildKeys().add(position + 1, right.getNodeKey());
+      node = parent;
+    }
+  }
+
+  private static <T> void moveTail(final List<T> from, final List<T> to, final int fromIndex) {
+    final List<T> tail = from.subList(fromIndex, from.size());
+    to.addAll(tail);
+    tail.clear();
+  }
+
+  /**
+   * Create a new node.
+   *
+   * @param isLeaf determines if the node is a leaf
+   * @return the created node
+   */
+  private BPlusTreeNode<K> createNode(final boolean isLeaf) {
+    final long nodeKey = getNewNodeKey();
+    final BPlusTreeNode<K> node = isLeaf
+        ? BPlusTreeNode.newLeaf(nodeKey, reader.indexType)
+        : BPlusTreeNode.newInnerNode(nodeKey, reader.indexType);
+    pageTrx.createRecord(node, reader.indexType, reader.index);
+    return node;
+  }
+
+  private BPlusTreeNode<K> prepareNode(final long nodeKey) {
+    return pageTrx.prepareRecordForModification(nodeKey, reader.indexType, reader.index);
+  }
+
+  private StructNode prepareDocumentRoot() {
+    return pageTrx.prepareRecordForModification(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(),
+                                                reader.indexType,
+                                                reader.index);
+  }
+
+  /**
+   * Get the new maximum node key.
+   *
+   * @return maximum node key
+   */
+  private long getNewNodeKey() {
+    final RevisionRootPage root = pageTrx.getActualRevisionRootPage();
+    // $CASES-OMITTED$
+    return switch (reader.indexType) {
+      case PATH -> pageTrx.getPathPage(root).getMaxNodeKey(reader.index) + 1;
+      case CAS -> pageTrx.getCASPage(root).getMaxNodeKey(reader.index) + 1;
+      case NAME -> pageTrx.getNamePage(root).getMaxNodeKey(reader.index) + 1;
+      default -> throw new IllegalStateException();
+    };
+  }
+}
@@ -4,7 +4,6 @@ import io.sirix.index.AtomicUtil;
 import io.sirix.index.Filter;
 import io.sirix.index.path.PCRCollector;
 import io.sirix.index.path.PathFilter;
-import io.sirix.index.redblacktree.RBNodeKey;
 import io.sirix.index.redblacktree.keyvalue.CASValue;
 import io.brackit.query.atomic.Atomic;
 import io.brackit.query.atomic.QNm;
@@ -57,10 +56,9 @@ public final class CASFilterRange implements Filter {
   }
 
   @Override
-  public <K extends Comparable<? super K>> boolean filter(final RBNodeKey<K> node) {
-    final K key = node.getKey();
+  public <K extends Comparable<? super K>> boolean filter(final K key) {
     if (key instanceof CASValue casValue) {
-      final boolean filtered = pathFilter.filter(node);
+      final boolean filtered = pathFilter.filter(key);
 
       if (filtered) {
         return inRange(AtomicUtil.toType(casValue.getAtomicValue(), casValue.getType()));
@@ -7,8 +7,12 @@ import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.api.PageTrx;
 import io.sirix.index.ChangeListener;
 import io.sirix.index.IndexDef;
+import io.sirix.index.IndexEntrySink;
 import io.sirix.index.IndexFilterAxis;
+import io.sirix.index.IndexStructure;
 import io.sirix.index.SearchMode;
+import io.sirix.index.bplustree.BPlusTreeFilterAxis;
+import io.sirix.index.bplustree.BPlusTreeReader;
 import io.sirix.index.redblacktree.RBNodeKey;
 import io.sirix.index.redblacktree.RBNodeValue;
 import io.sirix.index.redblacktree.RBTreeReader;
@@ -16,6 +20,7 @@ import io.sirix.index.redblacktree.keyvalue.CASValue;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 import io.sirix.settings.Fixed;
 import io.brackit.query.atomic.Atomic;
+import io.brackit.query.jdm.Type;
 import io.sirix.index.path.summary.PathSummaryReader;
 
 import java.util.*;
@@ -24,9 +29,19 @@ import java.util.function.Function;
 public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx & NodeCursor> {
   B createBuilder(R rtx, PageTrx pageWriteTrx, PathSummaryReader pathSummaryReader, IndexDef indexDef);
 
+  B createBuilder(R rtx, PathSummaryReader pathSummaryReader, IndexDef indexDef,
+      IndexEntrySink<CASValue> indexEntrySink);
+
   L createListener(PageTrx pageWriteTrx, PathSummaryReader pathSummaryReader, IndexDef indexDef);
 
   default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, CASFilterRange filter) {
+    if (indexDef.getStructure() != IndexStructure.RB_TREE) {
+      final BPlusTreeReader<CASValue> reader =
+          BPlusTreeReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID());
+
+      return new BPlusTreeFilterAxis<>(reader.iterator(), Set.of(filter));
+    }
+
     final RBTreeReader<CASValue, NodeReferences> reader =
         RBTreeReader.getInstance(pageRtx.getResourceSession().getIndexCache(),
                                  pageRtx,
@@ -39,6 +54,10 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
   }
 
   default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, CASFilter filter) {
+    if (indexDef.getStructure() != IndexStructure.RB_TREE) {
+      return openBPlusTreeIndex(pageRtx, indexDef, filter);
+    }
+
     final RBTreeReader<CASValue, NodeReferences> reader =
         RBTreeReader.getInstance(pageRtx.getResourceSession().getIndexCache(),
                                  pageRtx,
@@ -53,8 +72,11 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
         ? Collections.emptySet()
         : filter.getPCRCollector().getPCRsForPaths(indexDef.getPaths()).getPCRs();
 
+    // The red-black tree can't be searched by prefix.
+    final boolean isPrefixSearch = filter != null && filter.getMode() == SearchMode.STARTS_WITH;
+
     // Only one path indexed and requested. All PCRs are the same in each CASValue.
-    if (pcrsAvailable.size() <= 1 && pcrsRequested.size() == 1) {
+    if (pcrsAvailable.size() <= 1 && pcrsRequested.size() == 1 && !isPrefixSearch) {
       final Atomic atomic = filter.getKey();
       final long pcr = pcrsRequested.iterator().next();
       final SearchMode mode = filter.getMode();
@@ -77,7 +99,7 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
 
         return optionalNode.map(concatWithFilterAxis(filter, reader)).orElse(Collections.emptyIterator());
       }
-    } else if (pcrsRequested.size() == 1) {
+    } else if (pcrsRequested.size() == 1 && !isPrefixSearch) {
       final Atomic atomic = filter.getKey();
       final long pcr = pcrsRequested.iterator().next();
       final SearchMode mode = filter.getMode();
@@ -107,6 +129,49 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
     }
   }
 
+  private Iterator<NodeReferences> openBPlusTreeIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, CASFilter filter) {
+    final BPlusTreeReader<CASValue> reader = BPlusTreeReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID());
+
+    // PCRs requested.
+    final Set<Long> pcrsRequested = filter == null ? Set.of() : filter.getPCRs();
+
+    if (pcrsRequested.size() != 1 || filter.getKey() == null) {
+      return new BPlusTreeFilterAxis<>(reader.iterator(), filter == null ? Set.of() : Set.of(filter));
+    }
+
+    final Atomic atomic = filter.getKey();
+    final long pcr = pcrsRequested.iterator().next();
+    final SearchMode mode = filter.getMode();
+    final CASValue value = new CASValue(atomic, atomic.type(), pcr);
+
+    if (mode == SearchMode.EQUAL) {
+      return reader.get(value)
+                   .map(Iterators::forArray)
+                   .orElse(Iterators.unmodifiableIterator(Collections.emptyIterator()));
+    }
+
+    if (mode == SearchMode.STARTS_WITH && indexDef.getContentType().equals(Type.STR)) {
+      // The strings of the PCR, which start with the prefix, are adjacent and not smaller than the
+      // prefix, thus the scan seeks to the prefix and stops at the first string without it.
+      final String prefix = atomic.stringValue();
+
+      return new BPlusTreeFilterAxis<>(reader.iterator(value, Comparator.naturalOrder()),
+                                       Set.of(filter),
+                                       key -> key.getPathNodeKey() == pcr
+                                           && key.getAtomicValue().stringValue().startsWith(prefix));
+    }
+
+    // The keys are ordered by PCR first, thus the keys of the PCR are scanned from the smallest key,
+    // which may satisfy the search criteria, up to the last key of the PCR.
+    final Comparator<CASValue> comparator = mode == SearchMode.GREATER || mode == SearchMode.GREATER_OR_EQUAL
+        ? Comparator.naturalOrder()
+        : Comparator.comparingLong(CASValue::getPathNodeKey);
+
+    return new BPlusTreeFilterAxis<>(reader.iterator(value, comparator),
+                                     Set.of(filter),
+                                     key -> key.getPathNodeKey() == pcr);
+  }
+
   private Function<RBNodeKey<CASValue>, Iterator<NodeReferences>> findFirstNodeWithMatchingPCRAndAtomicValue(
       CASFilter filter, RBTreeReader<CASValue, NodeReferences> reader, SearchMode mode, CASValue value) {
     return node -> {
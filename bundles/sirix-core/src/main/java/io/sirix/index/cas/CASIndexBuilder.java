@@ -5,8 +5,7 @@ import io.sirix.api.visitor.VisitResultType;
 import io.sirix.exception.SirixIOException;
 import io.sirix.exception.SirixRuntimeException;
 import io.sirix.index.AtomicUtil;
-import io.sirix.index.SearchMode;
-import io.sirix.index.redblacktree.RBTreeReader;
+import io.sirix.index.IndexEntrySink;
 import io.sirix.index.redblacktree.RBTreeWriter;
 import io.sirix.index.redblacktree.keyvalue.CASValue;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
@@ -25,13 +24,12 @@ import io.brackit.query.util.path.PathException;
 import io.sirix.index.path.summary.PathSummaryReader;
 import org.slf4j.LoggerFactory;
 
-import java.util.Optional;
 import java.util.Set;
 
 public final class CASIndexBuilder {
   private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(CASIndexBuilder.class));
 
-  private final RBTreeWriter<CASValue, NodeReferences> indexWriter;
+  private final IndexEntrySink<CASValue> indexEntrySink;
 
   private final PathSummaryReader pathSummaryReader;
 
@@ -41,9 +39,14 @@ public final class CASIndexBuilder {
 
   public CASIndexBuilder(final RBTreeWriter<CASValue, NodeReferences> indexWriter,
       final PathSummaryReader pathSummaryReader, final Set<Path<QNm>> paths, final Type type) {
+    this(IndexEntrySink.of(indexWriter), pathSummaryReader, paths, type);
+  }
+
+  public CASIndexBuilder(final IndexEntrySink<CASValue> indexEntrySink, final PathSummaryReader pathSummaryReader,
+      final Set<Path<QNm>> paths, final Type type) {
     this.pathSummaryReader = pathSummaryReader;
     this.paths = paths;
-    this.indexWriter = indexWriter;
+    this.indexEntrySink = indexEntrySink;
     this.type = type;
   }
 
@@ -71,12 +74,7 @@ public final class CASIndexBuilder {
 
         if (isOfType) {
           final CASValue value = new CASValue(strValue, type, pathNodeKey);
-          final Optional<NodeReferences> textReferences = indexWriter.get(value, SearchMode.EQUAL);
-          if (textReferences.isPresent()) {
-            setNodeReferences(node, textReferences.get(), value);
-          } else {
-            setNodeReferences(node, new NodeReferences(), value);
-          }
+          indexEntrySink.add(value, node.getNodeKey());
         }
       }
     } catch (final PathException | SirixIOException e) {
@@ -84,9 +82,4 @@ public final class CASIndexBuilder {
     }
     return VisitResultType.CONTINUE;
   }
-
-  private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final CASValue value)
-      throws SirixIOException {
-    indexWriter.index(value, references.addNodeKey(node.getNodeKey()), RBTreeReader.MoveCursor.NO_MOVE);
-  }
 }
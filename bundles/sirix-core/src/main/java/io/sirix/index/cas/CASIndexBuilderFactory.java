@@ -5,9 +5,9 @@ import static java.util.Objects.requireNonNull;
 import io.sirix.access.DatabaseType;
 import io.sirix.api.PageTrx;
 import io.sirix.index.IndexDef;
-import io.sirix.index.redblacktree.RBTreeWriter;
+import io.sirix.index.IndexEntrySink;
+import io.sirix.index.IndexWriter;
 import io.sirix.index.redblacktree.keyvalue.CASValue;
-import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 import io.sirix.index.path.summary.PathSummaryReader;
 
 public final class CASIndexBuilderFactory {
@@ -20,12 +20,20 @@ public final class CASIndexBuilderFactory {
 
   public CASIndexBuilder create(final PageTrx pageTrx,
       final PathSummaryReader pathSummaryReader, final IndexDef indexDef) {
-    final var rbTreeWriter =
-        RBTreeWriter.<CASValue, NodeReferences>getInstance(this.databaseType, pageTrx, indexDef.getType(), indexDef.getID());
+    final var indexWriter = IndexWriter.<CASValue>getInstance(this.databaseType, pageTrx, indexDef);
     final var pathSummary = requireNonNull(pathSummaryReader);
     final var paths = requireNonNull(indexDef.getPaths());
     final var type = requireNonNull(indexDef.getContentType());
 
-    return new CASIndexBuilder(rbTreeWriter, pathSummary, paths, type);
+    return new CASIndexBuilder(indexWriter, pathSummary, paths, type);
+  }
+
+  public CASIndexBuilder create(final PathSummaryReader pathSummaryReader, final IndexDef indexDef,
+      final IndexEntrySink<CASValue> indexEntrySink) {
+    final var pathSummary = requireNonNull(pathSummaryReader);
+    final var paths = requireNonNull(indexDef.getPaths());
+    final var type = requireNonNull(indexDef.getContentType());
+
+    return new CASIndexBuilder(requireNonNull(indexEntrySink), pathSummary, paths, type);
   }
 }
@@ -5,9 +5,8 @@ import static java.util.Objects.requireNonNull;
 import io.sirix.access.DatabaseType;
 import io.sirix.api.PageTrx;
 import io.sirix.index.IndexDef;
-import io.sirix.index.redblacktree.RBTreeWriter;
+import io.sirix.index.IndexWriter;
 import io.sirix.index.redblacktree.keyvalue.CASValue;
-import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 import io.sirix.index.path.summary.PathSummaryReader;
 
 public final class CASIndexListenerFactory {
@@ -21,16 +20,10 @@ public final class CASIndexListenerFactory {
   public CASIndexListener create(final PageTrx pageTrx,
       final PathSummaryReader pathSummaryReader, final IndexDef indexDef) {
     final var pathSummary = requireNonNull(pathSummaryReader);
-    final var avlTreeWriter =
-        RBTreeWriter.<CASValue, NodeReferences>getInstance(
-                this.databaseType,
-                pageTrx,
-                indexDef.getType(),
-                indexDef.getID()
-        );
+    final var indexWriter = IndexWriter.<CASValue>getInstance(this.databaseType, pageTrx, indexDef);
     final var type = requireNonNull(indexDef.getContentType());
     final var paths = requireNonNull(indexDef.getPaths());
 
-    return new CASIndexListener(pathSummary, avlTreeWriter, paths, type);
+    return new CASIndexListener(pathSummary, indexWriter, paths, type);
   }
 }
@@ -4,9 +4,11 @@ import io.sirix.access.DatabaseType;
 import io.sirix.api.PageTrx;
 import io.sirix.api.xml.XmlNodeReadOnlyTrx;
 import io.sirix.index.IndexDef;
+import io.sirix.index.IndexEntrySink;
 import io.sirix.index.cas.CASIndexBuilderFactory;
 import io.sirix.index.cas.CASIndexListenerFactory;
 import io.sirix.index.path.summary.PathSummaryReader;
+import io.sirix.index.redblacktree.keyvalue.CASValue;
 
 public final class XmlCASIndexImpl implements XmlCASIndex {
 
@@ -27,6 +29,13 @@ public final class XmlCASIndexImpl implements XmlCASIndex {
     return new XmlCASIndexBuilder(indexBuilderDelegate, rtx);
   }
 
+  @Override
+  public XmlCASIndexBuilder createBuilder(XmlNodeReadOnlyTrx rtx, PathSummaryReader pathSummaryReader,
+      IndexDef indexDef, IndexEntrySink<CASValue> indexEntrySink) {
+    final var indexBuilderDelegate = casIndexBuilderFactory.create(pathSummaryReader, indexDef, indexEntrySink);
+    return new XmlCASIndexBuilder(indexBuilderDelegate, rtx);
+  }
+
   @Override
   public XmlCASIndexListener createListener(PageTrx pageTrx,
       PathSummaryReader pathSummaryReader, IndexDef indexDef) {
@@ -1,7 +1,7 @@
 package io.sirix.index.name;
 
 import io.sirix.index.Filter;
-import io.sirix.index.redblacktree.RBNodeKey;
+import io.sirix.index.SearchMode;
 import io.brackit.query.atomic.QNm;
 
 import java.util.Collections;
@@ -15,9 +15,27 @@ public final class NameFilter implements Filter {
 
   private final Set<QNm> excludes;
 
+  private final SearchMode mode;
+
   public NameFilter(final Set<QNm> included, final Set<QNm> excluded) {
+    this(included, excluded, SearchMode.EQUAL);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param included the names to include
+   * @param excluded the names to exclude
+   * @param mode     {@link SearchMode#EQUAL} to include the names, or {@link SearchMode#STARTS_WITH} to
+   *                 include all names, which start with one of the included names
+   */
+  public NameFilter(final Set<QNm> included, final Set<QNm> excluded, final SearchMode mode) {
     includes = requireNonNull(included);
     excludes = requireNonNull(excluded);
+    this.mode = requireNonNull(mode);
+    if (mode != SearchMode.EQUAL && mode != SearchMode.STARTS_WITH) {
+      throw new IllegalArgumentException("Search mode not supported: " + mode);
+    }
   }
 
   public Set<QNm> getIncludes() {
@@ -28,12 +46,18 @@ public final class NameFilter implements Filter {
     return Collections.unmodifiableSet(excludes);
   }
 
+  public SearchMode getMode() {
+    return mode;
+  }
+
   @Override
-  public <K extends Comparable<? super K>> boolean filter(final RBNodeKey<K> node) {
-    if (!(node.getKey() instanceof final QNm name))
+  public <K extends Comparable<? super K>> boolean filter(final K key) {
+    if (!(key instanceof final QNm name))
       throw new IllegalStateException("Key is not of type QNm!");
 
-    final boolean included = (includes.isEmpty() || includes.contains(name));
+    final boolean included = (includes.isEmpty() || (mode == SearchMode.EQUAL
+        ? includes.contains(name)
+        : includes.stream().anyMatch(include -> mode.compare(include, name) == 0)));
     final boolean excluded = (!excludes.isEmpty() && excludes.contains(name));
 
     return included && !excluded;
@@ -5,12 +5,15 @@ import com.google.common.collect.Iterators;
 import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.api.PageTrx;
 import io.sirix.index.*;
+import io.sirix.index.bplustree.BPlusTreeFilterAxis;
+import io.sirix.index.bplustree.BPlusTreeReader;
 import io.sirix.index.redblacktree.RBNodeKey;
 import io.sirix.index.redblacktree.RBTreeReader;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 import io.sirix.settings.Fixed;
 import io.brackit.query.atomic.QNm;
 
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.Set;
@@ -18,16 +21,22 @@ import java.util.Set;
 public interface NameIndex<B, L extends ChangeListener> {
   B createBuilder(PageTrx pageTrx, IndexDef indexDef);
 
+  B createBuilder(IndexDef indexDef, IndexEntrySink<QNm> indexEntrySink);
+
   L createListener(PageTrx pageTrx, IndexDef indexDef);
 
   default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, NameFilter filter) {
+    if (indexDef.getStructure() != IndexStructure.RB_TREE) {
+      return openBPlusTreeIndex(pageRtx, indexDef, filter);
+    }
+
     final RBTreeReader<QNm, NodeReferences> reader =
         RBTreeReader.getInstance(pageRtx.getResourceSession().getIndexCache(),
                                  pageRtx,
                                  indexDef.getType(),
                                  indexDef.getID());
 
-    if (filter.getIncludes().size() == 1 && filter.getExcludes().isEmpty()) {
+    if (filter.getIncludes().size() == 1 && filter.getExcludes().isEmpty() && filter.getMode() == SearchMode.EQUAL) {
       final Optional<NodeReferences> optionalNodeReferences =
           reader.get(filter.getIncludes().iterator().next(), SearchMode.EQUAL);
       return Iterators.forArray(optionalNodeReferences.orElse(new NodeReferences()));
@@ -39,4 +48,26 @@ public interface NameIndex<B, L extends ChangeListener> {
       return new IndexFilterAxis<>(reader, iter, setFilter);
     }
   }
+
+  private Iterator<NodeReferences> openBPlusTreeIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, NameFilter filter) {
+    final BPlusTreeReader<QNm> reader = BPlusTreeReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID());
+
+    if (filter.getIncludes().size() != 1 || !filter.getExcludes().isEmpty()) {
+      return new BPlusTreeFilterAxis<>(reader.iterator(), ImmutableSet.of(filter));
+    }
+
+    final QNm name = filter.getIncludes().iterator().next();
+
+    if (filter.getMode() == SearchMode.EQUAL) {
+      return Iterators.forArray(reader.get(name).orElse(new NodeReferences()));
+    }
+
+    // The local names starting with the prefix are adjacent and not smaller than the prefix, thus the
+    // scan seeks to the prefix and stops at the first local name without it.
+    final String prefix = name.getLocalName();
+
+    return new BPlusTreeFilterAxis<>(reader.iterator(name, Comparator.naturalOrder()),
+                                     ImmutableSet.of(filter),
+                                     key -> key.getLocalName().startsWith(prefix));
+  }
 }
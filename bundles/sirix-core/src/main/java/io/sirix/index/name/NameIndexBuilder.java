@@ -1,9 +1,8 @@
 package io.sirix.index.name;
 
 import io.sirix.api.visitor.VisitResultType;
-import io.sirix.index.SearchMode;
 import io.sirix.exception.SirixIOException;
-import io.sirix.index.redblacktree.RBTreeReader;
+import io.sirix.index.IndexEntrySink;
 import io.sirix.index.redblacktree.RBTreeWriter;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 import io.sirix.utils.LogWrapper;
@@ -11,7 +10,6 @@ import io.brackit.query.atomic.QNm;
 import io.sirix.node.interfaces.immutable.ImmutableNode;
 import org.slf4j.LoggerFactory;
 
-import java.util.Optional;
 import java.util.Set;
 
 public final class NameIndexBuilder {
@@ -19,13 +17,18 @@ public final class NameIndexBuilder {
 
   public Set<QNm> includes;
   public Set<QNm> excludes;
-  public RBTreeWriter<QNm, NodeReferences> indexWriter;
+  public IndexEntrySink<QNm> indexEntrySink;
 
   public NameIndexBuilder(final Set<QNm> includes, final Set<QNm> excludes,
       final RBTreeWriter<QNm, NodeReferences> indexWriter) {
+    this(includes, excludes, IndexEntrySink.of(indexWriter));
+  }
+
+  public NameIndexBuilder(final Set<QNm> includes, final Set<QNm> excludes,
+      final IndexEntrySink<QNm> indexEntrySink) {
     this.includes = includes;
     this.excludes = excludes;
-    this.indexWriter = indexWriter;
+    this.indexEntrySink = indexEntrySink;
   }
 
   public VisitResultType build(QNm name, ImmutableNode node) {
@@ -36,19 +39,12 @@ public final class NameIndexBuilder {
       return VisitResultType.CONTINUE;
     }
 
-    final Optional<NodeReferences> textReferences = indexWriter.get(name, SearchMode.EQUAL);
-
     try {
-      textReferences.ifPresentOrElse(nodeReferences -> setNodeReferences(node, nodeReferences, name),
-          () -> setNodeReferences(node, new NodeReferences(), name));
+      indexEntrySink.add(name, node.getNodeKey());
     } catch (final SirixIOException e) {
       LOGGER.error(e.getMessage(), e);
     }
 
     return VisitResultType.CONTINUE;
   }
-
-  private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final QNm name) {
-    indexWriter.index(name, references.addNodeKey(node.getNodeKey()), RBTreeReader.MoveCursor.NO_MOVE);
-  }
 }
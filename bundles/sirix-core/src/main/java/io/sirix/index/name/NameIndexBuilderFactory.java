@@ -5,9 +5,9 @@ import static java.util.Objects.requireNonNull;
 import io.sirix.access.DatabaseType;
 import io.sirix.api.PageTrx;
 import io.sirix.index.IndexDef;
+import io.sirix.index.IndexEntrySink;
 import io.sirix.index.IndexType;
-import io.sirix.index.redblacktree.RBTreeWriter;
-import io.sirix.index.redblacktree.keyvalue.NodeReferences;
+import io.sirix.index.IndexWriter;
 import io.brackit.query.atomic.QNm;
 
 public final class NameIndexBuilderFactory {
@@ -22,13 +22,16 @@ public final class NameIndexBuilderFactory {
     final var includes = requireNonNull(indexDefinition.getIncluded());
     final var excludes = requireNonNull(indexDefinition.getExcluded());
     assert indexDefinition.getType() == IndexType.NAME;
-    final var rbTreeWriter = RBTreeWriter.<QNm, NodeReferences>getInstance(
-            this.databaseType,
-            pageTrx,
-            indexDefinition.getType(),
-            indexDefinition.getID()
-    );
-
-    return new NameIndexBuilder(includes, excludes, rbTreeWriter);
+    final var indexWriter = IndexWriter.<QNm>getInstance(this.databaseType, pageTrx, indexDefinition);
+
+    return new NameIndexBuilder(includes, excludes, indexWriter);
+  }
+
+  public NameIndexBuilder create(final IndexDef indexDefinition, final IndexEntrySink<QNm> indexEntrySink) {
+    final var includes = requireNonNull(indexDefinition.getIncluded());
+    final var excludes = requireNonNull(indexDefinition.getExcluded());
+    assert indexDefinition.getType() == IndexType.NAME;
+
+    return new NameIndexBuilder(includes, excludes, requireNonNull(indexEntrySink));
   }
 }
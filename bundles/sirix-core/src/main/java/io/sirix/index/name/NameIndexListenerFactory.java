@@ -6,8 +6,7 @@ import io.sirix.access.DatabaseType;
 import io.sirix.api.PageTrx;
 import io.sirix.index.IndexDef;
 import io.sirix.index.IndexType;
-import io.sirix.index.redblacktree.RBTreeWriter;
-import io.sirix.index.redblacktree.keyvalue.NodeReferences;
+import io.sirix.index.IndexWriter;
 import io.brackit.query.atomic.QNm;
 
 public final class NameIndexListenerFactory {
@@ -23,13 +22,8 @@ public final class NameIndexListenerFactory {
     final var includes = requireNonNull(indexDefinition.getIncluded());
     final var excludes = requireNonNull(indexDefinition.getExcluded());
     assert indexDefinition.getType() == IndexType.NAME;
-    final var avlTreeWriter = RBTreeWriter.<QNm, NodeReferences>getInstance(
-            this.databaseType,
-            pageWriteTrx,
-            indexDefinition.getType(),
-            indexDefinition.getID()
-    );
+    final var indexWriter = IndexWriter.<QNm>getInstance(this.databaseType, pageWriteTrx, indexDefinition);
 
-    return new NameIndexListener(includes, excludes, avlTreeWriter);
+    return new NameIndexListener(includes, excludes, indexWriter);
   }
 }
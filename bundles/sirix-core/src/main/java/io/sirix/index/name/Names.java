@@ -254,6 +254,21 @@ public final class Names {
     return nameMap.get(key);
   }
 
+  /**
+   * Get the estimated number of bytes of this instance on the heap.
+   *
+   * @return the estimated number of bytes
+   */
+  public long getEstimatedSize() {
+    // Keys and values of the three open hash maps, which are filled up to the default load factor of 0.75.
+    final long bytesPerName = (3L * Integer.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES) * 4 / 3;
+    long size = 128 + nameMap.size() * bytesPerName;
+    for (final byte[] name : nameMap.values()) {
+      size += 16 + name.length;
+    }
+    return size;
+  }
+
   /**
    * Get a new instance.
    *
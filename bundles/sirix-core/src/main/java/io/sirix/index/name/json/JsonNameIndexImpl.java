@@ -2,9 +2,11 @@ package io.sirix.index.name.json;
 
 import io.sirix.access.DatabaseType;
 import io.sirix.index.IndexDef;
+import io.sirix.index.IndexEntrySink;
 import io.sirix.api.PageTrx;
 import io.sirix.index.name.NameIndexBuilderFactory;
 import io.sirix.index.name.NameIndexListenerFactory;
+import io.brackit.query.atomic.QNm;
 
 public final class JsonNameIndexImpl implements JsonNameIndex {
 
@@ -24,6 +26,12 @@ public final class JsonNameIndexImpl implements JsonNameIndex {
     return new JsonNameIndexBuilder(nameIndexBuilderDelegate);
   }
 
+  @Override
+  public JsonNameIndexBuilder createBuilder(final IndexDef indexDef, final IndexEntrySink<QNm> indexEntrySink) {
+    final var nameIndexBuilderDelegate = nameIndexBuilderFactory.create(indexDef, indexEntrySink);
+    return new JsonNameIndexBuilder(nameIndexBuilderDelegate);
+  }
+
   @Override
   public JsonNameIndexListener createListener(final PageTrx pageWriteTrx,
       final IndexDef indexDef) {
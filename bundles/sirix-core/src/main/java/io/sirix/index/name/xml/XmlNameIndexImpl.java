@@ -3,8 +3,10 @@ package io.sirix.index.name.xml;
 import io.sirix.access.DatabaseType;
 import io.sirix.api.PageTrx;
 import io.sirix.index.IndexDef;
+import io.sirix.index.IndexEntrySink;
 import io.sirix.index.name.NameIndexBuilderFactory;
 import io.sirix.index.name.NameIndexListenerFactory;
+import io.brackit.query.atomic.QNm;
 
 public final class XmlNameIndexImpl implements XmlNameIndex {
 
@@ -24,6 +26,12 @@ public final class XmlNameIndexImpl implements XmlNameIndex {
     return new XmlNameIndexBuilder(nameIndexBuilderDelegate);
   }
 
+  @Override
+  public XmlNameIndexBuilder createBuilder(final IndexDef indexDef, final IndexEntrySink<QNm> indexEntrySink) {
+    final var nameIndexBuilderDelegate = nameIndexBuilderFactory.create(indexDef, indexEntrySink);
+    return new XmlNameIndexBuilder(nameIndexBuilderDelegate);
+  }
+
   @Override
   public XmlNameIndexListener createListener(final PageTrx pageWriteTrx,
       final IndexDef indexDef) {
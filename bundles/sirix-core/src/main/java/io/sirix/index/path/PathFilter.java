@@ -1,7 +1,6 @@
 package io.sirix.index.path;
 
 import io.sirix.index.Filter;
-import io.sirix.index.redblacktree.RBNodeKey;
 import io.brackit.query.atomic.QNm;
 import io.brackit.query.util.path.Path;
 import io.sirix.index.path.summary.PathSummaryReader;
@@ -60,19 +59,17 @@ public final class PathFilter implements Filter {
   }
 
   /**
-   * Filter the node.
+   * Filter the key.
    *
-   * @param node node to filter
+   * @param key key to filter
    * @return {@code true} if the node has been filtered, {@code false} otherwise
    */
   @Override
-  public <K extends Comparable<? super K>> boolean filter(final RBNodeKey<K> node) {
+  public <K extends Comparable<? super K>> boolean filter(final K key) {
     if (genericPath) {
       return true;
     }
 
-    final K key = node.getKey();
-
     long pcr;
     if (key instanceof Long)
       pcr = (Long) key;
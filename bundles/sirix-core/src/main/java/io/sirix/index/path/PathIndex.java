@@ -3,6 +3,8 @@ package io.sirix.index.path;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterators;
 import io.sirix.index.*;
+import io.sirix.index.bplustree.BPlusTreeFilterAxis;
+import io.sirix.index.bplustree.BPlusTreeReader;
 import io.sirix.index.redblacktree.RBNodeKey;
 import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.api.PageTrx;
@@ -18,10 +20,16 @@ import java.util.Set;
 public interface PathIndex<B, L extends ChangeListener> {
   B createBuilder(PageTrx pageTrx, PathSummaryReader pathSummaryReader, IndexDef indexDef);
 
+  B createBuilder(PathSummaryReader pathSummaryReader, IndexDef indexDef, IndexEntrySink<Long> indexEntrySink);
+
   L createListener(PageTrx pageTrx, PathSummaryReader pathSummaryReader, IndexDef indexDef);
 
   default Iterator<NodeReferences> openIndex(final PageReadOnlyTrx pageRtx, final IndexDef indexDef,
       final PathFilter filter) {
+    if (indexDef.getStructure() == IndexStructure.BPLUS_TREE) {
+      return openBPlusTreeIndex(pageRtx, indexDef, filter);
+    }
+
     final RBTreeReader<Long, NodeReferences> reader =
         RBTreeReader.getInstance(pageRtx.getResourceSession().getIndexCache(),
                                  pageRtx,
@@ -40,4 +48,17 @@ public interface PathIndex<B, L extends ChangeListener> {
       return new IndexFilterAxis<>(reader, iter, setFilter);
     }
   }
+
+  private Iterator<NodeReferences> openBPlusTreeIndex(final PageReadOnlyTrx pageRtx, final IndexDef indexDef,
+      final PathFilter filter) {
+    final BPlusTreeReader<Long> reader = BPlusTreeReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID());
+
+    if (filter != null && filter.getPCRs().size() == 1) {
+      return Iterators.forArray(reader.get(filter.getPCRs().iterator().next()).orElse(new NodeReferences()));
+    } else {
+      final Set<Filter> setFilter = filter == null ? ImmutableSet.of() : ImmutableSet.of(filter);
+
+      return new BPlusTreeFilterAxis<>(reader.iterator(), setFilter);
+    }
+  }
 }
@@ -2,20 +2,18 @@ package io.sirix.index.path;
 
 import io.sirix.api.visitor.VisitResult;
 import io.sirix.api.visitor.VisitResultType;
-import io.sirix.index.SearchMode;
+import io.sirix.index.IndexEntrySink;
 import io.brackit.query.atomic.QNm;
 import io.brackit.query.util.path.Path;
 import io.brackit.query.util.path.PathException;
 import io.sirix.exception.SirixIOException;
 import io.sirix.index.path.summary.PathSummaryReader;
-import io.sirix.index.redblacktree.RBTreeReader.MoveCursor;
 import io.sirix.index.redblacktree.RBTreeWriter;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 import io.sirix.node.interfaces.immutable.ImmutableNode;
 import io.sirix.utils.LogWrapper;
 import org.slf4j.LoggerFactory;
 
-import java.util.Optional;
 import java.util.Set;
 
 public final class PathIndexBuilder {
@@ -26,25 +24,25 @@ public final class PathIndexBuilder {
 
   private final PathSummaryReader pathSummaryReader;
 
-  private final RBTreeWriter<Long, NodeReferences> indexWriter;
+  private final IndexEntrySink<Long> indexEntrySink;
 
   public PathIndexBuilder(final RBTreeWriter<Long, NodeReferences> indexWriter,
       final PathSummaryReader pathSummaryReader, final Set<Path<QNm>> paths) {
+    this(IndexEntrySink.of(indexWriter), pathSummaryReader, paths);
+  }
+
+  public PathIndexBuilder(final IndexEntrySink<Long> indexEntrySink, final PathSummaryReader pathSummaryReader,
+      final Set<Path<QNm>> paths) {
     this.pathSummaryReader = pathSummaryReader;
     this.paths = paths;
-    this.indexWriter = indexWriter;
+    this.indexEntrySink = indexEntrySink;
   }
 
   public VisitResult process(final ImmutableNode node, final long pathNodeKey) {
     try {
       final long PCR = pathNodeKey;
       if (pathSummaryReader.getPCRsForPaths(paths).contains(PCR) || paths.isEmpty()) {
-        final Optional<NodeReferences> textReferences = indexWriter.get(PCR, SearchMode.EQUAL);
-        if (textReferences.isPresent()) {
-          setNodeReferences(node, textReferences.get(), PCR);
-        } else {
-          setNodeReferences(node, new NodeReferences(), PCR);
-        }
+        indexEntrySink.add(PCR, node.getNodeKey());
       }
     } catch (final PathException | SirixIOException e) {
       LOGGER.error(e.getMessage(), e);
@@ -52,9 +50,4 @@ public final class PathIndexBuilder {
     return VisitResultType.CONTINUE;
   }
 
-  private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final long pathNodeKey)
-      throws SirixIOException {
-    indexWriter.index(pathNodeKey, references.addNodeKey(node.getNodeKey()), MoveCursor.NO_MOVE);
-  }
-
 }
@@ -4,11 +4,11 @@ import static java.util.Objects.requireNonNull;
 
 import io.sirix.access.DatabaseType;
 import io.sirix.index.IndexDef;
+import io.sirix.index.IndexEntrySink;
+import io.sirix.index.IndexWriter;
 import io.sirix.index.IndexType;
 import io.sirix.api.PageTrx;
 import io.sirix.index.path.summary.PathSummaryReader;
-import io.sirix.index.redblacktree.RBTreeWriter;
-import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 
 
 public final class PathIndexBuilderFactory {
@@ -24,9 +24,17 @@ public final class PathIndexBuilderFactory {
     final var pathSummary = requireNonNull(pathSummaryReader);
     final var paths = requireNonNull(indexDef.getPaths());
     assert indexDef.getType() == IndexType.PATH;
-    final var rbTreeWriter = RBTreeWriter.<Long, NodeReferences>getInstance(
-            this.databaseType, pageTrx, indexDef.getType(), indexDef.getID());
+    final var indexWriter = IndexWriter.<Long>getInstance(this.databaseType, pageTrx, indexDef);
 
-    return new PathIndexBuilder(rbTreeWriter, pathSummary, paths);
+    return new PathIndexBuilder(indexWriter, pathSummary, paths);
+  }
+
+  public PathIndexBuilder create(final PathSummaryReader pathSummaryReader, final IndexDef indexDef,
+      final IndexEntrySink<Long> indexEntrySink) {
+    final var pathSummary = requireNonNull(pathSummaryReader);
+    final var paths = requireNonNull(indexDef.getPaths());
+    assert indexDef.getType() == IndexType.PATH;
+
+    return new PathIndexBuilder(requireNonNull(indexEntrySink), pathSummary, paths);
   }
 }
@@ -4,10 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import io.sirix.access.DatabaseType;
 import io.sirix.index.IndexDef;
+import io.sirix.index.IndexWriter;
 import io.sirix.api.PageTrx;
 import io.sirix.index.path.summary.PathSummaryReader;
-import io.sirix.index.redblacktree.RBTreeWriter;
-import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 
 public final class PathIndexListenerFactory {
 
@@ -21,11 +20,8 @@ public final class PathIndexListenerFactory {
       final IndexDef indexDef) {
     final var pathSummary = requireNonNull(pathSummaryReader);
     final var paths = requireNonNull(indexDef.getPaths());
-    final var avlTreeWriter = RBTreeWriter.<Long, NodeReferences>getInstance(this.databaseType,
-                                                                             pageTrx,
-                                                                             indexDef.getType(),
-                                                                             indexDef.getID());
+    final var indexWriter = IndexWriter.<Long>getInstance(this.databaseType, pageTrx, indexDef);
 
-    return new PathIndexListener(paths, pathSummary, avlTreeWriter);
+    return new PathIndexListener(paths, pathSummary, indexWriter);
   }
 }
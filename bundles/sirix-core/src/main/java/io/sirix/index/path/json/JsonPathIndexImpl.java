@@ -3,6 +3,7 @@ package io.sirix.index.path.json;
 import io.sirix.access.DatabaseType;
 import io.sirix.api.PageTrx;
 import io.sirix.index.IndexDef;
+import io.sirix.index.IndexEntrySink;
 import io.sirix.index.path.PathIndexBuilderFactory;
 import io.sirix.index.path.PathIndexListenerFactory;
 import io.sirix.index.path.summary.PathSummaryReader;
@@ -25,6 +26,13 @@ public final class JsonPathIndexImpl implements JsonPathIndex {
     return new JsonPathIndexBuilder(indexBuilderDelegate);
   }
 
+  @Override
+  public JsonPathIndexBuilder createBuilder(final PathSummaryReader pathSummaryReader, final IndexDef indexDef,
+      final IndexEntrySink<Long> indexEntrySink) {
+    final var indexBuilderDelegate = pathIndexBuilderFactory.create(pathSummaryReader, indexDef, indexEntrySink);
+    return new JsonPathIndexBuilder(indexBuilderDelegate);
+  }
+
   @Override
   public JsonPathIndexListener createListener(final PageTrx pageTrx,
       final PathSummaryReader pathSummaryReader, final IndexDef indexDef) {
@@ -96,6 +96,40 @@ public final class PathNode extends AbstractStructForwardingNode implements Name
     this.level = level;
   }
 
+  /**
+   * Copy constructor. The in-memory links to other path nodes aren't copied.
+   *
+   * @param pathNode the path node to copy
+   */
+  public PathNode(final PathNode pathNode) {
+    final NodeDelegate otherNodeDel = pathNode.nodeDel;
+    nodeDel = new NodeDelegate(otherNodeDel.getNodeKey(),
+                               otherNodeDel.getParentKey(),
+                               otherNodeDel.getHashFunction(),
+                               otherNodeDel.getPreviousRevisionNumber(),
+                               otherNodeDel.getLastModifiedRevisionNumber(),
+                               otherNodeDel.getDeweyIDAsBytes());
+    final StructNodeDelegate otherStructNodeDel = pathNode.structNodeDel;
+    structNodeDel = new StructNodeDelegate(nodeDel,
+                                           otherStructNodeDel.getFirstChildKey(),
+                                           otherStructNodeDel.getLastChildKey(),
+                                           otherStructNodeDel.getRightSiblingKey(),
+                                           otherStructNodeDel.getLeftSiblingKey(),
+                                           otherStructNodeDel.getChildCount(),
+                                           otherStructNodeDel.getDescendantCount());
+    final NameNodeDelegate otherNameNodeDel = pathNode.nameNodeDel;
+    nameNodeDel = new NameNodeDelegate(nodeDel,
+                                       otherNameNodeDel.getURIKey(),
+                                       otherNameNodeDel.getPrefixKey(),
+                                       otherNameNodeDel.getLocalNameKey(),
+                                       otherNameNodeDel.getPathNodeKey());
+    name = pathNode.name;
+    kind = pathNode.kind;
+    references = pathNode.references;
+    level = pathNode.level;
+    path = pathNode.path;
+  }
+
   /**
    * Get the path up to the root path node.
    *
@@ -33,6 +33,7 @@ import io.brackit.query.atomic.QNm;
 import io.brackit.query.util.path.Path;
 import io.brackit.query.util.path.PathException;
 import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import io.sirix.axis.filter.FilterAxis;
 import io.sirix.axis.filter.PathNameFilter;
 import io.sirix.node.xml.XmlDocumentRootNode;
@@ -80,6 +81,23 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
    */
   private final Map<QNm, Set<PathNode>> qnmMapping;
 
+  /**
+   * The names, whose sets of path nodes are still shared with the path summary of the revision the
+   * transaction is based on, or {@code null}, if nothing is shared.
+   */
+  private final Set<QNm> sharedQNameMappings;
+
+  /**
+   * Determines if a path node has been renamed, which changes the paths of its descendants.
+   */
+  private boolean hasRenamedPathNode;
+
+  /**
+   * Determines if the in-memory links of the path nodes can be followed. Once a path node has been changed by the
+   * transaction, the unchanged path nodes might still link to a previous instance of it.
+   */
+  private boolean areInMemoryLinksValid = true;
+
   /**
    * The path cache.
    */
@@ -101,9 +119,17 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
     this.resourceSession = resourceSession;
 
     final Cache<Integer, PathSummaryData> pathSummaryCache = pageReadTrx.getBufferManager().getPathSummaryCache();
-    final PathSummaryData pathSummaryData = pathSummaryCache.get(pageReadTrx.getRevisionNumber());
+    final PathSummaryData pathSummaryData;
+    if (pageReadTrx.hasTrxIntentLog()) {
+      // The path summary of the revision to write is derived from the path summary of the revision it's based on.
+      pathSummaryData = pageReadTrx instanceof PageTrx pageTrx
+          ? pathSummaryCache.get(pageTrx.getRevisionToRepresent())
+          : null;
+    } else {
+      pathSummaryData = pathSummaryCache.get(pageReadTrx.getRevisionNumber());
+    }
 
-    if (pathSummaryData == null || pageReadTrx.hasTrxIntentLog()) {
+    if (pathSummaryData == null) {
       currentNode =
           this.pageReadTrx.getRecord(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), IndexType.PATH_SUMMARY, 0);
 
@@ -136,10 +162,19 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
         pathSummaryCache.put(pageReadTrx.getRevisionNumber(),
                              new PathSummaryData(currentNode, pathNodeMapping, qnmMapping));
       }
+      sharedQNameMappings = null;
+    } else if (pageReadTrx.hasTrxIntentLog()) {
+      // Copy-on-write: the path nodes and the sets of the QName mapping are shared until they are modified.
+      currentNode =
+          this.pageReadTrx.getRecord(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), IndexType.PATH_SUMMARY, 0);
+      pathNodeMapping = new IntToObjectMap<>(pathSummaryData.pathNodeMapping());
+      qnmMapping = new HashMap<>(pathSummaryData.qnmMapping());
+      sharedQNameMappings = new HashSet<>(qnmMapping.keySet());
     } else {
       currentNode = pathSummaryData.currentNode();
       pathNodeMapping = pathSummaryData.pathNodeMapping();
       qnmMapping = pathSummaryData.qnmMapping();
+      sharedQNameMappings = null;
     }
 
     init = false;
@@ -174,31 +209,111 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
 
   // package private, only used in writer to keep the mapping always up-to-date
   void putMapping(final @NonNegative long pathNodeKey, final StructNode node) {
+    areInMemoryLinksValid = false;
     pathNodeMapping.put((int) pathNodeKey, node);
   }
 
   // package private, only used in writer to keep the mapping always up-to-date
   StructNode removeMapping(final @NonNegative long pathNodeKey) {
+    areInMemoryLinksValid = false;
     return pathNodeMapping.remove((int) pathNodeKey);
   }
 
   // package private, only used in writer to keep the mapping always up-to-date
   void putQNameMapping(final PathNode node, final QNm name) {
-    final Set<PathNode> pathNodes = qnmMapping.computeIfAbsent(this.getName(), (unused) -> new HashSet<>());
+    final Set<PathNode> pathNodes = getPathNodesForModification(name);
+    // Replace a previous instance of the path node.
+    pathNodes.removeIf(pathNode -> pathNode.getNodeKey() == node.getNodeKey());
     pathNodes.add(node);
-    qnmMapping.put(name, pathNodes);
   }
 
   // package private, only used in writer to keep the mapping always up-to-date
   void removeQNameMapping(final @NonNegative PathNode node, final QNm name) {
-    final Set<PathNode> pathNodes = qnmMapping.computeIfAbsent(this.getName(), (unused) -> new HashSet<>());
+    final Set<PathNode> pathNodes = qnmMapping.get(name);
+    if (pathNodes == null) {
+      return;
+    }
     if (pathNodes.size() == 1) {
       qnmMapping.remove(name);
     } else {
-      pathNodes.remove(node);
+      getPathNodesForModification(name).removeIf(pathNode -> pathNode.getNodeKey() == node.getNodeKey());
     }
   }
 
+  // package private, only used in writer, as the paths of the descendants of a renamed path node change
+  void setRenamedPathNode() {
+    hasRenamedPathNode = true;
+  }
+
+  /**
+   * Get the set of path nodes with the given name, which is copied first, if it's shared with the
+   * path summary of the revision the transaction is based on.
+   *
+   * @param name the name
+   * @return the set of path nodes, which may be modified
+   */
+  private Set<PathNode> getPathNodesForModification(final QNm name) {
+    final Set<PathNode> pathNodes = qnmMapping.get(name);
+    if (pathNodes == null) {
+      final Set<PathNode> newPathNodes = new HashSet<>();
+      qnmMapping.put(name, newPathNodes);
+      return newPathNodes;
+    }
+    if (sharedQNameMappings != null && sharedQNameMappings.remove(name)) {
+      final Set<PathNode> copiedPathNodes = new HashSet<>(pathNodes);
+      qnmMapping.put(name, copiedPathNodes);
+      return copiedPathNodes;
+    }
+    return pathNodes;
+  }
+
+  /**
+   * Get the in-memory path summary of the revision, which is written by the transaction, such that
+   * it can be shared with the readers of the revision and the next transaction, once the revision is
+   * committed, instead of reading the whole path summary again. The path nodes are copied and linked,
+   * as the path nodes of the transaction are shared with the path summary of the revision it's based
+   * on, which must not be changed.
+   *
+   * @return the in-memory path summary or {@code null}, if a path node has been renamed, such that
+   * the cached paths of the unchanged descendants aren't valid anymore
+   */
+  public @Nullable PathSummaryData getPathSummaryData() {
+    assertNotClosed();
+    if (hasRenamedPathNode) {
+      return null;
+    }
+
+    final IntToObjectMap<StructNode> copiedPathNodeMapping = new IntToObjectMap<>(pathNodeMapping.size());
+    for (final StructNode node : pathNodeMapping) {
+      final PathNode pathNode = (PathNode) node;
+      copiedPathNodeMapping.put((int) pathNode.getNodeKey(), new PathNode(pathNode));
+    }
+
+    for (final StructNode node : copiedPathNodeMapping) {
+      final PathNode pathNode = (PathNode) node;
+      pathNode.setParent((PathNode) copiedPathNodeMapping.get((int) pathNode.getParentKey()));
+      pathNode.setFirstChild((PathNode) copiedPathNodeMapping.get((int) pathNode.getFirstChildKey()));
+      pathNode.setLeftSibling((PathNode) copiedPathNodeMapping.get((int) pathNode.getLeftSiblingKey()));
+      pathNode.setRightSibling((PathNode) copiedPathNodeMapping.get((int) pathNode.getRightSiblingKey()));
+    }
+
+    final Map<QNm, Set<PathNode>> copiedQnmMapping = new HashMap<>(qnmMapping.size());
+    for (final Map.Entry<QNm, Set<PathNode>> entry : qnmMapping.entrySet()) {
+      final Set<PathNode> copiedPathNodes = new HashSet<>(entry.getValue().size());
+      for (final PathNode pathNode : entry.getValue()) {
+        // The set might still hold a previous instance of a changed path node.
+        if (copiedPathNodeMapping.get((int) pathNode.getNodeKey()) instanceof PathNode copiedPathNode) {
+          copiedPathNodes.add(copiedPathNode);
+        }
+      }
+      copiedQnmMapping.put(entry.getKey(), copiedPathNodes);
+    }
+
+    final StructNode documentRoot =
+        pageReadTrx.getRecord(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), IndexType.PATH_SUMMARY, 0);
+    return new PathSummaryData(documentRoot, copiedPathNodeMapping, copiedQnmMapping);
+  }
+
   /**
    * Match all descendants of the node denoted by its {@code pathNodeKey} with the given {@code name}.
    *
@@ -435,7 +550,7 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
       return false;
     }
     final var node = getStructuralNode();
-    if (node instanceof PathNode pathNode && pathNode.getParent() != null) {
+    if (areInMemoryLinksValid && node instanceof PathNode pathNode && pathNode.getParent() != null) {
       currentNode = pathNode.getParent();
       return true;
     }
@@ -449,7 +564,7 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
       return false;
     }
     final var node = getStructuralNode();
-    if (node instanceof PathNode pathNode && pathNode.getFirstChild() != null) {
+    if (areInMemoryLinksValid && node instanceof PathNode pathNode && pathNode.getFirstChild() != null) {
       currentNode = pathNode.getFirstChild();
       return true;
     }
@@ -463,7 +578,7 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
       return false;
     }
     final var node = getStructuralNode();
-    if (node instanceof PathNode pathNode && pathNode.getLeftSibling() != null) {
+    if (areInMemoryLinksValid && node instanceof PathNode pathNode && pathNode.getLeftSibling() != null) {
       currentNode = pathNode.getLeftSibling();
       return true;
     }
@@ -477,7 +592,7 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
       return false;
     }
     final var node = getStructuralNode();
-    if (node instanceof PathNode pathNode && pathNode.getRightSibling() != null) {
+    if (areInMemoryLinksValid && node instanceof PathNode pathNode && pathNode.getRightSibling() != null) {
       currentNode = pathNode.getRightSibling();
       return true;
     }
@@ -647,7 +762,9 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
         return null;
       }
     }
-    final Path<QNm> pathFromNode = node.getPath();
+    // The path nodes, which are shared with the path summary of another revision, might get renamed ancestors.
+    final boolean isShared = sharedQNameMappings != null;
+    final Path<QNm> pathFromNode = isShared ? null : node.getPath();
     if (pathFromNode != null) {
       return pathFromNode;
     }
@@ -675,7 +792,9 @@ public final class PathSummaryReader implements NodeReadOnlyTrx, NodeCursor {
     }
     moveTo(nodeKey);
     assert currNode != null;
-    currNode.setPath(path);
+    if (!isShared) {
+      currNode.setPath(path);
+    }
     return path;
   }
 
@@ -288,6 +288,7 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
         } else {
           /* The path summary just needs to be updated for the new renamed node. */
           pathSummaryReader.moveTo(oldPathNodeKey);
+          final QNm oldName = pathSummaryReader.getName();
           final PathNode pathNode =
               pageTrx.prepareRecordForModification(pathSummaryReader.getNodeKey(), IndexType.PATH_SUMMARY, 0);
           pathNode.setPrefixKey(prefixKey);
@@ -295,7 +296,9 @@ public final class PathSummaryWriter<R extends NodeCursor & NodeReadOnlyTrx>
           pathNode.setURIKey(uriKey);
           pathNode.setName(name);
           pathSummaryReader.putMapping(pathNode.getNodeKey(), pathNode);
+          pathSummaryReader.removeQNameMapping(pathNode, oldName);
           pathSummaryReader.putQNameMapping(pathNode, name);
+          pathSummaryReader.setRenamedPathNode();
         }
       }
     } else {
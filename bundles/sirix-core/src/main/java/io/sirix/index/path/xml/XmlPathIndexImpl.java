@@ -2,6 +2,7 @@ package io.sirix.index.path.xml;
 
 import io.sirix.access.DatabaseType;
 import io.sirix.index.IndexDef;
+import io.sirix.index.IndexEntrySink;
 import io.sirix.api.PageTrx;
 import io.sirix.index.path.PathIndexBuilderFactory;
 import io.sirix.index.path.PathIndexListenerFactory;
@@ -25,6 +26,13 @@ public final class XmlPathIndexImpl implements XmlPathIndex {
     return new XmlPathIndexBuilder(builderDelegate);
   }
 
+  @Override
+  public XmlPathIndexBuilder createBuilder(final PathSummaryReader pathSummaryReader, final IndexDef indexDef,
+      final IndexEntrySink<Long> indexEntrySink) {
+    final var indexBuilderDelegate = pathIndexBuilderFactory.create(pathSummaryReader, indexDef, indexEntrySink);
+    return new XmlPathIndexBuilder(indexBuilderDelegate);
+  }
+
   @Override
   public XmlPathIndexListener createListener(final PageTrx pageTrx,
       final PathSummaryReader pathSummaryReader, final IndexDef indexDef) {
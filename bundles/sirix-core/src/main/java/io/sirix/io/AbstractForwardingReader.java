@@ -8,6 +8,7 @@ import io.sirix.page.interfaces.Page;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -31,6 +32,11 @@ public abstract class AbstractForwardingReader extends ForwardingObject implemen
     return delegate().readAsync(reference, pageReadTrx);
   }
 
+  @Override
+  public List<Page> readAll(List<PageReference> references, @Nullable PageReadOnlyTrx pageReadTrx) {
+    return delegate().readAll(references, pageReadTrx);
+  }
+
   @Override
   public PageReference readUberPageReference() {
     return delegate().readUberPageReference();
@@ -2,6 +2,8 @@ package io.sirix.io;
 
 import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.io.bytepipe.ByteHandler;
+import io.sirix.io.bytepipe.ScratchBuffers;
+import io.sirix.metrics.SirixMetrics;
 import io.sirix.page.PagePersister;
 import io.sirix.page.PageReference;
 import io.sirix.page.SerializationType;
@@ -9,10 +11,22 @@ import io.sirix.page.UberPage;
 import io.sirix.page.interfaces.Page;
 import net.openhft.chronicle.bytes.Bytes;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 
 public abstract class AbstractReader implements Reader {
+  /**
+   * The number of bytes, which are read from the start of a page, when reading a batch of pages from
+   * a file channel. Smaller pages are read with a single read, and pages, which start within the bytes
+   * read for another page, are read without any further read.
+   */
+  private static final int BATCH_READ_SIZE = 1 << 14;
+
   protected final ByteHandler byteHandler;
 
   /**
@@ -32,9 +46,143 @@ public abstract class AbstractReader implements Reader {
   }
 
   public Page deserialize(PageReadOnlyTrx pageReadTrx, byte[] page) throws IOException {
-    // perform byte operations
-    final var inputStream = byteHandler.deserialize(new ByteArrayInputStream(page));
-    return pagePersister.deserializePage(pageReadTrx, Bytes.wrapForRead(inputStream.readAllBytes()), type);
+    return deserialize(pageReadTrx, ByteBuffer.wrap(page));
+  }
+
+  /**
+   * Deserialize a page from the bytes between the position and the limit of a buffer. The bytes are
+   * not copied if no byte handler has to be applied, otherwise they are deserialized into the scratch
+   * buffers of the current thread.
+   *
+   * @param pageReadTrx the page read-only trx
+   * @param page        the serialized page
+   * @return the deserialized page
+   * @throws IOException if the page can't be deserialized
+   */
+  public Page deserialize(PageReadOnlyTrx pageReadTrx, ByteBuffer page) throws IOException {
+    final ByteBuffer buffer = applyByteHandler(pageReadTrx, page);
+    return pagePersister.deserializePage(pageReadTrx, Bytes.wrapForRead(buffer), type);
+  }
+
+  /**
+   * Deserialize a page from memory, which stays valid as long as it's reachable, e.g. a memory-mapped
+   * file with an automatic scope. If no byte handler has to be applied, pages may reference the memory
+   * instead of copying from it.
+   *
+   * @param pageReadTrx the page read-only trx
+   * @param page        the memory of the serialized page
+   * @return the deserialized page
+   * @throws IOException if the page can't be deserialized
+   */
+  public Page deserialize(PageReadOnlyTrx pageReadTrx, MemorySegment page) throws IOException {
+    final ByteBuffer pageBuffer = page.asByteBuffer();
+    final ByteBuffer buffer = applyByteHandler(pageReadTrx, pageBuffer);
+    // Byte handlers return the very same buffer, if no byte operation has been performed.
+    final MemorySegment sourceMemory = buffer == pageBuffer ? page : null;
+    return pagePersister.deserializePage(pageReadTrx, Bytes.wrapForRead(buffer), sourceMemory, type);
+  }
+
+  /**
+   * Perform the byte operations of the byte handler on a serialized page and record the number of
+   * bytes read and the time of the byte operations.
+   *
+   * @param pageReadTrx the page read-only trx (or {@code null} for the uber page)
+   * @param page        the serialized page
+   * @return the buffer, from which the page can be deserialized
+   * @throws IOException if the byte operations fail
+   */
+  private ByteBuffer applyByteHandler(PageReadOnlyTrx pageReadTrx, ByteBuffer page) throws IOException {
+    final SirixMetrics metrics = SirixMetrics.get();
+    if (pageReadTrx != null) {
+      metrics.bytesRead(pageReadTrx.getResourceSession().getResourceConfig().storageType).increment(page.remaining());
+    }
+    final long start = System.nanoTime();
+    final ByteBuffer buffer = byteHandler.deserialize(page);
+    metrics.decompressionTime().record(System.nanoTime() - start);
+    return buffer;
+  }
+
+  /**
+   * Read a batch of pages, each of which is stored with its length in front, from a file channel. The
+   * pages are read in the order of their offsets into the read buffer of the current thread, such that
+   * adjacent pages are read with one read and most pages with one read instead of one for the length
+   * and one for the page.
+   *
+   * @param dataFileChannel the file channel to read from
+   * @param references      the references of the pages to read
+   * @param pageReadTrx     the page read-only trx
+   * @param alignment       the alignment of the offsets, lengths and buffer addresses of the reads, a
+   *                        power of two, for instance the block size of a file opened for direct I/O,
+   *                        or {@code 1}
+   * @return the pages in the order of the references
+   * @throws IOException if the pages can't be read
+   */
+  protected final List<Page> readAll(final FileChannel dataFileChannel, final List<PageReference> references,
+      final PageReadOnlyTrx pageReadTrx, final int alignment) throws IOException {
+    final int numberOfPages = references.size();
+    final Integer[] order = new Integer[numberOfPages];
+    Arrays.setAll(order, i -> i);
+    Arrays.sort(order, Comparator.comparingLong(i -> references.get(i).getKey()));
+
+    final ScratchBuffers scratchBuffers = ScratchBuffers.get();
+    final Page[] pages = new Page[numberOfPages];
+    ByteBuffer buffer = null;
+    // The file offsets of the bytes in the buffer.
+    long bufferStart = 0;
+    long bufferEnd = 0;
+
+    for (final int index : order) {
+      final long position = references.get(index).getKey();
+
+      if (buffer == null || position < bufferStart || position + IOStorage.OTHER_BEACON > bufferEnd) {
+        bufferStart = alignDown(position, alignment);
+        final int length = (int) (alignUp(position + BATCH_READ_SIZE, alignment) - bufferStart);
+        buffer = scratchBuffers.acquireReadBuffer(length, alignment);
+        bufferEnd = bufferStart + fill(dataFileChannel, buffer, bufferStart);
+      }
+
+      final int dataLength = buffer.getInt((int) (position - bufferStart));
+      final long pageEnd = position + IOStorage.OTHER_BEACON + dataLength;
+
+      if (pageEnd > bufferEnd) {
+        // Read the rest of the page, which starts at an aligned offset, as the buffer has been filled.
+        buffer.position((int) (bufferEnd - bufferStart));
+        buffer = scratchBuffers.growReadBuffer((int) (alignUp(pageEnd, alignment) - bufferStart), alignment);
+        bufferEnd += fill(dataFileChannel, buffer, bufferEnd);
+        if (pageEnd > bufferEnd) {
+          throw new IOException("Page at offset " + position + " exceeds the end of the file.");
+        }
+      }
+
+      final int pageOffset = (int) (position - bufferStart) + IOStorage.OTHER_BEACON;
+      pages[index] = deserialize(pageReadTrx, buffer.slice(pageOffset, dataLength));
+    }
+
+    return Arrays.asList(pages);
+  }
+
+  /**
+   * Read from a file channel into a buffer until the buffer is full or the end of the file is reached.
+   *
+   * @return the number of bytes read
+   */
+  private static int fill(final FileChannel channel, final ByteBuffer buffer, final long position)
+      throws IOException {
+    final int start = buffer.position();
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position() - start) == -1) {
+        break;
+      }
+    }
+    return buffer.position() - start;
+  }
+
+  private static long alignDown(final long offset, final int alignment) {
+    return offset & -alignment;
+  }
+
+  private static long alignUp(final long offset, final int alignment) {
+    return (offset + alignment - 1) & -alignment;
   }
 
   @Override
@@ -39,6 +39,8 @@ import io.sirix.page.interfaces.Page;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -87,6 +89,27 @@ public interface Reader extends AutoCloseable {
    */
   Page read(PageReference key, @Nullable PageReadOnlyTrx pageReadTrx);
 
+  /**
+   * Read a batch of pages, for instance the fragments of a record page, with a single page reading
+   * transaction. Implementations may issue the reads of a batch at once instead of one by one.
+   *
+   * @param references the references of the pages to read
+   * @param pageReadTrx {@link PageReadOnlyTrx} reference
+   * @return the pages in the order of the references
+   * @throws SirixIOException if something bad happens during read
+   */
+  default List<Page> readAll(List<PageReference> references, @Nullable PageReadOnlyTrx pageReadTrx) {
+    final List<CompletableFuture<? extends Page>> futures = new ArrayList<>(references.size());
+    for (final PageReference reference : references) {
+      futures.add(readAsync(reference, pageReadTrx));
+    }
+    final List<Page> pages = new ArrayList<>(futures.size());
+    for (final CompletableFuture<? extends Page> future : futures) {
+      pages.add(future.join());
+    }
+    return pages;
+  }
+
   /**
    * Closing the storage.
    *
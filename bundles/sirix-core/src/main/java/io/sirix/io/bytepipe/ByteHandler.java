@@ -1,7 +1,12 @@
 package io.sirix.io.bytepipe;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 
 /**
  * Interface for the decorator, representing any byte representation to be serialized or to
@@ -28,6 +33,59 @@ public interface ByteHandler {
    */
   InputStream deserialize(InputStream toDeserialize);
 
+  /**
+   * Method to serialize a block of bytes without stream layers. The bytes between the position and
+   * the limit of {@code toSerialize} are serialized, its position and limit are not modified.
+   * <p>
+   * The result is either a new buffer or a buffer from the {@link ScratchBuffers} of the current
+   * thread. The default implementation delegates to {@link #serialize(OutputStream)}.
+   * </p>
+   *
+   * @param toSerialize bytes to be serialized
+   * @return buffer with the result of the serialization between its position and limit
+   */
+  default ByteBuffer serialize(ByteBuffer toSerialize) {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream(toSerialize.remaining());
+    try (final OutputStream serializer = serialize(output)) {
+      serializer.write(toByteArray(toSerialize));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return ByteBuffer.wrap(output.toByteArray());
+  }
+
+  /**
+   * Method to deserialize a block of bytes without stream layers. The bytes between the position and
+   * the limit of {@code toDeserialize} are deserialized, its position and limit are not modified.
+   * <p>
+   * The result is either a new buffer or a buffer from the {@link ScratchBuffers} of the current
+   * thread. The default implementation delegates to {@link #deserialize(InputStream)}.
+   * </p>
+   *
+   * @param toDeserialize bytes to be deserialized
+   * @return buffer with the result of the deserialization between its position and limit
+   */
+  default ByteBuffer deserialize(ByteBuffer toDeserialize) {
+    try (final InputStream deserializer = deserialize(new ByteArrayInputStream(toByteArray(toDeserialize)))) {
+      return ByteBuffer.wrap(deserializer.readAllBytes());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Copy the bytes between the position and the limit of a buffer into a new array, without
+   * modifying its position.
+   *
+   * @param buffer the buffer
+   * @return the bytes between the position and the limit
+   */
+  static byte[] toByteArray(ByteBuffer buffer) {
+    final byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(buffer.position(), bytes);
+    return bytes;
+  }
+
   /**
    * Method to retrieve a new instance.
    *
@@ -2,6 +2,7 @@ package io.sirix.io.bytepipe;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -61,6 +62,25 @@ public final class ByteHandlerPipeline implements ByteHandler {
     return pipeData;
   }
 
+  @Override
+  public ByteBuffer serialize(final ByteBuffer toSerialize) {
+    // The stream of the last handler wraps all other streams and thus is applied first.
+    ByteBuffer pipeData = toSerialize;
+    for (int i = byteHandlers.size() - 1; i >= 0; i--) {
+      pipeData = byteHandlers.get(i).serialize(pipeData);
+    }
+    return pipeData;
+  }
+
+  @Override
+  public ByteBuffer deserialize(final ByteBuffer toDeserialize) {
+    ByteBuffer pipeData = toDeserialize;
+    for (final ByteHandler part : byteHandlers) {
+      pipeData = part.deserialize(pipeData);
+    }
+    return pipeData;
+  }
+
   /**
    * Get byte handler components.
    *
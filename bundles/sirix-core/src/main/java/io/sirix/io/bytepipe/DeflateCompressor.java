@@ -1,15 +1,24 @@
-/**
- *
- */
 package io.sirix.io.bytepipe;
 
+import io.sirix.utils.ZlibCodecPool;
+
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
 
 /**
  * Decorator to zip any data.
+ * <p>
+ * The block-oriented methods borrow a {@link Deflater} and an {@link Inflater} from the
+ * {@link ZlibCodecPool} instead of allocating native zlib streams for every page.
+ * </p>
  *
  * @author Sebastian Graf, University of Konstanz
  *
@@ -26,6 +35,55 @@ public final class DeflateCompressor implements ByteHandler {
     return new InflaterInputStream(toDeserialize);
   }
 
+  @Override
+  public ByteBuffer serialize(final ByteBuffer toSerialize) {
+    final ScratchBuffers scratchBuffers = ScratchBuffers.get();
+    final Deflater deflater = ZlibCodecPool.borrowDeflater(Deflater.DEFAULT_COMPRESSION);
+
+    try {
+      deflater.setInput(toSerialize.duplicate());
+      deflater.finish();
+
+      ByteBuffer output = scratchBuffers.acquire(toSerialize.remaining() + (toSerialize.remaining() >> 3) + 64);
+      while (!deflater.finished()) {
+        if (!output.hasRemaining()) {
+          output = scratchBuffers.grow(output, Math.max(output.limit() << 1, 1 << 12));
+        }
+        deflater.deflate(output);
+      }
+
+      return output.flip();
+    } finally {
+      ZlibCodecPool.returnDeflater(deflater);
+    }
+  }
+
+  @Override
+  public ByteBuffer deserialize(final ByteBuffer toDeserialize) {
+    final ScratchBuffers scratchBuffers = ScratchBuffers.get();
+    final Inflater inflater = ZlibCodecPool.borrowInflater();
+
+    try {
+      inflater.setInput(toDeserialize.duplicate());
+
+      ByteBuffer output = scratchBuffers.acquire(toDeserialize.remaining() << 2);
+      while (!inflater.finished()) {
+        if (!output.hasRemaining()) {
+          output = scratchBuffers.grow(output, Math.max(output.limit() << 1, 1 << 12));
+        }
+        if (inflater.inflate(output) == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new UncheckedIOException(new ZipException("Unexpected end of ZLIB input stream"));
+        }
+      }
+
+      return output.flip();
+    } catch (final DataFormatException e) {
+      throw new UncheckedIOException(new ZipException(e.getMessage()));
+    } finally {
+      ZlibCodecPool.returnInflater(inflater);
+    }
+  }
+
   @Override
   public ByteHandler getInstance() {
     return new DeflateCompressor();
@@ -2,17 +2,51 @@ package io.sirix.io.bytepipe;
 
 import net.jpountz.lz4.LZ4BlockInputStream;
 import net.jpountz.lz4.LZ4BlockOutputStream;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import net.jpountz.xxhash.XXHash32;
+import net.jpountz.xxhash.XXHashFactory;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 
 /**
  * LZ4 compression/decompression.
+ * <p>
+ * The block-oriented methods read and write the framing of {@link LZ4BlockOutputStream} with its
+ * default block size, seed and compressor, such that both variants are interchangeable.
+ * </p>
  *
  * @author Johannes Lichtenberger, University of Konstanz
  */
 public final class LZ4Compressor implements ByteHandler {
 
+  private static final byte[] MAGIC = new byte[] { 'L', 'Z', '4', 'B', 'l', 'o', 'c', 'k' };
+
+  private static final int HEADER_LENGTH = MAGIC.length + 1 + 4 + 4 + 4;
+
+  private static final int COMPRESSION_METHOD_RAW = 0x10;
+
+  private static final int COMPRESSION_METHOD_LZ4 = 0x20;
+
+  private static final int BLOCK_SIZE = 1 << 16;
+
+  /**
+   * Compression level stored in the token of each block, as computed by {@link LZ4BlockOutputStream}.
+   */
+  private static final int COMPRESSION_LEVEL = Math.max(0, 32 - Integer.numberOfLeadingZeros(BLOCK_SIZE - 1) - 10);
+
+  private static final int DEFAULT_SEED = 0x9747b28c;
+
+  private static final net.jpountz.lz4.LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+
+  private static final LZ4SafeDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().safeDecompressor();
+
+  private static final XXHash32 HASH = XXHashFactory.fastestInstance().hash32();
+
   @Override
   public OutputStream serialize(final OutputStream toSerialize) {
     return new LZ4BlockOutputStream(toSerialize);
@@ -23,6 +57,126 @@ public final class LZ4Compressor implements ByteHandler {
     return new LZ4BlockInputStream(toDeserialize);
   }
 
+  @Override
+  public ByteBuffer serialize(final ByteBuffer toSerialize) {
+    final int length = toSerialize.remaining();
+    final int numberOfBlocks = (length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    final int maxLength = numberOfBlocks * (HEADER_LENGTH + COMPRESSOR.maxCompressedLength(BLOCK_SIZE)) + HEADER_LENGTH;
+    final ByteBuffer output = ScratchBuffers.get().acquire(maxLength);
+
+    int outputOffset = 0;
+    for (int offset = toSerialize.position(); offset < toSerialize.limit(); offset += BLOCK_SIZE) {
+      final int blockLength = Math.min(BLOCK_SIZE, toSerialize.limit() - offset);
+      final int check = checksum(toSerialize, offset, blockLength);
+      final int dataOffset = outputOffset + HEADER_LENGTH;
+
+      int compressedLength = COMPRESSOR.compress(toSerialize,
+                                                 offset,
+                                                 blockLength,
+                                                 output,
+                                                 dataOffset,
+                                                 output.limit() - dataOffset);
+      final int compressionMethod;
+      if (compressedLength >= blockLength) {
+        compressionMethod = COMPRESSION_METHOD_RAW;
+        compressedLength = blockLength;
+        output.put(dataOffset, toSerialize, offset, blockLength);
+      } else {
+        compressionMethod = COMPRESSION_METHOD_LZ4;
+      }
+
+      writeHeader(output, outputOffset, compressionMethod, compressedLength, blockLength, check);
+      outputOffset = dataOffset + compressedLength;
+    }
+
+    // End of stream marker.
+    writeHeader(output, outputOffset, COMPRESSION_METHOD_RAW, 0, 0, 0);
+
+    return output.limit(outputOffset + HEADER_LENGTH);
+  }
+
+  @Override
+  public ByteBuffer deserialize(final ByteBuffer toDeserialize) {
+    // First pass: compute the decompressed length to acquire a single scratch buffer.
+    int decompressedLength = 0;
+    for (int offset = toDeserialize.position(); offset + HEADER_LENGTH <= toDeserialize.limit(); ) {
+      final int originalLength = readIntLE(toDeserialize, offset + MAGIC.length + 5);
+      if (originalLength == 0) {
+        break;
+      }
+      decompressedLength += originalLength;
+      offset += HEADER_LENGTH + readIntLE(toDeserialize, offset + MAGIC.length + 1);
+    }
+
+    final ByteBuffer output = ScratchBuffers.get().acquire(decompressedLength);
+
+    int outputOffset = 0;
+    for (int offset = toDeserialize.position(); offset + HEADER_LENGTH <= toDeserialize.limit(); ) {
+      for (int i = 0; i < MAGIC.length; i++) {
+        if (toDeserialize.get(offset + i) != MAGIC[i]) {
+          throw new UncheckedIOException(new IOException("Stream is corrupted"));
+        }
+      }
+
+      final int compressionMethod = toDeserialize.get(offset + MAGIC.length) & 0xF0;
+      final int compressedLength = readIntLE(toDeserialize, offset + MAGIC.length + 1);
+      final int originalLength = readIntLE(toDeserialize, offset + MAGIC.length + 5);
+      final int check = readIntLE(toDeserialize, offset + MAGIC.length + 9);
+      final int dataOffset = offset + HEADER_LENGTH;
+
+      if (originalLength == 0) {
+        break;
+      }
+
+      switch (compressionMethod) {
+        case COMPRESSION_METHOD_RAW -> output.put(outputOffset, toDeserialize, dataOffset, originalLength);
+        case COMPRESSION_METHOD_LZ4 -> {
+          final int length =
+              DECOMPRESSOR.decompress(toDeserialize, dataOffset, compressedLength, output, outputOffset, originalLength);
+          if (length != originalLength) {
+            throw new UncheckedIOException(new IOException("Stream is corrupted"));
+          }
+        }
+        default -> throw new UncheckedIOException(new IOException("Stream is corrupted"));
+      }
+
+      if (checksum(output, outputOffset, originalLength) != check) {
+        throw new UncheckedIOException(new IOException("Stream is corrupted"));
+      }
+
+      outputOffset += originalLength;
+      offset = dataOffset + compressedLength;
+    }
+
+    return output;
+  }
+
+  private static int checksum(final ByteBuffer buffer, final int offset, final int length) {
+    // Same truncation as the checksum of the stream variant.
+    return HASH.hash(buffer, offset, length, DEFAULT_SEED) & 0xFFFFFFF;
+  }
+
+  private static void writeHeader(final ByteBuffer output, final int offset, final int compressionMethod,
+      final int compressedLength, final int originalLength, final int check) {
+    output.put(offset, MAGIC);
+    output.put(offset + MAGIC.length, (byte) (compressionMethod | COMPRESSION_LEVEL));
+    writeIntLE(output, offset + MAGIC.length + 1, compressedLength);
+    writeIntLE(output, offset + MAGIC.length + 5, originalLength);
+    writeIntLE(output, offset + MAGIC.length + 9, check);
+  }
+
+  private static int readIntLE(final ByteBuffer buffer, final int offset) {
+    return (buffer.get(offset) & 0xFF) | ((buffer.get(offset + 1) & 0xFF) << 8) | ((buffer.get(offset + 2) & 0xFF) << 16)
+        | ((buffer.get(offset + 3) & 0xFF) << 24);
+  }
+
+  private static void writeIntLE(final ByteBuffer buffer, final int offset, final int value) {
+    buffer.put(offset, (byte) value);
+    buffer.put(offset + 1, (byte) (value >>> 8));
+    buffer.put(offset + 2, (byte) (value >>> 16));
+    buffer.put(offset + 3, (byte) (value >>> 24));
+  }
+
   @Override
   public ByteHandler getInstance() {
     return new LZ4Compressor();
@@ -0,0 +1,161 @@
+package io.sirix.io.bytepipe;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Thread-local pool of direct scratch buffers, which are used by the block-oriented methods of
+ * {@link ByteHandler}s and by the readers to avoid allocating new buffers for every page.
+ * <p>
+ * Each thread owns two buffers, which are handed out alternately. Thus, the buffer returned by
+ * {@link #acquire(int)} is never the buffer returned by the previous call, which allows a stage
+ * of a {@link ByteHandlerPipeline} to read from the output of the previous stage while writing
+ * to a scratch buffer itself. The content of a scratch buffer is only valid until the buffer is
+ * handed out again, that is it has to be consumed before the next but one call on the same thread.
+ * </p>
+ * <p>
+ * Additionally, each thread owns a read buffer, which is handed out by {@link #acquireReadBuffer(int, int)}
+ * to read serialized pages from a file into. It isn't handed out by {@link #acquire(int)}, thus it stays
+ * valid while the pages read into it are deserialized.
+ * </p>
+ */
+public final class ScratchBuffers {
+
+  /**
+   * The minimum capacity of a scratch buffer.
+   */
+  private static final int MIN_CAPACITY = 1 << 16;
+
+  /**
+   * The scratch buffers of each thread.
+   */
+  private static final ThreadLocal<ScratchBuffers> BUFFERS = ThreadLocal.withInitial(ScratchBuffers::new);
+
+  /**
+   * The two buffers, which are handed out alternately.
+   */
+  private final ByteBuffer[] buffers;
+
+  /**
+   * The index of the buffer to hand out next.
+   */
+  private int next;
+
+  /**
+   * The buffer to read from files into.
+   */
+  private ByteBuffer readBuffer;
+
+  /**
+   * Private constructor.
+   */
+  private ScratchBuffers() {
+    buffers = new ByteBuffer[2];
+  }
+
+  /**
+   * Get the scratch buffers of the current thread.
+   *
+   * @return the scratch buffers of the current thread
+   */
+  public static ScratchBuffers get() {
+    return BUFFERS.get();
+  }
+
+  /**
+   * Acquire the next scratch buffer.
+   *
+   * @param length the number of bytes needed
+   * @return a direct buffer in native byte order with position {@code 0} and limit {@code length}
+   */
+  public ByteBuffer acquire(final int length) {
+    final int index = next;
+    next ^= 1;
+
+    ByteBuffer buffer = buffers[index];
+
+    if (buffer == null || buffer.capacity() < length) {
+      buffer = ByteBuffer.allocateDirect(capacityFor(length)).order(ByteOrder.nativeOrder());
+      buffers[index] = buffer;
+    }
+
+    return buffer.clear().limit(length);
+  }
+
+  /**
+   * Grow a scratch buffer, which has been acquired from this pool, retaining the bytes
+   * between {@code 0} and its position.
+   *
+   * @param buffer the buffer to grow
+   * @param length the number of bytes needed
+   * @return a direct buffer in native byte order with the same position and limit {@code length}
+   */
+  public ByteBuffer grow(final ByteBuffer buffer, final int length) {
+    if (buffer.capacity() >= length) {
+      return buffer.limit(length);
+    }
+
+    final ByteBuffer grownBuffer = ByteBuffer.allocateDirect(capacityFor(length)).order(ByteOrder.nativeOrder());
+    grownBuffer.put(buffer.flip());
+    grownBuffer.limit(length);
+
+    for (int i = 0; i < buffers.length; i++) {
+      if (buffers[i] == buffer) {
+        buffers[i] = grownBuffer;
+      }
+    }
+
+    return grownBuffer;
+  }
+
+  /**
+   * Acquire the read buffer, for instance to read a batch of pages from a file. The content of the
+   * buffer is valid until the read buffer is acquired again on the same thread.
+   *
+   * @param length    the number of bytes needed
+   * @param alignment the alignment of the address of the buffer, a power of two, for instance the
+   *                  block size of a file opened for direct I/O
+   * @return a direct buffer in native byte order with position {@code 0} and limit {@code length}
+   */
+  public ByteBuffer acquireReadBuffer(final int length, final int alignment) {
+    if (readBuffer == null || readBuffer.capacity() < length || !readBuffer.isAligned(0, alignment)) {
+      readBuffer = allocateAligned(capacityFor(length), alignment);
+    }
+
+    return readBuffer.clear().limit(length);
+  }
+
+  /**
+   * Grow the read buffer, retaining the bytes between {@code 0} and its position.
+   *
+   * @param length    the number of bytes needed
+   * @param alignment the alignment of the address of the buffer, a power of two
+   * @return a direct buffer in native byte order with the same position and limit {@code length}
+   */
+  public ByteBuffer growReadBuffer(final int length, final int alignment) {
+    if (readBuffer.capacity() >= length) {
+      return readBuffer.limit(length);
+    }
+
+    final ByteBuffer grownBuffer = allocateAligned(capacityFor(length), alignment);
+    grownBuffer.put(readBuffer.flip());
+    grownBuffer.limit(length);
+    readBuffer = grownBuffer;
+    return grownBuffer;
+  }
+
+  private static ByteBuffer allocateAligned(final int capacity, final int alignment) {
+    if (alignment <= 1) {
+      return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+    }
+    return ByteBuffer.allocateDirect(capacity + alignment - 1).alignedSlice(alignment).order(ByteOrder.nativeOrder());
+  }
+
+  private static int capacityFor(final int length) {
+    if (length <= MIN_CAPACITY) {
+      return MIN_CAPACITY;
+    }
+    final int capacity = Integer.highestOneBit(length - 1) << 1;
+    return capacity > 0 ? capacity : Integer.MAX_VALUE;
+  }
+}
@@ -1,5 +1,6 @@
 package io.sirix.io.bytepipe;
 
+import org.xerial.snappy.Snappy;
 import org.xerial.snappy.SnappyInputStream;
 import org.xerial.snappy.SnappyOutputStream;
 
@@ -7,15 +8,27 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 
 /**
  * Snappy compression/decompression.
+ * <p>
+ * The block-oriented deserialization reads the framing of {@link SnappyOutputStream} directly from
+ * direct buffers. Heap buffers are deserialized by means of the stream-based variant.
+ * </p>
  *
  * @author Johannes Lichtenberger, University of Konstanz
  *
  */
 public final class SnappyCompressor implements ByteHandler {
 
+  private static final byte[] MAGIC_HEADER = new byte[] { -126, 'S', 'N', 'A', 'P', 'P', 'Y', 0 };
+
+  /**
+   * Length of the stream header (magic header, version and compatible version).
+   */
+  private static final int HEADER_LENGTH = MAGIC_HEADER.length + 4 + 4;
+
   @Override
   public OutputStream serialize(final OutputStream toSerialize) {
     return new SnappyOutputStream(toSerialize);
@@ -30,6 +43,59 @@ public final class SnappyCompressor implements ByteHandler {
     }
   }
 
+  @Override
+  public ByteBuffer deserialize(final ByteBuffer toDeserialize) {
+    if (!toDeserialize.isDirect() || !hasMagicHeader(toDeserialize)) {
+      return ByteHandler.super.deserialize(toDeserialize);
+    }
+
+    try {
+      // First pass: compute the decompressed length to acquire a single scratch buffer.
+      int decompressedLength = 0;
+      for (int offset = toDeserialize.position() + HEADER_LENGTH; offset < toDeserialize.limit(); ) {
+        final int chunkLength = readIntBE(toDeserialize, offset);
+        decompressedLength += Snappy.uncompressedLength(chunk(toDeserialize, offset, chunkLength));
+        offset += Integer.BYTES + chunkLength;
+      }
+
+      final ByteBuffer output = ScratchBuffers.get().acquire(decompressedLength);
+
+      int outputOffset = 0;
+      for (int offset = toDeserialize.position() + HEADER_LENGTH; offset < toDeserialize.limit(); ) {
+        final int chunkLength = readIntBE(toDeserialize, offset);
+        output.limit(output.capacity()).position(outputOffset);
+        outputOffset += Snappy.uncompress(chunk(toDeserialize, offset, chunkLength), output);
+        offset += Integer.BYTES + chunkLength;
+      }
+
+      return output.position(0).limit(decompressedLength);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static ByteBuffer chunk(final ByteBuffer buffer, final int offset, final int chunkLength) {
+    final int chunkOffset = offset + Integer.BYTES;
+    return buffer.duplicate().limit(chunkOffset + chunkLength).position(chunkOffset);
+  }
+
+  private static int readIntBE(final ByteBuffer buffer, final int offset) {
+    return ((buffer.get(offset) & 0xFF) << 24) | ((buffer.get(offset + 1) & 0xFF) << 16) | ((buffer.get(offset + 2) & 0xFF) << 8)
+        | (buffer.get(offset + 3) & 0xFF);
+  }
+
+  private static boolean hasMagicHeader(final ByteBuffer buffer) {
+    if (buffer.remaining() < HEADER_LENGTH) {
+      return false;
+    }
+    for (int i = 0; i < MAGIC_HEADER.length; i++) {
+      if (buffer.get(buffer.position() + i) != MAGIC_HEADER[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   public ByteHandler getInstance() {
     return new SnappyCompressor();
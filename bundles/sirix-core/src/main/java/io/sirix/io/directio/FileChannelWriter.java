@@ -25,6 +25,7 @@ import com.github.benmanes.caffeine.cache.AsyncCache;
 import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.exception.SirixIOException;
 import io.sirix.io.*;
+import io.sirix.metrics.SirixMetrics;
 import io.sirix.page.*;
 import io.sirix.page.interfaces.Page;
 import net.openhft.chronicle.bytes.Bytes;
@@ -196,6 +197,11 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
       }
 
       bufferedBytes.writeInt(serializedPage.length);
+      if (pageReadOnlyTrx != null) {
+        SirixMetrics.get()
+                    .bytesWritten(pageReadOnlyTrx.getResourceSession().getResourceConfig().storageType)
+                    .increment(serializedPage.length + IOStorage.OTHER_BEACON);
+      }
       bufferedBytes.write(serializedPage);
 
       if (page instanceof UberPage && offsetToAdd > 0) {
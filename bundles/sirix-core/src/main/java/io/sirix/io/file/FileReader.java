@@ -30,6 +30,7 @@ import io.sirix.io.IOStorage;
 import io.sirix.io.Reader;
 import io.sirix.io.RevisionFileData;
 import io.sirix.io.bytepipe.ByteHandler;
+import io.sirix.metrics.SirixMetrics;
 import io.sirix.page.*;
 import io.sirix.page.interfaces.Page;
 import net.openhft.chronicle.bytes.Bytes;
@@ -37,7 +38,6 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
@@ -125,8 +125,13 @@ public final class FileReader implements Reader {
 
   @NotNull
   private Page getPage(PageReadOnlyTrx pageReadTrx, byte[] page) throws IOException {
-    final var inputStream = byteHandler.deserialize(new ByteArrayInputStream(page));
-    final Bytes<?> input = Bytes.wrapForRead(inputStream.readAllBytes());
+    final SirixMetrics metrics = SirixMetrics.get();
+    if (pageReadTrx != null) {
+      metrics.bytesRead(pageReadTrx.getResourceSession().getResourceConfig().storageType).increment(page.length);
+    }
+    final long start = System.nanoTime();
+    final Bytes<?> input = Bytes.wrapForRead(byteHandler.deserialize(ByteBuffer.wrap(page)));
+    metrics.decompressionTime().record(System.nanoTime() - start);
     final var deserializedPage = pagePersiter.deserializePage(pageReadTrx, input, serializationType);
     input.clear();
     return deserializedPage;
@@ -25,6 +25,7 @@ import com.github.benmanes.caffeine.cache.AsyncCache;
 import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.exception.SirixIOException;
 import io.sirix.io.*;
+import io.sirix.metrics.SirixMetrics;
 import io.sirix.page.*;
 import io.sirix.page.interfaces.Page;
 import net.openhft.chronicle.bytes.Bytes;
@@ -155,6 +156,11 @@ public final class FileWriter extends AbstractForwardingReader implements Writer
       final byte[] writtenPage = new byte[serializedPage.length + IOStorage.OTHER_BEACON];
       final ByteBuffer buffer = ByteBuffer.allocate(writtenPage.length);
       buffer.putInt(serializedPage.length);
+      if (pageReadOnlyTrx != null) {
+        SirixMetrics.get()
+                    .bytesWritten(pageReadOnlyTrx.getResourceSession().getResourceConfig().storageType)
+                    .increment(serializedPage.length + IOStorage.OTHER_BEACON);
+      }
       buffer.put(serializedPage);
       buffer.flip();
       buffer.get(writtenPage);
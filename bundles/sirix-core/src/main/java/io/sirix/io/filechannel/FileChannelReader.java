@@ -30,6 +30,7 @@ import io.sirix.io.IOStorage;
 import io.sirix.io.Reader;
 import io.sirix.io.RevisionFileData;
 import io.sirix.io.bytepipe.ByteHandler;
+import io.sirix.io.bytepipe.ScratchBuffers;
 import io.sirix.page.*;
 import io.sirix.page.interfaces.Page;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -40,6 +41,7 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
 import java.time.Instant;
+import java.util.List;
 
 /**
  * File Reader. Used for {@link PageReadOnlyTrx} to provide read only access on a RandomAccessFile.
@@ -95,14 +97,23 @@ public final class FileChannelReader extends AbstractReader {
       buffer.flip();
       final int dataLength = buffer.getInt();
 
-      buffer = ByteBuffer.allocate(dataLength).order(ByteOrder.nativeOrder());
+      buffer = ScratchBuffers.get().acquire(dataLength);
 
       dataFileChannel.read(buffer, position + 4);
       buffer.flip();
-      final byte[] page = buffer.array();
 
       // Perform byte operations.
-      return deserialize(pageReadTrx, page);
+      return deserialize(pageReadTrx, buffer);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  public List<Page> readAll(final @NonNull List<PageReference> references,
+      final @Nullable PageReadOnlyTrx pageReadTrx) {
+    try {
+      return readAll(dataFileChannel, references, pageReadTrx, 1);
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
@@ -127,14 +138,12 @@ public final class FileChannelReader extends AbstractReader {
       buffer.flip();
       final int dataLength = buffer.getInt();
 
-      buffer = ByteBuffer.allocateDirect(dataLength).order(ByteOrder.nativeOrder());
+      buffer = ScratchBuffers.get().acquire(dataLength);
       dataFileChannel.read(buffer, dataFileOffset + 4);
       buffer.flip();
-      final byte[] page = new byte[dataLength];
-      buffer.get(page);
 
       // Perform byte operations.
-      return (RevisionRootPage) deserialize(pageReadTrx, page);
+      return (RevisionRootPage) deserialize(pageReadTrx, buffer);
     } catch (IOException e) {
       throw new SirixIOException(e);
     }
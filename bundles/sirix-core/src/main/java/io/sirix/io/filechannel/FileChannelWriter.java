@@ -25,6 +25,7 @@ import com.github.benmanes.caffeine.cache.AsyncCache;
 import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.exception.SirixIOException;
 import io.sirix.io.*;
+import io.sirix.metrics.SirixMetrics;
 import io.sirix.page.*;
 import io.sirix.page.interfaces.Page;
 import net.openhft.chronicle.bytes.Bytes;
@@ -159,8 +160,11 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
       final byte[] serializedPage;
 
       if (page instanceof KeyValueLeafPage) {
+        // Already compressed while serializing the page, which is usually done ahead by the commit.
         serializedPage = byteArray;
       } else {
+        // Pages, which reference other pages, are compressed inline, as they can only be serialized
+        // once the pages they reference have been written (see NodePageTrx#commit).
         try (final ByteArrayOutputStream output = new ByteArrayOutputStream(byteArray.length)) {
           try (final DataOutputStream dataOutput = new DataOutputStream(reader.getByteHandler().serialize(output))) {
             dataOutput.write(byteArray);
@@ -194,6 +198,11 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
       }
 
       bufferedBytes.writeInt(serializedPage.length);
+      if (pageReadOnlyTrx != null) {
+        SirixMetrics.get()
+                    .bytesWritten(pageReadOnlyTrx.getResourceSession().getResourceConfig().storageType)
+                    .increment(serializedPage.length + IOStorage.OTHER_BEACON);
+      }
       bufferedBytes.write(serializedPage);
 
       if (page instanceof UberPage && offsetToAdd > 0) {
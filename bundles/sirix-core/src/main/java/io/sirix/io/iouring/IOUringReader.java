@@ -26,6 +26,7 @@ import com.google.common.hash.HashFunction;
 import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.exception.SirixIOException;
 import io.sirix.io.bytepipe.ByteHandler;
+import io.sirix.io.bytepipe.ScratchBuffers;
 import io.sirix.page.PagePersister;
 import io.sirix.page.PageReference;
 import io.sirix.page.RevisionRootPage;
@@ -44,6 +45,8 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
@@ -103,6 +106,59 @@ public final class IOUringReader extends AbstractReader {
       return CompletableFuture.supplyAsync(() -> readPageFragment(reference, pageReadTrx), POOL);
   }
 
+  @Override
+  public List<Page> readAll(final @NonNull List<PageReference> references,
+      final @Nullable PageReadOnlyTrx pageReadTrx) {
+    try {
+      return POOL.submit(() -> readPageFragments(references, pageReadTrx)).get();
+    } catch (InterruptedException | ExecutionException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private List<Page> readPageFragments(final List<PageReference> references,
+      final @Nullable PageReadOnlyTrx pageReadTrx) {
+    final int numberOfPages = references.size();
+
+    // Submit the reads of the lengths of all pages at once.
+    final ByteBuffer lengthBuffer =
+        ByteBuffer.allocateDirect(IOStorage.OTHER_BEACON * numberOfPages).order(ByteOrder.nativeOrder());
+    final CompletableFuture<?>[] lengthReads = new CompletableFuture<?>[numberOfPages];
+    for (int i = 0; i < numberOfPages; i++) {
+      lengthReads[i] = dataFile.read(lengthBuffer.slice(i * IOStorage.OTHER_BEACON, IOStorage.OTHER_BEACON),
+                                     references.get(i).getKey());
+    }
+    CompletableFuture.allOf(lengthReads).join();
+
+    int totalLength = 0;
+    for (int i = 0; i < numberOfPages; i++) {
+      totalLength += lengthBuffer.getInt(i * IOStorage.OTHER_BEACON);
+    }
+
+    // Submit the reads of all pages at once into a single buffer.
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(totalLength);
+    final ByteBuffer[] pageBuffers = new ByteBuffer[numberOfPages];
+    final CompletableFuture<?>[] pageReads = new CompletableFuture<?>[numberOfPages];
+    int offset = 0;
+    for (int i = 0; i < numberOfPages; i++) {
+      final int dataLength = lengthBuffer.getInt(i * IOStorage.OTHER_BEACON);
+      pageBuffers[i] = buffer.slice(offset, dataLength);
+      pageReads[i] = dataFile.read(pageBuffers[i], references.get(i).getKey() + IOStorage.OTHER_BEACON);
+      offset += dataLength;
+    }
+    CompletableFuture.allOf(pageReads).join();
+
+    try {
+      final List<Page> pages = new ArrayList<>(numberOfPages);
+      for (final ByteBuffer pageBuffer : pageBuffers) {
+        pages.add(deserialize(pageReadTrx, pageBuffer.flip()));
+      }
+      return pages;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
   @NotNull
   private Page readPageFragment(@NotNull PageReference reference, @Nullable PageReadOnlyTrx pageReadTrx) {
     try {
@@ -115,15 +171,13 @@ public final class IOUringReader extends AbstractReader {
       buffer.flip();
       final int dataLength = buffer.getInt();
 
-      buffer = ByteBuffer.allocateDirect(dataLength).order(ByteOrder.nativeOrder());
+      buffer = ScratchBuffers.get().acquire(dataLength);
 
       dataFile.read(buffer, position + Integer.BYTES).join();
       buffer.flip();
-      final byte[] page = new byte[dataLength];
-      buffer.get(page);
 
       // Perform byte operations.
-      return deserialize(pageReadTrx, page);
+      return deserialize(pageReadTrx, buffer);
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
@@ -139,14 +193,12 @@ public final class IOUringReader extends AbstractReader {
       buffer.flip();
       final int dataLength = buffer.getInt();
 
-      buffer = ByteBuffer.allocateDirect(dataLength).order(ByteOrder.nativeOrder());
+      buffer = ScratchBuffers.get().acquire(dataLength);
       dataFile.read(buffer, dataFileOffset + Integer.BYTES).join();
       buffer.flip();
-      final byte[] page = new byte[dataLength];
-      buffer.get(page);
 
       // Perform byte operations.
-      return (RevisionRootPage) deserialize(pageReadTrx, page);
+      return (RevisionRootPage) deserialize(pageReadTrx, buffer);
     } catch (IOException e) {
       throw new SirixIOException(e);
     }
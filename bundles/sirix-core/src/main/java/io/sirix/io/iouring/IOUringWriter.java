@@ -26,6 +26,7 @@ import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.api.PageTrx;
 import io.sirix.exception.SirixIOException;
 import io.sirix.io.*;
+import io.sirix.metrics.SirixMetrics;
 import io.sirix.page.*;
 import io.sirix.page.interfaces.Page;
 import net.openhft.chronicle.bytes.Bytes;
@@ -214,6 +215,11 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
 //      }
 
       pageBuffer.putInt(serializedPage.length);
+      if (pageReadOnlyTrx != null) {
+        SirixMetrics.get()
+                    .bytesWritten(pageReadOnlyTrx.getResourceSession().getResourceConfig().storageType)
+                    .increment(serializedPage.length + IOStorage.OTHER_BEACON);
+      }
       pageBuffer.put(serializedPage);
 
       if (page instanceof UberPage && offsetToAdd > 0) {
@@ -37,10 +37,12 @@ import io.sirix.io.AbstractReader;
 import io.sirix.io.IOStorage;
 
 import java.io.IOException;
-import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
 import java.lang.foreign.ValueLayout;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 
@@ -55,56 +57,63 @@ public final class MMFileReader extends AbstractReader {
   static final ValueLayout.OfInt LAYOUT_INT = ValueLayout.JAVA_INT;
   static final ValueLayout.OfLong LAYOUT_LONG = ValueLayout.JAVA_LONG;
 
-  private final MemorySegment dataFileSegment;
+  private final Supplier<MemorySegment> dataFileSegment;
 
-  private final MemorySegment revisionsOffsetFileSegment;
+  private final Supplier<MemorySegment> revisionsOffsetFileSegment;
 
   private final Cache<Integer, RevisionFileData> cache;
 
-  private final Arena arena;
-
   /**
    * Constructor.
    *
-   * @param byteHandler {@link ByteHandler} instance
+   * @param dataFileSegment     supplies the mapped data file, which must have an automatic scope, as
+   *                            pages may reference it beyond the lifetime of this reader
+   * @param revisionFileSegment supplies the mapped revisions file
+   * @param byteHandler         {@link ByteHandler} instance
    */
-  public MMFileReader(final MemorySegment dataFileSegment, final MemorySegment revisionFileSegment,
-      final ByteHandler byteHandler, final SerializationType type, final PagePersister pagePersistenter,
-      final Cache<Integer, RevisionFileData> cache, final Arena arena) {
+  public MMFileReader(final Supplier<MemorySegment> dataFileSegment,
+      final Supplier<MemorySegment> revisionFileSegment, final ByteHandler byteHandler, final SerializationType type,
+      final PagePersister pagePersistenter, final Cache<Integer, RevisionFileData> cache) {
     super(byteHandler, pagePersistenter, type);
     this.dataFileSegment = requireNonNull(dataFileSegment);
     this.revisionsOffsetFileSegment = requireNonNull(revisionFileSegment);
     this.cache = requireNonNull(cache);
-    this.arena = requireNonNull(arena);
   }
 
   @Override
   public Page read(final @NonNull PageReference reference, final @Nullable PageReadOnlyTrx pageReadTrx) {
     try {
+      final MemorySegment dataFileSegment = this.dataFileSegment.get();
       final long offset = reference.getKey() + LAYOUT_INT.byteSize();
       final int dataLength = dataFileSegment.get(LAYOUT_INT, reference.getKey());
 
-      final byte[] page = new byte[dataLength];
-
-      MemorySegment.copy(dataFileSegment, LAYOUT_BYTE, offset, page, 0, dataLength);
-
-      return deserialize(pageReadTrx, page);
+      return deserialize(pageReadTrx, dataFileSegment.asSlice(offset, dataLength));
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
   }
 
+  @Override
+  public List<Page> readAll(final @NonNull List<PageReference> references,
+      final @Nullable PageReadOnlyTrx pageReadTrx) {
+    // Pages are read from the mapped memory, thus no I/O has to be issued asynchronously.
+    final List<Page> pages = new ArrayList<>(references.size());
+    for (final PageReference reference : references) {
+      pages.add(read(reference, pageReadTrx));
+    }
+    return pages;
+  }
+
   @Override
   public RevisionRootPage readRevisionRootPage(final int revision, final PageReadOnlyTrx pageReadTrx) {
     try {
       //noinspection DataFlowIssue
       final var dataFileOffset = cache.get(revision, (unused) -> getRevisionFileData(revision)).offset();
+      final MemorySegment dataFileSegment = this.dataFileSegment.get();
 
       final int dataLength = dataFileSegment.get(LAYOUT_INT, dataFileOffset);
 
-      final byte[] page = new byte[dataLength];
-
-      MemorySegment.copy(dataFileSegment, LAYOUT_BYTE, dataFileOffset + LAYOUT_INT.byteSize(), page, 0, dataLength);
+      final var page = dataFileSegment.asSlice(dataFileOffset + LAYOUT_INT.byteSize(), dataLength);
 
       return (RevisionRootPage) deserialize(pageReadTrx, page);
     } catch (final IOException e) {
@@ -121,6 +130,7 @@ public final class MMFileReader extends AbstractReader {
   @Override
   public RevisionFileData getRevisionFileData(int revision) {
     final var fileOffset = IOStorage.FIRST_BEACON + (revision * LAYOUT_LONG.byteSize() * 2);
+    final MemorySegment revisionsOffsetFileSegment = this.revisionsOffsetFileSegment.get();
     final var revisionOffset = revisionsOffsetFileSegment.get(LAYOUT_LONG, fileOffset);
     final var timestamp =
         Instant.ofEpochMilli(revisionsOffsetFileSegment.get(LAYOUT_LONG, fileOffset + LAYOUT_LONG.byteSize()));
@@ -129,6 +139,6 @@ public final class MMFileReader extends AbstractReader {
 
   @Override
   public void close() {
-    arena.close();
+    // The mapped files are shared with other readers and unmapped, once they aren't reachable anymore.
   }
 }
@@ -0,0 +1,295 @@
+package io.sirix.io.memorymapped;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import io.sirix.api.PageReadOnlyTrx;
+import io.sirix.exception.SirixIOException;
+import io.sirix.io.AbstractForwardingReader;
+import io.sirix.io.IOStorage;
+import io.sirix.io.Reader;
+import io.sirix.io.RevisionFileData;
+import io.sirix.io.Writer;
+import io.sirix.metrics.SirixMetrics;
+import io.sirix.page.KeyValueLeafPage;
+import io.sirix.page.PagePersister;
+import io.sirix.page.PageReference;
+import io.sirix.page.RevisionRootPage;
+import io.sirix.page.SerializationType;
+import io.sirix.page.UberPage;
+import io.sirix.page.interfaces.Page;
+import net.openhft.chronicle.bytes.Bytes;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Writer, to append to a memory-mapped file. The pages are copied into the mapped memory of the data
+ * file, which is extended in chunks, and published to the readers, once the uber page has been
+ * written, that is after each commit.
+ */
+public final class MMFileWriter extends AbstractForwardingReader implements Writer {
+
+  /**
+   * The mapped data file.
+   */
+  private final MappedFile dataFile;
+
+  /**
+   * The mapped file, which holds pointers to the revision root pages.
+   */
+  private final MappedFile revisionsFile;
+
+  /**
+   * {@link MMFileReader} reference for this writer.
+   */
+  private final MMFileReader reader;
+
+  private final SerializationType serializationType;
+
+  private final PagePersister pagePersister;
+
+  private final AsyncCache<Integer, RevisionFileData> cache;
+
+  private boolean isFirstUberPage;
+
+  private final Bytes<ByteBuffer> byteBufferBytes = Bytes.elasticByteBuffer(1_000);
+
+  /**
+   * Constructor.
+   *
+   * @param dataFile          the mapped data file
+   * @param revisionsFile     the mapped file, which holds pointers to the revision root pages
+   * @param serializationType the serialization type (for the transaction log or the data file)
+   * @param pagePersister     transforms in-memory pages into byte-arrays and back
+   * @param cache             the revision file data cache
+   * @param reader            the reader delegate, which reads the data written, even if it isn't
+   *                          published yet
+   */
+  MMFileWriter(final MappedFile dataFile, final MappedFile revisionsFile, final SerializationType serializationType,
+      final PagePersister pagePersister, final AsyncCache<Integer, RevisionFileData> cache,
+      final MMFileReader reader) {
+    this.dataFile = requireNonNull(dataFile);
+    this.revisionsFile = requireNonNull(revisionsFile);
+    this.serializationType = requireNonNull(serializationType);
+    this.pagePersister = requireNonNull(pagePersister);
+    this.cache = requireNonNull(cache);
+    this.reader = requireNonNull(reader);
+  }
+
+  @Override
+  public Writer truncateTo(final PageReadOnlyTrx pageReadOnlyTrx, final int revision) {
+    try {
+      final var dataFileRevisionRootPageOffset =
+          cache.get(revision, (unused) -> getRevisionFileData(revision)).get(5, TimeUnit.SECONDS).offset();
+
+      final int dataLength = dataFile.getSegment().get(MMFileReader.LAYOUT_INT, dataFileRevisionRootPageOffset);
+
+      // Readers may still reference the mapped memory, thus the file is only truncated logically.
+      dataFile.truncate(dataFileRevisionRootPageOffset + IOStorage.OTHER_BEACON + dataLength);
+    } catch (InterruptedException | ExecutionException | TimeoutException e) {
+      throw new IllegalStateException(e);
+    }
+
+    return this;
+  }
+
+  @Override
+  public MMFileWriter write(final PageReadOnlyTrx pageReadOnlyTrx, final PageReference pageReference,
+      final Bytes<ByteBuffer> bufferedBytes) {
+    final long offset = getOffset(bufferedBytes);
+    return writePageReference(pageReadOnlyTrx, pageReference, bufferedBytes, offset);
+  }
+
+  private long getOffset(final Bytes<ByteBuffer> bufferedBytes) {
+    final long fileSize = dataFile.size();
+    long offset;
+
+    if (fileSize == 0) {
+      offset = IOStorage.FIRST_BEACON;
+      offset += (PAGE_FRAGMENT_BYTE_ALIGN - (offset & (PAGE_FRAGMENT_BYTE_ALIGN - 1)));
+      offset += bufferedBytes.writePosition();
+    } else {
+      offset = fileSize + bufferedBytes.writePosition();
+    }
+
+    return offset;
+  }
+
+  private MMFileWriter writePageReference(final PageReadOnlyTrx pageReadOnlyTrx, final PageReference pageReference,
+      final Bytes<ByteBuffer> bufferedBytes, long offset) {
+    // Perform byte operations.
+    try {
+      // Serialize page.
+      final Page page = pageReference.getPage();
+      assert page != null;
+
+      pagePersister.serializePage(pageReadOnlyTrx, byteBufferBytes, page, serializationType);
+      final var byteArray = byteBufferBytes.toByteArray();
+
+      final byte[] serializedPage;
+
+      if (page instanceof KeyValueLeafPage) {
+        serializedPage = byteArray;
+      } else {
+        try (final ByteArrayOutputStream output = new ByteArrayOutputStream(byteArray.length)) {
+          try (final DataOutputStream dataOutput = new DataOutputStream(reader.getByteHandler().serialize(output))) {
+            dataOutput.write(byteArray);
+            dataOutput.flush();
+          }
+          serializedPage = output.toByteArray();
+        }
+      }
+
+      byteBufferBytes.clear();
+
+      int offsetToAdd = 0;
+
+      // Getting actual offset and appending to the end of the current file.
+      if (serializationType == SerializationType.DATA) {
+        if (page instanceof UberPage) {
+          offsetToAdd =
+              UBER_PAGE_BYTE_ALIGN - ((serializedPage.length + IOStorage.OTHER_BEACON) % UBER_PAGE_BYTE_ALIGN);
+        } else if (page instanceof RevisionRootPage && offset % REVISION_ROOT_PAGE_BYTE_ALIGN != 0) {
+          offsetToAdd = (int) (REVISION_ROOT_PAGE_BYTE_ALIGN - (offset & (REVISION_ROOT_PAGE_BYTE_ALIGN - 1)));
+          offset += offsetToAdd;
+        } else if (offset % PAGE_FRAGMENT_BYTE_ALIGN != 0) {
+          offsetToAdd = (int) (PAGE_FRAGMENT_BYTE_ALIGN - (offset & (PAGE_FRAGMENT_BYTE_ALIGN - 1)));
+          offset += offsetToAdd;
+        }
+      }
+
+      if (!(page instanceof UberPage) && offsetToAdd > 0) {
+        bufferedBytes.writePosition(bufferedBytes.writePosition() + offsetToAdd);
+      }
+
+      bufferedBytes.writeInt(serializedPage.length);
+      if (pageReadOnlyTrx != null) {
+        SirixMetrics.get()
+                    .bytesWritten(pageReadOnlyTrx.getResourceSession().getResourceConfig().storageType)
+                    .increment(serializedPage.length + IOStorage.OTHER_BEACON);
+      }
+      bufferedBytes.write(serializedPage);
+
+      if (page instanceof UberPage && offsetToAdd > 0) {
+        final byte[] bytesToAdd = new byte[offsetToAdd];
+        bufferedBytes.write(bytesToAdd);
+      }
+
+      if (bufferedBytes.writePosition() > FLUSH_SIZE) {
+        flushBuffer(bufferedBytes);
+      }
+
+      // Remember page coordinates.
+      pageReference.setKey(offset);
+
+      if (page instanceof KeyValueLeafPage keyValueLeafPage) {
+        pageReference.setHash(keyValueLeafPage.getHashCode());
+      } else {
+        pageReference.setHash(Reader.hashFunction.hashBytes(serializedPage).asBytes());
+      }
+
+      if (serializationType == SerializationType.DATA) {
+        if (page instanceof RevisionRootPage revisionRootPage) {
+          final ByteBuffer buffer = ByteBuffer.allocate(16).order(ByteOrder.nativeOrder());
+          buffer.putLong(offset);
+          buffer.putLong(revisionRootPage.getRevisionTimestamp());
+          buffer.flip();
+          // The position is derived from the revision, as the file may be extended beyond its logical size.
+          revisionsFile.write(buffer, IOStorage.FIRST_BEACON + (long) revisionRootPage.getRevision() * 16);
+          final long currOffset = offset;
+          cache.put(revisionRootPage.getRevision(),
+                    CompletableFuture.completedFuture(new RevisionFileData(currOffset,
+                                                                           Instant.ofEpochMilli(revisionRootPage.getRevisionTimestamp()))));
+        } else if (page instanceof UberPage && isFirstUberPage) {
+          final ByteBuffer buffer = ByteBuffer.allocate(Writer.UBER_PAGE_BYTE_ALIGN).order(ByteOrder.nativeOrder());
+          buffer.put(serializedPage);
+          buffer.position(0);
+          revisionsFile.write(buffer, 0);
+          buffer.position(0);
+          revisionsFile.write(buffer, Writer.UBER_PAGE_BYTE_ALIGN);
+        }
+      }
+
+      return this;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  public void close() {
+    dataFile.force();
+    revisionsFile.force();
+    reader.close();
+  }
+
+  @Override
+  public Writer writeUberPageReference(final PageReadOnlyTrx pageReadOnlyTrx, final PageReference pageReference,
+      final Bytes<ByteBuffer> bufferedBytes) {
+    try {
+      if (bufferedBytes.writePosition() > 0) {
+        flushBuffer(bufferedBytes);
+      }
+
+      isFirstUberPage = true;
+      writePageReference(pageReadOnlyTrx, pageReference, bufferedBytes, 0);
+      isFirstUberPage = false;
+      writePageReference(pageReadOnlyTrx, pageReference, bufferedBytes, IOStorage.FIRST_BEACON >> 1);
+
+      @SuppressWarnings("DataFlowIssue") final var buffer = bufferedBytes.underlyingObject().rewind();
+      buffer.limit((int) bufferedBytes.readLimit());
+      dataFile.write(buffer, 0L);
+      dataFile.force();
+      revisionsFile.force();
+      bufferedBytes.clear();
+
+      // Readers of the committed revision see the new segments, the segments of running readers stay valid.
+      dataFile.publish();
+      revisionsFile.publish();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+
+    return this;
+  }
+
+  private void flushBuffer(final Bytes<ByteBuffer> bufferedBytes) throws IOException {
+    final long fileSize = dataFile.size();
+    long offset;
+
+    if (fileSize == 0) {
+      offset = IOStorage.FIRST_BEACON;
+      offset += (PAGE_FRAGMENT_BYTE_ALIGN - (offset % PAGE_FRAGMENT_BYTE_ALIGN));
+    } else {
+      offset = fileSize;
+    }
+
+    @SuppressWarnings("DataFlowIssue") final var buffer = bufferedBytes.underlyingObject().rewind();
+    buffer.limit((int) bufferedBytes.readLimit());
+    dataFile.write(buffer, offset);
+    bufferedBytes.clear();
+  }
+
+  @Override
+  protected Reader delegate() {
+    return reader;
+  }
+
+  @Override
+  public Writer truncate() {
+    // Readers may still reference the mapped memory, thus the files are only truncated logically.
+    dataFile.truncate(0);
+    revisionsFile.truncate(0);
+
+    return this;
+  }
+}
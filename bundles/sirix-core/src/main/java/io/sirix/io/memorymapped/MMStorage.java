@@ -23,9 +23,9 @@ package io.sirix.io.memorymapped;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 import io.sirix.access.ResourceConfiguration;
-import io.sirix.io.filechannel.FileChannelWriter;
 import io.sirix.page.PagePersister;
 import io.sirix.page.SerializationType;
+import io.sirix.page.UberPage;
 import io.sirix.exception.SirixIOException;
 import io.sirix.io.Reader;
 import io.sirix.io.RevisionFileData;
@@ -33,15 +33,11 @@ import io.sirix.io.bytepipe.ByteHandler;
 import io.sirix.io.bytepipe.ByteHandlerPipeline;
 import io.sirix.io.IOStorage;
 import io.sirix.io.Writer;
-import io.sirix.io.filechannel.FileChannelReader;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
-import java.lang.foreign.Arena;
-import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
@@ -62,6 +58,16 @@ public final class MMStorage implements IOStorage {
    */
   private static final String REVISIONS_FILENAME = "sirix.revisions";
 
+  /**
+   * The number of bytes, the mapped data file is extended by at least.
+   */
+  private static final long DATA_FILE_CHUNK_SIZE = 1L << 24;
+
+  /**
+   * The number of bytes, the mapped revisions file is extended by at least.
+   */
+  private static final long REVISIONS_FILE_CHUNK_SIZE = 1L << 16;
+
   /**
    * Instance to storage.
    */
@@ -83,9 +89,15 @@ public final class MMStorage implements IOStorage {
 
   private final Path dataFilePath;
 
-  private FileChannel dataFileChannel;
+  /**
+   * The mapped data file, shared by the writer and all readers.
+   */
+  private MappedFile dataFile;
 
-  private FileChannel revisionsOffsetFileChannel;
+  /**
+   * The mapped revisions file, shared by the writer and all readers.
+   */
+  private MappedFile revisionsFile;
 
   /**
    * Constructor.
@@ -115,28 +127,17 @@ public final class MMStorage implements IOStorage {
       final Path revisionsOffsetFilePath = getRevisionFilePath();
 
       createRevisionsOffsetFileIfItDoesNotExist(revisionsOffsetFilePath);
-
-      final var arena = Arena.openShared();
-      final var dataFileSegmentFileSize = Files.size(dataFilePath);
-
-      final var revisionsOffsetSegmentFileSize = Files.size(revisionsOffsetFilePath);
-
-      try (final var dataFileChannel = FileChannel.open(dataFilePath);
-           final var revisionsOffsetFileChannel = FileChannel.open(revisionsOffsetFilePath)) {
-        final var dataFileSegment =
-            dataFileChannel.map(FileChannel.MapMode.READ_ONLY, 0, dataFileSegmentFileSize, arena.scope());
-        final var revisionsOffsetFileSegment = revisionsOffsetFileChannel.map(FileChannel.MapMode.READ_ONLY,
-                                                                              0,
-                                                                              revisionsOffsetSegmentFileSize,
-                                                                              arena.scope());
-        return new MMFileReader(dataFileSegment,
-                                revisionsOffsetFileSegment,
-                                new ByteHandlerPipeline(byteHandlerPipeline),
-                                SerializationType.DATA,
-                                new PagePersister(),
-                                cache.synchronous(),
-                                arena);
-      }
+      mapFilesIfNotInitialized(dataFilePath, revisionsOffsetFilePath);
+
+      // Readers share the segments published after the last commit, thus no file is mapped per reader.
+      // Key/value leaf pages may reference the segments beyond the lifetime of the reader (through the
+      // buffer manager), thus they are unmapped once they're not reachable anymore.
+      return new MMFileReader(dataFile::getPublishedSegment,
+                              revisionsFile::getPublishedSegment,
+                              new ByteHandlerPipeline(byteHandlerPipeline),
+                              SerializationType.DATA,
+                              new PagePersister(),
+                              cache.synchronous());
     } catch (final IOException | InterruptedException e) {
       throw new SirixIOException(e);
     } finally {
@@ -174,25 +175,20 @@ public final class MMStorage implements IOStorage {
       final Path revisionsOffsetFilePath = getRevisionFilePath();
 
       createRevisionsOffsetFileIfItDoesNotExist(revisionsOffsetFilePath);
-      createDataFileChannelIfNotInitialized(dataFilePath);
-      createRevisionsOffsetFileChannelIfNotInitialized(revisionsOffsetFilePath);
+      mapFilesIfNotInitialized(dataFilePath, revisionsOffsetFilePath);
 
       final var byteHandlePipeline = new ByteHandlerPipeline(byteHandlerPipeline);
       final var serializationType = SerializationType.DATA;
       final var pagePersister = new PagePersister();
-      final var reader = new FileChannelReader(dataFileChannel,
-                                               revisionsOffsetFileChannel,
-                                               byteHandlePipeline,
-                                               serializationType,
-                                               pagePersister,
-                                               cache.synchronous());
-
-      return new FileChannelWriter(dataFileChannel,
-                                   revisionsOffsetFileChannel,
-                                   serializationType,
-                                   pagePersister,
-                                   cache,
-                                   reader);
+      // The reader of the writer reads the pages written, even before they are published.
+      final var reader = new MMFileReader(dataFile::getSegment,
+                                          revisionsFile::getSegment,
+                                          byteHandlePipeline,
+                                          serializationType,
+                                          pagePersister,
+                                          cache.synchronous());
+
+      return new MMFileWriter(dataFile, revisionsFile, serializationType, pagePersister, cache, reader);
     } catch (final IOException | InterruptedException e) {
       throw new SirixIOException(e);
     } finally {
@@ -200,30 +196,52 @@ public final class MMStorage implements IOStorage {
     }
   }
 
-  private void createDataFileChannelIfNotInitialized(Path dataFilePath) throws IOException {
-    if (dataFileChannel == null) {
-      dataFileChannel = FileChannel.open(dataFilePath,
-                                         StandardOpenOption.READ,
-                                         StandardOpenOption.WRITE,
-                                         StandardOpenOption.SPARSE);
+  private void mapFilesIfNotInitialized(final Path dataFilePath, final Path revisionsOffsetFilePath)
+      throws IOException {
+    if (dataFile == null) {
+      dataFile = new MappedFile(dataFilePath, DATA_FILE_CHUNK_SIZE);
+      revisionsFile = new MappedFile(revisionsOffsetFilePath, REVISIONS_FILE_CHUNK_SIZE);
+      recoverSizes();
     }
   }
 
-  private void createRevisionsOffsetFileChannelIfNotInitialized(Path revisionsOffsetFilePath) throws IOException {
-    if (revisionsOffsetFileChannel == null) {
-      revisionsOffsetFileChannel =
-          FileChannel.open(revisionsOffsetFilePath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+  /**
+   * Set the logical sizes of the files to the end of the data of the last commit. After a crash, the
+   * files are longer than the data, as they are extended ahead of the writes, and the pages of an
+   * unfinished commit are overwritten. The revision root page is the last page written by a commit,
+   * before the uber page is written at the start of the file.
+   */
+  private void recoverSizes() {
+    if (dataFile.size() < IOStorage.FIRST_BEACON
+        || dataFile.getSegment().get(MMFileReader.LAYOUT_INT, 0) == 0) {
+      // Nothing has been committed.
+      dataFile.recover(0);
+      revisionsFile.recover(0);
+      return;
     }
+
+    final var reader = new MMFileReader(dataFile::getSegment,
+                                        revisionsFile::getSegment,
+                                        new ByteHandlerPipeline(byteHandlerPipeline),
+                                        SerializationType.DATA,
+                                        new PagePersister(),
+                                        cache.synchronous());
+    final int revision = ((UberPage) reader.readUberPageReference().getPage()).getRevisionNumber();
+    final long revisionRootPageOffset = reader.getRevisionFileData(revision).offset();
+    final int dataLength = dataFile.getSegment().get(MMFileReader.LAYOUT_INT, revisionRootPageOffset);
+
+    dataFile.recover(revisionRootPageOffset + IOStorage.OTHER_BEACON + dataLength);
+    revisionsFile.recover(IOStorage.FIRST_BEACON + (revision + 1L) * 2 * MMFileReader.LAYOUT_LONG.byteSize());
   }
 
   @Override
   public void close() {
     try {
-      if (revisionsOffsetFileChannel != null) {
-        revisionsOffsetFileChannel.close();
+      if (revisionsFile != null) {
+        revisionsFile.close();
       }
-      if (dataFileChannel != null) {
-        dataFileChannel.close();
+      if (dataFile != null) {
+        dataFile.close();
       }
     } catch (final IOException e) {
       throw new SirixIOException(e.getMessage(), e);
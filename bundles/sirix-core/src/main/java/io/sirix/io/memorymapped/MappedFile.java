@@ -0,0 +1,225 @@
+package io.sirix.io.memorymapped;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+
+import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentScope;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A file, which is mapped into memory as a whole and grows in chunks. The file is extended beyond
+ * its logical size, such that appends are copied into the already mapped memory without any system
+ * call. If the mapped memory doesn't suffice, the file is extended and mapped again. Memory, which
+ * has been mapped before, is never unmapped explicitly, as the segments have an automatic scope,
+ * such that readers and pages, which still reference them, stay valid.
+ *
+ * <p>
+ * Only one writer may modify the file at a time. Readers read the segment, which has been published
+ * after the last commit.
+ * </p>
+ *
+ * <p>
+ * The file is never shrunk below the data, which might have been read, as accessing mapped memory
+ * beyond the end of the file crashes the JVM. Thus, truncating the file only sets its logical size,
+ * and closing the file only removes the extension beyond the data, which has been published. After a
+ * crash, the file is longer than its logical size, thus the logical size has to be recovered by the
+ * storage from the data of the last commit (see {@link #recover(long)}).
+ * </p>
+ */
+final class MappedFile implements AutoCloseable {
+
+  /**
+   * The maximum number of bytes, the file is extended by at once, besides the bytes required.
+   */
+  private static final long MAX_GROWTH = 1L << 30;
+
+  /**
+   * The channel of the file.
+   */
+  private final FileChannel channel;
+
+  /**
+   * The number of bytes, the size of the mapped file is a multiple of (a power of two).
+   */
+  private final long chunkSize;
+
+  /**
+   * The mapped memory of the file, which is written to.
+   */
+  private MemorySegment segment;
+
+  /**
+   * The mapped memory of the file, which is read by readers.
+   */
+  private volatile MemorySegment publishedSegment;
+
+  /**
+   * The logical size of the file, that is the end of the data written.
+   */
+  private long size;
+
+  /**
+   * The maximum logical size of the file, which has been published to the readers.
+   */
+  private long publishedSize;
+
+  /**
+   * The start and end offsets of the ranges, which have been written since the data has been forced
+   * to the storage device the last time. Appends extend the last range, thus there are only a few.
+   */
+  private final LongList dirtyRanges = new LongArrayList();
+
+  /**
+   * Constructor.
+   *
+   * @param path      the path of the file, which must exist
+   * @param chunkSize the number of bytes, the size of the mapped file is a multiple of (a power of two)
+   * @throws IOException if the file can't be opened or mapped
+   */
+  MappedFile(final Path path, final long chunkSize) throws IOException {
+    checkArgument(Long.bitCount(chunkSize) == 1, "The chunk size must be a power of two.");
+    this.chunkSize = chunkSize;
+    channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.SPARSE);
+    size = channel.size();
+    publishedSize = size;
+    segment = map(size);
+    publishedSegment = segment;
+  }
+
+  /**
+   * Get the mapped memory, which includes all data written so far.
+   *
+   * @return the mapped memory
+   */
+  MemorySegment getSegment() {
+    return segment;
+  }
+
+  /**
+   * Get the mapped memory, which has been published after the last commit.
+   *
+   * @return the mapped memory
+   */
+  MemorySegment getPublishedSegment() {
+    return publishedSegment;
+  }
+
+  /**
+   * Get the logical size of the file.
+   *
+   * @return the end of the data written
+   */
+  long size() {
+    return size;
+  }
+
+  /**
+   * Write the bytes between the position and the limit of a buffer. The file is extended and mapped
+   * again, if required.
+   *
+   * @param buffer the bytes to write
+   * @param offset the offset in the file
+   * @throws IOException if the file can't be extended
+   */
+  void write(final ByteBuffer buffer, final long offset) throws IOException {
+    final int length = buffer.remaining();
+    final long end = offset + length;
+
+    if (end > segment.byteSize()) {
+      final long growth = Math.max(chunkSize, Math.min(segment.byteSize(), MAX_GROWTH));
+      segment = map((end + growth + chunkSize - 1) & -chunkSize);
+    }
+
+    MemorySegment.copy(MemorySegment.ofBuffer(buffer), 0, segment, offset, length);
+    buffer.position(buffer.limit());
+    size = Math.max(size, end);
+    addDirtyRange(offset, end);
+  }
+
+  /**
+   * Set the logical size of the file, such that subsequent appends overwrite the data beyond. The file
+   * itself isn't truncated, as readers and pages may still reference the mapped memory.
+   *
+   * @param size the new logical size
+   */
+  void truncate(final long size) {
+    checkArgument(size >= 0 && size <= segment.byteSize(), "The size must be within the mapped file.");
+    this.size = size;
+  }
+
+  /**
+   * Set the logical size of the file after it has been opened, which has been recovered from the data
+   * of the last commit, as the size of the file includes the extension beyond the data after a crash.
+   *
+   * @param size the logical size
+   */
+  void recover(final long size) {
+    checkArgument(size >= 0 && size <= segment.byteSize(), "The size must be within the mapped file.");
+    this.size = size;
+    publishedSize = size;
+  }
+
+  /**
+   * Force the data written since the last call to the storage device.
+   */
+  void force() {
+    for (int i = 0; i < dirtyRanges.size(); i += 2) {
+      final long start = dirtyRanges.getLong(i);
+      segment.asSlice(start, dirtyRanges.getLong(i + 1) - start).force();
+    }
+    dirtyRanges.clear();
+  }
+
+  private void addDirtyRange(final long start, final long end) {
+    final int numberOfOffsets = dirtyRanges.size();
+    if (numberOfOffsets > 0 && start <= dirtyRanges.getLong(numberOfOffsets - 1)
+        && end >= dirtyRanges.getLong(numberOfOffsets - 2)) {
+      dirtyRanges.set(numberOfOffsets - 2, Math.min(start, dirtyRanges.getLong(numberOfOffsets - 2)));
+      dirtyRanges.set(numberOfOffsets - 1, Math.max(end, dirtyRanges.getLong(numberOfOffsets - 1)));
+    } else {
+      dirtyRanges.add(start);
+      dirtyRanges.add(end);
+    }
+  }
+
+  /**
+   * Publish the data written to the readers. The publication of the new segment is atomic, and the
+   * previous segment stays valid for the readers, which still use it.
+   */
+  void publish() {
+    publishedSize = Math.max(publishedSize, size);
+    publishedSegment = segment;
+  }
+
+  /**
+   * Map the file with the given size, which extends the file, if it's bigger than the file.
+   *
+   * @param mappedSize the size of the mapping
+   * @return the mapped memory
+   * @throws IOException if the file can't be mapped
+   */
+  private MemorySegment map(final long mappedSize) throws IOException {
+    return channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize, SegmentScope.auto());
+  }
+
+  /**
+   * Close the file and remove the unused extension of the file.
+   *
+   * @throws IOException if the file can't be truncated or closed
+   */
+  @Override
+  public void close() throws IOException {
+    if (channel.isOpen()) {
+      force();
+      channel.truncate(Math.max(size, publishedSize));
+      channel.close();
+    }
+  }
+}
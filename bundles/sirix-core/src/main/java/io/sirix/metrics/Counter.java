@@ -0,0 +1,28 @@
+package io.sirix.metrics;
+
+/**
+ * A monotonically increasing count, for instance of cache hits or of bytes read from a storage.
+ */
+public interface Counter {
+
+  /**
+   * Increment the count by one.
+   */
+  default void increment() {
+    increment(1);
+  }
+
+  /**
+   * Increment the count.
+   *
+   * @param amount the amount to add
+   */
+  void increment(long amount);
+
+  /**
+   * Get the current count.
+   *
+   * @return the count
+   */
+  long getCount();
+}
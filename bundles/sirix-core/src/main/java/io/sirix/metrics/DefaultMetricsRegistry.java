@@ -0,0 +1,120 @@
+package io.sirix.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The default {@link MetricsRegistry}, which keeps all meters in memory. Counters are backed by
+ * {@link LongAdder}s and histograms by buckets of powers of two, such that recording a value never
+ * blocks and percentiles are approximated by the upper bound of a bucket.
+ */
+public final class DefaultMetricsRegistry implements MetricsRegistry {
+
+  private final Map<MeterId, Counter> counters = new ConcurrentHashMap<>();
+
+  private final Map<MeterId, Histogram> histograms = new ConcurrentHashMap<>();
+
+  @Override
+  public Counter counter(final String name, final String... tags) {
+    return counters.computeIfAbsent(MeterId.of(name, tags), unused -> new DefaultCounter());
+  }
+
+  @Override
+  public Histogram histogram(final String name, final String... tags) {
+    return histograms.computeIfAbsent(MeterId.of(name, tags), unused -> new DefaultHistogram());
+  }
+
+  @Override
+  public Map<MeterId, Counter> getCounters() {
+    return Collections.unmodifiableMap(counters);
+  }
+
+  @Override
+  public Map<MeterId, Histogram> getHistograms() {
+    return Collections.unmodifiableMap(histograms);
+  }
+
+  private static final class DefaultCounter implements Counter {
+    private final LongAdder count = new LongAdder();
+
+    @Override
+    public void increment(final long amount) {
+      count.add(amount);
+    }
+
+    @Override
+    public long getCount() {
+      return count.sum();
+    }
+  }
+
+  static final class DefaultHistogram implements Histogram {
+    /**
+     * Bucket {@code 0} counts the value {@code 0}, bucket {@code i} the values between
+     * {@code 2^(i-1)} and {@code 2^i - 1}.
+     */
+    private final AtomicLongArray buckets = new AtomicLongArray(Long.SIZE + 1);
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder total = new LongAdder();
+
+    private final AtomicLong max = new AtomicLong();
+
+    @Override
+    public void record(final long value) {
+      if (value < 0) {
+        throw new IllegalArgumentException("Value must not be negative: " + value);
+      }
+      buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(value));
+      count.increment();
+      total.add(value);
+      if (value > max.get()) {
+        max.accumulateAndGet(value, Math::max);
+      }
+    }
+
+    @Override
+    public long getCount() {
+      return count.sum();
+    }
+
+    @Override
+    public long getTotal() {
+      return total.sum();
+    }
+
+    @Override
+    public long getMax() {
+      return max.get();
+    }
+
+    @Override
+    public long getValueAtPercentile(final double percentile) {
+      if (percentile < 0.0 || percentile > 1.0) {
+        throw new IllegalArgumentException("Percentile must be between 0.0 and 1.0: " + percentile);
+      }
+      long numberOfValues = 0;
+      for (int i = 0; i < buckets.length(); i++) {
+        numberOfValues += buckets.get(i);
+      }
+      if (numberOfValues == 0) {
+        return 0;
+      }
+      final long rank = Math.max(1, (long) Math.ceil(percentile * numberOfValues));
+      long seen = 0;
+      for (int i = 0; i < buckets.length(); i++) {
+        seen += buckets.get(i);
+        if (seen >= rank) {
+          final long upperBound = i == 0 ? 0 : i == Long.SIZE ? Long.MAX_VALUE : (1L << i) - 1;
+          return Math.min(upperBound, getMax());
+        }
+      }
+      return getMax();
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package io.sirix.metrics;
+
+/**
+ * The distribution of recorded values, for instance of durations in nanoseconds or of the number of
+ * page fragments, which have been read to reconstruct a page.
+ */
+public interface Histogram {
+
+  /**
+   * Record a value.
+   *
+   * @param value the value, which must not be negative
+   */
+  void record(long value);
+
+  /**
+   * Get the number of recorded values.
+   *
+   * @return the number of recorded values
+   */
+  long getCount();
+
+  /**
+   * Get the sum of all recorded values.
+   *
+   * @return the sum of all recorded values
+   */
+  long getTotal();
+
+  /**
+   * Get the maximum recorded value.
+   *
+   * @return the maximum recorded value or {@code 0}, if no value has been recorded
+   */
+  long getMax();
+
+  /**
+   * Get an approximation of the value at the given percentile.
+   *
+   * @param percentile the percentile between {@code 0.0} and {@code 1.0}
+   * @return an upper bound of the value at the percentile or {@code 0}, if no value has been
+   *         recorded
+   */
+  long getValueAtPercentile(double percentile);
+
+  /**
+   * Get the mean of the recorded values.
+   *
+   * @return the mean or {@code 0.0}, if no value has been recorded
+   */
+  default double getMean() {
+    final long count = getCount();
+    return count == 0 ? 0.0 : (double) getTotal() / count;
+  }
+}
@@ -0,0 +1,144 @@
+package io.sirix.metrics;
+
+import io.sirix.utils.LogWrapper;
+import org.slf4j.LoggerFactory;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Exports the meters of the installed {@link MetricsRegistry} as read-only attributes of a
+ * {@link DynamicMBean}. A counter is exported as one attribute, a histogram as the attributes
+ * {@code count}, {@code mean}, {@code max}, {@code p50} and {@code p99}, for instance
+ * {@code sirix.page.fragments.p99}.
+ */
+public final class JmxMetricsExporter implements DynamicMBean {
+
+  /**
+   * {@link LogWrapper} reference.
+   */
+  private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(JmxMetricsExporter.class));
+
+  /**
+   * The object name of the MBean.
+   */
+  public static final String OBJECT_NAME = "io.sirix:type=Metrics";
+
+  private JmxMetricsExporter() {
+  }
+
+  /**
+   * Register the MBean at the platform MBean server, if it isn't registered yet.
+   */
+  public static synchronized void register() {
+    try {
+      final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      final ObjectName objectName = new ObjectName(OBJECT_NAME);
+      if (!server.isRegistered(objectName)) {
+        server.registerMBean(new JmxMetricsExporter(), objectName);
+      }
+    } catch (final JMException | SecurityException e) {
+      LOGGER.warn("Couldn't register the metrics MBean: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Unregister the MBean from the platform MBean server, if it is registered.
+   */
+  public static synchronized void unregister() {
+    try {
+      final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      final ObjectName objectName = new ObjectName(OBJECT_NAME);
+      if (server.isRegistered(objectName)) {
+        server.unregisterMBean(objectName);
+      }
+    } catch (final JMException | SecurityException e) {
+      LOGGER.warn("Couldn't unregister the metrics MBean: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Get the current values of all meters of the installed registry, keyed by the attribute names.
+   *
+   * @return the values sorted by the attribute names
+   */
+  private static Map<String, Object> getValues() {
+    final MetricsRegistry registry = SirixMetrics.get().getRegistry();
+    final Map<String, Object> values = new TreeMap<>();
+    registry.getCounters().forEach((id, counter) -> values.put(id.toString(), counter.getCount()));
+    registry.getHistograms().forEach((id, histogram) -> {
+      final String name = id.toString();
+      values.put(name + ".count", histogram.getCount());
+      values.put(name + ".mean", histogram.getMean());
+      values.put(name + ".max", histogram.getMax());
+      values.put(name + ".p50", histogram.getValueAtPercentile(0.5));
+      values.put(name + ".p99", histogram.getValueAtPercentile(0.99));
+    });
+    return values;
+  }
+
+  @Override
+  public Object getAttribute(final String attribute) throws AttributeNotFoundException {
+    final Object value = getValues().get(attribute);
+    if (value == null) {
+      throw new AttributeNotFoundException(attribute);
+    }
+    return value;
+  }
+
+  @Override
+  public void setAttribute(final Attribute attribute) {
+    throw new UnsupportedOperationException("Metrics are read-only.");
+  }
+
+  @Override
+  public AttributeList getAttributes(final String[] attributes) {
+    final Map<String, Object> values = getValues();
+    final AttributeList attributeList = new AttributeList();
+    for (final String attribute : attributes) {
+      final Object value = values.get(attribute);
+      if (value != null) {
+        attributeList.add(new Attribute(attribute, value));
+      }
+    }
+    return attributeList;
+  }
+
+  @Override
+  public AttributeList setAttributes(final AttributeList attributes) {
+    return new AttributeList();
+  }
+
+  @Override
+  public Object invoke(final String actionName, final Object[] params, final String[] signature) {
+    throw new UnsupportedOperationException("The metrics MBean has no operations.");
+  }
+
+  @Override
+  public MBeanInfo getMBeanInfo() {
+    final var attributes = new ArrayList<MBeanAttributeInfo>();
+    getValues().forEach((name, value) -> attributes.add(new MBeanAttributeInfo(name,
+                                                                                 value.getClass().getName(),
+                                                                                 name,
+                                                                                 true,
+                                                                                 false,
+                                                                                 false)));
+    return new MBeanInfo(JmxMetricsExporter.class.getName(),
+                         "Runtime metrics of the page read and write path of SirixDB.",
+                         attributes.toArray(new MBeanAttributeInfo[0]),
+                         null,
+                         null,
+                         null);
+  }
+}
@@ -0,0 +1,48 @@
+package io.sirix.metrics;
+
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The identifier of a {@link Counter} or {@link Histogram}, that is its name and its tags.
+ *
+ * @param name the name, for instance {@code sirix.io.bytes.read}
+ * @param tags alternating tag keys and values, for instance {@code ["storage", "FILE_CHANNEL"]}
+ */
+public record MeterId(String name, List<String> tags) {
+
+  public MeterId {
+    requireNonNull(name);
+    tags = List.copyOf(tags);
+    if ((tags.size() & 1) != 0) {
+      throw new IllegalArgumentException("Tags must be key/value pairs: " + tags);
+    }
+  }
+
+  /**
+   * Create a new identifier.
+   *
+   * @param name the name
+   * @param tags alternating tag keys and values
+   * @return the identifier
+   */
+  public static MeterId of(final String name, final String... tags) {
+    return new MeterId(name, List.of(tags));
+  }
+
+  @Override
+  public String toString() {
+    if (tags.isEmpty()) {
+      return name;
+    }
+    final var builder = new StringBuilder(name).append('{');
+    for (int i = 0; i < tags.size(); i += 2) {
+      if (i > 0) {
+        builder.append(',');
+      }
+      builder.append(tags.get(i)).append('=').append(tags.get(i + 1));
+    }
+    return builder.append('}').toString();
+  }
+}
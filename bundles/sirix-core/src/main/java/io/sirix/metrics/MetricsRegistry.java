@@ -0,0 +1,49 @@
+package io.sirix.metrics;
+
+import java.util.Map;
+
+/**
+ * Service provider interface for the runtime metrics of SirixDB. Meters are created on first
+ * access and are afterwards returned for the same name and tags. Implementations must be
+ * thread-safe, as meters are updated concurrently on the page read and write path.
+ *
+ * <p>
+ * An implementation can be installed through {@link SirixMetrics#setRegistry(MetricsRegistry)} or
+ * through the {@link java.util.ServiceLoader} mechanism. To bridge to a metrics library, for
+ * instance Micrometer, the implementation simply delegates to the meters of the library.
+ * </p>
+ */
+public interface MetricsRegistry {
+
+  /**
+   * Get or create a counter.
+   *
+   * @param name the name of the counter
+   * @param tags alternating tag keys and values
+   * @return the counter
+   */
+  Counter counter(String name, String... tags);
+
+  /**
+   * Get or create a histogram.
+   *
+   * @param name the name of the histogram
+   * @param tags alternating tag keys and values
+   * @return the histogram
+   */
+  Histogram histogram(String name, String... tags);
+
+  /**
+   * Get all counters, which have been created so far.
+   *
+   * @return an unmodifiable view of the counters
+   */
+  Map<MeterId, Counter> getCounters();
+
+  /**
+   * Get all histograms, which have been created so far.
+   *
+   * @return an unmodifiable view of the histograms
+   */
+  Map<MeterId, Histogram> getHistograms();
+}
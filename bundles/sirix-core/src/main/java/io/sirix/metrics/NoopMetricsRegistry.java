@@ -0,0 +1,68 @@
+package io.sirix.metrics;
+
+import java.util.Map;
+
+/**
+ * A {@link MetricsRegistry}, which discards all recorded values.
+ */
+public enum NoopMetricsRegistry implements MetricsRegistry {
+
+  INSTANCE;
+
+  private static final Counter NOOP_COUNTER = new Counter() {
+    @Override
+    public void increment(long amount) {
+    }
+
+    @Override
+    public long getCount() {
+      return 0;
+    }
+  };
+
+  private static final Histogram NOOP_HISTOGRAM = new Histogram() {
+    @Override
+    public void record(long value) {
+    }
+
+    @Override
+    public long getCount() {
+      return 0;
+    }
+
+    @Override
+    public long getTotal() {
+      return 0;
+    }
+
+    @Override
+    public long getMax() {
+      return 0;
+    }
+
+    @Override
+    public long getValueAtPercentile(double percentile) {
+      return 0;
+    }
+  };
+
+  @Override
+  public Counter counter(String name, String... tags) {
+    return NOOP_COUNTER;
+  }
+
+  @Override
+  public Histogram histogram(String name, String... tags) {
+    return NOOP_HISTOGRAM;
+  }
+
+  @Override
+  public Map<MeterId, Counter> getCounters() {
+    return Map.of();
+  }
+
+  @Override
+  public Map<MeterId, Histogram> getHistograms() {
+    return Map.of();
+  }
+}
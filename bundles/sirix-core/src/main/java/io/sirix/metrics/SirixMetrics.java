@@ -0,0 +1,256 @@
+package io.sirix.metrics;
+
+import io.sirix.io.StorageType;
+import io.sirix.utils.LogWrapper;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The metrics of the page read and write path, which are recorded in the installed
+ * {@link MetricsRegistry}. The meters are resolved once per registry, such that updating a meter
+ * doesn't involve a lookup in the registry.
+ *
+ * <p>
+ * The registry is chosen when this class is initialized: the system property
+ * {@code sirix.metrics=noop} disables all metrics, otherwise the first {@link MetricsRegistry}
+ * found by the {@link ServiceLoader} is used and the {@link DefaultMetricsRegistry} as a fallback.
+ * Unless the system property {@code sirix.metrics.jmx=false} is set, the metrics are exported as
+ * the MBean {@value JmxMetricsExporter#OBJECT_NAME}.
+ * </p>
+ */
+public final class SirixMetrics {
+
+  /**
+   * {@link LogWrapper} reference.
+   */
+  private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(SirixMetrics.class));
+
+  /**
+   * The phases of a commit, whose durations are recorded.
+   */
+  public enum CommitPhase {
+    PAGE_CHECKPOINTS,
+
+    KEY_VALUE_PAGES,
+
+    INDIRECT_PAGES,
+
+    UBER_PAGE,
+
+    INDEX_DEFINITIONS
+  }
+
+  /**
+   * The hit and miss counters of a cache.
+   *
+   * @param hits   the number of lookups, which found an entry
+   * @param misses the number of lookups, which didn't find an entry
+   */
+  public record CacheMeters(Counter hits, Counter misses) {
+  }
+
+  private static volatile SirixMetrics instance;
+
+  static {
+    instance = new SirixMetrics(loadRegistry());
+
+    if (Boolean.parseBoolean(System.getProperty("sirix.metrics.jmx", "true"))) {
+      JmxMetricsExporter.register();
+    }
+  }
+
+  private final MetricsRegistry registry;
+
+  private final Map<String, CacheMeters> cacheMeters = new ConcurrentHashMap<>();
+
+  private final Map<StorageType, Counter> bytesRead = new EnumMap<>(StorageType.class);
+
+  private final Map<StorageType, Counter> bytesWritten = new EnumMap<>(StorageType.class);
+
+  private final Map<CommitPhase, Histogram> commitPhaseTimes = new EnumMap<>(CommitPhase.class);
+
+  private final Histogram fragmentsPerReconstructedPage;
+
+  private final Histogram decompressionTime;
+
+  private final Histogram writeLockWaitTime;
+
+  private final Counter intentLogSpilledPages;
+
+  private final Counter intentLogSpilledBytes;
+
+  private final Counter intentLogReloadedPages;
+
+  private SirixMetrics(final MetricsRegistry registry) {
+    this.registry = requireNonNull(registry);
+
+    for (final StorageType storageType : StorageType.values()) {
+      bytesRead.put(storageType, registry.counter("sirix.io.bytes.read", "storage", storageType.name()));
+      bytesWritten.put(storageType, registry.counter("sirix.io.bytes.written", "storage", storageType.name()));
+    }
+    for (final CommitPhase phase : CommitPhase.values()) {
+      commitPhaseTimes.put(phase, registry.histogram("sirix.commit.phase.time.nanos", "phase", phase.name()));
+    }
+    fragmentsPerReconstructedPage = registry.histogram("sirix.page.fragments");
+    decompressionTime = registry.histogram("sirix.page.decompression.time.nanos");
+    writeLockWaitTime = registry.histogram("sirix.trx.write.lock.wait.time.nanos");
+    intentLogSpilledPages = registry.counter("sirix.trx.intent.log.spilled.pages");
+    intentLogSpilledBytes = registry.counter("sirix.trx.intent.log.spilled.bytes");
+    intentLogReloadedPages = registry.counter("sirix.trx.intent.log.reloaded.pages");
+  }
+
+  private static MetricsRegistry loadRegistry() {
+    if ("noop".equalsIgnoreCase(System.getProperty("sirix.metrics"))) {
+      return NoopMetricsRegistry.INSTANCE;
+    }
+    try {
+      return ServiceLoader.load(MetricsRegistry.class).findFirst().orElseGet(DefaultMetricsRegistry::new);
+    } catch (final ServiceConfigurationError e) {
+      LOGGER.warn("Couldn't load the metrics registry, falling back to the default registry: {}", e.getMessage());
+      return new DefaultMetricsRegistry();
+    }
+  }
+
+  /**
+   * Get the metrics of the installed registry.
+   *
+   * @return the metrics
+   */
+  public static SirixMetrics get() {
+    return instance;
+  }
+
+  /**
+   * Install a registry. Meters, which have been recorded in the previous registry, are not
+   * transferred.
+   *
+   * @param registry the registry to install
+   */
+  public static void setRegistry(final MetricsRegistry registry) {
+    instance = new SirixMetrics(registry);
+  }
+
+  /**
+   * Get the installed registry.
+   *
+   * @return the registry
+   */
+  public MetricsRegistry getRegistry() {
+    return registry;
+  }
+
+  /**
+   * Get the hit and miss counters of a cache.
+   *
+   * @param cacheName the name of the cache
+   * @return the counters
+   */
+  public CacheMeters cacheMeters(final String cacheName) {
+    final CacheMeters meters = cacheMeters.get(cacheName);
+    if (meters != null) {
+      return meters;
+    }
+    return cacheMeters.computeIfAbsent(cacheName,
+                                       unused -> new CacheMeters(registry.counter("sirix.cache.hits", "cache", cacheName),
+                                                                 registry.counter("sirix.cache.misses",
+                                                                                  "cache",
+                                                                                  cacheName)));
+  }
+
+  /**
+   * Get the counter of the bytes read from a storage type.
+   *
+   * @param storageType the storage type
+   * @return the counter
+   */
+  public Counter bytesRead(final StorageType storageType) {
+    return bytesRead.get(storageType);
+  }
+
+  /**
+   * Get the counter of the bytes written to a storage type.
+   *
+   * @param storageType the storage type
+   * @return the counter
+   */
+  public Counter bytesWritten(final StorageType storageType) {
+    return bytesWritten.get(storageType);
+  }
+
+  /**
+   * Get the histogram of the number of page fragments, which have been read to reconstruct a record
+   * page.
+   *
+   * @return the histogram
+   */
+  public Histogram fragmentsPerReconstructedPage() {
+    return fragmentsPerReconstructedPage;
+  }
+
+  /**
+   * Get the histogram of the time in nanoseconds to decompress (or generally to apply the byte
+   * handler pipeline to) a page, which has been read from a storage.
+   *
+   * @return the histogram
+   */
+  public Histogram decompressionTime() {
+    return decompressionTime;
+  }
+
+  /**
+   * Get the histogram of the time in nanoseconds of a commit phase.
+   *
+   * @param phase the commit phase
+   * @return the histogram
+   */
+  public Histogram commitPhaseTime(final CommitPhase phase) {
+    return commitPhaseTimes.get(phase);
+  }
+
+  /**
+   * Get the histogram of the time in nanoseconds, which is spent waiting for the write lock of a
+   * resource to begin a read-write transaction.
+   *
+   * @return the histogram
+   */
+  public Histogram writeLockWaitTime() {
+    return writeLockWaitTime;
+  }
+
+  /**
+   * Get the counter of the page containers, which read-write transactions have spilled from their
+   * transaction intent log to disk.
+   *
+   * @return the counter
+   */
+  public Counter intentLogSpilledPages() {
+    return intentLogSpilledPages;
+  }
+
+  /**
+   * Get the counter of the bytes, which read-write transactions have spilled from their transaction
+   * intent log to disk.
+   *
+   * @return the counter
+   */
+  public Counter intentLogSpilledBytes() {
+    return intentLogSpilledBytes;
+  }
+
+  /**
+   * Get the counter of the spilled page containers, which have been read back into the transaction
+   * intent log on access.
+   *
+   * @return the counter
+   */
+  public Counter intentLogReloadedPages() {
+    return intentLogReloadedPages;
+  }
+}
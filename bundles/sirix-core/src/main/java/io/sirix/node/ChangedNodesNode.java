@@ -0,0 +1,91 @@
+package io.sirix.node;
+
+import io.sirix.node.interfaces.DataRecord;
+import io.sirix.node.interfaces.RecordSerializer;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The keys of the nodes, which have been inserted, removed, updated or replaced in a revision. Only
+ * the root of an inserted or removed subtree is stored. The keys are stored in a compressed bitmap,
+ * such that the consecutive keys of bulk inserted nodes stay small.
+ */
+public final class ChangedNodesNode implements DataRecord {
+  private final long nodeKey;
+
+  private final int revision;
+
+  private final Roaring64Bitmap changedNodeKeys;
+
+  public ChangedNodesNode(final long nodeKey, final int revision, final Roaring64Bitmap changedNodeKeys) {
+    this.nodeKey = nodeKey;
+    this.revision = revision;
+    this.changedNodeKeys = requireNonNull(changedNodeKeys);
+  }
+
+  @Override
+  public long getNodeKey() {
+    return nodeKey;
+  }
+
+  @Override
+  public SirixDeweyID getDeweyID() {
+    return null;
+  }
+
+  @Override
+  public byte[] getDeweyIDAsBytes() {
+    return null;
+  }
+
+  @Override
+  public RecordSerializer getKind() {
+    return NodeKind.CHANGED_NODES_NODE;
+  }
+
+  @Override
+  public int getPreviousRevisionNumber() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public int getLastModifiedRevisionNumber() {
+    return revision;
+  }
+
+  /**
+   * Get the revision, in which the nodes have been changed.
+   *
+   * @return the revision
+   */
+  public int getRevision() {
+    return revision;
+  }
+
+  /**
+   * Get the bitmap of the keys of the changed nodes, which must not be modified.
+   *
+   * @return the bitmap of the node keys
+   */
+  public Roaring64Bitmap getChangedNodeKeys() {
+    return changedNodeKeys;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(nodeKey, revision, changedNodeKeys);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (o == null || getClass() != o.getClass())
+      return false;
+    ChangedNodesNode that = (ChangedNodesNode) o;
+    return nodeKey == that.nodeKey && revision == that.revision && changedNodeKeys.equals(that.changedNodeKeys);
+  }
+}
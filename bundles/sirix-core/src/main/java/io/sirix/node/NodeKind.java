@@ -29,6 +29,7 @@
 package io.sirix.node;
 
 import io.sirix.access.trx.node.HashType;
+import io.sirix.access.trx.node.InternalResourceSession;
 import io.sirix.node.json.*;
 import io.sirix.node.json.NullNode;
 import io.sirix.node.xml.*;
@@ -46,17 +47,24 @@ import io.brackit.query.atomic.QNm;
 import io.brackit.query.jdm.Type;
 import io.brackit.query.module.Namespaces;
 import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.jetbrains.annotations.NotNull;
+import org.roaringbitmap.RoaringBitmap;
 import org.roaringbitmap.longlong.Roaring64Bitmap;
 import io.sirix.access.ResourceConfiguration;
+import io.sirix.exception.SirixIOException;
 import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.index.AtomicUtil;
+import io.sirix.index.IndexType;
+import io.sirix.index.bplustree.BPlusTreeNode;
 import io.sirix.index.path.summary.PathNode;
 import io.sirix.index.redblacktree.RBNodeKey;
 import io.sirix.index.redblacktree.RBNodeValue;
 import io.sirix.index.redblacktree.keyvalue.CASValue;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
+import io.sirix.node.compression.DeflateValueCodec;
+import io.sirix.node.compression.ValueCompression;
 import io.sirix.node.delegates.NameNodeDelegate;
 import io.sirix.node.delegates.NodeDelegate;
 import io.sirix.node.delegates.StructNodeDelegate;
@@ -72,7 +80,9 @@ import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static io.sirix.node.Utils.getVarLong;
@@ -162,10 +172,7 @@ public enum NodeKind implements DeweyIdSerializer {
       final NameNodeDelegate nameDel = deserializeNameDelegate(nodeDel, source);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.read(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       // Returning an instance.
       return new AttributeNode(nodeDel, nameDel, valDel, new QNm(""));
@@ -215,10 +222,7 @@ public enum NodeKind implements DeweyIdSerializer {
       final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.read(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       // Struct delegate.
       final long nodeKey = nodeDel.getNodeKey();
@@ -263,10 +267,7 @@ public enum NodeKind implements DeweyIdSerializer {
       final NameNodeDelegate nameDel = deserializeNameDelegate(nodeDel, source);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.read(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       // Returning an instance.
       return new PINode(structDel, nameDel, valDel, pageReadTrx);
@@ -296,10 +297,7 @@ public enum NodeKind implements DeweyIdSerializer {
       final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.read(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       // Struct delegate.
       final long nodeKey = nodeDel.getNodeKey();
@@ -619,17 +617,6 @@ public enum NodeKind implements DeweyIdSerializer {
         ResourceConfiguration resourceConfig) {
       throw new UnsupportedOperationException();
     }
-
-    private Type resolveType(final String s) {
-      final QNm name =
-          new QNm(Namespaces.XS_NSURI, Namespaces.XS_PREFIX, s.substring(Namespaces.XS_PREFIX.length() + 1));
-      for (final Type type : Type.builtInTypes) {
-        if (type.getName().getLocalName().equals(name.getLocalName())) {
-          return type;
-        }
-      }
-      throw new IllegalStateException("Unknown content type: " + name);
-    }
   },
 
   /**
@@ -770,6 +757,71 @@ public enum NodeKind implements DeweyIdSerializer {
     }
   },
 
+  /**
+   * Node kind is a B+-tree node of a CAS, path or name index.
+   */
+  BPLUS_TREE_NODE((byte) 56, BPlusTreeNode.class) {
+    @SuppressWarnings("rawtypes")
+    @Override
+    public @NotNull DataRecord deserialize(final BytesIn<?> source, final @NonNegative long recordID,
+        final byte[] deweyID, final PageReadOnlyTrx pageReadTrx) {
+      final IndexType indexType = IndexType.getType(source.readByte());
+      final boolean isLeaf = source.readBoolean();
+      final int size = (int) source.readStopBit();
+      final List<Comparable<?>> keys = new ArrayList<>(size + 1);
+      for (int i = 0; i < size; i++) {
+        keys.add(deserializeIndexKey(source, indexType));
+      }
+      final List<NodeReferences> values = new ArrayList<>(isLeaf ? size + 1 : 0);
+      final LongList childKeys = new LongArrayList(isLeaf ? 0 : size + 2);
+      long nextLeafKey = Fixed.NULL_NODE_KEY.getStandardProperty();
+      if (isLeaf) {
+        for (int i = 0; i < size; i++) {
+          values.add(new NodeReferences(deserializeNodeReferences(source)));
+        }
+        nextLeafKey = getVarLong(source);
+      } else {
+        for (int i = 0; i <= size; i++) {
+          childKeys.add(getVarLong(source));
+        }
+      }
+      return new BPlusTreeNode(recordID, indexType, isLeaf, keys, values, childKeys, nextLeafKey);
+    }
+
+    @Override
+    public void serialize(final BytesOut<ByteBuffer> sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx) {
+      final BPlusTreeNode<?> node = (BPlusTreeNode<?>) record;
+      final IndexType indexType = node.getIndexType();
+      sink.writeByte(indexType.getID());
+      sink.writeBoolean(node.isLeaf());
+      sink.writeStopBit(node.size());
+      for (final Comparable<?> key : node.getKeys()) {
+        serializeIndexKey(sink, indexType, key);
+      }
+      if (node.isLeaf()) {
+        for (final NodeReferences value : node.getValues()) {
+          serializeNodeReferences(sink, value.getNodeKeys());
+        }
+        putVarLong(sink, node.getNextLeafKey());
+      } else {
+        for (final long childKey : node.getChildKeys()) {
+          putVarLong(sink, childKey);
+        }
+      }
+    }
+
+    @Override
+    public byte[] deserializeDeweyID(BytesIn<?> source, byte[] previousDeweyID, ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void serializeDeweyID(BytesOut<?> sink, byte[] deweyID, byte[] nextDeweyID,
+        ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+  },
+
   /**
    * Node includes a deweyID &lt;=&gt; nodeKey mapping.
    */
@@ -968,10 +1020,7 @@ public enum NodeKind implements DeweyIdSerializer {
       final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.read(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       // Struct delegate.
       final StructNodeDelegate structDelegate = new StructNodeDelegate(nodeDel,
@@ -1190,10 +1239,7 @@ public enum NodeKind implements DeweyIdSerializer {
       final NodeDelegate nodeDel = deserializeNodeDelegate(source, recordID, deweyID, pageReadTrx);
 
       // Val delegate.
-      final boolean isCompressed = source.readByte() == (byte) 1;
-      final byte[] vals = new byte[source.readInt()];
-      source.read(vals, 0, vals.length);
-      final ValueNodeDelegate valDel = new ValueNodeDelegate(nodeDel, vals, isCompressed);
+      final ValueNodeDelegate valDel = deserializeValDelegate(nodeDel, source, pageReadTrx);
 
       // Struct delegate.
       final StructNodeDelegate structDel = deserializeStructNodeJsonValueNode(source, nodeDel);
@@ -1496,10 +1542,21 @@ public enum NodeKind implements DeweyIdSerializer {
   },
 
   REVISION_REFERENCES_NODE((byte) 35, RevisionReferencesNode.class) {
+    /**
+     * Format of revisions, which are stored as a {@link RoaringBitmap}. Older records store a
+     * boolean instead, which denotes if the int array of revisions is compressed.
+     */
+    private static final byte BITMAP_FORMAT = 2;
+
     @Override
     public @NotNull DataRecord deserialize(final BytesIn<?> source, final @NonNegative long recordID,
         final byte[] deweyID, final PageReadOnlyTrx pageReadTrx) {
-      final boolean isCompressed = source.readBoolean();
+      final byte format = source.readByte();
+      if (format == BITMAP_FORMAT) {
+        return new RevisionReferencesNode(recordID, deserializeRevisions(source));
+      }
+      // Same as the decoding of a boolean, which has been written by Chronicle Bytes.
+      final boolean isCompressed = format != 0 && format != 'N';
       final var length = source.readByte();
       final var revisions = new int[length];
       for (int i = 0; i < length; i++) {
@@ -1517,19 +1574,38 @@ public enum NodeKind implements DeweyIdSerializer {
     @Override
     public void serialize(final BytesOut<ByteBuffer> sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx) {
       final var revisionRefNode = (RevisionReferencesNode) record;
-      final var revisions = revisionRefNode.getRevisions();
-      final int[] compressedRevisions;
-      if (revisions.length > 10) {
-        compressedRevisions = INTEGRATED_INT_COMPRESSOR.compress(revisions);
-        sink.writeBoolean(true);
-      } else {
-        compressedRevisions = revisions;
-        sink.writeBoolean(false);
-      }
-      sink.writeByte((byte) compressedRevisions.length);
-      for (int compressedRevision : compressedRevisions) {
-        sink.writeInt(compressedRevision);
-      }
+      final RoaringBitmap revisions = revisionRefNode.getRevisionBitmap();
+      revisions.runOptimize();
+      sink.writeByte(BITMAP_FORMAT);
+      serializeRevisions(sink, revisions);
+    }
+
+    @Override
+    public byte[] deserializeDeweyID(BytesIn<?> source, byte[] previousDeweyID, ResourceConfiguration resourceConfig) {
+      return null;
+    }
+
+    @Override
+    public void serializeDeweyID(BytesOut<?> sink, byte[] deweyID, byte[] nextDeweyID,
+        ResourceConfiguration resourceConfig) {
+    }
+  },
+
+  CHANGED_NODES_NODE((byte) 36, ChangedNodesNode.class) {
+    @Override
+    public @NotNull DataRecord deserialize(final BytesIn<?> source, final @NonNegative long recordID,
+        final byte[] deweyID, final PageReadOnlyTrx pageReadTrx) {
+      final int revision = source.readInt();
+      return new ChangedNodesNode(recordID, revision, deserializeNodeReferences(source));
+    }
+
+    @Override
+    public void serialize(final BytesOut<ByteBuffer> sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx) {
+      final var changedNodesNode = (ChangedNodesNode) record;
+      final Roaring64Bitmap changedNodeKeys = changedNodesNode.getChangedNodeKeys();
+      changedNodeKeys.runOptimize();
+      sink.writeInt(changedNodesNode.getRevision());
+      serializeNodeReferences(sink, changedNodeKeys);
     }
 
     @Override
@@ -1570,6 +1646,75 @@ public enum NodeKind implements DeweyIdSerializer {
     }
   };
 
+  private static void serializeIndexKey(final BytesOut<ByteBuffer> sink, final IndexType indexType,
+      final Comparable<?> key) {
+    switch (indexType) {
+      case PATH -> putVarLong(sink, (Long) key);
+      case CAS -> {
+        final CASValue casValue = (CASValue) key;
+        final byte[] value = casValue.getValue();
+        assert value != null;
+        sink.writeInt(value.length);
+        sink.write(value);
+        final byte[] type = casValue.getType().toString().getBytes(Constants.DEFAULT_ENCODING);
+        sink.writeInt(type.length);
+        sink.write(type);
+        putVarLong(sink, casValue.getPathNodeKey());
+      }
+      case NAME -> {
+        final QNm name = (QNm) key;
+        final byte[] nspBytes = name.getNamespaceURI().getBytes(Constants.DEFAULT_ENCODING);
+        sink.writeInt(nspBytes.length);
+        sink.write(nspBytes);
+        final byte[] prefixBytes = name.getPrefix().getBytes(Constants.DEFAULT_ENCODING);
+        sink.writeInt(prefixBytes.length);
+        sink.write(prefixBytes);
+        final byte[] localNameBytes = name.getLocalName().getBytes(Constants.DEFAULT_ENCODING);
+        sink.writeInt(localNameBytes.length);
+        sink.write(localNameBytes);
+      }
+      default -> throw new IllegalStateException("Index type not supported: " + indexType);
+    }
+  }
+
+  private static Comparable<?> deserializeIndexKey(final BytesIn<?> source, final IndexType indexType) {
+    return switch (indexType) {
+      case PATH -> getVarLong(source);
+      case CAS -> {
+        final byte[] value = new byte[source.readInt()];
+        source.read(value);
+        final byte[] type = new byte[source.readInt()];
+        source.read(type);
+        final Type atomicType = resolveType(new String(type, Constants.DEFAULT_ENCODING));
+        final long pathNodeKey = getVarLong(source);
+        yield new CASValue(AtomicUtil.fromBytes(value, atomicType), atomicType, pathNodeKey);
+      }
+      case NAME -> {
+        final byte[] nspBytes = new byte[source.readInt()];
+        source.read(nspBytes);
+        final byte[] prefixBytes = new byte[source.readInt()];
+        source.read(prefixBytes);
+        final byte[] localNameBytes = new byte[source.readInt()];
+        source.read(localNameBytes);
+        yield new QNm(new String(nspBytes, Constants.DEFAULT_ENCODING),
+                      new String(prefixBytes, Constants.DEFAULT_ENCODING),
+                      new String(localNameBytes, Constants.DEFAULT_ENCODING));
+      }
+      default -> throw new IllegalStateException("Index type not supported: " + indexType);
+    };
+  }
+
+  private static Type resolveType(final String s) {
+    final QNm name =
+        new QNm(Namespaces.XS_NSURI, Namespaces.XS_PREFIX, s.substring(Namespaces.XS_PREFIX.length() + 1));
+    for (final Type type : Type.builtInTypes) {
+      if (type.getName().getLocalName().equals(name.getLocalName())) {
+        return type;
+      }
+    }
+    throw new IllegalStateException("Unknown content type: " + name);
+  }
+
   private static void serializeNodeReferences(BytesOut<ByteBuffer> sink, Roaring64Bitmap nodeKeys) {
     try (var outputStream = new DataOutputStream(sink.outputStream())) {
       nodeKeys.serialize(outputStream);
@@ -1578,6 +1723,25 @@ public enum NodeKind implements DeweyIdSerializer {
     }
   }
 
+  private static void serializeRevisions(BytesOut<ByteBuffer> sink, RoaringBitmap revisions) {
+    try (var outputStream = new DataOutputStream(sink.outputStream())) {
+      revisions.serialize(outputStream);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e.getMessage(), e);
+    }
+  }
+
+  @NotNull
+  private static RoaringBitmap deserializeRevisions(BytesIn<?> source) {
+    final var revisions = new RoaringBitmap();
+    try (var inputStream = new DataInputStream(source.inputStream())) {
+      revisions.deserialize(inputStream);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e.getMessage(), e);
+    }
+    return revisions;
+  }
+
   @NotNull
   private static Roaring64Bitmap deserializeNodeReferences(BytesIn<?> source) {
     final var nodeKeys = new Roaring64Bitmap();
@@ -1609,6 +1773,22 @@ public enum NodeKind implements DeweyIdSerializer {
    */
   private static final Map<Class<? extends DataRecord>, NodeKind> INSTANCEFORCLASS = new HashMap<>();
 
+  /**
+   * The format of a value, which is stored uncompressed.
+   */
+  private static final byte UNCOMPRESSED_VALUE = 0;
+
+  /**
+   * The format of a value, which has been compressed to a plain zlib stream before value codecs were
+   * introduced. It's only read.
+   */
+  private static final byte DEFLATED_VALUE = 1;
+
+  /**
+   * The format of a value, which has been encoded by a value codec and starts with the ID of the codec.
+   */
+  private static final byte ENCODED_VALUE = 2;
+
   static {
     for (final NodeKind node : values()) {
       INSTANCEFORID.put(node.id, node);
@@ -1888,14 +2068,50 @@ public enum NodeKind implements DeweyIdSerializer {
    * @param valueDel to be serialized
    * @param sink     to serialize to
    */
+  /**
+   * Get the compression of the node values of the resource, which is read.
+   *
+   * @param pageReadTrx the page transaction, which reads the node
+   * @return the compression or {@code null}, if it is unknown
+   */
+  private static @Nullable ValueCompression getValueCompression(final @Nullable PageReadOnlyTrx pageReadTrx) {
+    if (pageReadTrx != null
+        && pageReadTrx.getResourceSession() instanceof final InternalResourceSession<?, ?> resourceSession) {
+      return resourceSession.getValueCompression();
+    }
+    return null;
+  }
+
   private static void serializeValDelegate(final ValueNodeDelegate valueDel, final BytesOut<ByteBuffer> sink) {
     final boolean isCompressed = valueDel.isCompressed();
-    sink.writeByte(isCompressed ? (byte) 1 : (byte) 0);
+    sink.writeByte(isCompressed ? ENCODED_VALUE : UNCOMPRESSED_VALUE);
     final byte[] value = isCompressed ? valueDel.getCompressed() : valueDel.getRawValue();
     sink.writeInt(value.length);
     sink.write(value);
   }
 
+  private static ValueNodeDelegate deserializeValDelegate(final NodeDelegate nodeDel, final BytesIn<?> source,
+      final @Nullable PageReadOnlyTrx pageReadTrx) {
+    final byte format = source.readByte();
+    final int length = source.readInt();
+    final ValueCompression valueCompression = getValueCompression(pageReadTrx);
+    switch (format) {
+      case UNCOMPRESSED_VALUE, ENCODED_VALUE -> {
+        final byte[] vals = new byte[length];
+        source.read(vals, 0, length);
+        return new ValueNodeDelegate(nodeDel, vals, format == ENCODED_VALUE, valueCompression);
+      }
+      case DEFLATED_VALUE -> {
+        // The codec tag isn't stored, thus it's added in front of the zlib stream.
+        final byte[] vals = new byte[length + 1];
+        vals[0] = DeflateValueCodec.ID;
+        source.read(vals, 1, length);
+        return new ValueNodeDelegate(nodeDel, vals, true, valueCompression);
+      }
+      default -> throw new SirixIOException("Unknown format of a value: " + format);
+    }
+  }
+
   private static void writeHash(final BytesOut<ByteBuffer> sink, final long hashCode) {
     sink.writeLong(hashCode);
   }
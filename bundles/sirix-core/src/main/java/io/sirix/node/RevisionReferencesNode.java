@@ -2,18 +2,29 @@ package io.sirix.node;
 
 import io.sirix.node.interfaces.DataRecord;
 import io.sirix.node.interfaces.RecordSerializer;
+import org.roaringbitmap.RoaringBitmap;
 
-import java.util.Arrays;
 import java.util.Objects;
 
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The revisions, in which a record has been created, modified or removed. The revisions are stored
+ * in a compressed bitmap, such that adding a revision doesn't copy the revisions and records, which
+ * are modified in many revisions, stay small (consecutive revisions are run-length encoded).
+ */
 public final class RevisionReferencesNode implements DataRecord {
   private final long nodeKey;
 
-  private int[] revisions;
+  private final RoaringBitmap revisions;
 
   public RevisionReferencesNode(final long nodeKey, final int[] revisions) {
+    this(nodeKey, RoaringBitmap.bitmapOf(revisions));
+  }
+
+  public RevisionReferencesNode(final long nodeKey, final RoaringBitmap revisions) {
     this.nodeKey = nodeKey;
-    this.revisions = revisions;
+    this.revisions = requireNonNull(revisions);
   }
 
   @Override
@@ -47,18 +58,94 @@ public final class RevisionReferencesNode implements DataRecord {
   }
 
   public RevisionReferencesNode addRevision(final int revision) {
-    final int[] copy = new int[revisions.length + 1];
-    System.arraycopy(revisions, 0, copy, 0, revisions.length);
-    copy[copy.length - 1] = revision;
-    revisions = copy;
+    revisions.add(revision);
     return this;
   }
 
+  /**
+   * Determines if the record has been changed in the given revision.
+   *
+   * @param revision the revision
+   * @return {@code true}, if the record has been changed in the revision, {@code false} otherwise
+   */
+  public boolean containsRevision(final int revision) {
+    return revisions.contains(revision);
+  }
+
+  /**
+   * Get the earliest revision, in which the record has been changed, that is created.
+   *
+   * @return the earliest revision
+   * @throws java.util.NoSuchElementException if no revision is stored
+   */
+  public int getFirstRevision() {
+    return revisions.first();
+  }
+
+  /**
+   * Get the latest revision, in which the record has been changed.
+   *
+   * @return the latest revision
+   * @throws java.util.NoSuchElementException if no revision is stored
+   */
+  public int getLastRevision() {
+    return revisions.last();
+  }
+
+  /**
+   * Get the number of revisions, in which the record has been changed.
+   *
+   * @return the number of revisions
+   */
+  public int getNumberOfRevisions() {
+    return revisions.getCardinality();
+  }
+
+  /**
+   * Get the number of revisions, in which the record has been changed, up to and including the given
+   * revision.
+   *
+   * @param revision the revision
+   * @return the rank of the revision
+   */
+  public int rank(final int revision) {
+    return (int) revisions.rankLong(revision);
+  }
+
+  /**
+   * Get the revision at the given position.
+   *
+   * @param index the position of the revision in ascending order, starting at {@code 0}
+   * @return the revision
+   * @throws IllegalArgumentException if the index is out of bounds
+   */
+  public int select(final int index) {
+    return revisions.select(index);
+  }
+
+  /**
+   * Get the latest revision before the given revision, in which the record has been changed.
+   *
+   * @param revision the revision
+   * @return the revision or {@code -1}, if the record hasn't been changed before
+   */
+  public int getRevisionBefore(final int revision) {
+    return revision <= 0 ? -1 : (int) revisions.previousValue(revision - 1);
+  }
+
+  /**
+   * Get the earliest revision after the given revision, in which the record has been changed.
+   *
+   * @param revision the revision
+   * @return the revision or {@code -1}, if the record hasn't been changed afterwards
+   */
+  public int getRevisionAfter(final int revision) {
+    return revision == Integer.MAX_VALUE ? -1 : (int) revisions.nextValue(revision + 1);
+  }
+
   @Override
   public int hashCode() {
-    int result = Objects.hash(nodeKey);
-    result = 31 * result + Arrays.hashCode(revisions);
-    return result;
+    return Objects.hash(nodeKey, revisions);
   }
 
   @Override
@@ -68,10 +155,24 @@ public final class RevisionReferencesNode implements DataRecord {
     if (o == null || getClass() != o.getClass())
       return false;
     RevisionReferencesNode that = (RevisionReferencesNode) o;
-    return nodeKey == that.nodeKey && Arrays.equals(revisions, that.revisions);
+    return nodeKey == that.nodeKey && revisions.equals(that.revisions);
   }
 
+  /**
+   * Get the revisions in ascending order.
+   *
+   * @return the revisions
+   */
   public int[] getRevisions() {
+    return revisions.toArray();
+  }
+
+  /**
+   * Get the bitmap of the revisions, which must not be modified.
+   *
+   * @return the bitmap of the revisions
+   */
+  public RoaringBitmap getRevisionBitmap() {
     return revisions;
   }
 }
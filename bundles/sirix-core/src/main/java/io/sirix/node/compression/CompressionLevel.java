@@ -0,0 +1,23 @@
+package io.sirix.node.compression;
+
+/**
+ * The effort a {@link ValueCodec} spends on compressing a value. Codecs, which don't support
+ * different levels, ignore it.
+ */
+public enum CompressionLevel {
+  /**
+   * Compress as fast as possible, for instance short values, which are rarely worth a higher effort.
+   */
+  FAST,
+
+  /**
+   * The default trade-off between speed and compression ratio.
+   */
+  DEFAULT,
+
+  /**
+   * Compress as well as possible, for instance long values, which are usually read more often than
+   * they are written.
+   */
+  BEST
+}
@@ -0,0 +1,57 @@
+package io.sirix.node.compression;
+
+import io.sirix.utils.Compression;
+
+import java.util.zip.Deflater;
+
+/**
+ * Encodes values with the Deflate algorithm. An encoded value consists of the ID and a zlib stream.
+ */
+public final class DeflateValueCodec implements ValueCodec {
+
+  /**
+   * The name of the codec.
+   */
+  public static final String NAME = "deflate";
+
+  /**
+   * The ID of the codec.
+   */
+  public static final byte ID = 0x03;
+
+  /**
+   * The codec is stateless, thus all resources share a single instance.
+   */
+  static final DeflateValueCodec INSTANCE = new DeflateValueCodec();
+
+  private DeflateValueCodec() {
+  }
+
+  @Override
+  public byte getId() {
+    return ID;
+  }
+
+  @Override
+  public byte[] encode(final byte[] value) {
+    return encode(value, CompressionLevel.DEFAULT);
+  }
+
+  @Override
+  public byte[] encode(final byte[] value, final CompressionLevel level) {
+    final byte[] compressedValue = Compression.compress(value, switch (level) {
+      case FAST -> Deflater.HUFFMAN_ONLY;
+      case DEFAULT -> Deflater.DEFAULT_COMPRESSION;
+      case BEST -> Deflater.BEST_COMPRESSION;
+    });
+    final byte[] encodedValue = new byte[compressedValue.length + 1];
+    encodedValue[0] = ID;
+    System.arraycopy(compressedValue, 0, encodedValue, 1, compressedValue.length);
+    return encodedValue;
+  }
+
+  @Override
+  public byte[] decode(final byte[] encodedValue) {
+    return Compression.decompress(encodedValue, 1, encodedValue.length - 1);
+  }
+}
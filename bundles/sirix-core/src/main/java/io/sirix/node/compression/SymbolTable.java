@@ -0,0 +1,297 @@
+package io.sirix.node.compression;
+
+import io.sirix.exception.SirixIOException;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A static symbol table in the spirit of FSST (Fast Static Symbol Table): up to {@value #MAX_SYMBOLS}
+ * frequent byte sequences of up to {@value #MAX_SYMBOL_LENGTH} bytes are replaced by one byte codes.
+ * Bytes, which aren't covered by a symbol, are escaped by the code {@value #ESCAPE}. As each value
+ * is encoded on its own, short strings, which are too short for general purpose compression
+ * algorithms, are compressed as well. Decoding is a simple table lookup per code.
+ *
+ * <p>
+ * A table is immutable and thus thread safe.
+ * </p>
+ */
+final class SymbolTable {
+
+  /**
+   * The maximum number of symbols.
+   */
+  static final int MAX_SYMBOLS = 255;
+
+  /**
+   * The maximum length of a symbol.
+   */
+  static final int MAX_SYMBOL_LENGTH = 8;
+
+  /**
+   * The code, which is followed by a byte, which isn't covered by a symbol.
+   */
+  static final int ESCAPE = 255;
+
+  /**
+   * The number of rounds to train a table, in each of which symbols are concatenated.
+   */
+  private static final int TRAINING_ROUNDS = 5;
+
+  private static final int[] NO_CODES = new int[0];
+
+  /**
+   * The symbols, indexed by their code.
+   */
+  private final byte[][] symbols;
+
+  /**
+   * The codes of the symbols, which start with a byte, indexed by the byte. The longest symbols come
+   * first, such that the first matching symbol is the longest one.
+   */
+  private final int[][] codesByFirstByte;
+
+  /**
+   * Constructor.
+   *
+   * @param symbols the symbols
+   */
+  SymbolTable(final byte[][] symbols) {
+    if (symbols.length > MAX_SYMBOLS) {
+      throw new IllegalArgumentException("A symbol table must not have more than " + MAX_SYMBOLS + " symbols.");
+    }
+    this.symbols = symbols;
+
+    @SuppressWarnings("unchecked") final List<Integer>[] codes = new List[256];
+    for (int code = 0; code < symbols.length; code++) {
+      final byte[] symbol = symbols[code];
+      if (symbol.length == 0 || symbol.length > MAX_SYMBOL_LENGTH) {
+        throw new IllegalArgumentException("A symbol must have between 1 and " + MAX_SYMBOL_LENGTH + " bytes.");
+      }
+      final int firstByte = symbol[0] & 0xFF;
+      if (codes[firstByte] == null) {
+        codes[firstByte] = new ArrayList<>();
+      }
+      codes[firstByte].add(code);
+    }
+
+    codesByFirstByte = new int[256][];
+    for (int firstByte = 0; firstByte < 256; firstByte++) {
+      if (codes[firstByte] == null) {
+        codesByFirstByte[firstByte] = NO_CODES;
+      } else {
+        codesByFirstByte[firstByte] = codes[firstByte].stream()
+                                                      .sorted(Comparator.comparingInt(code -> -symbols[code].length))
+                                                      .mapToInt(Integer::intValue)
+                                                      .toArray();
+      }
+    }
+  }
+
+  /**
+   * Get the number of symbols.
+   *
+   * @return the number of symbols
+   */
+  int size() {
+    return symbols.length;
+  }
+
+  /**
+   * Get the code of the longest symbol, which is a prefix of the value at the given offset.
+   *
+   * @param value  the value
+   * @param offset the offset in the value
+   * @return the code or {@code -1}, if no symbol matches
+   */
+  private int findLongestSymbol(final byte[] value, final int offset) {
+    for (final int code : codesByFirstByte[value[offset] & 0xFF]) {
+      final byte[] symbol = symbols[code];
+      if (symbol.length <= value.length - offset
+          && Arrays.equals(symbol, 0, symbol.length, value, offset, offset + symbol.length)) {
+        return code;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Encode a value.
+   *
+   * @param value  the value to encode
+   * @param target the array to write the codes to, which must have room for twice the length of the
+   *               value
+   * @param offset the offset in the target array
+   * @return the offset after the last code
+   */
+  int encode(final byte[] value, final byte[] target, int offset) {
+    int position = 0;
+    while (position < value.length) {
+      final int code = findLongestSymbol(value, position);
+      if (code == -1) {
+        target[offset++] = (byte) ESCAPE;
+        target[offset++] = value[position++];
+      } else {
+        target[offset++] = (byte) code;
+        position += symbols[code].length;
+      }
+    }
+    return offset;
+  }
+
+  /**
+   * Get the length of an encoded value.
+   *
+   * @param value the value
+   * @return the number of bytes of the codes
+   */
+  int encodedLength(final byte[] value) {
+    int length = 0;
+    int position = 0;
+    while (position < value.length) {
+      final int code = findLongestSymbol(value, position);
+      if (code == -1) {
+        length += 2;
+        position++;
+      } else {
+        length++;
+        position += symbols[code].length;
+      }
+    }
+    return length;
+  }
+
+  /**
+   * Decode a value.
+   *
+   * @param encodedValue the encoded value
+   * @param offset       the offset of the first code
+   * @return the decoded value
+   */
+  byte[] decode(final byte[] encodedValue, final int offset) {
+    int length = 0;
+    for (int position = offset; position < encodedValue.length; position++) {
+      final int code = encodedValue[position] & 0xFF;
+      if (code == ESCAPE) {
+        position++;
+        length++;
+      } else if (code < symbols.length) {
+        length += symbols[code].length;
+      } else {
+        throw new SirixIOException("Unknown symbol code " + code + ".");
+      }
+    }
+
+    final byte[] value = new byte[length];
+    int valuePosition = 0;
+    for (int position = offset; position < encodedValue.length; position++) {
+      final int code = encodedValue[position] & 0xFF;
+      if (code == ESCAPE) {
+        if (++position == encodedValue.length) {
+          throw new SirixIOException("Malformed symbol table encoded value.");
+        }
+        value[valuePosition++] = encodedValue[position];
+      } else {
+        final byte[] symbol = symbols[code];
+        System.arraycopy(symbol, 0, value, valuePosition, symbol.length);
+        valuePosition += symbol.length;
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Train a table on sample values. In each round the samples are encoded with the table of the
+   * previous round. The occurrences of the symbols and of the concatenations of adjacent symbols are
+   * counted and the symbols with the highest gain, that is the number of occurrences times the
+   * length, are chosen for the next table.
+   *
+   * @param samples the sample values
+   * @return the trained table
+   */
+  static SymbolTable train(final List<byte[]> samples) {
+    SymbolTable table = new SymbolTable(new byte[0][]);
+
+    for (int round = 0; round < TRAINING_ROUNDS; round++) {
+      // Symbols are counted as ISO-8859-1 strings, which map each byte to a char.
+      final Map<String, Integer> counts = new HashMap<>();
+
+      for (final byte[] sample : samples) {
+        String previousSymbol = null;
+        int position = 0;
+        while (position < sample.length) {
+          final int code = table.findLongestSymbol(sample, position);
+          final int length = code == -1 ? 1 : table.symbols[code].length;
+          final String symbol = new String(sample, position, length, StandardCharsets.ISO_8859_1);
+
+          counts.merge(symbol, 1, Integer::sum);
+          if (length > 1) {
+            // Single bytes might still be better than the symbol.
+            counts.merge(symbol.substring(0, 1), 1, Integer::sum);
+          }
+          if (previousSymbol != null && previousSymbol.length() + length <= MAX_SYMBOL_LENGTH) {
+            counts.merge(previousSymbol + symbol, 1, Integer::sum);
+          }
+
+          previousSymbol = symbol;
+          position += length;
+        }
+      }
+
+      final byte[][] symbols = counts.entrySet()
+                                     .stream()
+                                     .filter(entry -> entry.getValue() > 1)
+                                     .sorted(Comparator.<Map.Entry<String, Integer>>comparingLong(
+                                         entry -> -(long) entry.getValue() * entry.getKey().length())
+                                                       .thenComparing(Map.Entry::getKey))
+                                     .limit(MAX_SYMBOLS)
+                                     .map(entry -> entry.getKey().getBytes(StandardCharsets.ISO_8859_1))
+                                     .toArray(byte[][]::new);
+      table = new SymbolTable(symbols);
+    }
+
+    return table;
+  }
+
+  /**
+   * Serialize the table.
+   *
+   * @param output the output to write to
+   * @throws IOException if an I/O error occurs
+   */
+  void serialize(final DataOutput output) throws IOException {
+    output.writeByte(symbols.length);
+    for (final byte[] symbol : symbols) {
+      output.writeByte(symbol.length);
+      output.write(symbol);
+    }
+  }
+
+  /**
+   * Deserialize a table.
+   *
+   * @param input the input to read from
+   * @return the table
+   * @throws IOException if an I/O error occurs
+   */
+  static SymbolTable deserialize(final DataInput input) throws IOException {
+    final byte[][] symbols = new byte[input.readUnsignedByte()][];
+    for (int code = 0; code < symbols.length; code++) {
+      symbols[code] = new byte[input.readUnsignedByte()];
+      input.readFully(symbols[code]);
+    }
+    try {
+      return new SymbolTable(symbols);
+    } catch (final IllegalArgumentException e) {
+      throw new IOException(e);
+    }
+  }
+}
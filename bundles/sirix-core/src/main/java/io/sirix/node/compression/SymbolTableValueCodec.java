@@ -0,0 +1,278 @@
+package io.sirix.node.compression;
+
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.exception.SirixIOException;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Encodes values with a {@link SymbolTable}, which is trained on the values of a resource. This
+ * suits the many short strings of JSON resources, which general purpose compression algorithms
+ * can't compress.
+ *
+ * <p>
+ * The codec keeps a uniform sample of the encoded values. After a commit, a new table is trained on
+ * the sample, if enough values have been encoded since the last training. If the new table
+ * compresses the sample considerably better than the current one, it is stored with the next
+ * version number in the {@value #SYMBOL_TABLES} folder of the resource data and used for all values,
+ * which are encoded afterwards. Tables are never removed, as values, which are stored in older
+ * revisions, reference the version of their table. Values, which are encoded before the first table
+ * has been trained, are stored uncompressed.
+ * </p>
+ *
+ * <p>
+ * An encoded value consists of the ID, the version of the table as a variable length integer and
+ * the codes.
+ * </p>
+ */
+public final class SymbolTableValueCodec implements ValueCodec {
+
+  /**
+   * The name of the codec.
+   */
+  public static final String NAME = "symbol-table";
+
+  /**
+   * The ID of the codec.
+   */
+  public static final byte ID = 0x02;
+
+  /**
+   * The folder in the data folder of a resource, in which the tables are stored.
+   */
+  static final String SYMBOL_TABLES = "symbol-tables";
+
+  /**
+   * The maximum number of sampled values.
+   */
+  static final int SAMPLE_SIZE = 4096;
+
+  /**
+   * The minimum number of sampled values to train a table.
+   */
+  static final int MIN_SAMPLE_SIZE = 256;
+
+  /**
+   * The maximum number of bytes of a value, which are sampled.
+   */
+  private static final int MAX_SAMPLE_LENGTH = 64;
+
+  /**
+   * The minimum relative reduction of the encoded sample size, for which a new table replaces the
+   * current table.
+   */
+  private static final double MIN_IMPROVEMENT = 0.05;
+
+  /**
+   * A table and its version.
+   */
+  private record VersionedTable(int version, SymbolTable table) {
+  }
+
+  /**
+   * The folder of the tables.
+   */
+  private final Path directory;
+
+  /**
+   * The tables, which have been loaded, by their version.
+   */
+  private final ConcurrentMap<Integer, SymbolTable> tables = new ConcurrentHashMap<>();
+
+  /**
+   * The table, with which values are encoded, or {@code null}, if none has been trained yet.
+   */
+  private volatile @Nullable VersionedTable currentTable;
+
+  /**
+   * The sampled values, which are guarded by the list itself.
+   */
+  private final List<byte[]> samples = new ArrayList<>(SAMPLE_SIZE);
+
+  /**
+   * The number of values, from which the current sample has been drawn.
+   */
+  private long numberOfSampledValues;
+
+  /**
+   * The number of values, which have been sampled since the last training.
+   */
+  private long numberOfValuesSinceTraining;
+
+  /**
+   * Constructor.
+   *
+   * @param resourceConfig the configuration of the resource
+   */
+  SymbolTableValueCodec(final ResourceConfiguration resourceConfig) {
+    this(resourceConfig.getResource()
+                       .resolve(ResourceConfiguration.ResourcePaths.DATA.getPath())
+                       .resolve(SYMBOL_TABLES));
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param directory the folder of the tables
+   */
+  SymbolTableValueCodec(final Path directory) {
+    this.directory = requireNonNull(directory);
+
+    final int latestVersion = getLatestVersion();
+    if (latestVersion != -1) {
+      currentTable = new VersionedTable(latestVersion, getTable(latestVersion));
+    }
+  }
+
+  private int getLatestVersion() {
+    if (!Files.isDirectory(directory)) {
+      return -1;
+    }
+    try (final Stream<Path> files = Files.list(directory)) {
+      return files.map(file -> file.getFileName().toString())
+                  .filter(fileName -> !fileName.isEmpty() && fileName.chars().allMatch(Character::isDigit))
+                  .mapToInt(Integer::parseInt)
+                  .max()
+                  .orElse(-1);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  public byte getId() {
+    return ID;
+  }
+
+  @Override
+  public byte @Nullable [] encode(final byte[] value) {
+    sample(value);
+
+    final VersionedTable versionedTable = currentTable;
+    if (versionedTable == null) {
+      return null;
+    }
+
+    final int headerLength = 1 + ValueCodecs.varIntLength(versionedTable.version());
+    final byte[] encodedValue = new byte[headerLength + 2 * value.length];
+    encodedValue[0] = ID;
+    ValueCodecs.writeVarInt(versionedTable.version(), encodedValue, 1);
+    return Arrays.copyOf(encodedValue, versionedTable.table().encode(value, encodedValue, headerLength));
+  }
+
+  @Override
+  public byte[] decode(final byte[] encodedValue) {
+    final long versionAndOffset = ValueCodecs.readVarInt(encodedValue, 1);
+    return getTable((int) versionAndOffset).decode(encodedValue, (int) (versionAndOffset >>> 32));
+  }
+
+  private SymbolTable getTable(final int version) {
+    // Tables might have been trained by the write transaction of another session on the resource.
+    return tables.computeIfAbsent(version, this::readTable);
+  }
+
+  private SymbolTable readTable(final int version) {
+    try (final InputStream input = Files.newInputStream(directory.resolve(String.valueOf(version)))) {
+      return SymbolTable.deserialize(new DataInputStream(input));
+    } catch (final NoSuchFileException e) {
+      throw new SirixIOException("The symbol table with version " + version + " doesn't exist.", e);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private void sample(final byte[] value) {
+    synchronized (samples) {
+      numberOfSampledValues++;
+      numberOfValuesSinceTraining++;
+
+      // Reservoir sampling, such that each value is sampled with the same probability.
+      if (samples.size() < SAMPLE_SIZE) {
+        samples.add(Arrays.copyOf(value, Math.min(value.length, MAX_SAMPLE_LENGTH)));
+      } else {
+        final long index = ThreadLocalRandom.current().nextLong(numberOfSampledValues);
+        if (index < SAMPLE_SIZE) {
+          samples.set((int) index, Arrays.copyOf(value, Math.min(value.length, MAX_SAMPLE_LENGTH)));
+        }
+      }
+    }
+  }
+
+  @Override
+  public void onCommit() {
+    synchronized (samples) {
+      final VersionedTable versionedTable = currentTable;
+      final int minNumberOfNewValues = versionedTable == null ? MIN_SAMPLE_SIZE : SAMPLE_SIZE;
+      if (samples.size() < MIN_SAMPLE_SIZE || numberOfValuesSinceTraining < minNumberOfNewValues) {
+        return;
+      }
+
+      final SymbolTable table = SymbolTable.train(samples);
+      final long encodedSize = encodedSize(table);
+      final long currentEncodedSize = versionedTable == null
+          ? samples.stream().mapToLong(sample -> sample.length).sum()
+          : encodedSize(versionedTable.table());
+
+      // Let the sample favour newer values from now on.
+      numberOfSampledValues = samples.size();
+      numberOfValuesSinceTraining = 0;
+
+      if (encodedSize < currentEncodedSize * (1 - MIN_IMPROVEMENT)) {
+        final int version = Math.max(getLatestVersion(), versionedTable == null ? -1 : versionedTable.version()) + 1;
+        writeTable(version, table);
+        tables.put(version, table);
+        currentTable = new VersionedTable(version, table);
+      }
+    }
+  }
+
+  private long encodedSize(final SymbolTable table) {
+    return samples.stream().mapToLong(table::encodedLength).sum();
+  }
+
+  private void writeTable(final int version, final SymbolTable table) {
+    try {
+      final ByteArrayOutputStream output = new ByteArrayOutputStream();
+      table.serialize(new DataOutputStream(output));
+
+      Files.createDirectories(directory);
+      final Path file = directory.resolve(String.valueOf(version));
+      final Path temporaryFile = directory.resolve(version + ".tmp");
+      try (final FileChannel channel = FileChannel.open(temporaryFile,
+                                                        StandardOpenOption.CREATE,
+                                                        StandardOpenOption.TRUNCATE_EXISTING,
+                                                        StandardOpenOption.WRITE)) {
+        final ByteBuffer buffer = ByteBuffer.wrap(output.toByteArray());
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        // The table must be durable before any value, which references it.
+        channel.force(true);
+      }
+      Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package io.sirix.node.compression;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Encodes and decodes the values of text, string, attribute, comment and processing instruction
+ * nodes. Each encoded value starts with the {@link #getId() ID} of the codec, such that a value can
+ * always be decoded, regardless of the codec, which is configured for a resource.
+ *
+ * <p>
+ * Codecs are shared by all transactions of a resource session, thus {@link #encode(byte[])} and
+ * {@link #decode(byte[])} must be thread safe. {@link #onCommit()} is only called by the
+ * write-transaction of the resource.
+ * </p>
+ */
+public interface ValueCodec {
+
+  /**
+   * Get the ID of the codec, which is stored as the first byte of each encoded value.
+   *
+   * @return the ID of the codec
+   */
+  byte getId();
+
+  /**
+   * Encode a value.
+   *
+   * @param value the value to encode
+   * @return the encoded value, which starts with the ID of the codec, or {@code null}, if the codec
+   * currently can't encode values
+   */
+  byte @Nullable [] encode(byte[] value);
+
+  /**
+   * Encode a value with a compression level. Codecs, which don't support different levels, encode
+   * the value like {@link #encode(byte[])}.
+   *
+   * @param value the value to encode
+   * @param level the compression level
+   * @return the encoded value, which starts with the ID of the codec, or {@code null}, if the codec
+   * currently can't encode values
+   */
+  default byte @Nullable [] encode(final byte[] value, final CompressionLevel level) {
+    return encode(value);
+  }
+
+  /**
+   * Decode a value, which has been encoded by this codec.
+   *
+   * @param encodedValue the encoded value including the ID of the codec
+   * @return the decoded value
+   */
+  byte[] decode(byte[] encodedValue);
+
+  /**
+   * Invoked after a revision has been committed.
+   */
+  default void onCommit() {
+  }
+}
@@ -0,0 +1,34 @@
+package io.sirix.node.compression;
+
+import io.sirix.access.ResourceConfiguration;
+
+/**
+ * Creates the {@link ValueCodec} of a resource. Besides the built-in codecs, factories are found by
+ * the {@link java.util.ServiceLoader}, such that a codec can be configured by its name with
+ * {@link ResourceConfiguration.Builder#valueCodec(String)}.
+ */
+public interface ValueCodecFactory {
+
+  /**
+   * Get the name of the codec, which is stored in the resource configuration.
+   *
+   * @return the name of the codec
+   */
+  String getName();
+
+  /**
+   * Get the ID of the codec, which is stored as the first byte of each encoded value. The IDs of
+   * the built-in codecs are reserved.
+   *
+   * @return the ID of the codec
+   */
+  byte getId();
+
+  /**
+   * Create the codec of a resource.
+   *
+   * @param resourceConfig the configuration of the resource
+   * @return the codec
+   */
+  ValueCodec create(ResourceConfiguration resourceConfig);
+}
@@ -0,0 +1,188 @@
+package io.sirix.node.compression;
+
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.exception.SirixIOException;
+import io.sirix.utils.LogWrapper;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The registry of the available {@link ValueCodecFactory}s: the built-in codecs
+ * ({@value DeflateValueCodec#NAME}, {@value LZ4ValueCodec#NAME} and
+ * {@value SymbolTableValueCodec#NAME}) and the codecs found by the {@link ServiceLoader}.
+ */
+public final class ValueCodecs {
+
+  /**
+   * {@link LogWrapper} reference.
+   */
+  private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(ValueCodecs.class));
+
+  /**
+   * The name of the default codec.
+   */
+  public static final String DEFAULT_CODEC = DeflateValueCodec.NAME;
+
+  private static final Map<String, ValueCodecFactory> FACTORIES_BY_NAME = new LinkedHashMap<>();
+
+  private static final ValueCodecFactory[] FACTORIES_BY_ID = new ValueCodecFactory[256];
+
+  static {
+    register(new BuiltInFactory(DeflateValueCodec.NAME, DeflateValueCodec.ID, config -> DeflateValueCodec.INSTANCE));
+    register(new BuiltInFactory(LZ4ValueCodec.NAME, LZ4ValueCodec.ID, config -> LZ4ValueCodec.INSTANCE));
+    register(new BuiltInFactory(SymbolTableValueCodec.NAME, SymbolTableValueCodec.ID, SymbolTableValueCodec::new));
+
+    try {
+      for (final ValueCodecFactory factory : ServiceLoader.load(ValueCodecFactory.class)) {
+        try {
+          register(factory);
+        } catch (final IllegalStateException e) {
+          LOGGER.warn("Couldn't register the value codec {}: {}", factory.getName(), e.getMessage());
+        }
+      }
+    } catch (final ServiceConfigurationError e) {
+      LOGGER.warn("Couldn't load the value codecs: {}", e.getMessage());
+    }
+  }
+
+  private ValueCodecs() {
+    throw new AssertionError("May not be instantiated!");
+  }
+
+  private static void register(final ValueCodecFactory factory) {
+    final int id = factory.getId() & 0xFF;
+    if (FACTORIES_BY_ID[id] != null) {
+      throw new IllegalStateException("The ID " + id + " is already used by " + FACTORIES_BY_ID[id].getName() + ".");
+    }
+    if (FACTORIES_BY_NAME.containsKey(factory.getName())) {
+      throw new IllegalStateException("The name " + factory.getName() + " is already used.");
+    }
+    FACTORIES_BY_ID[id] = factory;
+    FACTORIES_BY_NAME.put(factory.getName(), factory);
+  }
+
+  /**
+   * Get the names of all available codecs.
+   *
+   * @return the names of the codecs
+   */
+  public static Set<String> getNames() {
+    return Collections.unmodifiableSet(FACTORIES_BY_NAME.keySet());
+  }
+
+  /**
+   * Get the factory of a codec by its name.
+   *
+   * @param name the name of the codec
+   * @return the factory
+   * @throws IllegalArgumentException if no codec with the given name is available
+   */
+  public static ValueCodecFactory getFactory(final String name) {
+    final ValueCodecFactory factory = FACTORIES_BY_NAME.get(requireNonNull(name));
+    if (factory == null) {
+      throw new IllegalArgumentException("Unknown value codec: " + name + " (available: " + getNames() + ").");
+    }
+    return factory;
+  }
+
+  /**
+   * Get the factory of a codec by its ID.
+   *
+   * @param id the ID of the codec
+   * @return the factory or {@code null}, if no codec with the given ID is available
+   */
+  public static @Nullable ValueCodecFactory getFactory(final byte id) {
+    return FACTORIES_BY_ID[id & 0xFF];
+  }
+
+  /**
+   * Decode a value, which has been encoded by a codec, which doesn't depend on a resource.
+   *
+   * @param encodedValue the encoded value, which starts with the ID of the codec
+   * @return the decoded value
+   * @throws SirixIOException if the codec of the value depends on a resource
+   */
+  public static byte[] decode(final byte[] encodedValue) {
+    return switch (encodedValue[0]) {
+      case DeflateValueCodec.ID -> DeflateValueCodec.INSTANCE.decode(encodedValue);
+      case LZ4ValueCodec.ID -> LZ4ValueCodec.INSTANCE.decode(encodedValue);
+      default -> throw new SirixIOException(
+          "The value codec with ID " + (encodedValue[0] & 0xFF) + " requires the resource session.");
+    };
+  }
+
+  /**
+   * Write a non-negative variable length integer.
+   *
+   * @param value  the value
+   * @param bytes  the bytes to write to
+   * @param offset the offset to write at
+   * @return the offset after the integer
+   */
+  static int writeVarInt(int value, final byte[] bytes, int offset) {
+    while ((value & ~0x7F) != 0) {
+      bytes[offset++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    bytes[offset++] = (byte) value;
+    return offset;
+  }
+
+  /**
+   * Get the number of bytes of a non-negative variable length integer.
+   *
+   * @param value the value
+   * @return the number of bytes
+   */
+  static int varIntLength(int value) {
+    int length = 1;
+    while ((value & ~0x7F) != 0) {
+      length++;
+      value >>>= 7;
+    }
+    return length;
+  }
+
+  /**
+   * Read a non-negative variable length integer.
+   *
+   * @param bytes  the bytes to read from
+   * @param offset the offset to read at
+   * @return the value in the lower and the offset after the integer in the upper 32 bits
+   */
+  static long readVarInt(final byte[] bytes, int offset) {
+    int value = 0;
+    int shift = 0;
+    byte current;
+    do {
+      if (offset >= bytes.length || shift > 28) {
+        throw new SirixIOException("Malformed encoded value.");
+      }
+      current = bytes[offset++];
+      value |= (current & 0x7F) << shift;
+      shift += 7;
+    } while ((current & 0x80) != 0);
+    return ((long) offset << 32) | (value & 0xFFFFFFFFL);
+  }
+
+  /**
+   * A factory of a built-in codec.
+   */
+  private record BuiltInFactory(String getName, byte getId, Function<ResourceConfiguration, ValueCodec> constructor)
+      implements ValueCodecFactory {
+    @Override
+    public ValueCodec create(final ResourceConfiguration resourceConfig) {
+      return constructor.apply(resourceConfig);
+    }
+  }
+}
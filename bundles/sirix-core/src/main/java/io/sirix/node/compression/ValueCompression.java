@@ -0,0 +1,84 @@
+package io.sirix.node.compression;
+
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.exception.SirixIOException;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The compression of the node values of a resource session. Values are encoded with the codec,
+ * which is configured for the resource, and decoded with the codec, whose ID is stored in the
+ * encoded value. Thus, values, which have been encoded with another codec, remain readable.
+ */
+public final class ValueCompression {
+
+  /**
+   * The resource configuration.
+   */
+  private final ResourceConfiguration resourceConfig;
+
+  /**
+   * The codec, with which values are encoded.
+   */
+  private final ValueCodec codec;
+
+  /**
+   * The codecs, which have been used for decoding, by their ID.
+   */
+  private final AtomicReferenceArray<ValueCodec> decoders = new AtomicReferenceArray<>(256);
+
+  /**
+   * Constructor.
+   *
+   * @param resourceConfig the configuration of the resource
+   */
+  public ValueCompression(final ResourceConfiguration resourceConfig) {
+    this.resourceConfig = requireNonNull(resourceConfig);
+    codec = ValueCodecs.getFactory(resourceConfig.valueCodec()).create(resourceConfig);
+    decoders.set(codec.getId() & 0xFF, codec);
+  }
+
+  /**
+   * Compress a value.
+   *
+   * @param value the value to compress
+   * @param level the compression level
+   * @return the compressed value or {@code null}, if the value should be stored uncompressed, as it
+   * can't be compressed or the compressed value isn't smaller
+   */
+  public byte @Nullable [] compress(final byte[] value, final CompressionLevel level) {
+    final byte[] encodedValue = codec.encode(value, level);
+    return encodedValue == null || encodedValue.length >= value.length ? null : encodedValue;
+  }
+
+  /**
+   * Decompress a value.
+   *
+   * @param compressedValue the compressed value
+   * @return the decompressed value
+   * @throws SirixIOException if the codec of the value isn't available
+   */
+  public byte[] decompress(final byte[] compressedValue) {
+    final int id = compressedValue[0] & 0xFF;
+    ValueCodec decoder = decoders.get(id);
+    if (decoder == null) {
+      final ValueCodecFactory factory = ValueCodecs.getFactory(compressedValue[0]);
+      if (factory == null) {
+        throw new SirixIOException("No value codec with ID " + id + " is available.");
+      }
+      decoders.compareAndSet(id, null, factory.create(resourceConfig));
+      decoder = decoders.get(id);
+    }
+    return decoder.decode(compressedValue);
+  }
+
+  /**
+   * Invoked after a revision has been committed, such that the codec is able to adapt to the values.
+   */
+  public void onCommit() {
+    codec.onCommit();
+  }
+}
@@ -27,14 +27,15 @@ import io.sirix.node.NodeKind;
 import io.sirix.node.interfaces.Node;
 import io.sirix.node.interfaces.ValueNode;
 import io.sirix.settings.Constants;
-import io.sirix.utils.Compression;
+import io.sirix.node.compression.CompressionLevel;
+import io.sirix.node.compression.ValueCodecs;
+import io.sirix.node.compression.ValueCompression;
 import net.openhft.chronicle.bytes.Bytes;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jetbrains.annotations.NotNull;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
-import java.util.zip.Deflater;
 
 /**
  * Delegate method for all nodes containing "value"-data. That means that independent values are
@@ -54,6 +55,9 @@ public class ValueNodeDelegate extends AbstractForwardingNode implements ValueNo
   /** Determines if input has been compressed. */
   private boolean compressed;
 
+  /** The compression of the values of the resource, or {@code null} if values aren't compressed. */
+  private final @Nullable ValueCompression valueCompression;
+
   /**
    * Constructor
    *
@@ -62,11 +66,26 @@ public class ValueNodeDelegate extends AbstractForwardingNode implements ValueNo
    * @param compressed compress value or not
    */
   public ValueNodeDelegate(final NodeDelegate nodeDel, final byte[] val, final boolean compressed) {
+    this(nodeDel, val, compressed, null);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param nodeDel {@link NodeDelegate} reference
+   * @param val the value
+   * @param compressed compress value or not
+   * @param valueCompression the compression of the values of the resource, or {@code null}, if
+   *        changed values are stored uncompressed
+   */
+  public ValueNodeDelegate(final NodeDelegate nodeDel, final byte[] val, final boolean compressed,
+      final @Nullable ValueCompression valueCompression) {
     assert nodeDel != null : "nodeDel must not be null!";
     assert val != null : "val must not be null!";
     nodeDelegate = nodeDel;
     value = val;
     this.compressed = compressed;
+    this.valueCompression = valueCompression;
   }
 
   @Override
@@ -86,9 +105,12 @@ public class ValueNodeDelegate extends AbstractForwardingNode implements ValueNo
 
   @Override
   public byte[] getRawValue() {
-    return compressed
-        ? Compression.decompress(value)
-        : value;
+    if (!compressed) {
+      return value;
+    }
+    return valueCompression == null
+        ? ValueCodecs.decode(value)
+        : valueCompression.decompress(value);
   }
 
   @Override
@@ -107,9 +129,13 @@ public class ValueNodeDelegate extends AbstractForwardingNode implements ValueNo
 
   @Override
   public void setRawValue(final byte[] value) {
-    compressed = new String(value).length() > 10;
+    final byte[] compressedValue =
+        valueCompression != null && new String(value).length() > 10
+            ? valueCompression.compress(value, CompressionLevel.DEFAULT)
+            : null;
+    compressed = compressedValue != null;
     this.value = compressed
-        ? Compression.compress(value, Deflater.DEFAULT_COMPRESSION)
+        ? compressedValue
         : value;
   }
 
@@ -38,7 +38,10 @@ import io.sirix.page.interfaces.KeyValuePage;
 import io.sirix.settings.Constants;
 import io.sirix.utils.ArrayIterator;
 
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -56,6 +59,18 @@ import java.util.concurrent.ConcurrentHashMap;
 @SuppressWarnings("unchecked")
 public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
 
+  /**
+   * Maximum size of memory, which may back slots (offsets and lengths of slots are stored in 28 bits).
+   */
+  public static final long MAX_SLOT_MEMORY_SIZE = 1L << 28;
+
+  /**
+   * Maximum number of different memory segments, which may back the slots of a page.
+   */
+  private static final int MAX_SLOT_MEMORIES = 1 << 8;
+
+  private static final long SLOT_LOCATION_MASK = MAX_SLOT_MEMORY_SIZE - 1;
+
   /**
    * The current revision.
    */
@@ -91,6 +106,19 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
    */
   private final byte[][] slots;
 
+  /**
+   * Memory segments, which back slots that have not been copied into {@link #slots} (or {@code null}).
+   * The segments are slices of memory-mapped data files with an automatic scope, thus they stay valid
+   * as long as the page is reachable.
+   */
+  private MemorySegment[] slotMemories;
+
+  /**
+   * Locations of the slots in {@link #slotMemories} (see {@link #slotLocation(int, long, int)}) or
+   * {@code 0}, if a slot is not backed by memory (or {@code null}, if no slot is backed by memory).
+   */
+  private long[] slotLocations;
+
   /**
    * DeweyIDs.
    */
@@ -130,6 +158,8 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
     this.records = Arrays.copyOf(pageToClone.records, pageToClone.records.length);
     this.slots = Arrays.copyOf(pageToClone.slots, pageToClone.slots.length);
     this.deweyIds = Arrays.copyOf(pageToClone.deweyIds, pageToClone.deweyIds.length);
+    this.slotMemories = pageToClone.slotMemories;
+    this.slotLocations = pageToClone.slotLocations == null ? null : pageToClone.slotLocations.clone();
     this.indexType = pageToClone.indexType;
     this.recordPersister = pageToClone.recordPersister;
     this.resourceConfig = pageToClone.resourceConfig;
@@ -191,6 +221,53 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
     this.records = new DataRecord[Constants.NDP_NODE_COUNT];
   }
 
+  /**
+   * Constructor which reads deserialized data to the {@link KeyValueLeafPage} from the storage,
+   * whereas slots, which are not deserialized, are backed by the memory of the serialized page.
+   *
+   * @param recordPageKey     This is the base key of all contained nodes.
+   * @param revision          The current revision.
+   * @param indexType         The index type.
+   * @param resourceConfig    The resource configuration.
+   * @param areDeweyIDsStored Determines if DeweyIDs are stored or not.
+   * @param recordPersister   Persistenter.
+   * @param slots             Slots which were serialized.
+   * @param slotMemory        Memory of the serialized page, which must stay valid as long as it's reachable.
+   * @param slotLocations     Locations of the slots in {@code slotMemory}.
+   * @param deweyIds          DeweyIDs.
+   * @param references        References to overflow pages.
+   */
+  KeyValueLeafPage(final long recordPageKey, final int revision, final IndexType indexType,
+      final ResourceConfiguration resourceConfig, final boolean areDeweyIDsStored,
+      final RecordSerializer recordPersister, final byte[][] slots, final MemorySegment slotMemory,
+      final long[] slotLocations, final byte[][] deweyIds, final Map<Long, PageReference> references) {
+    this(recordPageKey,
+         revision,
+         indexType,
+         resourceConfig,
+         areDeweyIDsStored,
+         recordPersister,
+         slots,
+         deweyIds,
+         references);
+    this.slotMemories = new MemorySegment[] { slotMemory };
+    this.slotLocations = slotLocations;
+  }
+
+  /**
+   * Get the location of a slot in the memory backing the slots of a page.
+   *
+   * @param memoryIndex the index of the memory segment
+   * @param offset      the offset of the slot in the memory segment
+   * @param length      the length of the slot
+   * @return the location
+   */
+  static long slotLocation(final int memoryIndex, final long offset, final int length) {
+    assert memoryIndex < MAX_SLOT_MEMORIES && offset < MAX_SLOT_MEMORY_SIZE && length > 0
+        && length < MAX_SLOT_MEMORY_SIZE;
+    return ((long) memoryIndex << 56) | (offset << 28) | length;
+  }
+
   @Override
   public long getPageKey() {
     return recordPageKey;
@@ -204,7 +281,194 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
 
   @Override
   public byte[] getSlot(int slotNumber) {
-    return slots[slotNumber];
+    final byte[] slot = slots[slotNumber];
+    if (slot == null) {
+      final MemorySegment slotMemory = getSlotMemory(slotNumber);
+      if (slotMemory != null) {
+        // Concurrent readers might copy the slot twice, which is harmless.
+        final byte[] copiedSlot = slotMemory.toArray(ValueLayout.JAVA_BYTE);
+        slots[slotNumber] = copiedSlot;
+        return copiedSlot;
+      }
+    }
+    return slot;
+  }
+
+  /**
+   * Get the memory of a slot, which is backed by the memory of the serialized page and has not been
+   * copied, yet.
+   *
+   * @param slotNumber the offset of the slot
+   * @return the memory of the slot or {@code null}
+   */
+  public @Nullable MemorySegment getSlotMemory(int slotNumber) {
+    if (slotLocations == null || slots[slotNumber] != null) {
+      return null;
+    }
+    final long location = slotLocations[slotNumber];
+    if (location == 0) {
+      return null;
+    }
+    return slotMemories[(int) (location >>> 56)].asSlice((location >>> 28) & SLOT_LOCATION_MASK,
+                                                          location & SLOT_LOCATION_MASK);
+  }
+
+  @Override
+  public boolean hasSlot(int offset) {
+    return slots[offset] != null || (slotLocations != null && slotLocations[offset] != 0);
+  }
+
+  private void copySlotsFromMemory() {
+    if (slotLocations != null) {
+      for (int offset = 0; offset < slots.length; offset++) {
+        getSlot(offset);
+      }
+    }
+  }
+
+  /**
+   * Get the number of bytes needed to copy this page into memory by means of
+   * {@link #copyTo(MemorySegment)}.
+   *
+   * @return the number of bytes or {@code -1}, if the page can't be copied, because records have not
+   *     been serialized into slots
+   */
+  public long getCopySize() {
+    long size = Long.BYTES + Integer.BYTES + Byte.BYTES + 3 * Integer.BYTES;
+    for (int offset = 0; offset < slots.length; offset++) {
+      if (hasSlot(offset)) {
+        final MemorySegment slotMemory = getSlotMemory(offset);
+        size += 2 * Integer.BYTES + (slotMemory != null ? slotMemory.byteSize() : slots[offset].length);
+      } else if (records[offset] != null) {
+        return -1;
+      }
+      if (deweyIds[offset] != null) {
+        size += 2 * Integer.BYTES + deweyIds[offset].length;
+      }
+    }
+    size += (long) references.size() * 2 * Long.BYTES;
+    return size < MAX_SLOT_MEMORY_SIZE ? size : -1;
+  }
+
+  /**
+   * Copy the slots, DeweyIDs and references to overflow pages of this page into memory, whose size
+   * is given by {@link #getCopySize()}.
+   *
+   * @param memory the memory to copy the page to
+   */
+  public void copyTo(final MemorySegment memory) {
+    long position = 0;
+    memory.set(ValueLayout.JAVA_LONG_UNALIGNED, position, recordPageKey);
+    position += Long.BYTES;
+    memory.set(ValueLayout.JAVA_INT_UNALIGNED, position, revision);
+    position += Integer.BYTES;
+    memory.set(ValueLayout.JAVA_BYTE, position, indexType.getID());
+    position += Byte.BYTES;
+
+    final long numberOfSlotsPosition = position;
+    position += Integer.BYTES;
+    int numberOfSlots = 0;
+    for (int offset = 0; offset < slots.length; offset++) {
+      if (!hasSlot(offset)) {
+        continue;
+      }
+      final MemorySegment slotMemory = getSlotMemory(offset);
+      final MemorySegment slot = slotMemory != null ? slotMemory : MemorySegment.ofArray(slots[offset]);
+      position = copyTo(memory, position, offset, slot);
+      numberOfSlots++;
+    }
+    memory.set(ValueLayout.JAVA_INT_UNALIGNED, numberOfSlotsPosition, numberOfSlots);
+
+    final long numberOfDeweyIdsPosition = position;
+    position += Integer.BYTES;
+    int numberOfDeweyIds = 0;
+    for (int offset = 0; offset < deweyIds.length; offset++) {
+      if (deweyIds[offset] != null) {
+        position = copyTo(memory, position, offset, MemorySegment.ofArray(deweyIds[offset]));
+        numberOfDeweyIds++;
+      }
+    }
+    memory.set(ValueLayout.JAVA_INT_UNALIGNED, numberOfDeweyIdsPosition, numberOfDeweyIds);
+
+    memory.set(ValueLayout.JAVA_INT_UNALIGNED, position, references.size());
+    position += Integer.BYTES;
+    for (final Entry<Long, PageReference> entry : references.entrySet()) {
+      memory.set(ValueLayout.JAVA_LONG_UNALIGNED, position, entry.getKey());
+      memory.set(ValueLayout.JAVA_LONG_UNALIGNED, position + Long.BYTES, entry.getValue().getKey());
+      position += 2 * Long.BYTES;
+    }
+  }
+
+  private static long copyTo(final MemorySegment memory, long position, final int offset, final MemorySegment data) {
+    memory.set(ValueLayout.JAVA_INT_UNALIGNED, position, offset);
+    memory.set(ValueLayout.JAVA_INT_UNALIGNED, position + Integer.BYTES, (int) data.byteSize());
+    position += 2 * Integer.BYTES;
+    MemorySegment.copy(data, 0, memory, position, data.byteSize());
+    return position + data.byteSize();
+  }
+
+  /**
+   * Create a page from memory, which has been filled by {@link #copyTo(MemorySegment)}. The slots of
+   * the page reference the memory instead of being copied, thus the memory must stay valid as long as
+   * it's reachable.
+   *
+   * @param memory         the memory to create the page from
+   * @param resourceConfig the resource configuration
+   * @return the page
+   */
+  public static KeyValueLeafPage copyOf(final MemorySegment memory, final ResourceConfiguration resourceConfig) {
+    long position = 0;
+    final long recordPageKey = memory.get(ValueLayout.JAVA_LONG_UNALIGNED, position);
+    position += Long.BYTES;
+    final int revision = memory.get(ValueLayout.JAVA_INT_UNALIGNED, position);
+    position += Integer.BYTES;
+    final IndexType indexType = IndexType.getType(memory.get(ValueLayout.JAVA_BYTE, position));
+    position += Byte.BYTES;
+
+    final long[] slotLocations = new long[Constants.NDP_NODE_COUNT];
+    final int numberOfSlots = memory.get(ValueLayout.JAVA_INT_UNALIGNED, position);
+    position += Integer.BYTES;
+    for (int i = 0; i < numberOfSlots; i++) {
+      final int offset = memory.get(ValueLayout.JAVA_INT_UNALIGNED, position);
+      final int length = memory.get(ValueLayout.JAVA_INT_UNALIGNED, position + Integer.BYTES);
+      position += 2 * Integer.BYTES;
+      slotLocations[offset] = slotLocation(0, position, length);
+      position += length;
+    }
+
+    final byte[][] deweyIds = new byte[Constants.NDP_NODE_COUNT][];
+    final int numberOfDeweyIds = memory.get(ValueLayout.JAVA_INT_UNALIGNED, position);
+    position += Integer.BYTES;
+    for (int i = 0; i < numberOfDeweyIds; i++) {
+      final int offset = memory.get(ValueLayout.JAVA_INT_UNALIGNED, position);
+      final int length = memory.get(ValueLayout.JAVA_INT_UNALIGNED, position + Integer.BYTES);
+      position += 2 * Integer.BYTES;
+      deweyIds[offset] = memory.asSlice(position, length).toArray(ValueLayout.JAVA_BYTE);
+      position += length;
+    }
+
+    final int numberOfReferences = memory.get(ValueLayout.JAVA_INT_UNALIGNED, position);
+    position += Integer.BYTES;
+    final Map<Long, PageReference> references = new LinkedHashMap<>(numberOfReferences);
+    for (int i = 0; i < numberOfReferences; i++) {
+      final long key = memory.get(ValueLayout.JAVA_LONG_UNALIGNED, position);
+      final PageReference reference = new PageReference();
+      reference.setKey(memory.get(ValueLayout.JAVA_LONG_UNALIGNED, position + Long.BYTES));
+      references.put(key, reference);
+      position += 2 * Long.BYTES;
+    }
+
+    return new KeyValueLeafPage(recordPageKey,
+                                revision,
+                                indexType,
+                                resourceConfig,
+                                resourceConfig.areDeweyIDsStored,
+                                resourceConfig.recordPersister,
+                                new byte[Constants.NDP_NODE_COUNT][],
+                                memory,
+                                slotLocations,
+                                deweyIds,
+                                references);
   }
 
   @Override
@@ -235,6 +499,7 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
   }
 
   public byte[][] getSlots() {
+    copySlotsFromMemory();
     return slots;
   }
 
@@ -272,12 +537,55 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
 
   @Override
   public byte[][] slots() {
+    copySlotsFromMemory();
     return slots;
   }
 
   @Override
   public synchronized void setSlot(byte[] recordData, int offset) {
     slots[offset] = recordData;
+    if (slotLocations != null) {
+      slotLocations[offset] = 0;
+    }
+  }
+
+  @Override
+  public synchronized void setSlot(KeyValuePage<DataRecord> pageToReadFrom, int offset) {
+    if (pageToReadFrom instanceof KeyValueLeafPage page && page.getSlotMemory(offset) != null) {
+      final long location = page.slotLocations[offset];
+      final int memoryIndex = getOrAddSlotMemory(page.slotMemories[(int) (location >>> 56)]);
+
+      if (memoryIndex != -1) {
+        if (slotLocations == null) {
+          slotLocations = new long[Constants.NDP_NODE_COUNT];
+        }
+        slots[offset] = null;
+        slotLocations[offset] = (location & ~(-1L << 56)) | ((long) memoryIndex << 56);
+        return;
+      }
+    }
+
+    setSlot(pageToReadFrom.getSlot(offset), offset);
+  }
+
+  private int getOrAddSlotMemory(final MemorySegment slotMemory) {
+    if (slotMemories == null) {
+      slotMemories = new MemorySegment[] { slotMemory };
+      return 0;
+    }
+    for (int i = 0; i < slotMemories.length; i++) {
+      if (slotMemories[i] == slotMemory) {
+        return i;
+      }
+    }
+    if (slotMemories.length == MAX_SLOT_MEMORIES) {
+      return -1;
+    }
+    // Copy on write, as the array may be shared with copies of this page.
+    final int memoryIndex = slotMemories.length;
+    slotMemories = Arrays.copyOf(slotMemories, memoryIndex + 1);
+    slotMemories[memoryIndex] = slotMemory;
+    return memoryIndex;
   }
 
   @Override
@@ -381,7 +689,7 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
         reference.setPage(new OverflowPage(data));
         references.put(recordID, reference);
       } else {
-        slots[offset] = data;
+        setSlot(data, offset);
       }
     }
   }
@@ -409,7 +717,16 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
 
   @Override
   public int size() {
-    return getNumberOfNonNullEntries(records, slots) + references.size();
+    if (slotLocations == null) {
+      return getNumberOfNonNullEntries(records, slots) + references.size();
+    }
+    int count = 0;
+    for (int offset = 0; offset < records.length; offset++) {
+      if (records[offset] != null || hasSlot(offset)) {
+        ++count;
+      }
+    }
+    return count + references.size();
   }
 
   @Override
@@ -441,6 +758,8 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
     hashCode = null;
     Arrays.fill(records, null);
     Arrays.fill(slots, null);
+    slotMemories = null;
+    slotLocations = null;
     Arrays.fill(deweyIds, null);
     references.clear();
     return this;
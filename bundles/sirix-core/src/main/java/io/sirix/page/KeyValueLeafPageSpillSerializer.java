@@ -0,0 +1,138 @@
+package io.sirix.page;
+
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.api.PageReadOnlyTrx;
+import io.sirix.index.IndexType;
+import io.sirix.node.Utils;
+import io.sirix.settings.Constants;
+import net.openhft.chronicle.bytes.BytesIn;
+import net.openhft.chronicle.bytes.BytesOut;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serializes {@link KeyValueLeafPage}s of the transaction intent log into a compact, uncompressed
+ * format, which is only used to temporarily spill pages of a running write transaction to a scratch
+ * file. In contrast to {@link PageKind#KEYVALUELEAFPAGE} the revision of the page is retained, no
+ * hash is computed and in-memory overflow pages are written inline, as they have not been persisted
+ * yet.
+ */
+public final class KeyValueLeafPageSpillSerializer {
+
+  /**
+   * Private constructor to prevent instantiation.
+   */
+  private KeyValueLeafPageSpillSerializer() {
+    throw new AssertionError("May never be instantiated!");
+  }
+
+  /**
+   * Serialize a page, which is part of the transaction intent log.
+   *
+   * @param pageTrx the page transaction used to serialize the in-memory records
+   * @param sink    the sink to write to
+   * @param page    the page to serialize
+   */
+  public static void serialize(final PageReadOnlyTrx pageTrx, final BytesOut<?> sink, final KeyValueLeafPage page) {
+    // Serialize in-memory records into the slots and add references to overflow pages if necessary.
+    page.addReferences(pageTrx);
+
+    Utils.putVarLong(sink, page.getPageKey());
+    sink.writeInt(page.getRevision());
+    sink.writeByte(page.getIndexType().getID());
+
+    writeSlots(sink, page.getSlots());
+    writeSlots(sink, page.getDeweyIds());
+
+    final Map<Long, PageReference> references = page.getReferencesMap();
+    sink.writeInt(references.size());
+    for (final Map.Entry<Long, PageReference> entry : references.entrySet()) {
+      final PageReference reference = entry.getValue();
+      sink.writeLong(entry.getKey());
+      sink.writeLong(reference.getKey());
+
+      if (reference.getKey() == Constants.NULL_ID_LONG && reference.getPage() instanceof OverflowPage overflowPage) {
+        final byte[] data = overflowPage.getData();
+        sink.writeInt(data.length);
+        sink.write(data);
+      } else {
+        sink.writeInt(-1);
+      }
+    }
+  }
+
+  /**
+   * Deserialize a page, which has been spilled by {@link #serialize(PageReadOnlyTrx, BytesOut, KeyValueLeafPage)}.
+   *
+   * @param source         the source to read from
+   * @param resourceConfig the resource configuration
+   * @return the deserialized page
+   */
+  public static KeyValueLeafPage deserialize(final BytesIn<?> source, final ResourceConfiguration resourceConfig) {
+    final long recordPageKey = Utils.getVarLong(source);
+    final int revision = source.readInt();
+    final IndexType indexType = IndexType.getType(source.readByte());
+
+    final byte[][] slots = readSlots(source);
+    final byte[][] deweyIds = readSlots(source);
+
+    final int referencesSize = source.readInt();
+    final Map<Long, PageReference> references = new ConcurrentHashMap<>(referencesSize);
+    for (int i = 0; i < referencesSize; i++) {
+      final long recordKey = source.readLong();
+      final PageReference reference = new PageReference();
+      reference.setKey(source.readLong());
+
+      final int dataLength = source.readInt();
+      if (dataLength != -1) {
+        final byte[] data = new byte[dataLength];
+        source.read(data);
+        reference.setPage(new OverflowPage(data));
+      }
+
+      references.put(recordKey, reference);
+    }
+
+    return new KeyValueLeafPage(recordPageKey,
+                                revision,
+                                indexType,
+                                resourceConfig,
+                                resourceConfig.areDeweyIDsStored,
+                                resourceConfig.recordPersister,
+                                slots,
+                                deweyIds,
+                                references);
+  }
+
+  private static void writeSlots(final BytesOut<?> sink, final byte[][] slots) {
+    int size = 0;
+    for (final byte[] slot : slots) {
+      if (slot != null) {
+        size++;
+      }
+    }
+
+    sink.writeInt(size);
+    for (int offset = 0; offset < slots.length; offset++) {
+      final byte[] slot = slots[offset];
+      if (slot != null) {
+        sink.writeShort((short) offset);
+        sink.writeInt(slot.length);
+        sink.write(slot);
+      }
+    }
+  }
+
+  private static byte[][] readSlots(final BytesIn<?> source) {
+    final byte[][] slots = new byte[Constants.NDP_NODE_COUNT][];
+    final int size = source.readInt();
+    for (int i = 0; i < size; i++) {
+      final int offset = source.readShort();
+      final byte[] slot = new byte[source.readInt()];
+      source.read(slot);
+      slots[offset] = slot;
+    }
+    return slots;
+  }
+}
@@ -41,19 +41,18 @@ import net.openhft.chronicle.bytes.Bytes;
 import net.openhft.chronicle.bytes.BytesIn;
 import net.openhft.chronicle.bytes.BytesOut;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import io.sirix.BinaryEncodingVersion;
 import io.sirix.access.ResourceConfiguration;
 import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.index.IndexType;
+import io.sirix.io.bytepipe.ByteHandler;
 import io.sirix.page.delegates.FullReferencesPage;
 import io.sirix.page.delegates.ReferencesPage4;
 import io.sirix.page.interfaces.Page;
 import io.sirix.settings.Constants;
 
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
-import java.io.IOException;
-import java.io.UncheckedIOException;
+import java.lang.foreign.MemorySegment;
 import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.*;
@@ -71,6 +70,13 @@ public enum PageKind {
     @NonNull
     public Page deserializePage(final PageReadOnlyTrx pageReadTrx, final BytesIn<?> source,
         final SerializationType type) {
+      return deserializePage(pageReadTrx, source, null, type);
+    }
+
+    @Override
+    @NonNull
+    public Page deserializePage(final PageReadOnlyTrx pageReadTrx, final BytesIn<?> source,
+        final @Nullable MemorySegment sourceMemory, final SerializationType type) {
       final BinaryEncodingVersion binaryVersion = BinaryEncodingVersion.fromByte(source.readByte());
 
       switch (binaryVersion) {
@@ -113,6 +119,11 @@ public enum PageKind {
           final int normalEntrySize = source.readInt();
           var setBit = -1;
 
+          // Slots reference the memory of the serialized page instead of being copied, if possible.
+          final boolean isBackedByMemory =
+              sourceMemory != null && sourceMemory.byteSize() < KeyValueLeafPage.MAX_SLOT_MEMORY_SIZE;
+          final long[] slotLocations = isBackedByMemory ? new long[Constants.NDP_NODE_COUNT] : null;
+
           for (int index = 0; index < normalEntrySize; index++) {
             setBit = entriesBitmap.nextSetBit(setBit + 1);
             assert setBit >= 0;
@@ -121,11 +132,16 @@ public enum PageKind {
             final int dataSize = source.readInt();
             assert dataSize > 0;
 
-            final byte[] data = new byte[dataSize];
-            source.read(data);
             final var offset = PageReadOnlyTrx.recordPageOffset(key);
 
-            slots[offset] = data;
+            if (isBackedByMemory) {
+              slotLocations[offset] = KeyValueLeafPage.slotLocation(0, source.readPosition(), dataSize);
+              source.readSkip(dataSize);
+            } else {
+              final byte[] data = new byte[dataSize];
+              source.read(data);
+              slots[offset] = data;
+            }
           }
 
           final int overlongEntrySize = source.readInt();
@@ -143,6 +159,20 @@ public enum PageKind {
             references.put(key, reference);
           }
 
+          if (isBackedByMemory) {
+            return new KeyValueLeafPage(recordPageKey,
+                                        revision,
+                                        indexType,
+                                        resourceConfig,
+                                        areDeweyIDsStored,
+                                        recordPersister,
+                                        slots,
+                                        sourceMemory,
+                                        slotLocations,
+                                        deweyIds,
+                                        references);
+          }
+
           return new KeyValueLeafPage(recordPageKey,
                                       revision,
                                       indexType,
@@ -252,26 +282,15 @@ public enum PageKind {
         sink.writeLong(entry.getValue().getKey());
       }
 
-      keyValueLeafPage.setHashCode(pageReadOnlyTrx.getReader().hashFunction.hashBytes(sink.bytesForRead().toByteArray())
-                                                                           .asBytes());
-
       final var byteArray = sink.bytesForRead().toByteArray();
 
-      final byte[] serializedPage;
+      keyValueLeafPage.setHashCode(pageReadOnlyTrx.getReader().hashFunction.hashBytes(byteArray).asBytes());
 
-      try (final ByteArrayOutputStream output = new ByteArrayOutputStream(byteArray.length)) {
-        try (final DataOutputStream dataOutput = new DataOutputStream(pageReadOnlyTrx.getResourceSession()
-                                                                                     .getResourceConfig().byteHandlePipeline.serialize(
-                output))) {
-          dataOutput.write(byteArray);
-          dataOutput.flush();
-        }
-        serializedPage = output.toByteArray();
-      } catch (IOException e) {
-        throw new UncheckedIOException(e);
-      }
+      // The result may be a scratch buffer of the current thread, thus it has to be copied.
+      final ByteBuffer serializedPage =
+          pageReadOnlyTrx.getResourceSession().getResourceConfig().byteHandlePipeline.serialize(ByteBuffer.wrap(byteArray));
 
-      keyValueLeafPage.setBytes(Bytes.wrapForRead(serializedPage));
+      keyValueLeafPage.setBytes(Bytes.wrapForRead(ByteHandler.toByteArray(serializedPage)));
     }
 
     @Override
@@ -878,6 +897,21 @@ public enum PageKind {
   public abstract Page deserializePage(final PageReadOnlyTrx pageReadTrx, final BytesIn<?> source,
       final SerializationType type);
 
+  /**
+   * Deserialize page from memory, which the page may reference instead of copying from it.
+   *
+   * @param pageReadTrx  the read only page transaction
+   * @param source       {@link Bytes<ByteBuffer>} instance
+   * @param sourceMemory the memory {@code source} reads from, whereas offsets in the memory are equal to read
+   *                     positions of {@code source}, and which stays valid as long as it's reachable (or
+   *                     {@code null})
+   * @return page instance implementing the {@link Page} interface
+   */
+  public Page deserializePage(final PageReadOnlyTrx pageReadTrx, final BytesIn<?> source,
+      final @Nullable MemorySegment sourceMemory, final SerializationType type) {
+    return deserializePage(pageReadTrx, source, type);
+  }
+
   /**
    * Public method to get the related page based on the identifier.
    *
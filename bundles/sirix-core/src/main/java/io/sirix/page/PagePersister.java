@@ -24,10 +24,12 @@ package io.sirix.page;
 import net.openhft.chronicle.bytes.BytesIn;
 import net.openhft.chronicle.bytes.BytesOut;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.page.interfaces.Page;
 
 import java.io.IOException;
+import java.lang.foreign.MemorySegment;
 
 /**
  * Persists pages on secondary storage.
@@ -50,6 +52,21 @@ public final class PagePersister {
     return PageKind.getKind(source.readByte()).deserializePage(pageReadTrx, source, type);
   }
 
+  /**
+   * Deserialize page from memory, which the page may reference instead of copying from it.
+   *
+   * @param pageReadTrx  instance of class, which implements the {@link PageReadOnlyTrx} interface
+   * @param source       source to read from
+   * @param sourceMemory the memory {@code source} reads from, which stays valid as long as it's
+   *                     reachable (or {@code null})
+   * @return {@link Page} instance
+   * @throws IOException if an exception during deserialization of a page occurs
+   */
+  public @NonNull Page deserializePage(final PageReadOnlyTrx pageReadTrx, final BytesIn<?> source,
+      final @Nullable MemorySegment sourceMemory, final SerializationType type) throws IOException {
+    return PageKind.getKind(source.readByte()).deserializePage(pageReadTrx, source, sourceMemory, type);
+  }
+
   /**
    * Serialize page.
    *
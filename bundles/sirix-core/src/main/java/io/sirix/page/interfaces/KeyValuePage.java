@@ -77,6 +77,24 @@ public interface KeyValuePage<V extends DataRecord> extends Page  {
 
   void setSlot(byte[] recordData, int offset);
 
+  /**
+   * Determines if a slot is filled, without copying slots, which are still backed by the memory of
+   * the serialized page.
+   *
+   * @param offset the offset of the slot
+   * @return {@code true}, if the slot is filled, {@code false} otherwise
+   */
+  boolean hasSlot(int offset);
+
+  /**
+   * Set a slot to the slot of another page. Slots, which are still backed by the memory of the
+   * serialized page, are not copied.
+   *
+   * @param pageToReadFrom the page to read the slot from
+   * @param offset         the offset of the slot
+   */
+  void setSlot(KeyValuePage<V> pageToReadFrom, int offset);
+
   void setDeweyId(byte[] deweyId, int offset);
 
   /**
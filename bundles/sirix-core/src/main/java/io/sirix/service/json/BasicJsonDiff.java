@@ -9,6 +9,7 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Implements a JSON-diff serialization format.
@@ -58,13 +59,15 @@ public final class BasicJsonDiff implements DiffObserver, JsonDiff {
       long startNodeKey, long maxDepth) {
     diffs.clear();
 
-    DiffFactory.invokeJsonDiff(new DiffFactory.Builder<>(resourceManager, newRevisionNumber, oldRevisionNumber,
+    // Only the changed subtrees have to be diffed, as unchanged nodes aren't serialized.
+    DiffFactory.invokeJsonDiffOfChangedNodes(new DiffFactory.Builder<>(resourceManager, newRevisionNumber, oldRevisionNumber,
                                                          resourceManager.getResourceConfig().hashType == HashType.NONE
             ? DiffFactory.DiffOptimized.NO
             : DiffFactory.DiffOptimized.HASHED, ImmutableSet.of(this)).skipSubtrees(true)
                                                                       .newStartKey(startNodeKey)
                                                                       .oldStartKey(startNodeKey)
-                                                                      .oldMaxDepth(maxDepth));
+                                                                      .oldMaxDepth(maxDepth == Long.MAX_VALUE ? 0 : maxDepth)
+                                                                      .forkJoinPool(ForkJoinPool.commonPool()));
 
     return new JsonDiffSerializer(this.databaseName, resourceManager, oldRevisionNumber, newRevisionNumber, diffs).serialize(true);
   }
@@ -68,20 +68,17 @@ public enum VersioningType {
       final T completePage = firstPage.newInstance(recordPageKey, firstPage.getIndexType(), pageReadTrx);
       final T modifiedPage = firstPage.newInstance(recordPageKey, firstPage.getIndexType(), pageReadTrx);
 
-      var slots = firstPage.slots();
       var deweyIds = firstPage.deweyIds();
 
-      for (int i = 0; i < firstPage.size(); i++) {
-        byte[] slot = slots[i];
-
-        if (slot == null) {
+      for (int i = 0; i < Constants.NDP_NODE_COUNT; i++) {
+        if (!firstPage.hasSlot(i)) {
           continue;
         }
 
-        completePage.setSlot(slot, i);
+        completePage.setSlot(firstPage, i);
         completePage.setDeweyId(deweyIds[i], i);
 
-        modifiedPage.setSlot(slot, i);
+        modifiedPage.setSlot(firstPage, i);
         modifiedPage.setDeweyId(deweyIds[i], i);
       }
 
@@ -113,10 +110,9 @@ public enum VersioningType {
       assert latest.getPageKey() == recordPageKey;
       assert fullDump.getPageKey() == recordPageKey;
 
-      byte[][] slots = firstPage.slots();
       byte[][] deweyIds = firstPage.deweyIds();
-      for (int offset = 0; offset < slots.length; offset++) {
-        pageToReturn.setSlot(slots[offset], offset);
+      for (int offset = 0; offset < Constants.NDP_NODE_COUNT; offset++) {
+        pageToReturn.setSlot(firstPage, offset);
         pageToReturn.setDeweyId(deweyIds[offset], offset);
       }
       for (final Map.Entry<Long, PageReference> entry : latest.referenceEntrySet()) {
@@ -125,15 +121,13 @@ public enum VersioningType {
 
       // Skip full dump if not needed (fulldump equals latest page).
       if (pages.size() == 2) {
-        slots = firstPage.slots();
-        deweyIds = firstPage.deweyIds();
-        for (int offset = 0; offset < slots.length; offset++) {
-          byte[] recordData = firstPage.getSlot(offset);
-          if (recordData == null) {
+        deweyIds = fullDump.deweyIds();
+        for (int offset = 0; offset < Constants.NDP_NODE_COUNT; offset++) {
+          if (!fullDump.hasSlot(offset)) {
             continue;
           }
-          if (pageToReturn.getSlot(offset) == null) {
-            pageToReturn.setSlot(slots[offset], offset);
+          if (!pageToReturn.hasSlot(offset)) {
+            pageToReturn.setSlot(fullDump, offset);
           }
           final var deweyId = deweyIds[offset];
           if (deweyId != null && pageToReturn.getDeweyId(offset) == null) {
@@ -173,13 +167,12 @@ public enum VersioningType {
       final boolean isFullDump = revision % revToRestore == 0;
 
       // Iterate through all nodes of the latest revision.
-      byte[][] slots = firstPage.slots();
       byte[][] deweyIds = firstPage.deweyIds();
-      for (int offset = 0; offset < slots.length; offset++) {
-        completePage.setSlot(slots[offset], offset);
+      for (int offset = 0; offset < Constants.NDP_NODE_COUNT; offset++) {
+        completePage.setSlot(firstPage, offset);
         completePage.setDeweyId(deweyIds[offset], offset);
 
-        modifiedPage.setSlot(slots[offset], offset);
+        modifiedPage.setSlot(firstPage, offset);
         modifiedPage.setDeweyId(deweyIds[offset], offset);
       }
 
@@ -192,15 +185,16 @@ public enum VersioningType {
       // If not all entries are filled.
       if (latest.size() != Constants.NDP_NODE_COUNT) {
         // Iterate through the full dump.
-        slots = firstPage.slots();
-        deweyIds = firstPage.deweyIds();
-        for (int offset = 0; offset < slots.length; offset++) {
-          var recordData = slots[offset];
-          if (completePage.getSlot(offset) == null) {
-            completePage.setSlot(slots[offset], offset);
+        deweyIds = fullDump.deweyIds();
+        for (int offset = 0; offset < Constants.NDP_NODE_COUNT; offset++) {
+          if (!fullDump.hasSlot(offset)) {
+            continue;
+          }
+          if (!completePage.hasSlot(offset)) {
+            completePage.setSlot(fullDump, offset);
           }
-          if (isFullDump && modifiedPage.getSlot(offset) == null) {
-            modifiedPage.setSlot(recordData, offset);
+          if (isFullDump && !modifiedPage.hasSlot(offset)) {
+            modifiedPage.setSlot(fullDump, offset);
           }
           var deweyId = deweyIds[offset];
           if (completePage.getDeweyId(offset) == null) {
@@ -272,18 +266,15 @@ public enum VersioningType {
           break;
         }
 
-        final byte[][] slots = page.slots();
         final byte[][] deweyIds = page.deweyIds();
 
-        for (int offset = 0; offset < slots.length; offset++) {
-          final var recordData = slots[offset];
-
-          if (recordData == null) {
+        for (int offset = 0; offset < Constants.NDP_NODE_COUNT; offset++) {
+          if (!page.hasSlot(offset)) {
             continue;
           }
 
-          if (pageToReturn.getSlot(offset) == null) {
-            pageToReturn.setSlot(recordData, offset);
+          if (!pageToReturn.hasSlot(offset)) {
+            pageToReturn.setSlot(page, offset);
           }
           final var deweyId = deweyIds[offset];
           if (pageToReturn.getDeweyId(offset) == null) {
@@ -340,20 +331,17 @@ public enum VersioningType {
         }
 
         final V[] records = page.records();
-        final byte[][] slots = page.slots();
         final byte[][] deweyIds = page.deweyIds();
         for (int offset = 0; offset < records.length; offset++) {
-          final var recordData = slots[offset];
-
-          if (recordData == null) {
+          if (!page.hasSlot(offset)) {
             continue;
           }
 
-          if (completePage.getSlot(offset) == null) {
-            completePage.setSlot(recordData, offset);
+          if (!completePage.hasSlot(offset)) {
+            completePage.setSlot(page, offset);
 
-            if (modifiedPage.getSlot(offset) == null && isFullDump) {
-              modifiedPage.setSlot(recordData, offset);
+            if (!modifiedPage.hasSlot(offset) && isFullDump) {
+              modifiedPage.setSlot(page, offset);
             }
           }
           final var deweyId = deweyIds[offset];
@@ -437,17 +425,14 @@ public enum VersioningType {
           break;
         }
 
-        final byte[][] slots = page.slots();
         final byte[][] deweyIds = page.deweyIds();
-        for (int offset = 0; offset < slots.length; offset++) {
-          final var recordData = slots[offset];
-
-          if (recordData == null) {
+        for (int offset = 0; offset < Constants.NDP_NODE_COUNT; offset++) {
+          if (!page.hasSlot(offset)) {
             continue;
           }
 
-          if (returnVal.getSlot(offset) == null) {
-            returnVal.setSlot(recordData, offset);
+          if (!returnVal.hasSlot(offset)) {
+            returnVal.setSlot(page, offset);
           }
 
           final var deweyId = deweyIds[offset];
@@ -505,26 +490,24 @@ public enum VersioningType {
 
         final boolean isPageOutOfSlidingWindow = (i == pages.size() - 1 && revToRestore == pages.size());
 
-        final byte[][] slots = page.slots();
         final byte[][] deweyIds = page.deweyIds();
-        for (int offset = 0; offset < slots.length; offset++) {
-          final var recordData = slots[offset];
+        for (int offset = 0; offset < Constants.NDP_NODE_COUNT; offset++) {
           final var deweyId = deweyIds[offset];
 
-          if (recordData == null) {
+          if (!page.hasSlot(offset)) {
             continue;
           }
 
           if (!isPageOutOfSlidingWindow) {
-            pageWithRecordsInSlidingWindow.setSlot(recordData, offset);
+            pageWithRecordsInSlidingWindow.setSlot(page, offset);
             pageWithRecordsInSlidingWindow.setDeweyId(deweyId, offset);
           }
 
-          if (completePage.getSlot(offset) == null) {
-            completePage.setSlot(recordData, offset);
+          if (!completePage.hasSlot(offset)) {
+            completePage.setSlot(page, offset);
           }
-          if (isPageOutOfSlidingWindow && pageWithRecordsInSlidingWindow.getSlot(offset) == null) {
-            modifyingPage.setSlot(recordData, offset);
+          if (isPageOutOfSlidingWindow && !pageWithRecordsInSlidingWindow.hasSlot(offset)) {
+            modifyingPage.setSlot(page, offset);
           }
 
           if (completePage.getDeweyId(offset) == null) {
@@ -593,11 +576,9 @@ public enum VersioningType {
 
   private static <V extends DataRecord, T extends KeyValuePage<V>> void setSlots(T pageToReadFrom,
       T... pagesToSetSlots) {
-    final byte[][] slots = pageToReadFrom.slots();
-    for (int offset = 0; offset < slots.length; offset++) {
-      final var recordData = slots[offset];
+    for (int offset = 0; offset < Constants.NDP_NODE_COUNT; offset++) {
       for (T page : pagesToSetSlots) {
-        page.setSlot(recordData, offset);
+        page.setSlot(pageToReadFrom, offset);
       }
     }
   }
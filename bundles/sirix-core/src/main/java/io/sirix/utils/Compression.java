@@ -21,12 +21,6 @@ public final class Compression {
   /** Buffer size. */
   public static final int BUFFER_SIZE = 1024;
 
-  /** Compressor. */
-  private static final Deflater mCompressor = new Deflater();
-
-  /** Decompressor. */
-  private static final Inflater mDecompressor = new Inflater();
-
   /** Private constructor to prevent from instantiation. */
   private Compression() {
     throw new AssertionError();
@@ -47,13 +41,12 @@ public final class Compression {
     // Compressed result.
     byte[] compressed;
 
-    // Set compression level.
-    mCompressor.setLevel(level);
+    // Borrow a compressor with the compression level, as a Deflater must not be shared.
+    final Deflater compressor = ZlibCodecPool.borrowDeflater(level);
 
     // Give the compressor the data to compress.
-    mCompressor.reset();
-    mCompressor.setInput(toCompress);
-    mCompressor.finish();
+    compressor.setInput(toCompress);
+    compressor.finish();
 
     /*
      * Create an expandable byte array to hold the compressed data. You cannot use an array that's the
@@ -63,8 +56,8 @@ public final class Compression {
     try (final ByteArrayOutputStream bos = new ByteArrayOutputStream(toCompress.length)) {
       // Compress the data.
       final byte[] buf = new byte[BUFFER_SIZE];
-      while (!mCompressor.finished()) {
-        final int count = mCompressor.deflate(buf);
+      while (!compressor.finished()) {
+        final int count = compressor.deflate(buf);
         bos.write(buf, 0, count);
       }
 
@@ -72,6 +65,8 @@ public final class Compression {
       compressed = bos.toByteArray();
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
+    } finally {
+      ZlibCodecPool.returnDeflater(compressor);
     }
 
     return compressed;
@@ -86,18 +81,32 @@ public final class Compression {
    */
   public static byte[] decompress(final byte[] compressed) {
     requireNonNull(compressed);
+    return decompress(compressed, 0, compressed.length);
+  }
+
+  /**
+   * Decompress a part of a byte-array, which has been compressed based on the {@link Deflater}.
+   *
+   * @param compressed the byte-array, which contains the compressed data
+   * @param offset the offset of the compressed data
+   * @param length the length of the compressed data
+   * @return decompressed byte-array
+   * @throws NullPointerException if {@code compressed} is {@code null}
+   */
+  public static byte[] decompress(final byte[] compressed, final int offset, final int length) {
+    requireNonNull(compressed);
 
-    // Reset the decompressor and give it the data to compress.
-    mDecompressor.reset();
-    mDecompressor.setInput(compressed);
+    // Borrow a decompressor, as an Inflater must not be shared, and give it the data to decompress.
+    final Inflater decompressor = ZlibCodecPool.borrowInflater();
+    decompressor.setInput(compressed, offset, length);
 
     // Create an expandable byte array to hold the decompressed data.
-    try (final ByteArrayOutputStream bos = new ByteArrayOutputStream(compressed.length)) {
+    try (final ByteArrayOutputStream bos = new ByteArrayOutputStream(length)) {
       // Decompress the data.
       final byte[] buf = new byte[BUFFER_SIZE];
-      while (!mDecompressor.finished()) {
+      while (!decompressor.finished()) {
         try {
-          final int count = mDecompressor.inflate(buf);
+          final int count = decompressor.inflate(buf);
           bos.write(buf, 0, count);
         } catch (final DataFormatException e) {
           throw new IllegalStateException(e);
@@ -107,6 +116,8 @@ public final class Compression {
       return bos.toByteArray();
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
+    } finally {
+      ZlibCodecPool.returnInflater(decompressor);
     }
   }
 }
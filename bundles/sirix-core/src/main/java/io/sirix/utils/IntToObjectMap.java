@@ -255,6 +255,24 @@ public class IntToObjectMap<T> implements Iterable<T> {
     clear();
   }
 
+  /**
+   * Constructs a copy of the given map. The arrays are copied, the objects are
+   * shared.
+   *
+   * @param map
+   *            the map to copy.
+   */
+  public IntToObjectMap(IntToObjectMap<T> map) {
+    this.capacity = map.capacity;
+    this.firstEmpty = map.firstEmpty;
+    this.hashFactor = map.hashFactor;
+    this.size = map.size;
+    this.values = map.values.clone();
+    this.keys = map.keys.clone();
+    this.next = map.next.clone();
+    this.baseHash = map.baseHash.clone();
+  }
+
   /**
    * Adds a pair to the map. Takes the first empty position from the
    * empty-linked-list's head.
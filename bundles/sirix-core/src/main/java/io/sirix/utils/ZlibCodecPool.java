@@ -0,0 +1,95 @@
+package io.sirix.utils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * A bounded pool of {@link Deflater}s and {@link Inflater}s, which is shared by all threads.
+ * <p>
+ * A codec is borrowed for a single operation and returned afterwards, such that its native zlib
+ * stream isn't bound to a thread, which may end without releasing it. Codecs, which are returned to
+ * a full pool, are ended at once, and the idle codecs are ended by {@link #clear()}, once a resource
+ * session is closed.
+ * </p>
+ */
+public final class ZlibCodecPool {
+
+  /**
+   * The maximum number of idle codecs of each kind.
+   */
+  private static final int MAX_IDLE_CODECS = Runtime.getRuntime().availableProcessors() * 2;
+
+  private static final BlockingQueue<Deflater> DEFLATERS = new ArrayBlockingQueue<>(MAX_IDLE_CODECS);
+
+  private static final BlockingQueue<Inflater> INFLATERS = new ArrayBlockingQueue<>(MAX_IDLE_CODECS);
+
+  /** Private constructor to prevent from instantiation. */
+  private ZlibCodecPool() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Borrow a deflater, which must be returned by {@link #returnDeflater(Deflater)}.
+   *
+   * @param level the compression level
+   * @return the deflater
+   */
+  public static Deflater borrowDeflater(final int level) {
+    final Deflater deflater = DEFLATERS.poll();
+    if (deflater == null) {
+      return new Deflater(level);
+    }
+    deflater.setLevel(level);
+    return deflater;
+  }
+
+  /**
+   * Return a borrowed deflater, which must not be used afterwards.
+   *
+   * @param deflater the deflater
+   */
+  public static void returnDeflater(final Deflater deflater) {
+    deflater.reset();
+    if (!DEFLATERS.offer(deflater)) {
+      deflater.end();
+    }
+  }
+
+  /**
+   * Borrow an inflater, which must be returned by {@link #returnInflater(Inflater)}.
+   *
+   * @return the inflater
+   */
+  public static Inflater borrowInflater() {
+    final Inflater inflater = INFLATERS.poll();
+    return inflater == null ? new Inflater() : inflater;
+  }
+
+  /**
+   * Return a borrowed inflater, which must not be used afterwards.
+   *
+   * @param inflater the inflater
+   */
+  public static void returnInflater(final Inflater inflater) {
+    inflater.reset();
+    if (!INFLATERS.offer(inflater)) {
+      inflater.end();
+    }
+  }
+
+  /**
+   * End the idle codecs. Borrowed codecs are returned as usual.
+   */
+  public static void clear() {
+    Deflater deflater;
+    while ((deflater = DEFLATERS.poll()) != null) {
+      deflater.end();
+    }
+    Inflater inflater;
+    while ((inflater = INFLATERS.poll()) != null) {
+      inflater.end();
+    }
+  }
+}
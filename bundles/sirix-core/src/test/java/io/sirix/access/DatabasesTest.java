@@ -0,0 +1,230 @@
+package io.sirix.access;
+
+import io.sirix.JsonTestHelper;
+import io.sirix.api.Database;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.node.NodeKind;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests opening and closing shared databases with {@link Databases}.
+ */
+class DatabasesTest {
+
+  private static final Path DATABASE_PATH = JsonTestHelper.PATHS.PATH1.getFile();
+
+  @BeforeEach
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+    Databases.createJsonDatabase(new DatabaseConfiguration(DATABASE_PATH));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+    Databases.removeDatabase(DATABASE_PATH);
+  }
+
+  @Test
+  public void closingAHandleKeepsTheSharedDatabaseOpen() {
+    final var database = Databases.openJsonDatabase(DATABASE_PATH);
+    final var otherDatabase = Databases.openJsonDatabase(DATABASE_PATH);
+
+    assertEquals(1, DatabasesInternals.getOpenDatabases().get(DATABASE_PATH).size());
+
+    database.close();
+
+    assertFalse(database.isOpen());
+    assertThrows(IllegalStateException.class, database::listResources);
+    assertTrue(otherDatabase.isOpen());
+    assertTrue(otherDatabase.createResource(ResourceConfiguration.newBuilder(JsonTestHelper.RESOURCE).build()));
+
+    // Closing a handle twice must not release the shared database twice.
+    database.close();
+    assertTrue(otherDatabase.isOpen());
+
+    otherDatabase.close();
+
+    assertFalse(DatabasesInternals.getOpenDatabases().containsKey(DATABASE_PATH));
+  }
+
+  @Test
+  public void reopenAfterAllHandlesHaveBeenClosed() {
+    Databases.openJsonDatabase(DATABASE_PATH).close();
+
+    try (final var database = Databases.openJsonDatabase(DATABASE_PATH)) {
+      assertTrue(database.isOpen());
+      assertTrue(database.listResources().isEmpty());
+    }
+  }
+
+  @Test
+  public void closingAResourceSessionKeepsItOpenForOtherHandles() {
+    final var database = Databases.openJsonDatabase(DATABASE_PATH);
+    final var otherDatabase = Databases.openJsonDatabase(DATABASE_PATH);
+    database.createResource(ResourceConfiguration.newBuilder(JsonTestHelper.RESOURCE).build());
+
+    final var session = database.beginResourceSession(JsonTestHelper.RESOURCE);
+    final var otherSession = otherDatabase.beginResourceSession(JsonTestHelper.RESOURCE);
+    assertSame(session, database.beginResourceSession(JsonTestHelper.RESOURCE));
+
+    try (final var wtx = session.beginNodeTrx()) {
+      wtx.insertArrayAsFirstChild();
+      wtx.commit();
+    }
+
+    final var rtx = otherSession.beginNodeReadOnlyTrx();
+    session.close();
+
+    assertTrue(session.isClosed());
+    assertThrows(IllegalStateException.class, session::beginNodeReadOnlyTrx);
+    assertFalse(otherSession.isClosed());
+
+    // The other handle keeps reading with its open transaction and with new ones.
+    assertTrue(rtx.moveToFirstChild());
+    assertEquals(NodeKind.ARRAY, rtx.getKind());
+    rtx.close();
+    try (final var otherRtx = otherSession.beginNodeReadOnlyTrx()) {
+      assertEquals(1, otherRtx.getRevisionNumber());
+      assertTrue(otherRtx.moveToFirstChild());
+    }
+
+    // Closing a database handle releases its resource sessions.
+    otherDatabase.close();
+    assertTrue(otherSession.isClosed());
+
+    try (final var reopenedSession = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var reopenedRtx = reopenedSession.beginNodeReadOnlyTrx()) {
+      assertNotSame(session, reopenedSession);
+      assertTrue(reopenedRtx.moveToFirstChild());
+    }
+    database.close();
+  }
+
+  @Test
+  public void usersGetDifferentDatabases() {
+    try (final var database = Databases.openJsonDatabase(DATABASE_PATH);
+         final var databaseOfUser = Databases.openJsonDatabase(DATABASE_PATH, new User("user", UUID.randomUUID()))) {
+      assertTrue(database.isOpen());
+      assertTrue(databaseOfUser.isOpen());
+      assertEquals(2, DatabasesInternals.getOpenDatabases().get(DATABASE_PATH).size());
+    }
+  }
+
+  @Test
+  public void concurrentlyOpenAndClose() throws Exception {
+    final ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+    try {
+      final List<Callable<Boolean>> tasks = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        tasks.add(() -> {
+          for (int j = 0; j < 50; j++) {
+            try (final Database<JsonResourceSession> database = Databases.openJsonDatabase(DATABASE_PATH)) {
+              if (!database.isOpen()) {
+                return false;
+              }
+              database.listResources();
+            }
+          }
+          return true;
+        });
+      }
+
+      for (final Future<Boolean> result : executorService.invokeAll(tasks)) {
+        assertTrue(result.get());
+      }
+    } finally {
+      executorService.shutdown();
+    }
+
+    assertFalse(DatabasesInternals.getOpenDatabases().containsKey(DATABASE_PATH));
+  }
+
+  @Test
+  public void concurrentlyReleaseTheLastHandles() throws Exception {
+    final ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+    try {
+      for (int i = 0; i < 200; i++) {
+        final var database = Databases.openJsonDatabase(DATABASE_PATH);
+        final var otherDatabase = Databases.openJsonDatabase(DATABASE_PATH);
+        final var barrier = new CyclicBarrier(2);
+
+        final Future<?> closeDatabase = executorService.submit(() -> {
+          barrier.await();
+          database.close();
+          return null;
+        });
+        final Future<?> closeOtherDatabase = executorService.submit(() -> {
+          barrier.await();
+          otherDatabase.close();
+          return null;
+        });
+        closeDatabase.get();
+        closeOtherDatabase.get();
+
+        // The database must have been closed and unregistered by exactly one of the threads.
+        assertFalse(DatabasesInternals.getOpenDatabases().containsKey(DATABASE_PATH));
+      }
+    } finally {
+      executorService.shutdown();
+    }
+
+    try (final var database = Databases.openJsonDatabase(DATABASE_PATH)) {
+      assertTrue(database.isOpen());
+    }
+  }
+
+  @Test
+  public void concurrentlyAcquireAndRelease() throws Exception {
+    final ExecutorService executorService = Executors.newFixedThreadPool(8);
+    final var barrier = new CyclicBarrier(8);
+
+    try {
+      final List<Callable<Boolean>> tasks = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        tasks.add(() -> {
+          for (int j = 0; j < 100; j++) {
+            barrier.await();
+            final Database<JsonResourceSession> database = Databases.openJsonDatabase(DATABASE_PATH);
+            final Database<JsonResourceSession> otherDatabase = Databases.openJsonDatabase(DATABASE_PATH);
+            if (!database.isOpen() || !otherDatabase.isOpen()) {
+              return false;
+            }
+            database.close();
+            otherDatabase.close();
+          }
+          return true;
+        });
+      }
+
+      for (final Future<Boolean> result : executorService.invokeAll(tasks)) {
+        assertTrue(result.get());
+      }
+    } finally {
+      executorService.shutdown();
+    }
+
+    assertFalse(DatabasesInternals.getOpenDatabases().containsKey(DATABASE_PATH));
+  }
+}
@@ -1,5 +1,6 @@
 package io.sirix.access.node.json;
 
+import io.sirix.access.trx.node.json.objectvalue.StringValue;
 import io.sirix.api.Axis;
 import io.sirix.axis.DescendantAxis;
 import io.sirix.node.NodeKind;
@@ -8,7 +9,10 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import io.sirix.JsonTestHelper;
+import io.sirix.index.IndexType;
+import io.sirix.index.path.summary.PathNode;
 import io.sirix.index.path.summary.PathSummaryReader;
+import io.sirix.node.interfaces.DataRecord;
 import io.sirix.settings.Fixed;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -45,6 +49,87 @@ public final class PathSummaryTest {
     }
   }
 
+  @Test
+  public void testPathSummaryDerivedFromPreviousRevision() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var wtx = manager.beginNodeTrx()) {
+      // Revision 2: insert a new path and remove the paths of the "tada" object key.
+      wtx.moveToDocumentRoot();
+      wtx.moveToFirstChild();
+      wtx.insertObjectRecordAsFirstChild("inserted", new StringValue("value"));
+      wtx.moveToDocumentRoot();
+      for (final var axis = new DescendantAxis(wtx); axis.hasNext(); ) {
+        axis.nextLong();
+        if (wtx.getKind() == NodeKind.OBJECT_KEY && new QNm("tada").equals(wtx.getName())) {
+          wtx.remove();
+          break;
+        }
+      }
+      wtx.commit();
+
+      try (final var pathSummary = manager.openPathSummary(2);
+           final var pageReadTrx = manager.beginPageReadOnlyTrx(2)) {
+        assertEquals(1, pathSummary.match(new QNm("inserted"), 1).cardinality());
+        assertEquals(0, pathSummary.match(new QNm("tada"), 1).cardinality());
+
+        for (long nodeKey = 1; nodeKey <= pathSummary.getMaxNodeKey(); nodeKey++) {
+          final DataRecord record = pageReadTrx.getRecord(nodeKey, IndexType.PATH_SUMMARY, 0);
+          if (record instanceof PathNode pathNode) {
+            assertTrue(pathSummary.moveTo(nodeKey));
+            assertEquals(pathNode.getParentKey(), pathSummary.getParentKey());
+            assertEquals(pathNode.getFirstChildKey(), pathSummary.getFirstChildKey());
+            assertEquals(pathNode.getLeftSiblingKey(), pathSummary.getLeftSiblingKey());
+            assertEquals(pathNode.getRightSiblingKey(), pathSummary.getRightSiblingKey());
+            assertEquals(pathNode.getReferences(), pathSummary.getReferences());
+            checkInMemoryNodes(pathSummary);
+          } else {
+            assertFalse(pathSummary.moveTo(nodeKey));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testPathSummaryOfPreviousRevisionIsNotChanged() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE)) {
+      // Put the path summary of revision 1 into the cache, from which the path summary of revision 2 is derived.
+      try (final var pathSummary = manager.openPathSummary(1)) {
+        assertEquals(1, pathSummary.match(new QNm("tada"), 1).cardinality());
+      }
+
+      try (final var wtx = manager.beginNodeTrx()) {
+        wtx.moveToDocumentRoot();
+        wtx.moveToFirstChild();
+        wtx.insertObjectRecordAsFirstChild("inserted", new StringValue("value"));
+        wtx.commit();
+      }
+
+      for (int revision = 1; revision <= 2; revision++) {
+        try (final var pathSummary = manager.openPathSummary(revision);
+             final var pageReadTrx = manager.beginPageReadOnlyTrx(revision)) {
+          assertEquals(revision - 1, pathSummary.match(new QNm("inserted"), 1).cardinality());
+
+          for (long nodeKey = 1; nodeKey <= pathSummary.getMaxNodeKey(); nodeKey++) {
+            final DataRecord record = pageReadTrx.getRecord(nodeKey, IndexType.PATH_SUMMARY, 0);
+            if (record instanceof PathNode pathNode) {
+              assertTrue(pathSummary.moveTo(nodeKey));
+              assertEquals(pathNode.getParentKey(), pathSummary.getParentKey());
+              assertEquals(pathNode.getFirstChildKey(), pathSummary.getFirstChildKey());
+              assertEquals(pathNode.getLeftSiblingKey(), pathSummary.getLeftSiblingKey());
+              assertEquals(pathNode.getRightSiblingKey(), pathSummary.getRightSiblingKey());
+              checkInMemoryNodes(pathSummary);
+            } else {
+              assertFalse(pathSummary.moveTo(nodeKey));
+            }
+          }
+        }
+      }
+    }
+  }
+
   private void testInsertHelper(final PathSummaryReader summaryReader) {
     final var axis = new DescendantAxis(summaryReader);
     PathSummaryReader summary = next(axis);
@@ -0,0 +1,75 @@
+package io.sirix.access.trx.page;
+
+import io.sirix.JsonTestHelper;
+import io.sirix.api.Database;
+import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.settings.Constants;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test committing many key/value leaf pages, which are serialized in parallel and written in the
+ * order in which they are serialized.
+ */
+public final class NodePageTrxCommitTest {
+
+  /**
+   * More record pages than are serialized ahead of the writer.
+   */
+  private static final int NUMBER_OF_VALUES =
+      (Runtime.getRuntime().availableProcessors() * 4 + 8) * Constants.NDP_NODE_COUNT;
+
+  private Database<JsonResourceSession> database;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+    database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testCommitAndReadBack() {
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE)) {
+      try (final var wtx = session.beginNodeTrx()) {
+        wtx.insertArrayAsFirstChild();
+        wtx.insertNumberValueAsFirstChild(0);
+        for (int i = 1; i < NUMBER_OF_VALUES; i++) {
+          wtx.insertNumberValueAsRightSibling(i);
+        }
+        wtx.commit();
+
+        // Commit again with the same transaction, modifying every other record page.
+        for (int i = 0; i < NUMBER_OF_VALUES; i += 2 * Constants.NDP_NODE_COUNT) {
+          assertTrue(wtx.moveTo(i + 2));
+          wtx.setNumberValue(-i);
+        }
+        wtx.commit();
+      }
+
+      try (final var rtx = session.beginNodeReadOnlyTrx(1)) {
+        assertValues(rtx, false);
+      }
+      try (final var rtx = session.beginNodeReadOnlyTrx(2)) {
+        assertValues(rtx, true);
+      }
+    }
+  }
+
+  private static void assertValues(final JsonNodeReadOnlyTrx rtx, final boolean isModified) {
+    for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+      assertTrue(rtx.moveTo(i + 2));
+      final boolean isModifiedValue = isModified && i % (2 * Constants.NDP_NODE_COUNT) == 0;
+      assertEquals(isModifiedValue ? -i : i, rtx.getNumberValue().intValue());
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package io.sirix.access.trx.page;
+
+import io.sirix.JsonTestHelper;
+import io.sirix.api.Database;
+import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.metrics.SirixMetrics;
+import io.sirix.settings.Constants;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test modifying records of pages, which have been spilled from the transaction intent log.
+ */
+public final class NodePageTrxSpillTest {
+
+  /**
+   * The maximum number of key/value leaf pages on the heap.
+   */
+  private static final int MAX_IN_MEMORY_PAGES = 8;
+
+  /**
+   * Far more record pages than are kept on the heap.
+   */
+  private static final int NUMBER_OF_VALUES = MAX_IN_MEMORY_PAGES * 4 * Constants.NDP_NODE_COUNT;
+
+  private Database<JsonResourceSession> database;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+    System.setProperty(TransactionIntentLogFactoryImpl.MAX_IN_MEMORY_CAPACITY_PROPERTY,
+                       String.valueOf(MAX_IN_MEMORY_PAGES));
+    database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+  }
+
+  @After
+  public void tearDown() {
+    System.clearProperty(TransactionIntentLogFactoryImpl.MAX_IN_MEMORY_CAPACITY_PROPERTY);
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testModifyRecordsOfSpilledPages() {
+    final SirixMetrics metrics = SirixMetrics.get();
+    final long spilledPagesBefore = metrics.intentLogSpilledPages().getCount();
+    final long reloadedPagesBefore = metrics.intentLogReloadedPages().getCount();
+
+    final long insertedNodeKey;
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE)) {
+      try (final var wtx = session.beginNodeTrx()) {
+        wtx.insertArrayAsFirstChild();
+        wtx.insertNumberValueAsFirstChild(0);
+        for (int i = 1; i < NUMBER_OF_VALUES; i++) {
+          wtx.insertNumberValueAsRightSibling(i);
+        }
+
+        assertTrue(metrics.intentLogSpilledPages().getCount() > spilledPagesBefore);
+
+        // The page of the first value has been spilled long ago.
+        assertTrue(wtx.moveTo(2));
+        wtx.setNumberValue(-1);
+
+        // Spilling is required again, while the current node, which is modified, is on a reloaded page.
+        for (int i = 0; i < NUMBER_OF_VALUES; i += Constants.NDP_NODE_COUNT) {
+          assertTrue(wtx.moveTo(i + 2));
+          wtx.setNumberValue(-i - 1);
+        }
+
+        assertTrue(wtx.moveTo(2));
+        wtx.insertNumberValueAsRightSibling(-2);
+        insertedNodeKey = wtx.getNodeKey();
+
+        wtx.commit();
+      }
+
+      assertTrue(metrics.intentLogReloadedPages().getCount() > reloadedPagesBefore);
+
+      try (final var rtx = session.beginNodeReadOnlyTrx()) {
+        assertValues(rtx, insertedNodeKey);
+      }
+    }
+  }
+
+  private static void assertValues(final JsonNodeReadOnlyTrx rtx, final long insertedNodeKey) {
+    assertTrue(rtx.moveTo(1));
+    assertEquals(NUMBER_OF_VALUES + 1, rtx.getChildCount());
+
+    assertTrue(rtx.moveTo(2));
+    assertEquals(insertedNodeKey, rtx.getRightSiblingKey());
+    assertTrue(rtx.moveTo(insertedNodeKey));
+    assertEquals(-2, rtx.getNumberValue().intValue());
+    assertEquals(2, rtx.getLeftSiblingKey());
+    assertEquals(3, rtx.getRightSiblingKey());
+
+    for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+      assertTrue(rtx.moveTo(i + 2));
+      final boolean isModifiedValue = i % Constants.NDP_NODE_COUNT == 0;
+      assertEquals(isModifiedValue ? -i - 1 : i, rtx.getNumberValue().intValue());
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package io.sirix.access.trx.page;
+
+import io.sirix.index.IndexType;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link PageCheckpointCandidates}.
+ */
+public final class PageCheckpointCandidatesTest {
+
+  @Test
+  public void testDisabled() {
+    final var candidates = new PageCheckpointCandidates(0);
+    assertFalse(candidates.isEnabled());
+
+    candidates.recordReconstruction(IndexType.DOCUMENT, -1, 0, 10);
+    assertEquals(0, candidates.size());
+  }
+
+  @Test
+  public void testDrainOrdersByNumberOfReconstructions() {
+    final var candidates = new PageCheckpointCandidates(3);
+    assertTrue(candidates.isEnabled());
+
+    // Below the threshold.
+    candidates.recordReconstruction(IndexType.DOCUMENT, -1, 0, 2);
+    assertEquals(0, candidates.size());
+
+    candidates.recordReconstruction(IndexType.DOCUMENT, -1, 1, 3);
+    candidates.recordReconstruction(IndexType.DOCUMENT, -1, 2, 3);
+    candidates.recordReconstruction(IndexType.DOCUMENT, -1, 2, 4);
+    assertEquals(2, candidates.size());
+
+    final List<PageCheckpointCandidates.Candidate> drainedCandidates = candidates.drain();
+    assertEquals(List.of(new PageCheckpointCandidates.Candidate(IndexType.DOCUMENT, -1, 2),
+                         new PageCheckpointCandidates.Candidate(IndexType.DOCUMENT, -1, 1)), drainedCandidates);
+    assertEquals(0, candidates.size());
+  }
+}
@@ -0,0 +1,182 @@
+package io.sirix.access.trx.page;
+
+import com.google.common.collect.Lists;
+import io.sirix.JsonTestHelper;
+import io.sirix.access.DatabaseConfiguration;
+import io.sirix.access.Databases;
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.api.Database;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.index.IndexType;
+import io.sirix.io.Reader;
+import io.sirix.io.StorageType;
+import io.sirix.node.interfaces.DataRecord;
+import io.sirix.page.KeyValueLeafPage;
+import io.sirix.page.PageFragmentKey;
+import io.sirix.page.PageReference;
+import io.sirix.page.interfaces.KeyValuePage;
+import io.sirix.page.interfaces.Page;
+import io.sirix.settings.Constants;
+import io.sirix.settings.VersioningType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test reading the page fragments of a record page in one batch.
+ */
+public final class PageFragmentsReadTest {
+
+  private Database<JsonResourceSession> database;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+    Databases.createJsonDatabase(new DatabaseConfiguration(JsonTestHelper.PATHS.PATH1.getFile()));
+    database = Databases.openJsonDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    database.createResource(ResourceConfiguration.newBuilder(JsonTestHelper.RESOURCE)
+                                                 .storageType(StorageType.FILE_CHANNEL)
+                                                 .versioningApproach(VersioningType.SLIDING_SNAPSHOT)
+                                                 .maxNumberOfRevisionsToRestore(4)
+                                                 .build());
+  }
+
+  @After
+  public void tearDown() {
+    database.close();
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testReadAllReadsTheSamePagesAsRead() {
+    final var random = new Random(42);
+
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE)) {
+      try (final var wtx = session.beginNodeTrx()) {
+        wtx.insertArrayAsFirstChild();
+        wtx.commit();
+
+        // Modify the first record page in each revision. The values are random, such that some of the
+        // page fragments are larger than a single read of the batch.
+        for (int revision = 0; revision < 4; revision++) {
+          wtx.moveTo(1);
+          for (int i = 0; i < 40 * (revision + 1); i++) {
+            wtx.insertStringValueAsFirstChild(randomString(random, 500));
+            wtx.moveToParent();
+          }
+          wtx.commit();
+        }
+      }
+
+      try (final var pageTrx = (NodePageReadOnlyTrx) session.beginPageReadOnlyTrx()) {
+        final PageReference leafPageReference = pageTrx.getLeafPageReference(0, 0, IndexType.DOCUMENT);
+
+        final List<PageReference> references = new ArrayList<>();
+        references.add(new PageReference().setKey(leafPageReference.getKey()));
+        for (final PageFragmentKey pageFragmentKey : leafPageReference.getPageFragments()) {
+          references.add(new PageReference().setKey(pageFragmentKey.key()));
+        }
+        assertTrue(references.size() > 1);
+
+        // Not in the order of the offsets in the file.
+        final List<PageReference> reversedReferences = Lists.reverse(references);
+
+        final Reader reader = pageTrx.getReader();
+        final List<Page> pages = reader.readAll(reversedReferences, pageTrx);
+
+        assertEquals(reversedReferences.size(), pages.size());
+        for (int i = 0; i < pages.size(); i++) {
+          final var expectedPage = (KeyValueLeafPage) reader.read(reversedReferences.get(i), pageTrx);
+          final var page = (KeyValueLeafPage) pages.get(i);
+
+          assertEquals(expectedPage, page);
+          for (int offset = 0; offset < Constants.NDP_NODE_COUNT; offset++) {
+            assertArrayEquals(expectedPage.getSlot(offset), page.getSlot(offset));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testPreviousPageFragmentsAreReadLikeWithTheTrxOfTheirRevision() {
+    // The in-memory storage is left out, as it doesn't keep the revision root pages to open a revision.
+    final StorageType[] storageTypes = { StorageType.FILE, StorageType.FILE_CHANNEL, StorageType.DIRECT_IO,
+        StorageType.MEMORY_MAPPED, StorageType.IO_URING };
+
+    for (final StorageType storageType : storageTypes) {
+      final String resource = "resource-" + storageType;
+      database.createResource(ResourceConfiguration.newBuilder(resource)
+                                                   .storageType(storageType)
+                                                   .versioningApproach(VersioningType.SLIDING_SNAPSHOT)
+                                                   .maxNumberOfRevisionsToRestore(4)
+                                                   .build());
+
+      try (final var session = database.beginResourceSession(resource)) {
+        try (final var wtx = session.beginNodeTrx()) {
+          wtx.insertArrayAsFirstChild();
+          wtx.commit();
+
+          // Modify the first record page in each revision, such that the page consists of several fragments.
+          for (int revision = 0; revision < 4; revision++) {
+            wtx.moveTo(1);
+            for (int i = 0; i < 10; i++) {
+              wtx.insertStringValueAsFirstChild("revision " + revision);
+              wtx.moveToParent();
+            }
+            wtx.commit();
+          }
+        }
+
+        try (final var pageTrx = (NodePageReadOnlyTrx) session.beginPageReadOnlyTrx()) {
+          final PageReference leafPageReference = pageTrx.getLeafPageReference(0, 0, IndexType.DOCUMENT);
+          final List<PageFragmentKey> previousPageFragmentKeys = leafPageReference.getPageFragments();
+          assertTrue(storageType.toString(), previousPageFragmentKeys.size() > 1);
+
+          // The previous fragments are read by the reader of the transaction of the most recent revision.
+          final List<KeyValuePage<DataRecord>> pageFragments = pageTrx.getPageFragments(leafPageReference);
+          assertEquals(storageType.toString(), previousPageFragmentKeys.size() + 1, pageFragments.size());
+
+          for (final PageFragmentKey pageFragmentKey : previousPageFragmentKeys) {
+            final KeyValuePage<DataRecord> pageFragment =
+                pageFragments.stream()
+                             .filter(fragment -> fragment.getRevision() == pageFragmentKey.revision())
+                             .findFirst()
+                             .orElseThrow();
+
+            try (final var pageTrxOfRevision = session.beginPageReadOnlyTrx(pageFragmentKey.revision())) {
+              final var expectedPageFragment = (KeyValueLeafPage) pageTrxOfRevision.getReader()
+                                                                                   .read(new PageReference().setKey(
+                                                                                       pageFragmentKey.key()),
+                                                                                         pageTrxOfRevision);
+
+              assertEquals(storageType.toString(), expectedPageFragment.getRevision(), pageFragment.getRevision());
+              assertEquals(storageType.toString(), expectedPageFragment.getPageKey(), pageFragment.getPageKey());
+              for (int offset = 0; offset < Constants.NDP_NODE_COUNT; offset++) {
+                assertArrayEquals(storageType.toString(),
+                                  expectedPageFragment.getSlot(offset),
+                                  pageFragment.getSlot(offset));
+              }
+            }
+          }
+        }
+      }
+    }
+  }
+
+  private static String randomString(final Random random, final int length) {
+    final var builder = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      builder.append((char) ('a' + random.nextInt(26)));
+    }
+    return builder.toString();
+  }
+}
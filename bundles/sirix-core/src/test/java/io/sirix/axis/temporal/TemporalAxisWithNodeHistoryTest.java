@@ -0,0 +1,182 @@
+package io.sirix.axis.temporal;
+
+import io.sirix.JsonTestHelper;
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.axis.IncludeSelf;
+import io.sirix.node.RevisionReferencesNode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the temporal axes on a resource, which stores the node history in the
+ * {@code RECORD_TO_REVISIONS} index.
+ */
+public final class TemporalAxisWithNodeHistoryTest {
+
+  private static final String RESOURCE = "history";
+
+  /**
+   * The key of the number value, which is inserted in revision 2, modified in revision 3 and removed
+   * in revision 4.
+   */
+  private static final long NODE_KEY = 3;
+
+  private JsonResourceSession session;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    database.createResource(ResourceConfiguration.newBuilder(RESOURCE).storeNodeHistory(true).build());
+    session = database.beginResourceSession(RESOURCE);
+
+    try (final var wtx = session.beginNodeTrx()) {
+      // Revision 1.
+      wtx.insertArrayAsFirstChild();
+      wtx.insertNumberValueAsFirstChild(1);
+      wtx.commit();
+
+      // Revision 2.
+      wtx.insertNumberValueAsRightSibling(2);
+      assertEquals(NODE_KEY, wtx.getNodeKey());
+      wtx.commit();
+
+      // Revision 3.
+      wtx.moveTo(NODE_KEY);
+      wtx.setNumberValue(3);
+      wtx.setNumberValue(4);
+      wtx.commit();
+
+      // Revision 4.
+      wtx.moveTo(NODE_KEY);
+      wtx.remove();
+      wtx.commit();
+
+      // Revision 5.
+      wtx.moveTo(2);
+      wtx.setNumberValue(5);
+      wtx.commit();
+    }
+  }
+
+  @After
+  public void tearDown() {
+    session.close();
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testRevisionsOfRecord() {
+    try (final JsonNodeReadOnlyTrx rtx = session.beginNodeReadOnlyTrx()) {
+      final RevisionReferencesNode revisions = RecordRevisions.getRevisions(rtx, NODE_KEY);
+      assertArrayEquals(new int[] { 2, 3, 4 }, revisions.getRevisions());
+      assertEquals(2, RecordRevisions.getPreviousRevision(revisions, 3));
+      assertEquals(2, RecordRevisions.getPreviousRevision(revisions, 5));
+      assertEquals(-1, RecordRevisions.getPreviousRevision(revisions, 2));
+      assertEquals(3, RecordRevisions.getNextRevision(revisions, 2));
+      assertEquals(-1, RecordRevisions.getNextRevision(revisions, 4));
+    }
+  }
+
+  @Test
+  public void testAllTimeAxis() {
+    try (final JsonNodeReadOnlyTrx rtx = session.beginNodeReadOnlyTrx(3)) {
+      rtx.moveTo(NODE_KEY);
+      assertEquals(List.of(2, 3), revisionsOf(new AllTimeAxis<>(session, rtx)));
+    }
+  }
+
+  @Test
+  public void testPastAxis() {
+    try (final JsonNodeReadOnlyTrx rtx = session.beginNodeReadOnlyTrx(3)) {
+      rtx.moveTo(NODE_KEY);
+      assertEquals(List.of(3, 2), revisionsOf(new PastAxis<>(session, rtx, IncludeSelf.YES)));
+    }
+  }
+
+  @Test
+  public void testPreviousAxisBeforeCreation() {
+    try (final JsonNodeReadOnlyTrx rtx = session.beginNodeReadOnlyTrx(2)) {
+      rtx.moveTo(NODE_KEY);
+      assertFalse(new PreviousAxis<>(session, rtx).hasNext());
+    }
+  }
+
+  @Test
+  public void testFutureAxis() {
+    try (final JsonNodeReadOnlyTrx rtx = session.beginNodeReadOnlyTrx(2)) {
+      rtx.moveTo(NODE_KEY);
+      assertEquals(List.of(3), revisionsOf(new FutureAxis<>(session, rtx)));
+    }
+  }
+
+  @Test
+  public void testNextAxis() {
+    try (final JsonNodeReadOnlyTrx rtx = session.beginNodeReadOnlyTrx(2)) {
+      rtx.moveTo(NODE_KEY);
+      assertEquals(List.of(3), revisionsOf(new NextAxis<>(session, rtx)));
+    }
+  }
+
+  @Test
+  public void testPreviousAxis() {
+    try (final JsonNodeReadOnlyTrx rtx = session.beginNodeReadOnlyTrx(3)) {
+      rtx.moveTo(NODE_KEY);
+      assertEquals(List.of(2), revisionsOf(new PreviousAxis<>(session, rtx)));
+    }
+  }
+
+  @Test
+  public void testAxisClosesOnlyTheTrxsWhichAreNotReturned() {
+    try (final JsonNodeReadOnlyTrx rtx = session.beginNodeReadOnlyTrx(3)) {
+      rtx.moveTo(NODE_KEY);
+      final long firstAxisTrxId = rtx.getId() + 1;
+
+      final var axis = new AllTimeAxis<>(session, rtx);
+      final JsonNodeReadOnlyTrx rtxInRevision2 = axis.next();
+      final JsonNodeReadOnlyTrx rtxInRevision3 = axis.next();
+      assertFalse(axis.hasNext());
+
+      // The transaction on the most recent revision and the transaction on revision 4, in which the
+      // node doesn't exist, have been closed.
+      assertTrue(session.getNodeReadTrxByTrxId(firstAxisTrxId).isEmpty());
+      assertTrue(session.getNodeReadTrxByTrxId(rtxInRevision3.getId() + 1).isEmpty());
+
+      // Another axis doesn't move the returned transactions.
+      rtx.moveTo(1);
+      final var otherAxis = new AllTimeAxis<>(session, rtx);
+      while (otherAxis.hasNext()) {
+        otherAxis.next().close();
+      }
+      otherAxis.close();
+
+      assertFalse(rtxInRevision2.isClosed());
+      assertEquals(NODE_KEY, rtxInRevision2.getNodeKey());
+      assertEquals(NODE_KEY, rtxInRevision3.getNodeKey());
+      rtxInRevision2.close();
+      rtxInRevision3.close();
+    }
+  }
+
+  private static List<Integer> revisionsOf(final Iterator<JsonNodeReadOnlyTrx> axis) {
+    final List<Integer> revisions = new ArrayList<>();
+    while (axis.hasNext()) {
+      final var rtx = axis.next();
+      assertEquals(NODE_KEY, rtx.getNodeKey());
+      revisions.add(rtx.getRevisionNumber());
+    }
+    return revisions;
+  }
+}
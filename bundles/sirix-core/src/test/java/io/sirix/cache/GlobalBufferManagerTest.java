@@ -0,0 +1,148 @@
+package io.sirix.cache;
+
+import io.sirix.Holder;
+import io.sirix.XmlTestHelper;
+import io.sirix.api.PageReadOnlyTrx;
+import io.sirix.index.IndexType;
+import io.sirix.page.KeyValueLeafPage;
+import io.sirix.page.PageReference;
+import io.sirix.page.RevisionRootPage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link GlobalBufferManager}.
+ */
+public final class GlobalBufferManagerTest {
+
+  private static final int ENTRY_WEIGHT = GlobalBufferManager.weigh(new RevisionRootPage());
+
+  private static final int MAX_ENTRIES = 8;
+
+  private GlobalBufferManager globalBufferManager;
+
+  @Before
+  public void setUp() {
+    globalBufferManager = new GlobalBufferManager((long) ENTRY_WEIGHT * MAX_ENTRIES, 0);
+  }
+
+  @After
+  public void tearDown() {
+    globalBufferManager.close();
+  }
+
+  @Test
+  public void testHitsAndMisses() {
+    final ResourceBufferManager bufferManager = globalBufferManager.getBufferManager(Path.of("resource"));
+    final RevisionRootPage page = new RevisionRootPage();
+
+    assertNull(bufferManager.getRevisionRootPageCache().get(0));
+    bufferManager.getRevisionRootPageCache().put(0, page);
+    assertSame(page, bufferManager.getRevisionRootPageCache().get(0));
+
+    assertEquals(1, bufferManager.getStatistics().getHitCount());
+    assertEquals(1, bufferManager.getStatistics().getMissCount());
+    assertEquals(ENTRY_WEIGHT, bufferManager.getSize());
+
+    // Entries of other resources are separated.
+    assertNull(globalBufferManager.getBufferManager(Path.of("other")).getRevisionRootPageCache().get(0));
+
+    globalBufferManager.removeBufferManager(Path.of("resource"));
+    assertEquals(0, globalBufferManager.getSize());
+  }
+
+  @Test
+  public void testEvictionOfResourceExceedingItsQuota() {
+    final ResourceBufferManager hotResource = globalBufferManager.getBufferManager(Path.of("hot"));
+    final ResourceBufferManager otherResource = globalBufferManager.getBufferManager(Path.of("other"));
+
+    // The hot resource borrows the capacity of the idle resource.
+    for (int i = 0; i < MAX_ENTRIES; i++) {
+      hotResource.getRevisionRootPageCache().put(i, new RevisionRootPage());
+    }
+    assertEquals((long) ENTRY_WEIGHT * MAX_ENTRIES, hotResource.getSize());
+
+    // Once the budget is exhausted, entries of the resource exceeding its quota are evicted.
+    for (int i = 0; i < MAX_ENTRIES / 2; i++) {
+      otherResource.getRevisionRootPageCache().put(i, new RevisionRootPage());
+    }
+
+    for (int i = 0; i < MAX_ENTRIES / 2; i++) {
+      assertNotNull(otherResource.getRevisionRootPageCache().get(i));
+    }
+    assertEquals(hotResource.getQuota(), hotResource.getSize());
+    assertEquals(MAX_ENTRIES / 2, hotResource.getStatistics().getEvictionCount());
+    assertEquals(0, otherResource.getStatistics().getEvictionCount());
+  }
+
+  @Test
+  public void testReconstructedPagesAreWeighedAsReferences() {
+    final ResourceBufferManager bufferManager = globalBufferManager.getBufferManager(Path.of("resource"));
+    final PageReference reference = new PageReference().setKey(42);
+    reference.setPage(new RevisionRootPage());
+
+    bufferManager.getReconstructedPageCache().put(new IndexLogKey(IndexType.DOCUMENT, 0, 0, 1), reference);
+
+    assertEquals(GlobalBufferManager.weigh(new PageReference()), bufferManager.getSize());
+  }
+
+  @Test
+  public void testPagesEvictedForExceedingTheQuotaAreKeptOffHeap() {
+    XmlTestHelper.deleteEverything();
+    XmlTestHelper.createTestDocument();
+
+    final Holder holder = Holder.openResourceManager();
+    final PageReadOnlyTrx pageReadOnlyTrx = holder.getResourceManager().beginPageReadOnlyTrx();
+
+    try {
+      final int pageWeight = GlobalBufferManager.weigh(createPage(0, pageReadOnlyTrx));
+      final long maxOffHeapSize = 1 << 20;
+      final GlobalBufferManager bufferManager =
+          new GlobalBufferManager((long) pageWeight * MAX_ENTRIES + maxOffHeapSize, maxOffHeapSize);
+
+      try (bufferManager) {
+        final ResourceBufferManager hotResource = bufferManager.getBufferManager(Path.of("hot"));
+        final ResourceBufferManager otherResource = bufferManager.getBufferManager(Path.of("other"));
+
+        for (int i = 0; i < MAX_ENTRIES; i++) {
+          hotResource.getRecordPageCache().put(new PageReference().setKey(i), createPage(i, pageReadOnlyTrx));
+        }
+        for (int i = 0; i < MAX_ENTRIES / 2; i++) {
+          otherResource.getRecordPageCache().put(new PageReference().setKey(i), createPage(i, pageReadOnlyTrx));
+        }
+
+        assertEquals(MAX_ENTRIES / 2, hotResource.getStatistics().getEvictionCount());
+        assertEquals((long) pageWeight * MAX_ENTRIES, bufferManager.getSize());
+        assertTrue(bufferManager.getOffHeapSize() > 0);
+
+        // Evicted pages are promoted from the off-heap cache.
+        for (int i = 0; i < MAX_ENTRIES; i++) {
+          final KeyValueLeafPage page =
+              (KeyValueLeafPage) hotResource.getRecordPageCache().get(new PageReference().setKey(i));
+          assertNotNull(page);
+          assertArrayEquals(new byte[] { (byte) i, 1, 2 }, page.getSlot(1));
+        }
+      }
+    } finally {
+      pageReadOnlyTrx.close();
+      holder.close();
+      XmlTestHelper.closeEverything();
+    }
+  }
+
+  private static KeyValueLeafPage createPage(final int pageKey, final PageReadOnlyTrx pageReadOnlyTrx) {
+    final KeyValueLeafPage page = new KeyValueLeafPage(pageKey, IndexType.DOCUMENT, pageReadOnlyTrx);
+    page.setSlot(new byte[] { (byte) pageKey, 1, 2 }, 1);
+    return page;
+  }
+}
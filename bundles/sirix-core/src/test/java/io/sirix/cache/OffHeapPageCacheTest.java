@@ -0,0 +1,90 @@
+package io.sirix.cache;
+
+import io.sirix.Holder;
+import io.sirix.XmlTestHelper;
+import io.sirix.api.PageReadOnlyTrx;
+import io.sirix.exception.SirixException;
+import io.sirix.index.IndexType;
+import io.sirix.page.KeyValueLeafPage;
+import io.sirix.page.PageReference;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link OffHeapPageCache}.
+ */
+public final class OffHeapPageCacheTest {
+
+  private Holder holder;
+
+  private PageReadOnlyTrx pageReadOnlyTrx;
+
+  @Before
+  public void setUp() throws SirixException {
+    XmlTestHelper.deleteEverything();
+    XmlTestHelper.createTestDocument();
+    holder = Holder.openResourceManager();
+    pageReadOnlyTrx = holder.getResourceManager().beginPageReadOnlyTrx();
+  }
+
+  @After
+  public void tearDown() throws SirixException {
+    pageReadOnlyTrx.close();
+    holder.close();
+    XmlTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testPutAndGet() {
+    final OffHeapPageCache<PageReference> cache = new OffHeapPageCache<>(1 << 20);
+    final KeyValueLeafPage page = createPage(5);
+    final PageReference reference = new PageReference().setKey(42);
+
+    cache.put(reference, page);
+    assertEquals(page.getCopySize(), cache.size());
+
+    final KeyValueLeafPage cachedPage = cache.get(new PageReference().setKey(42));
+    assertNotNull(cachedPage);
+    assertEquals(5, cachedPage.getPageKey());
+    assertEquals(IndexType.DOCUMENT, cachedPage.getIndexType());
+    assertArrayEquals(new byte[] { 5, 1, 2 }, cachedPage.getSlot(1));
+    assertArrayEquals(new byte[] { 5, 3 }, cachedPage.getSlot(7));
+    assertNull(cachedPage.getSlot(2));
+    assertEquals(2, cachedPage.size());
+
+    // Pages are removed on a hit.
+    assertNull(cache.get(reference));
+  }
+
+  @Test
+  public void testPromotion() {
+    final OffHeapPageCache<PageReference> secondCache = new OffHeapPageCache<>(1 << 20);
+    final PageCache pageCache = new PageCache(10, secondCache);
+    final PageReference reference = new PageReference().setKey(42);
+
+    secondCache.put(reference, createPage(5));
+
+    final KeyValueLeafPage page = (KeyValueLeafPage) pageCache.get(reference);
+    assertNotNull(page);
+    assertArrayEquals(new byte[] { 5, 1, 2 }, page.getSlot(1));
+    assertNull(secondCache.get(reference));
+    assertTrue(pageCache.get(reference) == page);
+
+    pageCache.toSecondCache();
+    assertTrue(secondCache.size() > 0);
+  }
+
+  private KeyValueLeafPage createPage(final int pageKey) {
+    final KeyValueLeafPage page = new KeyValueLeafPage(pageKey, IndexType.DOCUMENT, pageReadOnlyTrx);
+    page.setSlot(new byte[] { (byte) pageKey, 1, 2 }, 1);
+    page.setSlot(new byte[] { (byte) pageKey, 3 }, 7);
+    return page;
+  }
+}
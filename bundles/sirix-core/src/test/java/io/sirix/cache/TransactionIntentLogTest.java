@@ -0,0 +1,129 @@
+package io.sirix.cache;
+
+import io.sirix.Holder;
+import io.sirix.XmlTestHelper;
+import io.sirix.api.PageReadOnlyTrx;
+import io.sirix.exception.SirixException;
+import io.sirix.index.IndexType;
+import io.sirix.metrics.SirixMetrics;
+import io.sirix.page.KeyValueLeafPage;
+import io.sirix.page.PageReference;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests spilling of the {@link TransactionIntentLog}.
+ */
+public final class TransactionIntentLogTest {
+
+  private static final int MAX_IN_MEMORY_CAPACITY = 4;
+
+  private Holder holder;
+
+  private PageReadOnlyTrx pageReadOnlyTrx;
+
+  private TransactionIntentLog log;
+
+  @Before
+  public void setUp() throws SirixException {
+    XmlTestHelper.deleteEverything();
+    XmlTestHelper.createTestDocument();
+    holder = Holder.openResourceManager();
+    pageReadOnlyTrx = holder.getResourceManager().beginPageReadOnlyTrx();
+    log = new TransactionIntentLog(pageReadOnlyTrx.getResourceSession().getResourceConfig(), MAX_IN_MEMORY_CAPACITY);
+  }
+
+  @After
+  public void tearDown() throws SirixException {
+    log.close();
+    pageReadOnlyTrx.close();
+    holder.close();
+    XmlTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testSpillAndReload() {
+    final SirixMetrics metrics = SirixMetrics.get();
+    final long spilledPagesBefore = metrics.intentLogSpilledPages().getCount();
+    final long spilledBytesBefore = metrics.intentLogSpilledBytes().getCount();
+    final long reloadedPagesBefore = metrics.intentLogReloadedPages().getCount();
+
+    final PageReference[] references = putPages();
+
+    assertTrue(log.isSpillingRequired());
+
+    final PageContainer pinned = log.getList().get(0);
+    final int spilled = log.spill(pageReadOnlyTrx, container -> container == pinned).size();
+
+    assertEquals(MAX_IN_MEMORY_CAPACITY * 2 - 3, spilled);
+    assertEquals(spilled, metrics.intentLogSpilledPages().getCount() - spilledPagesBefore);
+    assertTrue(metrics.intentLogSpilledBytes().getCount() > spilledBytesBefore);
+    assertSame(pinned, log.getList().get(0));
+    assertNull(log.getList().get(1));
+
+    for (int i = 1; i < references.length; i++) {
+      final PageContainer container = log.get(references[i]);
+      assertNotNull(container);
+
+      final KeyValueLeafPage complete = container.getCompleteAsUnorderedKeyValuePage();
+      final KeyValueLeafPage modified = container.getModifiedAsUnorderedKeyValuePage();
+      assertEquals(i, complete.getPageKey());
+      assertArrayEquals(new byte[] { (byte) i, 1, 2 }, complete.getSlot(1));
+      assertNull(complete.getSlot(2));
+      assertArrayEquals(new byte[] { (byte) i, 3 }, modified.getSlot(2));
+    }
+
+    assertEquals(spilled, metrics.intentLogReloadedPages().getCount() - reloadedPagesBefore);
+  }
+
+  @Test
+  public void testReadSpilledPagesWithoutReloading() {
+    final SirixMetrics metrics = SirixMetrics.get();
+    final long reloadedPagesBefore = metrics.intentLogReloadedPages().getCount();
+
+    final PageReference[] references = putPages();
+    final int spilled = log.spill(pageReadOnlyTrx, container -> false).size();
+
+    assertTrue(spilled > 0);
+    assertEquals(references.length, log.size());
+
+    for (int i = 0; i < references.length; i++) {
+      assertTrue(log.isKeyValueLeafPage(i));
+
+      final KeyValueLeafPage modified = log.getModifiedKeyValueLeafPage(i);
+      assertNotNull(modified);
+      assertEquals(i, modified.getPageKey());
+      assertArrayEquals(new byte[] { (byte) i, 3 }, modified.getSlot(2));
+    }
+
+    // Spilled entries stay spilled.
+    for (int i = 0; i < spilled; i++) {
+      assertNull(log.getList().get(i));
+    }
+    assertEquals(reloadedPagesBefore, metrics.intentLogReloadedPages().getCount());
+  }
+
+  private PageReference[] putPages() {
+    final PageReference[] references = new PageReference[MAX_IN_MEMORY_CAPACITY * 2];
+
+    for (int i = 0; i < references.length; i++) {
+      final KeyValueLeafPage complete = new KeyValueLeafPage(i, IndexType.DOCUMENT, pageReadOnlyTrx);
+      complete.setSlot(new byte[] { (byte) i, 1, 2 }, 1);
+      final KeyValueLeafPage modified = new KeyValueLeafPage(complete);
+      modified.setSlot(new byte[] { (byte) i, 3 }, 2);
+
+      references[i] = new PageReference();
+      log.put(references[i], PageContainer.getInstance(complete, modified));
+    }
+
+    return references;
+  }
+}
@@ -0,0 +1,183 @@
+package io.sirix.diff;
+
+import io.sirix.JsonTestHelper;
+import io.sirix.access.trx.node.ChangedNodesIndex;
+import io.sirix.access.trx.node.HashType;
+import io.sirix.access.trx.node.json.objectvalue.StringValue;
+import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import io.sirix.api.json.JsonNodeTrx;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.diff.DiffFactory.DiffOptimized;
+import io.sirix.diff.DiffFactory.DiffType;
+import io.sirix.service.json.shredder.JsonShredder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests, that diffing the changed subtrees reports the same changes as the full diff.
+ */
+public final class ChangedNodesDiffTest {
+
+  private static final int NUMBER_OF_OBJECTS = 50;
+
+  private static final int NUMBER_OF_KEYS = 5;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void changedNodesDiffEqualsFullDiff() {
+    final var database = JsonTestHelper.getDatabaseWithHashesEnabled(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var wtx = session.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(createJson()));
+
+      // Revision 2: update a value.
+      moveToObject(wtx, 3);
+      wtx.moveToFirstChild();
+      wtx.moveToFirstChild();
+      final long updatedNodeKey = wtx.getNodeKey();
+      wtx.setNumberValue(42);
+      wtx.commit();
+
+      // Revision 3: remove an object.
+      moveToObject(wtx, 10);
+      final long removedNodeKey = wtx.getNodeKey();
+      wtx.remove();
+      wtx.commit();
+
+      // Revision 4: insert an object record and an object.
+      moveToObject(wtx, 20);
+      wtx.moveToFirstChild();
+      wtx.insertObjectRecordAsRightSibling("inserted", new StringValue("value"));
+      moveToObject(wtx, 30);
+      wtx.insertSubtreeAsRightSibling(JsonShredder.createStringReader("{\"new\":true}"));
+
+      try (final var pageReadTrx = session.beginPageReadOnlyTrx(2)) {
+        final Roaring64Bitmap changedNodes = ChangedNodesIndex.getChangedNodes(pageReadTrx);
+        assertNotNull(changedNodes);
+        assertEquals(1, changedNodes.getLongCardinality());
+        assertTrue(changedNodes.contains(updatedNodeKey));
+      }
+      try (final var pageReadTrx = session.beginPageReadOnlyTrx(3)) {
+        final Roaring64Bitmap changedNodes = ChangedNodesIndex.getChangedNodes(pageReadTrx);
+        assertNotNull(changedNodes);
+        assertTrue(changedNodes.contains(removedNodeKey));
+      }
+
+      for (int oldRevision = 1; oldRevision < session.getMostRecentRevisionNumber(); oldRevision++) {
+        final List<String> fullDiff = diff(session, session.getMostRecentRevisionNumber(), oldRevision, false);
+        final List<String> changedNodesDiff = diff(session, session.getMostRecentRevisionNumber(), oldRevision, true);
+
+        assertFalse(fullDiff.isEmpty());
+        assertEquals(fullDiff, changedNodesDiff);
+      }
+    }
+  }
+
+  @Test
+  public void revertedRevisionIsDiffedCompletely() {
+    final var database = JsonTestHelper.getDatabaseWithHashesEnabled(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var wtx = session.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(createJson()));
+
+      moveToObject(wtx, 5);
+      wtx.remove();
+      wtx.commit();
+
+      wtx.revertTo(1);
+      wtx.commit();
+
+      try (final var pageReadTrx = session.beginPageReadOnlyTrx(3)) {
+        assertNull(ChangedNodesIndex.getChangedNodes(pageReadTrx));
+      }
+
+      final List<String> fullDiff = diff(session, 3, 2, false);
+      assertFalse(fullDiff.isEmpty());
+      assertEquals(fullDiff, diff(session, 3, 2, true));
+    }
+  }
+
+  private static void moveToObject(final JsonNodeTrx wtx, final int index) {
+    wtx.moveToDocumentRoot();
+    wtx.moveToFirstChild();
+    wtx.moveToFirstChild();
+    for (int i = 0; i < index; i++) {
+      wtx.moveToRightSibling();
+    }
+  }
+
+  /**
+   * Diff two revisions and get the differences, which aren't {@code SAME} or {@code SAMEHASH}.
+   */
+  private static List<String> diff(final JsonResourceSession session, final int newRevision, final int oldRevision,
+      final boolean changedNodesOnly) {
+    final List<String> diffs = new ArrayList<>();
+    final DiffObserver observer = new DiffObserver() {
+      @Override
+      public void diffListener(final DiffType diffType, final long newNodeKey, final long oldNodeKey,
+          final DiffDepth depth) {
+        if (diffType != DiffType.SAME && diffType != DiffType.SAMEHASH) {
+          diffs.add(diffType + " " + newNodeKey + " " + oldNodeKey + " " + depth.getNewDepth() + " "
+                        + depth.getOldDepth());
+        }
+      }
+
+      @Override
+      public void diffDone() {
+      }
+    };
+
+    final var builder = new DiffFactory.Builder<JsonNodeReadOnlyTrx, JsonNodeTrx>(session,
+                                                                                newRevision,
+                                                                                oldRevision,
+                                                                                DiffOptimized.HASHED,
+                                                                                Set.of(observer)).hashKind(HashType.ROLLING)
+                                                                                                 .skipSubtrees(true);
+    if (changedNodesOnly) {
+      DiffFactory.invokeJsonDiffOfChangedNodes(builder);
+    } else {
+      DiffFactory.invokeJsonDiff(builder);
+    }
+
+    return diffs;
+  }
+
+  private static String createJson() {
+    final StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < NUMBER_OF_OBJECTS; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append('{');
+      for (int j = 0; j < NUMBER_OF_KEYS; j++) {
+        if (j > 0) {
+          json.append(',');
+        }
+        json.append("\"key").append(j).append("\":").append(j);
+      }
+      json.append('}');
+    }
+    return json.append(']').toString();
+  }
+}
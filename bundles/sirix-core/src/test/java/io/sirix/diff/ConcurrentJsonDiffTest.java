@@ -0,0 +1,142 @@
+package io.sirix.diff;
+
+import io.sirix.JsonTestHelper;
+import io.sirix.access.trx.node.HashType;
+import io.sirix.access.trx.node.json.objectvalue.StringValue;
+import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import io.sirix.api.json.JsonNodeTrx;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.diff.DiffFactory.DiffOptimized;
+import io.sirix.service.json.shredder.JsonShredder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests, that diffing subtrees concurrently reports the same differences in the same order as the
+ * sequential diff.
+ */
+public final class ConcurrentJsonDiffTest {
+
+  private static final int NUMBER_OF_OBJECTS = 4;
+
+  private static final int NUMBER_OF_KEYS = 600;
+
+  private ForkJoinPool pool;
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+    pool = new ForkJoinPool(4);
+  }
+
+  @After
+  public void tearDown() {
+    pool.shutdown();
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void concurrentDiffEqualsSequentialDiff() {
+    final var database = JsonTestHelper.getDatabaseWithHashesEnabled(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var wtx = session.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(createJson()));
+
+      // Change all objects but the first one.
+      wtx.moveToDocumentRoot();
+      wtx.moveToFirstChild();
+      wtx.moveToFirstChild();
+      for (int i = 1; i < NUMBER_OF_OBJECTS; i++) {
+        wtx.moveToRightSibling();
+        final long objectKey = wtx.getNodeKey();
+        wtx.moveToFirstChild();
+        wtx.moveToFirstChild();
+        wtx.setNumberValue(-i);
+        wtx.moveToParent();
+        if (i % 2 == 0) {
+          wtx.remove();
+        } else {
+          wtx.insertObjectRecordAsRightSibling("new" + i, new StringValue("value"));
+        }
+        wtx.moveTo(objectKey);
+      }
+      wtx.commit();
+
+      final List<String> sequentialDiff = diff(session, null);
+      final List<String> concurrentDiff = diff(session, pool);
+
+      assertTrue(sequentialDiff.size() > NUMBER_OF_OBJECTS);
+      assertEquals(sequentialDiff, concurrentDiff);
+    }
+  }
+
+  @Test
+  public void concurrentDiffOfChangedChildrenEqualsSequentialDiff() {
+    final var database = JsonTestHelper.getDatabaseWithHashesEnabled(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var wtx = session.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(createJson()));
+
+      // Insert an object, such that the children of the array differ.
+      wtx.moveToDocumentRoot();
+      wtx.moveToFirstChild();
+      wtx.moveToFirstChild();
+      wtx.insertSubtreeAsRightSibling(JsonShredder.createStringReader("{\"inserted\":true}"));
+      wtx.commit();
+
+      assertEquals(diff(session, null), diff(session, pool));
+    }
+  }
+
+  private static List<String> diff(final JsonResourceSession session, final ForkJoinPool pool) {
+    final List<String> diffs = new ArrayList<>();
+    final DiffObserver observer = new DiffObserver() {
+      @Override
+      public void diffListener(final DiffFactory.DiffType diffType, final long newNodeKey, final long oldNodeKey,
+          final DiffDepth depth) {
+        diffs.add(diffType + " " + newNodeKey + " " + oldNodeKey + " " + depth.getNewDepth() + " "
+                      + depth.getOldDepth());
+      }
+
+      @Override
+      public void diffDone() {
+      }
+    };
+
+    DiffFactory.invokeJsonDiff(new DiffFactory.Builder<JsonNodeReadOnlyTrx, JsonNodeTrx>(session,
+                                                                                          2,
+                                                                                          1,
+                                                                                          DiffOptimized.HASHED,
+                                                                                          Set.of(observer)).hashKind(
+        HashType.ROLLING).forkJoinPool(pool));
+
+    return diffs;
+  }
+
+  private static String createJson() {
+    final StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < NUMBER_OF_OBJECTS; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append('{');
+      for (int j = 0; j < NUMBER_OF_KEYS; j++) {
+        if (j > 0) {
+          json.append(',');
+        }
+        json.append("\"key").append(j).append("\":").append(j);
+      }
+      json.append('}');
+    }
+    return json.append(']').toString();
+  }
+}
@@ -1,12 +1,15 @@
 package io.sirix.index;
 
+import io.sirix.index.bplustree.BPlusTreeReader;
 import io.sirix.index.path.json.JsonPCRCollector;
+import io.sirix.index.redblacktree.RBNodeKey;
 import io.sirix.index.redblacktree.RBTreeReader;
 import io.sirix.index.redblacktree.keyvalue.CASValue;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 import io.sirix.node.NodeKind;
 import io.sirix.service.InsertPosition;
 import io.sirix.service.json.shredder.JsonShredder;
+import io.sirix.settings.Fixed;
 import io.brackit.query.atomic.Dbl;
 import io.brackit.query.atomic.QNm;
 import io.brackit.query.atomic.Str;
@@ -17,6 +20,8 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import io.sirix.JsonTestHelper;
+import io.sirix.api.json.JsonNodeTrx;
+import io.sirix.api.json.JsonResourceSession;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -435,4 +440,250 @@ public final class JsonRedBlackTreeIntegrationTest {
       assertTrue(pathIndex.isPresent());
     }
   }
+
+  @Test
+  public void testCreateIndexesInParallelOnCommittedRevision() {
+    final var jsonPath = JSON.resolve("laureate.json");
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var trx = session.beginNodeTrx()) {
+      final var indexController = session.getWtxIndexController(trx.getRevisionNumber());
+
+      final var pathToCategory = parse("/laureates/[]/prizes/[]/category", PathParser.Type.JSON);
+      final var pathToBornCountry = parse("/laureates/[]/bornCountry", PathParser.Type.JSON);
+
+      final var nameIdxDef = IndexDefs.createNameIdxDef(0, IndexDef.DbType.JSON);
+      final var pathIdxDef = IndexDefs.createPathIdxDef(Set.of(pathToBornCountry), 1, IndexDef.DbType.JSON);
+      final var casIdxDef = IndexDefs.createCASIdxDef(false, Type.STR, Set.of(pathToCategory), 2, IndexDef.DbType.JSON);
+
+      // Built while listening.
+      indexController.createIndexes(Set.of(nameIdxDef, pathIdxDef, casIdxDef), trx);
+
+      final var shredder = new JsonShredder.Builder(trx,
+                                                    JsonShredder.createFileReader(jsonPath),
+                                                    InsertPosition.AS_FIRST_CHILD).commitAfterwards().build();
+      shredder.call();
+
+      assertFalse(trx.hasUncommittedModifications());
+      assertTrue(trx.getMaxNodeKey() > 1 << 13);
+
+      final var parallelNameIdxDef = IndexDefs.createNameIdxDef(3, IndexDef.DbType.JSON);
+      final var parallelPathIdxDef = IndexDefs.createPathIdxDef(Set.of(pathToBornCountry), 4, IndexDef.DbType.JSON);
+      final var parallelCasIdxDef =
+          IndexDefs.createCASIdxDef(false, Type.STR, Set.of(pathToCategory), 5, IndexDef.DbType.JSON);
+
+      // Built in parallel from the committed revision.
+      indexController.createIndexes(Set.of(parallelNameIdxDef, parallelPathIdxDef, parallelCasIdxDef), trx);
+
+      final Map<QNm, NodeReferences> nameIndexEntries = getIndexEntries(session, trx, nameIdxDef);
+      assertFalse(nameIndexEntries.isEmpty());
+      assertEquals(nameIndexEntries, getIndexEntries(session, trx, parallelNameIdxDef));
+
+      final Map<Long, NodeReferences> pathIndexEntries = getIndexEntries(session, trx, pathIdxDef);
+      assertEquals(1, pathIndexEntries.size());
+      assertEquals(pathIndexEntries, getIndexEntries(session, trx, parallelPathIdxDef));
+
+      final Map<CASValue, NodeReferences> casIndexEntries = getIndexEntries(session, trx, casIdxDef);
+      assertEquals(6, casIndexEntries.size());
+      assertEquals(casIndexEntries, getIndexEntries(session, trx, parallelCasIdxDef));
+    }
+  }
+
+  @Test
+  public void testBPlusTreeIndexesWhileListeningAndOnCommittedRevision() {
+    final var jsonPath = JSON.resolve("laureate.json");
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var trx = session.beginNodeTrx()) {
+      final var indexController = session.getWtxIndexController(trx.getRevisionNumber());
+
+      final var pathToCategory = parse("/laureates/[]/prizes/[]/category", PathParser.Type.JSON);
+      final var pathToBornCountry = parse("/laureates/[]/bornCountry", PathParser.Type.JSON);
+
+      final var nameIdxDef = IndexDefs.createNameIdxDef(0, IndexDef.DbType.JSON);
+      final var pathIdxDef = IndexDefs.createPathIdxDef(Set.of(pathToBornCountry), 1, IndexDef.DbType.JSON);
+      final var casIdxDef = IndexDefs.createCASIdxDef(false, Type.STR, Set.of(pathToCategory), 2, IndexDef.DbType.JSON);
+
+      final var bPlusTreeNameIdxDef =
+          IndexDefs.createNameIdxDef(3, IndexDef.DbType.JSON, IndexStructure.BPLUS_TREE);
+      final var bPlusTreePathIdxDef = IndexDefs.createPathIdxDef(Set.of(pathToBornCountry),
+                                                                 4,
+                                                                 IndexDef.DbType.JSON,
+                                                                 IndexStructure.BPLUS_TREE);
+      final var bPlusTreeCasIdxDef = IndexDefs.createCASIdxDef(false,
+                                                               Type.STR,
+                                                               Set.of(pathToCategory),
+                                                               5,
+                                                               IndexDef.DbType.JSON,
+                                                               IndexStructure.BPLUS_TREE);
+
+      // Built while listening.
+      indexController.createIndexes(Set.of(nameIdxDef,
+                                           pathIdxDef,
+                                           casIdxDef,
+                                           bPlusTreeNameIdxDef,
+                                           bPlusTreePathIdxDef,
+                                           bPlusTreeCasIdxDef), trx);
+
+      final var shredder = new JsonShredder.Builder(trx,
+                                                    JsonShredder.createFileReader(jsonPath),
+                                                    InsertPosition.AS_FIRST_CHILD).commitAfterwards().build();
+      shredder.call();
+
+      final var loadedNameIdxDef = IndexDefs.createNameIdxDef(6, IndexDef.DbType.JSON, IndexStructure.BPLUS_TREE);
+      final var loadedPathIdxDef = IndexDefs.createPathIdxDef(Set.of(pathToBornCountry),
+                                                              7,
+                                                              IndexDef.DbType.JSON,
+                                                              IndexStructure.BPLUS_TREE);
+      final var loadedCasIdxDef = IndexDefs.createCASIdxDef(false,
+                                                            Type.STR,
+                                                            Set.of(pathToCategory),
+                                                            8,
+                                                            IndexDef.DbType.JSON,
+                                                            IndexStructure.BPLUS_TREE);
+
+      // Bulk loaded from the committed revision.
+      indexController.createIndexes(Set.of(loadedNameIdxDef, loadedPathIdxDef, loadedCasIdxDef), trx);
+
+      final Map<QNm, NodeReferences> nameIndexEntries = getIndexEntries(session, trx, nameIdxDef);
+      assertFalse(nameIndexEntries.isEmpty());
+      assertEquals(nameIndexEntries, getBPlusTreeIndexEntries(trx, bPlusTreeNameIdxDef));
+      assertEquals(nameIndexEntries, getBPlusTreeIndexEntries(trx, loadedNameIdxDef));
+
+      final Map<Long, NodeReferences> pathIndexEntries = getIndexEntries(session, trx, pathIdxDef);
+      assertEquals(1, pathIndexEntries.size());
+      assertEquals(pathIndexEntries, getBPlusTreeIndexEntries(trx, bPlusTreePathIdxDef));
+      assertEquals(pathIndexEntries, getBPlusTreeIndexEntries(trx, loadedPathIdxDef));
+
+      final Map<CASValue, NodeReferences> casIndexEntries = getIndexEntries(session, trx, casIdxDef);
+      assertEquals(6, casIndexEntries.size());
+      assertEquals(casIndexEntries, getBPlusTreeIndexEntries(trx, bPlusTreeCasIdxDef));
+      assertEquals(casIndexEntries, getBPlusTreeIndexEntries(trx, loadedCasIdxDef));
+
+      final var pathNodeKey = casIndexEntries.keySet().iterator().next().getPathNodeKey();
+      final var physicsNodeReferences =
+          casIndexEntries.get(new CASValue(new Str("physics"), Type.STR, pathNodeKey));
+      assertNotNull(physicsNodeReferences);
+      final Iterator<NodeReferences> physicsIterator = indexController.openCASIndex(trx.getPageTrx(),
+          loadedCasIdxDef,
+          indexController.createCASFilter(Set.of("/laureates/[]/prizes/[]/category"),
+                                          new Str("physics"),
+                                          SearchMode.EQUAL,
+                                          new JsonPCRCollector(trx)));
+      assertTrue(physicsIterator.hasNext());
+      assertEquals(physicsNodeReferences, physicsIterator.next());
+      assertFalse(physicsIterator.hasNext());
+    }
+  }
+
+  @Test
+  public void testBPlusTreePrefixSearch() {
+    final var jsonPath = JSON.resolve("laureate.json");
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var trx = session.beginNodeTrx()) {
+      final var indexController = session.getWtxIndexController(trx.getRevisionNumber());
+
+      final var pathToCategory = parse("/laureates/[]/prizes/[]/category", PathParser.Type.JSON);
+
+      final var casIdxDef = IndexDefs.createCASIdxDef(false, Type.STR, Set.of(pathToCategory), 0, IndexDef.DbType.JSON);
+      final var bPlusTreeCasIdxDef = IndexDefs.createCASIdxDef(false,
+                                                               Type.STR,
+                                                               Set.of(pathToCategory),
+                                                               1,
+                                                               IndexDef.DbType.JSON,
+                                                               IndexStructure.BPLUS_TREE);
+      final var nameIdxDef = IndexDefs.createNameIdxDef(0, IndexDef.DbType.JSON);
+      final var bPlusTreeNameIdxDef = IndexDefs.createNameIdxDef(1, IndexDef.DbType.JSON, IndexStructure.BPLUS_TREE);
+
+      indexController.createIndexes(Set.of(casIdxDef, bPlusTreeCasIdxDef, nameIdxDef, bPlusTreeNameIdxDef), trx);
+
+      final var shredder = new JsonShredder.Builder(trx,
+                                                    JsonShredder.createFileReader(jsonPath),
+                                                    InsertPosition.AS_FIRST_CHILD).commitAfterwards().build();
+      shredder.call();
+
+      try (final var rtx = session.beginNodeReadOnlyTrx()) {
+        final var rtxIndexController = session.getRtxIndexController(rtx.getRevisionNumber());
+        final var paths = Set.of("/laureates/[]/prizes/[]/category");
+
+        final var physics = getNodeKeys(rtxIndexController.openCASIndex(rtx.getPageTrx(),
+            casIdxDef,
+            rtxIndexController.createCASFilter(paths, new Str("physics"), SearchMode.EQUAL, new JsonPCRCollector(rtx))));
+        assertEquals(213, physics.size());
+        assertEquals(physics, getNodeKeys(rtxIndexController.openCASIndex(rtx.getPageTrx(),
+            bPlusTreeCasIdxDef,
+            rtxIndexController.createCASFilter(paths, new Str("physics"), SearchMode.EQUAL, new JsonPCRCollector(rtx)))));
+
+        // "physics" and "peace".
+        final var startingWithP = getNodeKeys(rtxIndexController.openCASIndex(rtx.getPageTrx(),
+            casIdxDef,
+            rtxIndexController.createCASFilter(paths, new Str("p"), SearchMode.STARTS_WITH, new JsonPCRCollector(rtx))));
+        assertEquals(213 + 134, startingWithP.size());
+        assertEquals(physics, getNodeKeys(rtxIndexController.openCASIndex(rtx.getPageTrx(),
+            bPlusTreeCasIdxDef,
+            rtxIndexController.createCASFilter(paths, new Str("ph"), SearchMode.STARTS_WITH, new JsonPCRCollector(rtx)))));
+        assertEquals(startingWithP, getNodeKeys(rtxIndexController.openCASIndex(rtx.getPageTrx(),
+            bPlusTreeCasIdxDef,
+            rtxIndexController.createCASFilter(paths, new Str("p"), SearchMode.STARTS_WITH, new JsonPCRCollector(rtx)))));
+
+        final var startingWithBorn = getNodeKeys(rtxIndexController.openNameIndex(rtx.getPageTrx(),
+            nameIdxDef,
+            rtxIndexController.createNameFilter(Set.of("born"), SearchMode.STARTS_WITH)));
+        assertFalse(startingWithBorn.isEmpty());
+        assertEquals(startingWithBorn, getNodeKeys(rtxIndexController.openNameIndex(rtx.getPageTrx(),
+            bPlusTreeNameIdxDef,
+            rtxIndexController.createNameFilter(Set.of("born"), SearchMode.STARTS_WITH))));
+      }
+
+      // The write transaction sees the same entries.
+      assertEquals(213 + 134, getNodeKeys(indexController.openCASIndex(trx.getPageTrx(),
+          bPlusTreeCasIdxDef,
+          indexController.createCASFilter(Set.of("/laureates/[]/prizes/[]/category"),
+                                          new Str("p"),
+                                          SearchMode.STARTS_WITH,
+                                          new JsonPCRCollector(trx)))).size());
+    }
+  }
+
+  private static Set<Long> getNodeKeys(final Iterator<NodeReferences> nodeReferencesIterator) {
+    final Set<Long> nodeKeys = new HashSet<>();
+    while (nodeReferencesIterator.hasNext()) {
+      final Iterator<Long> iterator = nodeReferencesIterator.next().getNodeKeys().iterator();
+      while (iterator.hasNext()) {
+        nodeKeys.add(iterator.next());
+      }
+    }
+    return nodeKeys;
+  }
+
+  private static <K extends Comparable<? super K>> Map<K, NodeReferences> getBPlusTreeIndexEntries(
+      final JsonNodeTrx trx, final IndexDef indexDef) {
+    final BPlusTreeReader<K> reader =
+        BPlusTreeReader.getInstance(trx.getPageTrx(), indexDef.getType(), indexDef.getID());
+    final Iterator<Map.Entry<K, NodeReferences>> iterator = reader.iterator();
+
+    final Map<K, NodeReferences> entries = new HashMap<>();
+    while (iterator.hasNext()) {
+      final Map.Entry<K, NodeReferences> entry = iterator.next();
+      entries.put(entry.getKey(), entry.getValue());
+    }
+    assertEquals(entries.size(), reader.size());
+    return entries;
+  }
+
+  private static <K extends Comparable<? super K>> Map<K, NodeReferences> getIndexEntries(
+      final JsonResourceSession session, final JsonNodeTrx trx, final IndexDef indexDef) {
+    final RBTreeReader<K, NodeReferences> reader =
+        RBTreeReader.getInstance(session.getIndexCache(), trx.getPageTrx(), indexDef.getType(), indexDef.getID());
+    final Iterator<RBNodeKey<K>> iterator = reader.new RBNodeIterator(Fixed.DOCUMENT_NODE_KEY.getStandardProperty());
+
+    final Map<K, NodeReferences> entries = new HashMap<>();
+    while (iterator.hasNext()) {
+      final RBNodeKey<K> node = iterator.next();
+      reader.moveTo(node.getValueNodeKey());
+      entries.put(node.getKey(), reader.getCurrentNodeAsRBNodeValue().getValue());
+    }
+    return entries;
+  }
 }
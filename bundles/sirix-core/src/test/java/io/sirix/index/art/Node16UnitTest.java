@@ -1,9 +0,0 @@
-package io.sirix.index.art;
-
-public class Node16UnitTest extends InnerNodeUnitTest {
-
-	Node16UnitTest() {
-		super(Node4.NODE_SIZE);
-	}
-
-}
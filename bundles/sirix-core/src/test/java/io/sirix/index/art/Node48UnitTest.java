@@ -1,8 +0,0 @@
-package io.sirix.index.art;
-
-public class Node48UnitTest extends InnerNodeUnitTest {
-
-	Node48UnitTest() {
-		super(Node16.NODE_SIZE);
-	}
-}
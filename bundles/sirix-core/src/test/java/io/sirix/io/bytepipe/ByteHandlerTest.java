@@ -7,6 +7,7 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
@@ -70,6 +71,58 @@ public final class ByteHandlerTest {
     }
   }
 
+  /**
+   * Test method for {@link ByteHandler#serialize(ByteBuffer)} and {@link ByteHandler#deserialize(ByteBuffer)},
+   * which must be interchangeable with the stream-based variants.
+   *
+   * @throws IOException if an I/O error occurs
+   */
+  @Test(dataProvider = "instantiateBlockByteHandler")
+  public void testBlockSerializeAndDeserialize(Class<ByteHandler> clazz, ByteHandler[] handlers) throws IOException {
+    for (final ByteHandler handler : handlers) {
+      for (final int datasize : new int[] { 1, 10000, 200000 }) {
+        final byte[] bytes = XmlTestHelper.generateRandomBytes(datasize);
+
+        // Block serialization, stream deserialization.
+        final byte[] encoded = ByteHandler.toByteArray(handler.serialize(ByteBuffer.wrap(bytes)));
+        try (final InputStream handledInput = handler.deserialize(new ByteArrayInputStream(encoded))) {
+          assertTrue(Arrays.equals(bytes, handledInput.readAllBytes()));
+        }
+
+        // Stream serialization, block deserialization from heap and direct buffers.
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (final OutputStream handledOutput = handler.serialize(output)) {
+          handledOutput.write(bytes);
+        }
+        final byte[] streamEncoded = output.toByteArray();
+        assertTrue(Arrays.equals(bytes, ByteHandler.toByteArray(handler.deserialize(ByteBuffer.wrap(streamEncoded)))));
+
+        final ByteBuffer direct = ByteBuffer.allocateDirect(streamEncoded.length + 3);
+        direct.position(3);
+        direct.put(streamEncoded).flip().position(3);
+        assertTrue(Arrays.equals(bytes, ByteHandler.toByteArray(handler.deserialize(direct))));
+        assertTrue(direct.position() == 3);
+      }
+    }
+  }
+
+  /**
+   * Providing different implementations of the {@link ByteHandler}, which implement the block-oriented
+   * methods, as Dataprovider to the test class.
+   *
+   * @return different classes of the {@link ByteHandler}
+   */
+  @DataProvider(name = "instantiateBlockByteHandler")
+  public Object[][] instantiateBlockByteHandler() {
+    final Path encryptionKeyPath = Paths.get("src", "test", "resources", "resourceName");
+
+    return new Object[][] { { ByteHandler.class,
+        new ByteHandler[] { new LZ4Compressor(), new DeflateCompressor(), new SnappyCompressor(),
+            new ByteHandlerPipeline(), new ByteHandlerPipeline(new LZ4Compressor(), new DeflateCompressor()),
+            new ByteHandlerPipeline(new Encryptor(encryptionKeyPath), new LZ4Compressor()),
+            new ByteHandlerPipeline(new SnappyCompressor(), new Encryptor(encryptionKeyPath)) } } };
+  }
+
   /**
    * Providing different implementations of the {@link ByteHandler} as Dataprovider to the test
    * class.
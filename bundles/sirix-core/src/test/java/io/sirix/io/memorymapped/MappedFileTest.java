@@ -0,0 +1,162 @@
+package io.sirix.io.memorymapped;
+
+import io.sirix.JsonTestHelper;
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.api.Database;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.io.StorageType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the {@link MappedFile}.
+ */
+public final class MappedFileTest {
+
+  private static final long CHUNK_SIZE = 1L << 12;
+
+  /**
+   * The extension of the data file after a simulated crash.
+   */
+  private static final long EXTENSION = 1L << 24;
+
+  private Path path;
+
+  @Before
+  public void setUp() throws IOException {
+    JsonTestHelper.deleteEverything();
+    path = Files.createTempFile("sirix", ".mapped");
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    JsonTestHelper.closeEverything();
+    Files.deleteIfExists(path);
+  }
+
+  @Test
+  public void testGrowth() throws IOException {
+    try (final MappedFile file = new MappedFile(path, CHUNK_SIZE)) {
+      final byte[] bytes = bytes(3 * (int) CHUNK_SIZE + 1, (byte) 1);
+      file.write(ByteBuffer.wrap(bytes), 0);
+
+      assertEquals(bytes.length, file.size());
+      assertTrue(file.getSegment().byteSize() >= bytes.length);
+      assertEquals(0, file.getSegment().byteSize() % CHUNK_SIZE);
+      assertArrayEquals(bytes, file.getSegment().asSlice(0, bytes.length).toArray(ValueLayout.JAVA_BYTE));
+    }
+
+    // The extension beyond the data is removed.
+    assertEquals(3 * CHUNK_SIZE + 1, Files.size(path));
+  }
+
+  @Test
+  public void testRemapKeepsThePublishedSegment() throws IOException {
+    try (final MappedFile file = new MappedFile(path, CHUNK_SIZE)) {
+      final byte[] bytes = bytes(100, (byte) 1);
+      file.write(ByteBuffer.wrap(bytes), 0);
+      file.publish();
+      final MemorySegment publishedSegment = file.getPublishedSegment();
+
+      // Mapped again, as the mapped memory doesn't suffice.
+      file.write(ByteBuffer.wrap(bytes(4 * (int) CHUNK_SIZE, (byte) 2)), 100);
+      assertNotSame(publishedSegment, file.getSegment());
+      assertSame(publishedSegment, file.getPublishedSegment());
+      assertArrayEquals(bytes, publishedSegment.asSlice(0, bytes.length).toArray(ValueLayout.JAVA_BYTE));
+
+      file.publish();
+      assertSame(file.getSegment(), file.getPublishedSegment());
+    }
+  }
+
+  @Test
+  public void testTruncateKeepsThePublishedData() throws IOException {
+    try (final MappedFile file = new MappedFile(path, CHUNK_SIZE)) {
+      final byte[] bytes = bytes(100, (byte) 1);
+      file.write(ByteBuffer.wrap(bytes), 0);
+      file.publish();
+      final MemorySegment publishedSegment = file.getPublishedSegment();
+
+      file.truncate(0);
+      assertEquals(0, file.size());
+      assertArrayEquals(bytes, publishedSegment.asSlice(0, bytes.length).toArray(ValueLayout.JAVA_BYTE));
+
+      file.write(ByteBuffer.wrap(bytes(10, (byte) 2)), 0);
+      assertEquals(10, file.size());
+    }
+
+    // The published data might still be read, thus the file isn't shrunk below it.
+    assertEquals(100, Files.size(path));
+  }
+
+  @Test
+  public void testReopenAfterCrash() throws IOException {
+    final Database<JsonResourceSession> database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    final String resource = "mapped";
+    database.createResource(ResourceConfiguration.newBuilder(resource).storageType(StorageType.MEMORY_MAPPED).build());
+
+    try (final var session = database.beginResourceSession(resource); final var wtx = session.beginNodeTrx()) {
+      wtx.insertArrayAsFirstChild();
+      wtx.commit();
+    }
+    JsonTestHelper.closeEverything();
+
+    // A file, which has been extended ahead of the writes, and into which pages of an unfinished commit
+    // have been written.
+    final Path dataFile = JsonTestHelper.PATHS.PATH1.getFile()
+                                                    .resolve("resources")
+                                                    .resolve(resource)
+                                                    .resolve("data")
+                                                    .resolve("sirix.data");
+    final long size = Files.size(dataFile);
+    try (final FileChannel channel = FileChannel.open(dataFile, StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.wrap(bytes(1_000, (byte) 1)), size);
+      channel.write(ByteBuffer.wrap(new byte[1]), size + EXTENSION);
+    }
+
+    try (final var session = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile())
+                                           .beginResourceSession(resource)) {
+      try (final var wtx = session.beginNodeTrx()) {
+        wtx.moveTo(1);
+        wtx.insertNumberValueAsFirstChild(1);
+        wtx.commit();
+      }
+
+      try (final var rtx = session.beginNodeReadOnlyTrx(1)) {
+        assertTrue(rtx.moveTo(1));
+        assertEquals(0, rtx.getChildCount());
+      }
+      try (final var rtx = session.beginNodeReadOnlyTrx(2)) {
+        assertTrue(rtx.moveTo(2));
+        assertEquals(1, rtx.getNumberValue().intValue());
+      }
+    }
+    JsonTestHelper.closeEverything();
+
+    // The second commit has been written at the end of the data of the first commit.
+    assertTrue(Files.size(dataFile) < size + EXTENSION);
+  }
+
+  private static byte[] bytes(final int length, final byte value) {
+    final byte[] bytes = new byte[length];
+    Arrays.fill(bytes, value);
+    return bytes;
+  }
+}
@@ -0,0 +1,53 @@
+package io.sirix.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the {@link DefaultMetricsRegistry}.
+ */
+public final class DefaultMetricsRegistryTest {
+
+  @Test
+  public void testCounterIsCreatedOncePerNameAndTags() {
+    final var registry = new DefaultMetricsRegistry();
+    final Counter counter = registry.counter("sirix.cache.hits", "cache", "PAGE");
+
+    assertSame(counter, registry.counter("sirix.cache.hits", "cache", "PAGE"));
+
+    counter.increment();
+    counter.increment(41);
+    registry.counter("sirix.cache.hits", "cache", "RECORD_PAGE").increment();
+
+    assertEquals(42, registry.getCounters().get(MeterId.of("sirix.cache.hits", "cache", "PAGE")).getCount());
+    assertEquals(2, registry.getCounters().size());
+  }
+
+  @Test
+  public void testHistogram() {
+    final var registry = new DefaultMetricsRegistry();
+    final Histogram histogram = registry.histogram("sirix.page.fragments");
+
+    assertEquals(0, histogram.getValueAtPercentile(0.99));
+
+    for (int i = 1; i <= 100; i++) {
+      histogram.record(i);
+    }
+
+    assertEquals(100, histogram.getCount());
+    assertEquals(5050, histogram.getTotal());
+    assertEquals(100, histogram.getMax());
+    assertEquals(50.5, histogram.getMean(), 0.0);
+    // 50 lies in the bucket [32, 63].
+    assertEquals(63, histogram.getValueAtPercentile(0.5));
+    // The upper bound of the last bucket is capped by the maximum.
+    assertEquals(100, histogram.getValueAtPercentile(0.99));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTagsMustBePairs() {
+    new DefaultMetricsRegistry().counter("sirix.io.bytes.read", "storage");
+  }
+}
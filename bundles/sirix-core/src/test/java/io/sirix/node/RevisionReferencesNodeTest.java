@@ -57,6 +57,35 @@ public final class RevisionReferencesNodeTest {
     assertNotEquals(otherUnequalNodeDueToValue, node);
   }
 
+  @Test
+  public void testManyRevisions() {
+    final var node = new RevisionReferencesNode(1, new int[] { 1 });
+    for (int revision = 2; revision <= 1_000; revision += 2) {
+      node.addRevision(revision);
+    }
+    // Adding a revision twice doesn't change the revisions.
+    node.addRevision(1_000);
+
+    assertEquals(501, node.getNumberOfRevisions());
+    assertEquals(1, node.getFirstRevision());
+    assertEquals(1_000, node.getLastRevision());
+    assertTrue(node.containsRevision(500));
+    assertFalse(node.containsRevision(501));
+    assertEquals(251, node.rank(501));
+    assertEquals(502, node.select(251));
+    assertEquals(500, node.getRevisionBefore(501));
+    assertEquals(502, node.getRevisionAfter(501));
+    assertEquals(-1, node.getRevisionBefore(1));
+    assertEquals(-1, node.getRevisionAfter(1_000));
+
+    // Serialize and deserialize node.
+    final Bytes<ByteBuffer> data = Bytes.elasticByteBuffer();
+    node.getKind().serialize(data, node, pageTrx);
+    final RevisionReferencesNode node2 =
+        (RevisionReferencesNode) node.getKind().deserialize(data, node.getNodeKey(), null, pageTrx);
+    assertEquals(node, node2);
+  }
+
   @Test(expected = UnsupportedOperationException.class)
   public void testGetRevisionMethodOperationNotSupportedException() {
     final var node = new RevisionReferencesNode(1, new int[] {});
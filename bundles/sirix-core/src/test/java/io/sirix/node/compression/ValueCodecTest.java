@@ -0,0 +1,137 @@
+package io.sirix.node.compression;
+
+import io.sirix.utils.Compression;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the built-in {@link ValueCodec}s.
+ */
+class ValueCodecTest {
+
+  private static final byte[] VALUE =
+      "{\"name\":\"sirix\",\"type\":\"temporal database\",\"tags\":[\"versioned\",\"json\",\"xml\"]}".getBytes(
+          StandardCharsets.UTF_8);
+
+  @Test
+  public void deflateRoundTripWithAllLevels() {
+    for (final CompressionLevel level : CompressionLevel.values()) {
+      final byte[] encodedValue = DeflateValueCodec.INSTANCE.encode(VALUE, level);
+
+      assertEquals(DeflateValueCodec.ID, encodedValue[0]);
+      assertArrayEquals(VALUE, ValueCodecs.decode(encodedValue));
+    }
+  }
+
+  @Test
+  public void valuesCompressedBeforeCodecsAreDecodedByTheDeflateCodec() {
+    // Values, which have been compressed before codecs were introduced, are plain zlib streams, to which
+    // the ID of the codec is added, once they are read.
+    final byte[] compressedValue = Compression.compress(VALUE, Deflater.HUFFMAN_ONLY);
+    final byte[] encodedValue = new byte[compressedValue.length + 1];
+    encodedValue[0] = DeflateValueCodec.ID;
+    System.arraycopy(compressedValue, 0, encodedValue, 1, compressedValue.length);
+
+    assertArrayEquals(VALUE, ValueCodecs.decode(encodedValue));
+  }
+
+  @Test
+  public void lz4RoundTrip() {
+    final byte[] encodedValue = LZ4ValueCodec.INSTANCE.encode(VALUE);
+
+    assertEquals(LZ4ValueCodec.ID, encodedValue[0]);
+    assertArrayEquals(VALUE, ValueCodecs.decode(encodedValue));
+    assertArrayEquals(new byte[0], LZ4ValueCodec.INSTANCE.decode(LZ4ValueCodec.INSTANCE.encode(new byte[0])));
+  }
+
+  @Test
+  public void deflateIsThreadSafe() throws Exception {
+    final ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+    try {
+      final List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < 32; i++) {
+        final byte[] value = ("value " + i + " " + new String(VALUE, StandardCharsets.UTF_8)).getBytes(
+            StandardCharsets.UTF_8);
+        results.add(executorService.submit(() -> {
+          for (int j = 0; j < 200; j++) {
+            final byte[] encodedValue = DeflateValueCodec.INSTANCE.encode(value);
+            if (!Arrays.equals(value, DeflateValueCodec.INSTANCE.decode(encodedValue))) {
+              return false;
+            }
+          }
+          return true;
+        }));
+      }
+
+      for (final Future<Boolean> result : results) {
+        assertTrue(result.get());
+      }
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  public void symbolTableIsTrainedOnCommitAndPersisted(@TempDir final Path directory) {
+    final SymbolTableValueCodec codec = new SymbolTableValueCodec(directory);
+
+    // No table has been trained yet.
+    assertNull(codec.encode(VALUE));
+
+    for (int i = 0; i < SymbolTableValueCodec.SAMPLE_SIZE; i++) {
+      codec.encode(("http://example.org/users/" + i + "/name").getBytes(StandardCharsets.UTF_8));
+    }
+    codec.onCommit();
+
+    assertTrue(Files.exists(directory.resolve("0")));
+
+    final byte[] value = "http://example.org/users/4711/name".getBytes(StandardCharsets.UTF_8);
+    final byte[] encodedValue = codec.encode(value);
+    assertNotNull(encodedValue);
+    assertEquals(SymbolTableValueCodec.ID, encodedValue[0]);
+    assertTrue(encodedValue.length < value.length / 2);
+    assertArrayEquals(value, codec.decode(encodedValue));
+
+    // Bytes, which aren't covered by a symbol, are escaped.
+    final byte[] otherValue = "\u00c4\u00d6\u00dc unknown".getBytes(StandardCharsets.UTF_8);
+    assertArrayEquals(otherValue, codec.decode(codec.encode(otherValue)));
+
+    // Another instance reads the stored table.
+    assertArrayEquals(value, new SymbolTableValueCodec(directory).decode(encodedValue));
+  }
+
+  @Test
+  public void symbolTableRoundTrip() {
+    final List<byte[]> samples = new ArrayList<>();
+    for (int i = 0; i < 1_000; i++) {
+      samples.add(("{\"id\":" + i + ",\"status\":\"active\"}").getBytes(StandardCharsets.UTF_8));
+    }
+    final SymbolTable table = SymbolTable.train(samples);
+
+    assertTrue(table.size() > 0 && table.size() <= SymbolTable.MAX_SYMBOLS);
+    for (final byte[] sample : samples) {
+      final byte[] codes = new byte[2 * sample.length];
+      final int length = table.encode(sample, codes, 0);
+      assertEquals(table.encodedLength(sample), length);
+      assertArrayEquals(sample, table.decode(Arrays.copyOf(codes, length), 0));
+    }
+  }
+}
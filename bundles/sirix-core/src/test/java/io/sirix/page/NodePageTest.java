@@ -43,9 +43,15 @@ import io.sirix.settings.Constants;
 import io.sirix.utils.NamePageHash;
 
 import java.io.IOException;
+import java.lang.foreign.MemorySegment;
 import java.nio.ByteBuffer;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Node page test.
@@ -128,4 +134,38 @@ public final class NodePageTest {
     assertEquals(7, ((NameNode) pageReadTrx.getValue(page2, 0L)).getLocalNameKey());
     assertEquals(NamePageHash.generateHashForString("xs:untyped"), element.getTypeKey());
   }
+
+  @Test
+  public void testDeserializeFromMemory() {
+    final KeyValueLeafPage page1 = new KeyValueLeafPage(0L, IndexType.DOCUMENT, pageReadTrx);
+    page1.setSlot(new byte[] { 1, 2, 3 }, 1);
+    page1.setSlot(new byte[] { 4, 5 }, 2);
+
+    final Bytes<ByteBuffer> data = Bytes.elasticByteBuffer();
+    final PagePersister pagePersister = new PagePersister();
+    pagePersister.serializePage(pageReadTrx, data, page1, SerializationType.DATA);
+    final byte[] serializedPage = data.toByteArray();
+    final KeyValueLeafPage page2 = (KeyValueLeafPage) pagePersister.deserializePage(pageReadTrx,
+                                                                                    Bytes.wrapForRead(serializedPage),
+                                                                                    MemorySegment.ofArray(serializedPage),
+                                                                                    SerializationType.DATA);
+
+    assertTrue(page2.hasSlot(1));
+    assertFalse(page2.hasSlot(3));
+    assertNotNull(page2.getSlotMemory(1));
+    assertNull(page2.getSlotMemory(3));
+    assertEquals(2, page2.size());
+
+    // Slots are transferred without copying them.
+    final KeyValueLeafPage page3 = new KeyValueLeafPage(0L, IndexType.DOCUMENT, pageReadTrx);
+    page3.setSlot(page2, 1);
+    page3.setSlot(new byte[] { 6 }, 2);
+    page3.setSlot(page2, 2);
+    assertNotNull(page3.getSlotMemory(1));
+
+    assertArrayEquals(new byte[] { 1, 2, 3 }, page2.getSlot(1));
+    assertArrayEquals(new byte[] { 4, 5 }, page2.getSlot(2));
+    assertArrayEquals(new byte[] { 1, 2, 3 }, page3.getSlot(1));
+    assertArrayEquals(new byte[] { 4, 5 }, page3.getSlot(2));
+  }
 }
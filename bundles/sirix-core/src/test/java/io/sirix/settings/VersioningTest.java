@@ -143,6 +143,23 @@ public class VersioningTest {
     testModifySamePageMultipleTimes();
   }
 
+  @Test
+  public void testFull4() {
+    database.createResource(new ResourceConfiguration.Builder(XmlTestHelper.RESOURCE).versioningApproach(VersioningType.FULL)
+                                                                                     .hashKind(HashType.NONE)
+                                                                                     .maxNumberOfRevisionsToRestore(3)
+                                                                                     .build());
+    testModifySingleRecordsOfPage();
+  }
+
+  @Test
+  public void testDifferential2() {
+    database.createResource(new ResourceConfiguration.Builder(XmlTestHelper.RESOURCE).versioningApproach(VersioningType.DIFFERENTIAL)
+                                                                                     .hashKind(HashType.NONE)
+                                                                                     .maxNumberOfRevisionsToRestore(3)
+                                                                                     .build());
+    testModifySingleRecordsOfPage();
+  }
 
   @Test
   public void testSlidingSnapshot() {
@@ -180,6 +197,47 @@ public class VersioningTest {
     testModifySamePageMultipleTimes();
   }
 
+  @Test
+  public void testSlidingSnapshotWithPageCheckpoints() {
+    database.createResource(new ResourceConfiguration.Builder(XmlTestHelper.RESOURCE).versioningApproach(VersioningType.SLIDING_SNAPSHOT)
+                                                                                     .hashKind(HashType.NONE)
+                                                                                     .maxNumberOfRevisionsToRestore(3)
+                                                                                     .pageCheckpointThreshold(2)
+                                                                                     .build());
+    testModifySamePageMultipleTimesWithReadsInBetween();
+  }
+
+  @Test
+  public void testIncrementalWithPageCheckpoints() {
+    database.createResource(new ResourceConfiguration.Builder(XmlTestHelper.RESOURCE).versioningApproach(VersioningType.INCREMENTAL)
+                                                                                     .hashKind(HashType.NONE)
+                                                                                     .maxNumberOfRevisionsToRestore(3)
+                                                                                     .pageCheckpointThreshold(2)
+                                                                                     .build());
+    testModifySamePageMultipleTimesWithReadsInBetween();
+  }
+
+  /**
+   * Test revisioning, whereas the pages, which are reconstructed by the reads in between, are
+   * written as checkpoints during the next commit.
+   */
+  public void testModifySamePageMultipleTimesWithReadsInBetween() {
+    try (final XmlResourceSession manager = database.beginResourceSession(XmlTestHelper.RESOURCE);
+         final XmlNodeTrx wtx = manager.beginNodeTrx()) {
+      for (int i = 0; i < Constants.NDP_NODE_COUNT - 1; i++) {
+        wtx.insertElementAsFirstChild(new QNm("rev1"));
+      }
+      wtx.commit();
+      for (int revision = 2; revision <= 7; revision++) {
+        assertions(manager, revision - 1);
+        setNames(wtx, "rev" + revision);
+      }
+      for (int revision = 1; revision <= 7; revision++) {
+        assertions(manager, revision);
+      }
+    }
+  }
+
   /**
    * Test revisioning.
    *
@@ -208,6 +266,35 @@ public class VersioningTest {
     }
   }
 
+  /**
+   * Test revisioning, whereas each revision only modifies a single record of the page, such that the
+   * other records have to be read from the full dump.
+   */
+  public void testModifySingleRecordsOfPage() {
+    final int revisions = 7;
+    try (final XmlResourceSession manager = database.beginResourceSession(XmlTestHelper.RESOURCE);
+         final XmlNodeTrx wtx = manager.beginNodeTrx()) {
+      for (int i = 0; i < revisions; i++) {
+        wtx.insertElementAsFirstChild(new QNm("rev1"));
+      }
+      wtx.commit();
+      for (int revision = 2; revision <= revisions; revision++) {
+        wtx.moveTo(revision - 1);
+        wtx.setName(new QNm("rev" + revision));
+        wtx.commit();
+      }
+      for (int revision = 1; revision <= revisions; revision++) {
+        try (XmlNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx(revision)) {
+          for (int nodeKey = 1; nodeKey <= revisions; nodeKey++) {
+            assertTrue(rtx.moveTo(nodeKey));
+            final int revisionOfName = nodeKey + 1 <= revision ? nodeKey + 1 : 1;
+            assertEquals(new QNm("rev" + revisionOfName), rtx.getName());
+          }
+        }
+      }
+    }
+  }
+
   private static void assertions(XmlResourceSession manager, int revision) {
     try (XmlNodeReadOnlyTrx rtx = manager.beginNodeReadOnlyTrx(revision)) {
       for (int i = 1; i < Constants.NDP_NODE_COUNT - 1; i++) {
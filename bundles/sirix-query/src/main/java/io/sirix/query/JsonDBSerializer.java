@@ -43,6 +43,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.Set;
@@ -120,10 +121,7 @@ public final class JsonDBSerializer implements Serializer, AutoCloseable {
 
               item = printCommaIfNextItemExists(it);
             } else if ((item instanceof Array) || (item instanceof Object)) {
-              try (final var out = new ByteArrayOutputStream(); final var printWriter = new PrintWriter(out)) {
-                new StringSerializer(printWriter).serialize(item);
-                this.out.append(out.toString(StandardCharsets.UTF_8));
-              }
+              serializeArrayOrObject(item);
 
               item = printCommaIfNextItemExists(it);
             }
@@ -140,6 +138,21 @@ public final class JsonDBSerializer implements Serializer, AutoCloseable {
     }
   }
 
+  private void serializeArrayOrObject(final Item item) throws IOException {
+    if (out instanceof Writer writer) {
+      // Don't buffer the item, such that a streaming writer isn't bypassed.
+      final var printWriter = new PrintWriter(writer);
+      new StringSerializer(printWriter).serialize(item);
+      printWriter.flush();
+    } else {
+      try (final var out = new ByteArrayOutputStream(); final var printWriter = new PrintWriter(out)) {
+        new StringSerializer(printWriter).serialize(item);
+        printWriter.flush();
+        this.out.append(out.toString(StandardCharsets.UTF_8));
+      }
+    }
+  }
+
   private Item printCommaIfNextItemExists(Iter it) throws IOException {
     Item item = null;
     if (it != null) {
@@ -27,6 +27,7 @@ import io.brackit.query.atomic.Atomic;
 import io.brackit.query.atomic.Bool;
 import io.brackit.query.atomic.IntNumeric;
 import io.brackit.query.jdm.Sequence;
+import io.sirix.index.IndexStructure;
 
 import java.util.Arrays;
 
@@ -133,4 +134,18 @@ public final class FunUtil {
     throw new QueryException(SDBFun.ERR_INVALID_ARGUMENT,
         "Invalid string parameter %s. Expected %s", parameterName, Arrays.toString(allowedValues));
   }
+
+  /**
+   * Get the structure an index is stored in from the name of an {@link IndexStructure} constant.
+   *
+   * @param params the parameters
+   * @param pos the position of the parameter
+   * @return the index structure, {@link IndexStructure#RB_TREE} if the parameter is missing
+   * @throws QueryException if the parameter isn't the name of an index structure
+   */
+  public static IndexStructure getIndexStructure(Sequence[] params, int pos) throws QueryException {
+    final String[] structures = Arrays.stream(IndexStructure.values()).map(Enum::name).toArray(String[]::new);
+    return IndexStructure.valueOf(getString(params, pos, "$structure", IndexStructure.RB_TREE.name(), structures,
+        false));
+  }
 }
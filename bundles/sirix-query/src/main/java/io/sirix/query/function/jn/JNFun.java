@@ -191,6 +191,11 @@ public final class JNFun {
                                                        SequenceType.STRING)));
 
     // create-name-index
+    Functions.predefine(new CreateNameIndex(CREATE_NAME_INDEX,
+                                            new Signature(SequenceType.JSON_ITEM,
+                                                          SequenceType.JSON_ITEM,
+                                                          new SequenceType(AtomicType.STR, Cardinality.ZeroOrMany),
+                                                          new SequenceType(AtomicType.STR, Cardinality.ZeroOrOne))));
     Functions.predefine(new CreateNameIndex(CREATE_NAME_INDEX,
                                             new Signature(SequenceType.JSON_ITEM,
                                                           SequenceType.JSON_ITEM,
@@ -207,6 +212,12 @@ public final class JNFun {
                                             new Signature(SequenceType.JSON_ITEM, SequenceType.JSON_ITEM)));
 
     // create-cas-index
+    Functions.predefine(new CreateCASIndex(CREATE_CAS_INDEX,
+                                           new Signature(SequenceType.JSON_ITEM,
+                                                         SequenceType.JSON_ITEM,
+                                                         new SequenceType(AtomicType.STR, Cardinality.ZeroOrOne),
+                                                         new SequenceType(AtomicType.STR, Cardinality.ZeroOrMany),
+                                                         new SequenceType(AtomicType.STR, Cardinality.ZeroOrOne))));
     Functions.predefine(new CreateCASIndex(CREATE_CAS_INDEX,
                                            new Signature(SequenceType.JSON_ITEM,
                                                          SequenceType.JSON_ITEM,
@@ -224,6 +235,12 @@ public final class JNFun {
     Functions.predefine(new ScanCASIndex());
     Functions.predefine(new ScanCASIndexRange());
     Functions.predefine(new ScanNameIndex());
+    Functions.predefine(new ScanNameIndex(new Signature(new SequenceType(AnyJsonItemType.ANY_JSON_ITEM,
+                                                                         Cardinality.ZeroOrMany),
+                                                        SequenceType.NODE,
+                                                        new SequenceType(AtomicType.INR, Cardinality.One),
+                                                        new SequenceType(AtomicType.STR, Cardinality.ZeroOrOne),
+                                                        new SequenceType(AtomicType.STR, Cardinality.One))));
 
     // diff
     Functions.predefine(new Diff(Diff.DIFF,
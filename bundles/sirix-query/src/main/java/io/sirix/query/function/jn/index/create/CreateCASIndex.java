@@ -1,5 +1,6 @@
 package io.sirix.query.function.jn.index.create;
 
+import io.sirix.query.function.FunUtil;
 import io.sirix.query.json.JsonDBItem;
 import io.brackit.query.QueryContext;
 import io.brackit.query.QueryException;
@@ -18,6 +19,7 @@ import io.sirix.api.json.JsonResourceSession;
 import io.sirix.exception.SirixIOException;
 import io.sirix.index.IndexDef;
 import io.sirix.index.IndexDefs;
+import io.sirix.index.IndexStructure;
 import io.sirix.index.IndexType;
 
 import java.util.HashSet;
@@ -31,10 +33,15 @@ import java.util.Set;
  * are:
  * </p>
  * <ul>
+ * <li><code>jn:create-cas-index($doc as json-item(), $type as xs:string?, $paths as xs:string*, $structure as xs:string?) as json-item()</code></li>
  * <li><code>jn:create-cas-index($doc as json-item(), $type as xs:string?, $paths as xs:string*) as json-item()</code></li>
  * <li><code>jn:create-cas-index($doc as json-item(), $type as xs:string?) as json-item()</code></li>
  * <li><code>jn:create-cas-index($doc as json-item()) as json-item()</code></li>
  * </ul>
+ * <p>
+ * The optional structure is {@code RB_TREE} (the default) or {@code BPLUS_TREE}. Prefix searches of
+ * {@code xs:string} indexes stored in a B+-tree only scan the matching keys.
+ * </p>
  *
  * @author Johannes Lichtenberger
  *
@@ -56,7 +63,7 @@ public final class CreateCASIndex extends AbstractFunction {
 
   @Override
   public Sequence execute(StaticContext sctx, QueryContext ctx, Sequence[] args) {
-    if (args.length != 2 && args.length != 3) {
+    if (args.length < 2 || args.length > 4) {
       throw new QueryException(new QNm("No valid arguments specified!"));
     }
 
@@ -84,7 +91,7 @@ public final class CreateCASIndex extends AbstractFunction {
     }
 
     final Set<Path<QNm>> paths = new HashSet<>();
-    if (args.length == 3 && args[2] != null) {
+    if (args.length >= 3 && args[2] != null) {
       final Iter it = args[2].iterate();
       Item next = it.next();
       while (next != null) {
@@ -93,8 +100,9 @@ public final class CreateCASIndex extends AbstractFunction {
       }
     }
 
+    final IndexStructure structure = FunUtil.getIndexStructure(args, 3);
     final IndexDef idxDef = IndexDefs.createCASIdxDef(false, type, paths,
-        controller.getIndexes().getNrOfIndexDefsWithType(IndexType.CAS), IndexDef.DbType.JSON);
+        controller.getIndexes().getNrOfIndexDefsWithType(IndexType.CAS), IndexDef.DbType.JSON, structure);
     try {
       controller.createIndexes(Set.of(idxDef), wtx);
     } catch (final SirixIOException e) {
@@ -1,6 +1,7 @@
 package io.sirix.query.function.jn.index.create;
 
 import com.google.common.collect.ImmutableSet;
+import io.sirix.query.function.FunUtil;
 import io.sirix.query.json.JsonDBItem;
 import io.brackit.query.QueryContext;
 import io.brackit.query.QueryException;
@@ -31,9 +32,13 @@ import java.util.Set;
  * included {@code QNm}s. If successful, this function returns statistics about the newly created
  * index as an Json fragment. Supported signatures are:<br>
  * <ul>
+ * <li><code>jn:create-name-index($doc as json-item(), $include as xs:QName*, $structure as xs:string?) as json-item()</code></li>
  * <li><code>jn:create-name-index($doc as json-item(), $include as xs:QName*) as json-item()</code></li>
  * <li><code>jn:create-name-index($doc as json-item()) as json-item()</code></li>
  * </ul>
+ * <p>
+ * The optional structure is {@code RB_TREE} (the default) or {@code BPLUS_TREE}.
+ * </p>
  *
  * @author Johannes Lichtenberger
  *
@@ -87,7 +92,8 @@ public final class CreateNameIndex extends AbstractFunction {
     }
 
     final IndexDef idxDef = IndexDefs.createSelectiveNameIdxDef(include,
-        controller.getIndexes().getNrOfIndexDefsWithType(IndexType.NAME), IndexDef.DbType.JSON);
+        controller.getIndexes().getNrOfIndexDefsWithType(IndexType.NAME), IndexDef.DbType.JSON,
+        FunUtil.getIndexStructure(args, 2));
     try {
       controller.createIndexes(ImmutableSet.of(idxDef), wtx);
     } catch (final SirixIOException e) {
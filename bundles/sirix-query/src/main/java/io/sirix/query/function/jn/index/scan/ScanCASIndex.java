@@ -31,7 +31,8 @@ import io.sirix.index.path.json.JsonPCRCollector;
 import java.util.Set;
 
 /**
- * Scan the CAS-index for matching nodes.
+ * Scan the CAS-index for matching nodes. The search mode {@code ^=} matches all string values
+ * starting with the key.
  *
  * @author Sebastian Baechle
  * @author Johannes Lichtenberger
@@ -94,7 +95,7 @@ public final class ScanCASIndex extends AbstractScanIndex {
 
     final Type keyType = indexDef.getContentType();
     final Atomic key = Cast.cast(sctx, (Atomic) args[2], keyType, true);
-    final String[] searchModes = { "<", "<=", "==", ">", ">=" };
+    final String[] searchModes = { "<", "<=", "==", ">", ">=", "^=" };
     final String searchMode = FunUtil.getString(args, 3, "$search-mode", "==", searchModes, true);
 
     final SearchMode mode = switch (searchMode) {
@@ -103,6 +104,7 @@ public final class ScanCASIndex extends AbstractScanIndex {
       case "==" -> SearchMode.EQUAL;
       case ">" -> SearchMode.GREATER;
       case ">=" -> SearchMode.GREATER_OR_EQUAL;
+      case "^=" -> SearchMode.STARTS_WITH;
       default ->
         // May never happen.
           SearchMode.EQUAL;
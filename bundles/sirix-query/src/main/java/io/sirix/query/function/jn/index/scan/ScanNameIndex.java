@@ -20,18 +20,20 @@ import io.sirix.access.trx.node.json.JsonIndexController;
 import io.sirix.api.json.JsonNodeReadOnlyTrx;
 import io.sirix.index.IndexDef;
 import io.sirix.index.IndexType;
+import io.sirix.index.SearchMode;
 import io.sirix.index.name.NameFilter;
 
 import java.util.Set;
 
 /**
- * Scan the name index.
+ * Scan the name index. The optional search mode is {@code ==} (the default) to scan the given names,
+ * or {@code ^=} to scan all names starting with one of the given names.
  *
  * @author Sebastian Baechle
  * @author Johannes Lichtenberger
  */
 @FunctionAnnotation(description = "Scans the given name index for matching nodes.",
-    parameters = {"$doc", "$idx-no", "$names"})
+    parameters = {"$doc", "$idx-no", "$names", "$search-mode"})
 public final class ScanNameIndex extends AbstractScanIndex {
 
   /** Default function name. */
@@ -41,10 +43,17 @@ public final class ScanNameIndex extends AbstractScanIndex {
    * Constructor.
    */
   public ScanNameIndex() {
-    super(DEFAULT_NAME,
-        new Signature(new SequenceType(AnyJsonItemType.ANY_JSON_ITEM, Cardinality.ZeroOrMany), SequenceType.NODE,
-            new SequenceType(AtomicType.INR, Cardinality.One), new SequenceType(AtomicType.STR, Cardinality.ZeroOrOne)),
-        true);
+    this(new Signature(new SequenceType(AnyJsonItemType.ANY_JSON_ITEM, Cardinality.ZeroOrMany), SequenceType.NODE,
+        new SequenceType(AtomicType.INR, Cardinality.One), new SequenceType(AtomicType.STR, Cardinality.ZeroOrOne)));
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param signature the signature of the function
+   */
+  public ScanNameIndex(final Signature signature) {
+    super(DEFAULT_NAME, signature, true);
   }
 
   @Override
@@ -72,8 +81,10 @@ public final class ScanNameIndex extends AbstractScanIndex {
     }
 
     final String names = FunUtil.getString(args, 2, "$names", null, null, false);
+    final String searchMode = FunUtil.getString(args, 3, "$search-mode", "==", new String[] { "==", "^=" }, false);
+    final SearchMode mode = searchMode.equals("^=") ? SearchMode.STARTS_WITH : SearchMode.EQUAL;
     final NameFilter filter = (names != null)
-        ? controller.createNameFilter(Set.of(names.split(";")))
+        ? controller.createNameFilter(Set.of(names.split(";")), mode)
         : null;
 
     return getSequence(doc, controller.openNameIndex(doc.getTrx().getPageTrx(), indexDef, filter));
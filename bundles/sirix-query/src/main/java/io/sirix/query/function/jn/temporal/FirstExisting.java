@@ -48,7 +48,7 @@ public final class FirstExisting extends AbstractFunction {
         item.getTrx().getPageTrx().getRecord(item.getNodeKey(), IndexType.RECORD_TO_REVISIONS, 0);
 
     if (indexNode != null) {
-      final var revision = indexNode.getRevisions()[0];
+      final var revision = indexNode.getFirstRevision();
       final var resourceManager = item.getTrx().getResourceSession();
       final var rtx = resourceManager.beginNodeReadOnlyTrx(revision);
       rtx.moveTo(item.getNodeKey());
@@ -57,7 +57,7 @@ public final class LastExisting extends AbstractFunction {
     }
 
     if (indexNode != null) {
-      final var revision = indexNode.getRevisions()[indexNode.getRevisions().length - 1];
+      final var revision = indexNode.getLastRevision();
       final var rtx = resourceManager.beginNodeReadOnlyTrx(revision);
       final var hasMoved = rtx.moveTo(item.getNodeKey());
 
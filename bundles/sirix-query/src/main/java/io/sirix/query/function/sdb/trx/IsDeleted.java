@@ -57,8 +57,7 @@ public final class IsDeleted extends AbstractFunction {
     if (node == null) {
       return rtxInMostRecentRevision.moveTo(item.getNodeKey()) ? Bool.FALSE : Bool.TRUE;
     } else {
-      final var revisions = node.getRevisions();
-      final var mostRecentRevisionOfItem = revisions[revisions.length - 1];
+      final var mostRecentRevisionOfItem = node.getLastRevision();
       final NodeReadOnlyTrx rtxInMostRecentRevisionOfItem = getTrx(resMgr, mostRecentRevisionOfItem);
 
       return rtxInMostRecentRevisionOfItem.moveTo(item.getNodeKey()) ? Bool.FALSE : Bool.TRUE;
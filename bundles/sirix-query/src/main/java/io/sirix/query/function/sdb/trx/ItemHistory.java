@@ -9,6 +9,7 @@ import io.brackit.query.jdm.Signature;
 import io.brackit.query.module.StaticContext;
 import io.brackit.query.sequence.ItemSequence;
 import io.sirix.api.NodeReadOnlyTrx;
+import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.api.json.JsonNodeReadOnlyTrx;
 import io.sirix.api.xml.XmlNodeReadOnlyTrx;
 import io.sirix.index.IndexType;
@@ -58,10 +59,10 @@ public final class ItemHistory extends AbstractFunction {
     final NodeReadOnlyTrx rtx = item.getTrx();
 
     final var resMgr = rtx.getResourceSession();
-    final NodeReadOnlyTrx rtxInMostRecentRevision = resMgr.beginNodeReadOnlyTrx();
-
-    final RevisionReferencesNode node =
-        rtxInMostRecentRevision.getPageTrx().getRecord(item.getNodeKey(), IndexType.RECORD_TO_REVISIONS, 0);
+    final RevisionReferencesNode node;
+    try (final PageReadOnlyTrx pageTrx = resMgr.beginPageReadOnlyTrx()) {
+      node = pageTrx.getRecord(item.getNodeKey(), IndexType.RECORD_TO_REVISIONS, 0);
+    }
 
     if (node == null) {
       final Deque<Item> sequences = new ArrayDeque<>();
@@ -105,6 +106,7 @@ public final class ItemHistory extends AbstractFunction {
                                                             jsonItem.getCollection()));
           }
         } else {
+          rtxInRevision.close();
           sequences.add(null);
         }
       }
@@ -383,19 +383,56 @@ public abstract class AbstractJsonDBArray<T extends AbstractJsonDBArray<T>> exte
   private Sequence getSequenceAtIndex(final JsonNodeReadOnlyTrx rtx, final int index) {
     moveRtx();
 
-    final var axis = new ChildAxis(rtx);
+    if (moveToChild(rtx, index)) {
+      return jsonItemFactory.getSequence(rtx, collection);
+    }
+
+    return null;
+  }
+
+  /**
+   * Move a transaction, which is located at an array, to the child at the given index. No items are
+   * created for the skipped children. If the number of children is stored, the child is approached
+   * from the nearer end of the array and indexes out of range are detected without traversing the
+   * children.
+   *
+   * @param rtx   the transaction, located at the array
+   * @param index the index of the child
+   * @return {@code true}, if the transaction has been moved to the child, {@code false} if the index
+   *         is out of range
+   */
+  protected static boolean moveToChild(final JsonNodeReadOnlyTrx rtx, final int index) {
+    if (index < 0 || !rtx.hasFirstChild()) {
+      return false;
+    }
+
+    if (rtx.getResourceSession().getResourceConfig().storeChildCount()) {
+      final long childCount = rtx.getChildCount();
+
+      if (index >= childCount) {
+        return false;
+      }
+
+      if (index > childCount / 2) {
+        rtx.moveToLastChild();
 
-    for (int i = 0; i < index && axis.hasNext(); i++) {
-      axis.nextLong();
+        for (long i = childCount - 1; i > index; i--) {
+          rtx.moveToLeftSibling();
+        }
+
+        return true;
+      }
     }
 
-    if (axis.hasNext()) {
-      axis.nextLong();
+    rtx.moveToFirstChild();
 
-      return jsonItemFactory.getSequence(rtx, collection);
+    for (int i = 0; i < index; i++) {
+      if (!rtx.moveToRightSibling()) {
+        return false;
+      }
     }
 
-    return null;
+    return true;
   }
 
   @Override
@@ -9,7 +9,6 @@ import io.brackit.query.jdm.Sequence;
 import io.brackit.query.jdm.Stream;
 import io.brackit.query.jdm.json.Array;
 import io.sirix.api.json.JsonNodeReadOnlyTrx;
-import io.sirix.axis.ChildAxis;
 import io.sirix.axis.IncludeSelf;
 import io.sirix.axis.temporal.AllTimeAxis;
 import io.sirix.axis.temporal.FutureAxis;
@@ -117,10 +116,19 @@ public final class JsonDBArraySlice extends AbstractJsonDBArray<JsonDBArraySlice
   }
 
   private List<Sequence> getValues() {
-    final var values = new ArrayList<Sequence>();
-
-    for (int i = 0, length = len(); i < length; i++) {
-      values.add(at(fromIndex + i));
+    final var values = new ArrayList<Sequence>(toIndex - fromIndex);
+
+    // Skip to the start of the slice once and then only visit the children of the slice.
+    if (moveToChild(rtx, fromIndex)) {
+      for (int i = fromIndex; i < toIndex; i++) {
+        final long childNodeKey = rtx.getNodeKey();
+        values.add(jsonUtil.getSequence(rtx, collection));
+        rtx.moveTo(childNodeKey);
+
+        if (!rtx.moveToRightSibling()) {
+          break;
+        }
+      }
     }
 
     return values;
@@ -129,14 +137,7 @@ public final class JsonDBArraySlice extends AbstractJsonDBArray<JsonDBArraySlice
   private Sequence getSequenceAtIndex(final JsonNodeReadOnlyTrx rtx, final int index) {
     moveRtx();
 
-    final var axis = new ChildAxis(rtx);
-
-    for (int i = 0; i < index && axis.hasNext(); i++)
-      axis.nextLong();
-
-    if (axis.hasNext()) {
-      axis.nextLong();
-
+    if (moveToChild(rtx, index)) {
       return jsonUtil.getSequence(rtx, collection);
     }
 
@@ -145,22 +146,13 @@ public final class JsonDBArraySlice extends AbstractJsonDBArray<JsonDBArraySlice
 
   @Override
   public Sequence at(IntNumeric numericIndex) {
-    int ii = fromIndex + numericIndex.intValue();
-    if (ii >= toIndex) {
-      throw new QueryException(ErrorCode.ERR_INVALID_ARGUMENT_TYPE, "Invalid array index: %s", numericIndex.intValue());
-    }
-
-    if (values == null) {
-      return getSequenceAtIndex(rtx, ii);
-    }
-
-    return values.get(ii);
+    return at(numericIndex.intValue());
   }
 
   @Override
   public Sequence at(int index) {
     int ii = fromIndex + index;
-    if (ii >= toIndex) {
+    if (index < 0 || ii >= toIndex) {
       throw new QueryException(ErrorCode.ERR_INVALID_ARGUMENT_TYPE, "Invalid array index: %s", index);
     }
 
@@ -6,7 +6,6 @@ import io.brackit.query.jdm.DocumentException;
 import io.brackit.query.jdm.Stream;
 import io.brackit.query.jdm.json.TemporalJsonCollection;
 import io.brackit.query.jsonitem.AbstractJsonItemCollection;
-import io.brackit.query.node.stream.ArrayStream;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import io.sirix.access.Databases;
 import io.sirix.access.ResourceConfiguration;
@@ -17,13 +16,13 @@ import io.sirix.api.json.JsonNodeTrx;
 import io.sirix.api.json.JsonResourceSession;
 import io.sirix.exception.SirixException;
 import io.sirix.exception.SirixIOException;
+import io.sirix.query.stream.json.JsonDBCollectionStream;
 import io.sirix.service.json.shredder.JsonShredder;
 import io.sirix.utils.LogWrapper;
 import org.slf4j.LoggerFactory;
 
 import java.nio.file.Path;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -271,29 +270,42 @@ public final class JsonDBCollection extends AbstractJsonItemCollection<JsonDBIte
     return getDocument(name, -1);
   }
 
+  /**
+   * Get the documents of the collection in the most recent revisions. The resources are opened on
+   * demand, one at a time, while the stream is consumed.
+   *
+   * @return the documents
+   */
   @Override
   public Stream<JsonDBItem> getDocuments() {
-    final List<Path> resources = database.listResources();
-    final List<JsonDBItem> documents = new ArrayList<>(resources.size());
-
-    resources.forEach(resourcePath -> {
-      try {
-        final String resourceName = resourcePath.getFileName().toString();
-        final JsonResourceSession resource = database.beginResourceSession(resourceName);
-        final JsonNodeReadOnlyTrx rtx = resource.beginNodeReadOnlyTrx();
-
-        if (rtx.moveToFirstChild()) {
-          if (rtx.isObject())
-            documents.add(new JsonDBObject(rtx, this));
-          else if (rtx.isArray())
-            documents.add(new JsonDBArray(rtx, this));
-        }
-      } catch (final SirixException e) {
-        throw new DocumentException(e.getCause());
+    return new JsonDBCollectionStream(database.listResources(), this::openDocument);
+  }
+
+  /**
+   * Get the documents of the collection in the most recent revisions. The next resources are opened
+   * on worker threads ahead of time, while the stream is consumed.
+   *
+   * @param prefetchSize the number of resources, which are opened ahead of time
+   * @return the documents
+   */
+  public Stream<JsonDBItem> getDocuments(final int prefetchSize) {
+    return new JsonDBCollectionStream(database.listResources(), this::openDocument, prefetchSize);
+  }
+
+  private JsonDBItem openDocument(final Path resourcePath) {
+    try {
+      final JsonResourceSession resource = database.beginResourceSession(resourcePath.getFileName().toString());
+      final JsonNodeReadOnlyTrx rtx = resource.beginNodeReadOnlyTrx();
+      final JsonDBItem document = getItem(rtx);
+
+      if (document == null) {
+        rtx.close();
       }
-    });
 
-    return new ArrayStream<>(documents.toArray(new JsonDBItem[0]));
+      return document;
+    } catch (final SirixException e) {
+      throw new DocumentException(e.getCause());
+    }
   }
 
   @Override
@@ -0,0 +1,208 @@
+package io.sirix.query.stream.json;
+
+import com.google.common.base.MoreObjects;
+import io.brackit.query.jdm.DocumentException;
+import io.brackit.query.jdm.Stream;
+import io.sirix.query.json.JsonDBCollection;
+import io.sirix.query.json.JsonDBItem;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link Stream} over the documents of a {@link JsonDBCollection}, which opens the resources on
+ * demand instead of opening all resources up front. The sequential variant opens one resource per
+ * call to {@link #next()}, the parallel variant opens the next resources on worker threads ahead of
+ * time. Resources without a JSON object or array as the root are skipped.
+ *
+ * <p>
+ * The transactions of returned documents stay open, as the documents may still be referenced by the
+ * query. The transactions of documents which have been opened ahead of time, but haven't been
+ * returned, are closed when the stream is closed.
+ * </p>
+ */
+public final class JsonDBCollectionStream implements Stream<JsonDBItem> {
+
+  /**
+   * The worker threads, which are shared by all streams. The number of resources, which are opened
+   * ahead of time by a stream, is bounded by its prefetch size. Idle threads are terminated, and
+   * they are daemon threads, such that a stream, which is neither consumed nor closed, doesn't keep
+   * the JVM alive.
+   */
+  private static final ExecutorService POOL = createPool();
+
+  /** The resources, which haven't been opened yet. */
+  private final Iterator<Path> resources;
+
+  /** Opens the document of a resource, returns {@code null} if the resource has no document. */
+  private final Function<Path, JsonDBItem> documentOpener;
+
+  /** The number of resources, which are opened ahead of time. */
+  private final int prefetchSize;
+
+  /** The resources, which are opened ahead of time, in the order of the resources, or {@code null}. */
+  private final Deque<Future<JsonDBItem>> prefetched;
+
+  /** Determines if the stream has been closed, read by the worker threads. */
+  private volatile boolean closed;
+
+  /**
+   * Constructor, to open the resources sequentially.
+   *
+   * @param resources      the resources of the collection
+   * @param documentOpener opens the document of a resource and returns {@code null} if the resource
+   *                       has no document
+   */
+  public JsonDBCollectionStream(final List<Path> resources, final Function<Path, JsonDBItem> documentOpener) {
+    this.resources = requireNonNull(resources).iterator();
+    this.documentOpener = requireNonNull(documentOpener);
+    this.prefetchSize = 0;
+    this.prefetched = null;
+  }
+
+  /**
+   * Constructor, to open the next resources on worker threads ahead of time.
+   *
+   * @param resources      the resources of the collection
+   * @param documentOpener opens the document of a resource and returns {@code null} if the resource
+   *                       has no document, must be thread safe
+   * @param prefetchSize   the number of resources, which are opened ahead of time
+   */
+  public JsonDBCollectionStream(final List<Path> resources, final Function<Path, JsonDBItem> documentOpener,
+      final int prefetchSize) {
+    checkArgument(prefetchSize > 0, "The number of prefetched resources must be greater than 0.");
+    this.resources = requireNonNull(resources).iterator();
+    this.documentOpener = requireNonNull(documentOpener);
+    this.prefetchSize = prefetchSize;
+    this.prefetched = new ArrayDeque<>(prefetchSize);
+  }
+
+  private static ExecutorService createPool() {
+    final int numberOfThreads = Runtime.getRuntime().availableProcessors();
+    final ThreadPoolExecutor pool = new ThreadPoolExecutor(numberOfThreads,
+                                                           numberOfThreads,
+                                                           30,
+                                                           TimeUnit.SECONDS,
+                                                           new LinkedBlockingQueue<>(),
+                                                           runnable -> {
+                                                             final Thread thread =
+                                                                 new Thread(runnable, "json-collection-prefetch");
+                                                             thread.setDaemon(true);
+                                                             return thread;
+                                                           });
+    pool.allowCoreThreadTimeOut(true);
+    return pool;
+  }
+
+  @Override
+  public JsonDBItem next() {
+    if (closed) {
+      return null;
+    }
+
+    if (prefetched == null) {
+      while (resources.hasNext()) {
+        final JsonDBItem document = documentOpener.apply(resources.next());
+        if (document != null) {
+          return document;
+        }
+      }
+      closed = true;
+      return null;
+    }
+
+    prefetch();
+    while (!prefetched.isEmpty()) {
+      final JsonDBItem document = await(prefetched.poll());
+      prefetch();
+      if (document != null) {
+        return document;
+      }
+    }
+    close();
+    return null;
+  }
+
+  private void prefetch() {
+    while (prefetched.size() < prefetchSize && resources.hasNext()) {
+      final Path resource = resources.next();
+      prefetched.add(POOL.submit(() -> closed ? null : documentOpener.apply(resource)));
+    }
+  }
+
+  private static JsonDBItem await(final Future<JsonDBItem> document) {
+    try {
+      return document.get();
+    } catch (final InterruptedException e) {
+      closeUnreturned(document);
+      Thread.currentThread().interrupt();
+      throw new DocumentException(e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof DocumentException documentException) {
+        throw documentException;
+      }
+      throw new DocumentException(e.getCause());
+    }
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+
+    // The tasks aren't cancelled, as a task, which is already running, would open its document anyway.
+    // Instead, tasks which haven't been started yet don't open their documents once the stream is
+    // closed, and the documents of the running tasks are closed once the tasks are done.
+    if (prefetched != null) {
+      for (final Future<JsonDBItem> document : prefetched) {
+        closeUnreturned(document);
+      }
+      prefetched.clear();
+    }
+  }
+
+  private static void closeUnreturned(final Future<JsonDBItem> document) {
+    boolean interrupted = false;
+    try {
+      while (true) {
+        try {
+          final JsonDBItem item = document.get();
+          if (item != null) {
+            item.getTrx().close();
+          }
+          return;
+        } catch (final InterruptedException e) {
+          // Wait nonetheless, as the transaction would leak otherwise.
+          interrupted = true;
+        } catch (final ExecutionException ignored) {
+          // Nothing has been opened.
+          return;
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this).add("prefetchSize", prefetchSize).toString();
+  }
+}
@@ -187,6 +187,30 @@ public final class SimpleQueryIntegrationTest {
     }
   }
 
+  @Test
+  public void testArrayPositionalAccess() {
+    try (final var store = BasicJsonDBStore.newBuilder().location(sirixPath.getParent()).build();
+         final var ctx = SirixQueryContext.createWithJsonStore(store);
+         final var chain = SirixCompileChain.createWithJsonStore(store)) {
+      final var storeQuery = "jn:store('json-path1','mydoc.jn','[0,1,2,3,4,5,6,7,8,{\"foo\":9}]')";
+      new Query(chain, storeQuery).evaluate(ctx);
+
+      // Children in the first half are reached from the first child, in the second half from the last child.
+      assertEquals("2", serialize(chain, ctx, "jn:doc('json-path1','mydoc.jn')[[2]]"));
+      assertEquals("7", serialize(chain, ctx, "jn:doc('json-path1','mydoc.jn')[[7]]"));
+      assertEquals("9", serialize(chain, ctx, "jn:doc('json-path1','mydoc.jn')[[9]].foo"));
+    }
+  }
+
+  private static String serialize(final SirixCompileChain chain, final SirixQueryContext ctx, final String query) {
+    final var seq = new Query(chain, query).evaluate(ctx);
+    final var buf = IOUtils.createBuffer();
+    try (final var serializer = new StringSerializer(buf)) {
+      serializer.serialize(seq);
+    }
+    return buf.toString();
+  }
+
   @Test
   public void testTimeTravelAllTimes() throws IOException {
     try (final var store = BasicJsonDBStore.newBuilder().location(sirixPath.getParent()).build();
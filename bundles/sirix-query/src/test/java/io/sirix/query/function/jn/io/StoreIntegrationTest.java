@@ -5,6 +5,9 @@ import java.nio.file.Path;
 import io.sirix.query.SirixCompileChain;
 import io.sirix.query.SirixQueryContext;
 import io.sirix.query.json.BasicJsonDBStore;
+import io.sirix.query.json.JsonDBCollection;
+import io.sirix.query.json.JsonDBItem;
+import io.brackit.query.jdm.Stream;
 import io.brackit.query.Query;
 import org.junit.Test;
 import io.sirix.JsonTestHelper;
@@ -58,4 +61,41 @@ public final class StoreIntegrationTest extends TestCase {
       new Query(chain, queryAddStrings).evaluate(ctx);
     }
   }
+
+  @Test
+  public void testGetDocumentsLazilyAndWithPrefetching() {
+    // Initialize query context and store.
+    try (final BasicJsonDBStore store = BasicJsonDBStore.newBuilder().location(sirixPath.getParent()).build();
+        final SirixQueryContext ctx = SirixQueryContext.createWithJsonStore(store);
+        final SirixCompileChain chain = SirixCompileChain.createWithJsonStore(store)) {
+
+      // Use Query to store multiple JSON strings into the store.
+      final String query = "jn:store('json-path1',(),('[\"bla\", \"blubb\"]','{\"foo\": true}','[1,2]','{\"bar\": 1}'))";
+      new Query(chain, query).evaluate(ctx);
+
+      final JsonDBCollection collection = store.lookup("json-path1");
+      assertEquals(4, count(collection.getDocuments()));
+      assertEquals(4, count(collection.getDocuments(1)));
+      assertEquals(4, count(collection.getDocuments(3)));
+      assertEquals(4, count(collection.getDocuments(8)));
+
+      // Close the stream before all documents have been consumed.
+      final Stream<JsonDBItem> documents = collection.getDocuments(2);
+      assertNotNull(documents.next());
+      documents.close();
+      assertNull(documents.next());
+    }
+  }
+
+  private static int count(final Stream<JsonDBItem> documents) {
+    try {
+      int count = 0;
+      while (documents.next() != null) {
+        count++;
+      }
+      return count;
+    } finally {
+      documents.close();
+    }
+  }
 }
@@ -0,0 +1,85 @@
+package io.sirix.query.stream.json;
+
+import io.brackit.query.jdm.Stream;
+import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import io.sirix.query.json.JsonDBItem;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public final class JsonDBCollectionStreamTest {
+
+  private static final List<Path> RESOURCES =
+      IntStream.range(0, 16).mapToObj(resource -> Path.of("resource" + resource)).toList();
+
+  private final Set<Path> openedDocuments = ConcurrentHashMap.newKeySet();
+
+  private final Set<Path> closedDocuments = ConcurrentHashMap.newKeySet();
+
+  @Test
+  public void testGetAllDocuments() {
+    assertEquals(RESOURCES.size(), count(new JsonDBCollectionStream(RESOURCES, this::openDocument)));
+    assertEquals(RESOURCES.size(), count(new JsonDBCollectionStream(RESOURCES, this::openDocument, 4)));
+    assertEquals(0, closedDocuments.size());
+  }
+
+  @Test
+  public void testCloseDocumentsOpenedAheadOfTime() {
+    final Stream<JsonDBItem> documents = new JsonDBCollectionStream(RESOURCES, this::openDocument, 4);
+
+    assertNotNull(documents.next());
+    documents.close();
+    assertNull(documents.next());
+
+    // All documents, which have been opened on the worker threads, but haven't been returned, are closed.
+    assertEquals(openedDocuments.size() - 1, closedDocuments.size());
+    assertFalse(closedDocuments.contains(RESOURCES.get(0)));
+  }
+
+  private JsonDBItem openDocument(final Path resource) {
+    try {
+      // Such that the documents are still opened, when the stream is closed.
+      Thread.sleep(20);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    openedDocuments.add(resource);
+
+    final JsonNodeReadOnlyTrx trx = proxy(JsonNodeReadOnlyTrx.class, methodName -> {
+      if (methodName.equals("close")) {
+        closedDocuments.add(resource);
+      }
+      return null;
+    });
+    return proxy(JsonDBItem.class, methodName -> methodName.equals("getTrx") ? trx : null);
+  }
+
+  private static <T> T proxy(final Class<T> type, final Function<String, Object> methods) {
+    return type.cast(Proxy.newProxyInstance(type.getClassLoader(),
+                                            new Class<?>[] { type },
+                                            (proxy, method, args) -> methods.apply(method.getName())));
+  }
+
+  private static int count(final Stream<JsonDBItem> documents) {
+    try {
+      int count = 0;
+      while (documents.next() != null) {
+        count++;
+      }
+      return count;
+    } finally {
+      documents.close();
+    }
+  }
+}
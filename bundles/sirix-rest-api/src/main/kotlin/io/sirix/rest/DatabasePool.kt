@@ -0,0 +1,322 @@
+package io.sirix.rest
+
+import io.sirix.access.Databases
+import io.sirix.access.User
+import io.sirix.access.trx.node.AfterCommitState
+import io.sirix.api.Database
+import io.sirix.api.NodeTrx
+import io.sirix.api.json.JsonNodeTrx
+import io.sirix.api.json.JsonResourceSession
+import io.sirix.api.xml.XmlNodeTrx
+import io.sirix.api.xml.XmlResourceSession
+import java.nio.file.Path
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.locks.Condition
+import java.util.concurrent.locks.ReentrantLock
+import kotlin.concurrent.withLock
+
+/**
+ * A process-wide pool of open databases and resource sessions, which are shared by the handlers
+ * instead of opening and closing them on every request.
+ *
+ * There's one database per path, which is shared by all users, such that all requests see the same
+ * resource sessions and caches. The user of a request is set on the write transactions, which are
+ * started with its lease, and thus stored with its commits.
+ *
+ * The returned databases are leases: closing them releases the lease, and closing one of their
+ * resource sessions is a no-op. The pool holds a single handle of each database, thus the leases are
+ * only counted by the pool, and a database is only closed, once it has no leases. Databases without
+ * leases are closed by [evictIdle]. Databases, which are evicted by [evict] or [evictAll], don't hand
+ * out new leases. They are closed once the last lease has been released. Databases are opened under
+ * one of a fixed number of locks, which is chosen by the path, such that requests to different
+ * databases don't block each other.
+ */
+object DatabasePool {
+    private const val NUMBER_OF_STRIPES = 32
+
+    private class Entry(val path: Path, val database: Database<*>) {
+        /** The number of leases, guarded by the lock of the path. */
+        var leases = 0
+
+        /**
+         * Determines if the database is closed once the last lease has been released, guarded by the
+         * lock of the path.
+         */
+        var evicting = false
+
+        @Volatile
+        var lastReleased = System.nanoTime()
+    }
+
+    private class Stripe {
+        val lock = ReentrantLock()
+
+        /** Signalled, once an evicted database has been closed. */
+        val closed: Condition = lock.newCondition()
+    }
+
+    private val entries = ConcurrentHashMap<Path, Entry>()
+
+    private val stripes = Array(NUMBER_OF_STRIPES) { Stripe() }
+
+    /**
+     * Get a lease of a JSON database.
+     *
+     * @param databaseFile the path of the database
+     * @param user the user, who is stored with the commits, or `null` for an admin user
+     * @return the database, which must be closed to release the lease
+     */
+    fun openJsonDatabase(databaseFile: Path, user: User? = null): Database<JsonResourceSession> {
+        val entry = acquire(normalize(databaseFile)) { Databases.openJsonDatabase(it) }
+        @Suppress("UNCHECKED_CAST")
+        return PooledJsonDatabase(entry, entry.database as Database<JsonResourceSession>, user)
+    }
+
+    /**
+     * Get a lease of an XML database.
+     *
+     * @param databaseFile the path of the database
+     * @param user the user, who is stored with the commits, or `null` for an admin user
+     * @return the database, which must be closed to release the lease
+     */
+    fun openXmlDatabase(databaseFile: Path, user: User? = null): Database<XmlResourceSession> {
+        val entry = acquire(normalize(databaseFile)) { Databases.openXmlDatabase(it) }
+        @Suppress("UNCHECKED_CAST")
+        return PooledXmlDatabase(entry, entry.database as Database<XmlResourceSession>, user)
+    }
+
+    /**
+     * Close all databases, which haven't been used for the given time.
+     *
+     * @param maxIdleTime the maximum time a database without leases is kept open
+     */
+    fun evictIdle(maxIdleTime: Duration) {
+        entries.values.forEach { entry ->
+            if (isIdle(entry, maxIdleTime)) {
+                stripe(entry.path).lock.withLock {
+                    if (entry.leases == 0 && !entry.evicting && isIdle(entry, maxIdleTime)
+                        && entries.remove(entry.path, entry)
+                    ) {
+                        entry.database.close()
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Close the database, for instance before it is removed. No new leases are handed out, and the
+     * call blocks until the database has been closed, that is until the current leases have been
+     * released. Thus, it must not be called while holding a lease of the database.
+     *
+     * @param databaseFile the path of the database
+     */
+    fun evict(databaseFile: Path) {
+        val path = normalize(databaseFile)
+        val stripe = stripe(path)
+        stripe.lock.withLock {
+            val entry = entries[path] ?: return
+            entry.evicting = true
+            if (entry.leases == 0) {
+                close(entry)
+            }
+            while (entries[path] === entry) {
+                stripe.closed.await()
+            }
+        }
+    }
+
+    /**
+     * Close all databases, once their current leases have been released.
+     */
+    fun evictAll() {
+        entries.keys.forEach(::evict)
+    }
+
+    private fun isIdle(entry: Entry, maxIdleTime: Duration) =
+        System.nanoTime() - entry.lastReleased > maxIdleTime.toNanos()
+
+    private fun close(entry: Entry) {
+        try {
+            entries.remove(entry.path, entry)
+            entry.database.close()
+        } finally {
+            stripe(entry.path).closed.signalAll()
+        }
+    }
+
+    /**
+     * Close the resource sessions of a resource, such that the resource can be removed.
+     */
+    private fun closeResourceSession(database: Database<*>, resourceName: String) {
+        if (database.isOpen && database.existsResource(resourceName)) {
+            database.beginResourceSession(resourceName).close()
+        }
+    }
+
+    private inline fun acquire(path: Path, open: (Path) -> Database<*>): Entry {
+        val stripe = stripe(path)
+        return stripe.lock.withLock {
+            var entry = entries[path]
+            // Wait until an evicted database has been closed, such that it can be removed or reopened.
+            while (entry != null && entry.evicting) {
+                stripe.closed.await()
+                entry = entries[path]
+            }
+            if (entry == null || !entry.database.isOpen) {
+                entry = Entry(path, open(path))
+                entries[path] = entry
+            }
+            entry.leases++
+            entry
+        }
+    }
+
+    private fun release(entry: Entry) {
+        stripe(entry.path).lock.withLock {
+            entry.lastReleased = System.nanoTime()
+            entry.leases--
+            if (entry.leases == 0 && entry.evicting) {
+                close(entry)
+            }
+        }
+    }
+
+    private fun stripe(path: Path) = stripes[Math.floorMod(path.hashCode(), NUMBER_OF_STRIPES)]
+
+    private fun normalize(databaseFile: Path) = databaseFile.toAbsolutePath().normalize()
+
+    private class PooledJsonDatabase(
+        private val entry: Entry,
+        private val database: Database<JsonResourceSession>,
+        private val user: User?
+    ) : Database<JsonResourceSession> by database {
+        private val released = AtomicBoolean()
+
+        override fun beginResourceSession(resourceName: String): JsonResourceSession {
+            return SharedJsonResourceSession(database.beginResourceSession(resourceName), user)
+        }
+
+        override fun removeResource(resourceName: String): Database<JsonResourceSession> {
+            closeResourceSession(database, resourceName)
+            database.removeResource(resourceName)
+            return this
+        }
+
+        override fun close() {
+            if (released.compareAndSet(false, true)) {
+                release(entry)
+            }
+        }
+    }
+
+    private class PooledXmlDatabase(
+        private val entry: Entry,
+        private val database: Database<XmlResourceSession>,
+        private val user: User?
+    ) : Database<XmlResourceSession> by database {
+        private val released = AtomicBoolean()
+
+        override fun beginResourceSession(resourceName: String): XmlResourceSession {
+            return SharedXmlResourceSession(database.beginResourceSession(resourceName), user)
+        }
+
+        override fun removeResource(resourceName: String): Database<XmlResourceSession> {
+            closeResourceSession(database, resourceName)
+            database.removeResource(resourceName)
+            return this
+        }
+
+        override fun close() {
+            if (released.compareAndSet(false, true)) {
+                release(entry)
+            }
+        }
+    }
+
+    private fun <W : NodeTrx> W.committedBy(user: User?): W {
+        if (user != null) {
+            setUser(user)
+        }
+        return this
+    }
+
+    /**
+     * A resource session, which is shared by concurrent requests and closed by the pool. The write
+     * transactions store the user of the lease with their commits.
+     */
+    private class SharedJsonResourceSession(
+        private val session: JsonResourceSession,
+        private val user: User?
+    ) : JsonResourceSession by session {
+        override fun beginNodeTrx(afterCommitState: AfterCommitState): JsonNodeTrx =
+            session.beginNodeTrx(afterCommitState).committedBy(user)
+
+        override fun beginNodeTrx(maxNodes: Int, afterCommitState: AfterCommitState): JsonNodeTrx =
+            session.beginNodeTrx(maxNodes, afterCommitState).committedBy(user)
+
+        override fun beginNodeTrx(maxTime: Int, timeUnit: TimeUnit, afterCommitState: AfterCommitState): JsonNodeTrx =
+            session.beginNodeTrx(maxTime, timeUnit, afterCommitState).committedBy(user)
+
+        override fun beginNodeTrx(
+            maxNodes: Int,
+            maxTime: Int,
+            timeUnit: TimeUnit,
+            afterCommitState: AfterCommitState
+        ): JsonNodeTrx = session.beginNodeTrx(maxNodes, maxTime, timeUnit, afterCommitState).committedBy(user)
+
+        override fun beginNodeTrx(): JsonNodeTrx = session.beginNodeTrx().committedBy(user)
+
+        override fun beginNodeTrx(maxNodes: Int): JsonNodeTrx = session.beginNodeTrx(maxNodes).committedBy(user)
+
+        override fun beginNodeTrx(maxTime: Int, timeUnit: TimeUnit): JsonNodeTrx =
+            session.beginNodeTrx(maxTime, timeUnit).committedBy(user)
+
+        override fun beginNodeTrx(maxNodeCount: Int, maxTime: Int, timeUnit: TimeUnit): JsonNodeTrx =
+            session.beginNodeTrx(maxNodeCount, maxTime, timeUnit).committedBy(user)
+
+        override fun close() {
+        }
+    }
+
+    /**
+     * A resource session, which is shared by concurrent requests and closed by the pool. The write
+     * transactions store the user of the lease with their commits.
+     */
+    private class SharedXmlResourceSession(
+        private val session: XmlResourceSession,
+        private val user: User?
+    ) : XmlResourceSession by session {
+        override fun beginNodeTrx(afterCommitState: AfterCommitState): XmlNodeTrx =
+            session.beginNodeTrx(afterCommitState).committedBy(user)
+
+        override fun beginNodeTrx(maxNodes: Int, afterCommitState: AfterCommitState): XmlNodeTrx =
+            session.beginNodeTrx(maxNodes, afterCommitState).committedBy(user)
+
+        override fun beginNodeTrx(maxTime: Int, timeUnit: TimeUnit, afterCommitState: AfterCommitState): XmlNodeTrx =
+            session.beginNodeTrx(maxTime, timeUnit, afterCommitState).committedBy(user)
+
+        override fun beginNodeTrx(
+            maxNodes: Int,
+            maxTime: Int,
+            timeUnit: TimeUnit,
+            afterCommitState: AfterCommitState
+        ): XmlNodeTrx = session.beginNodeTrx(maxNodes, maxTime, timeUnit, afterCommitState).committedBy(user)
+
+        override fun beginNodeTrx(): XmlNodeTrx = session.beginNodeTrx().committedBy(user)
+
+        override fun beginNodeTrx(maxNodes: Int): XmlNodeTrx = session.beginNodeTrx(maxNodes).committedBy(user)
+
+        override fun beginNodeTrx(maxTime: Int, timeUnit: TimeUnit): XmlNodeTrx =
+            session.beginNodeTrx(maxTime, timeUnit).committedBy(user)
+
+        override fun beginNodeTrx(maxNodeCount: Int, maxTime: Int, timeUnit: TimeUnit): XmlNodeTrx =
+            session.beginNodeTrx(maxNodeCount, maxTime, timeUnit).committedBy(user)
+
+        override fun close() {
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package io.sirix.rest
+
+import io.vertx.core.buffer.Buffer
+import io.vertx.core.http.HttpServerResponse
+import java.io.IOException
+import java.io.OutputStream
+import java.io.OutputStreamWriter
+import java.io.PrintStream
+import java.io.Writer
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * An output stream, which writes chunks of a fixed size to an HTTP response, such that serializers
+ * don't have to buffer the whole response body in memory.
+ *
+ * The stream must be used from a worker thread, as a write blocks while the write queue of the
+ * response is full, until it is drained or the connection is closed. The response is switched to
+ * chunked transfer encoding before the first chunk is written, thus the status code and the headers
+ * have to be set before. Closing the stream flushes it, but doesn't end the response.
+ */
+class HttpResponseOutputStream(
+    private val response: HttpServerResponse,
+    bufferSize: Int = DEFAULT_BUFFER_SIZE
+) : OutputStream() {
+    companion object {
+        const val DEFAULT_BUFFER_SIZE = 8192
+
+        private const val DRAIN_POLL_INTERVAL_MILLIS = 100L
+
+        /**
+         * Create a UTF-8 writer, which writes to the response.
+         */
+        fun writer(response: HttpServerResponse): Writer =
+            OutputStreamWriter(HttpResponseOutputStream(response), StandardCharsets.UTF_8)
+
+        /**
+         * Create a UTF-8 print stream, which writes to the response.
+         */
+        fun printStream(response: HttpServerResponse): PrintStream =
+            PrintStream(HttpResponseOutputStream(response), false, StandardCharsets.UTF_8)
+    }
+
+    private val buffer = ByteArray(bufferSize)
+
+    private var position = 0
+
+    private var closed = false
+
+    override fun write(byte: Int) {
+        if (position == buffer.size) {
+            writeChunk()
+        }
+        buffer[position++] = byte.toByte()
+    }
+
+    override fun write(bytes: ByteArray, offset: Int, length: Int) {
+        var currentOffset = offset
+        var remaining = length
+
+        while (remaining > 0) {
+            if (position == buffer.size) {
+                writeChunk()
+            }
+
+            val lengthToCopy = minOf(remaining, buffer.size - position)
+            System.arraycopy(bytes, currentOffset, buffer, position, lengthToCopy)
+            position += lengthToCopy
+            currentOffset += lengthToCopy
+            remaining -= lengthToCopy
+        }
+    }
+
+    override fun flush() {
+        if (position > 0) {
+            writeChunk()
+        }
+    }
+
+    override fun close() {
+        if (!closed) {
+            closed = true
+            flush()
+        }
+    }
+
+    private fun writeChunk() {
+        if (response.closed()) {
+            throw IOException("The connection has been closed.")
+        }
+
+        if (!response.headWritten()) {
+            response.isChunked = true
+        }
+
+        response.write(Buffer.buffer(buffer.copyOf(position)))
+        position = 0
+
+        awaitDrain()
+    }
+
+    private fun awaitDrain() {
+        if (!response.writeQueueFull()) {
+            return
+        }
+
+        val drained = CountDownLatch(1)
+        response.drainHandler { drained.countDown() }
+
+        try {
+            while (response.writeQueueFull()) {
+                if (response.closed()) {
+                    throw IOException("The connection has been closed.")
+                }
+                drained.await(DRAIN_POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)
+            }
+        } catch (e: InterruptedException) {
+            Thread.currentThread().interrupt()
+            throw IOException(e)
+        }
+    }
+}
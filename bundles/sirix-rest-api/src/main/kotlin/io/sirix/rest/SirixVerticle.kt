@@ -41,6 +41,7 @@ import java.io.ByteArrayOutputStream
 import java.io.PrintWriter
 import java.nio.charset.StandardCharsets
 import java.nio.file.Paths
+import java.time.Duration
 import java.util.UUID
 
 class SirixVerticle : CoroutineVerticle() {
@@ -74,6 +75,26 @@ class SirixVerticle : CoroutineVerticle() {
         }
 
         listen(server, router)
+
+        evictIdleDatabases()
+    }
+
+    override suspend fun stop() {
+        vertx.executeBlocking<Unit> { promise ->
+            DatabasePool.evictAll()
+            promise.complete()
+        }.await()
+    }
+
+    private fun evictIdleDatabases() {
+        val idleTimeout = Duration.ofSeconds(config.getLong("pool.idle.timeout.seconds", 300L))
+
+        vertx.setPeriodic(idleTimeout.toMillis().coerceAtLeast(1_000L)) {
+            vertx.executeBlocking<Unit>({ promise ->
+                DatabasePool.evictIdle(idleTimeout)
+                promise.complete()
+            }, false)
+        }
     }
 
     private suspend fun listen(server: HttpServer, router: Router) {
@@ -221,6 +242,14 @@ class SirixVerticle : CoroutineVerticle() {
             DeleteHandler(location, authz).handle(it)
         }
 
+        // "/metrics"
+        get("/metrics").produces("application/json").coroutineHandler {
+            io.sirix.rest.Auth(keycloak, authz, AuthRole.VIEW).handle(it)
+            it.next()
+        }.coroutineHandler {
+            MetricsHandler().handle(it)
+        }
+
         // "/:database"
         post("/:database")
             .consumes("multipart/form-data")
@@ -360,6 +389,12 @@ class SirixVerticle : CoroutineVerticle() {
         }
 
         route().failureHandler { failureRoutingContext ->
+            // A streamed response has already been started, thus the status code can't be changed anymore.
+            if (failureRoutingContext.response().headWritten()) {
+                failureRoutingContext.response().reset()
+                return@failureHandler
+            }
+
             val statusCode = failureRoutingContext.statusCode()
             val failure = failureRoutingContext.failure()
 
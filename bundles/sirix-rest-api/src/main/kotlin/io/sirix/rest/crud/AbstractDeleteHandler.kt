@@ -17,6 +17,7 @@ import io.sirix.access.User
 import io.sirix.access.trx.node.HashType
 import io.sirix.api.Database
 import io.sirix.api.ResourceSession
+import io.sirix.rest.DatabasePool
 import java.nio.file.Files
 import java.nio.file.Path
 
@@ -26,6 +27,8 @@ abstract class AbstractDeleteHandler(protected val location: Path) {
         val dbStore = createStore(ctx)
 
         ctx.vertx().executeBlocking { promise: Promise<Unit> ->
+            DatabasePool.evictAll()
+
             val databases = Files.list(location)
 
             databases.use {
@@ -82,8 +85,9 @@ abstract class AbstractDeleteHandler(protected val location: Path) {
         sirixDBUser: User
     ): Database<*>
 
-    private suspend fun removeDatabase(dbFile: Path?, dispatcher: CoroutineDispatcher) {
+    private suspend fun removeDatabase(dbFile: Path, dispatcher: CoroutineDispatcher) {
         withContext(dispatcher) {
+            DatabasePool.evict(dbFile)
             Databases.removeDatabase(dbFile)
         }
     }
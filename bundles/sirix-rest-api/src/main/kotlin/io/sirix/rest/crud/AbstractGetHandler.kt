@@ -61,15 +61,13 @@ private val authz: AuthorizationProvider){
 
         val nodeId: String? = ctx.queryParam("nodeId").getOrNull(0)
 
-        var body: String?
-
         val database = openDatabase(location.resolve(databaseName))
 
         database.use {
             val manager = database.beginResourceSession(resource)
 
             manager.use {
-                body = if (query != null && query.isNotEmpty()) {
+                if (query != null && query.isNotEmpty()) {
                     queryResource(
                             databaseName, database, revision, revisionTimestamp, manager, ctx, nodeId, query,
                             vertxContext, user, jsonBody
@@ -86,18 +84,14 @@ private val authz: AuthorizationProvider){
             }
         }
 
-        if (body != null) {
-            ctx.response().end(body)
-        } else {
-            ctx.response().end()
-        }
+        ctx.response().end()
     }
 
      suspend fun queryResource(
             databaseName: String?, database: Database<T>, revision: String?,
             revisionTimestamp: String?, manager: T, ctx: RoutingContext,
             nodeId: String?, query: String, vertxContext: Context, user: User, jsonBody: JsonObject?
-    ): String? {
+    ) {
         val dbCollection = getDBCollection(databaseName, database)
 
         dbCollection.use {
@@ -105,7 +99,7 @@ private val authz: AuthorizationProvider){
             val startResultSeqIndex = ctx.queryParam("startResultSeqIndex").getOrElse(0) { null }
             val endResultSeqIndex = ctx.queryParam("endResultSeqIndex").getOrElse(0) { null }
 
-            return xquery(
+            xquery(
                     manager,
                     dbCollection,
                     nodeId,
@@ -127,8 +121,8 @@ private val authz: AuthorizationProvider){
             nodeId: String?,
             revisionNumber: IntArray?, query: String, routingContext: RoutingContext, vertxContext: Context,
             user: User, startResultSeqIndex: Long?, endResultSeqIndex: Long?, jsonBody: JsonObject?
-    ): String? {
-        return vertxContext.executeBlocking { promise: Promise<String> ->
+    ) {
+        vertxContext.executeBlocking { promise: Promise<Unit> ->
             // Initialize queryResource context and store.
             val jsonDBStore = JsonSessionDBStore(
                     routingContext,
@@ -159,8 +153,6 @@ private val authz: AuthorizationProvider){
                     commitTimestamp
             )
 
-            var body: String?
-
             queryCtx.use {
                 if (manager != null && dbCollection != null && revisionNumber != null) {
                     val rtx = manager.beginNodeReadOnlyTrx(revisionNumber[0]) as R
@@ -174,7 +166,7 @@ private val authz: AuthorizationProvider){
 
                         handleQueryExtra(rtx, dbCollection, queryCtx, jsonDBStore)
 
-                        body = query(
+                        query(
                                 xmlDBStore,
                                 jsonDBStore,
                                 startResultSeqIndex,
@@ -186,7 +178,7 @@ private val authz: AuthorizationProvider){
                     }
 
                 } else {
-                    body = query(
+                    query(
                             xmlDBStore,
                             jsonDBStore,
                             startResultSeqIndex,
@@ -198,7 +190,7 @@ private val authz: AuthorizationProvider){
                 }
             }
 
-            promise.complete(body)
+            promise.complete()
         }.await()
     }
 
@@ -206,7 +198,7 @@ private val authz: AuthorizationProvider){
             manager: T, revisions: IntArray, nodeId: Long?,
             ctx: RoutingContext,
             vertxContext: Context
-    ): String
+    )
 
     abstract suspend fun openDatabase(dbFile: Path): Database<T>
 
@@ -221,5 +213,5 @@ private val authz: AuthorizationProvider){
             queryCtx: SirixQueryContext,
             endResultSeqIndex: Long?,
             routingContext: RoutingContext
-    ): String
+    )
 }
@@ -8,6 +8,7 @@ import kotlinx.coroutines.withContext
 import io.sirix.access.DatabaseType
 import io.sirix.access.Databases
 import io.sirix.access.DatabasesInternals
+import io.sirix.rest.DatabasePool
 import io.sirix.rest.crud.json.JsonDelete
 import io.sirix.rest.crud.xml.XmlDelete
 import java.nio.file.Files
@@ -16,6 +17,10 @@ import java.nio.file.Path
 class DeleteHandler(private val location: Path, private val authz: AuthorizationProvider) {
     suspend fun handle(ctx: RoutingContext): Route {
         if (ctx.pathParam("database") == null && ctx.pathParam("resource") == null) {
+            withContext(Dispatchers.IO) {
+                DatabasePool.evictAll()
+            }
+
             val openDatabases = DatabasesInternals.getOpenDatabases()
 
             if (openDatabases.isNotEmpty()) {
@@ -11,6 +11,7 @@ import io.sirix.access.Databases.*
 import io.sirix.access.DatabasesInternals
 import io.sirix.access.ResourceConfiguration
 import io.sirix.api.Database
+import io.sirix.rest.DatabasePool
 import io.sirix.api.json.JsonNodeReadOnlyTrx
 import io.sirix.api.json.JsonResourceSession
 import io.sirix.service.json.BasicJsonDiff
@@ -67,7 +68,18 @@ class DiffHandler(private val location: Path) {
                                     .resolve(ResourceConfiguration.ResourcePaths.UPDATE_OPERATIONS.path)
                                     .resolve("diffFromRev${firstRevision.toInt()}toRev${secondRevision.toInt()}.json")
 
-                                diffString = Files.readString(diffPath)
+                                diffString = if (Files.exists(diffPath)) {
+                                    Files.readString(diffPath)
+                                } else {
+                                    generateDiff(
+                                        resourceManager,
+                                        databaseName,
+                                        firstRevision,
+                                        secondRevision,
+                                        startNodeKeyAsLong,
+                                        maxDepthAsLong
+                                    )
+                                }
                             } else {
                                 val rtx = resourceManager.beginNodeReadOnlyTrx(secondRevision.toInt())
 
@@ -84,10 +96,11 @@ class DiffHandler(private val location: Path) {
                                 }
                             }
                         } else {
-                            diffString = BasicJsonDiff(databaseName).generateDiff(
+                            diffString = generateDiff(
                                 resourceManager,
-                                firstRevision.toInt(),
-                                secondRevision.toInt(),
+                                databaseName,
+                                firstRevision,
+                                secondRevision,
                                 startNodeKeyAsLong,
                                 maxDepthAsLong
                             )
@@ -113,6 +126,26 @@ class DiffHandler(private val location: Path) {
         return ctx.currentRoute()
     }
 
+    /**
+     * Diffs the changed subtrees, if the changed nodes of the revisions are indexed, or the whole resource otherwise.
+     */
+    private fun generateDiff(
+        resourceManager: JsonResourceSession,
+        databaseName: String,
+        firstRevision: String,
+        secondRevision: String,
+        startNodeKeyAsLong: Long,
+        maxDepthAsLong: Long
+    ): String {
+        return BasicJsonDiff(databaseName).generateDiff(
+            resourceManager,
+            firstRevision.toInt(),
+            secondRevision.toInt(),
+            startNodeKeyAsLong,
+            maxDepthAsLong
+        )
+    }
+
     private fun useUpdateOperations(
         rtx: JsonNodeReadOnlyTrx,
         startNodeKeyAsLong: Long,
@@ -140,8 +173,8 @@ class DiffHandler(private val location: Path) {
     private fun openDatabase(databaseName: String): Database<*> {
         @Suppress("WHEN_ENUM_CAN_BE_NULL_IN_JAVA")
         return when (getDatabaseType(location.resolve(databaseName).toAbsolutePath())) {
-            DatabaseType.JSON -> openJsonDatabase(location.resolve(databaseName))
-            DatabaseType.XML -> openXmlDatabase(location.resolve(databaseName))
+            DatabaseType.JSON -> DatabasePool.openJsonDatabase(location.resolve(databaseName))
+            DatabaseType.XML -> DatabasePool.openXmlDatabase(location.resolve(databaseName))
         }
     }
 
@@ -11,6 +11,7 @@ import io.vertx.ext.web.RoutingContext
 import io.vertx.kotlin.coroutines.await
 import io.sirix.access.Databases
 import io.sirix.api.Database
+import io.sirix.rest.DatabasePool
 import io.sirix.api.json.JsonResourceSession
 import io.sirix.rest.crud.json.JsonGet
 import io.sirix.rest.crud.xml.XmlGet
@@ -59,12 +60,10 @@ class GetHandler(
                     endResultSeqIndex = jsonBody?.getLong("endResultSeqIndex")
                 }
 
-                val body: String?
-
                 with(acceptHeader) {
                     when {
                         contains("application/json") -> {
-                            body = JsonGet(location, keycloak, authz).xquery(
+                            JsonGet(location, keycloak, authz).xquery(
                                 null,
                                 null,
                                 null,
@@ -80,7 +79,7 @@ class GetHandler(
                         }
 
                         contains("application/xml") -> {
-                            body = XmlGet(location, keycloak, authz).xquery(
+                            XmlGet(location, keycloak, authz).xquery(
                                 null,
                                 null,
                                 null,
@@ -96,7 +95,7 @@ class GetHandler(
                         }
 
                         else -> {
-                            body = JsonGet(location, keycloak, authz).xquery(
+                            JsonGet(location, keycloak, authz).xquery(
                                 null,
                                 null,
                                 null,
@@ -113,11 +112,7 @@ class GetHandler(
                     }
                 }
 
-                if (body != null) {
-                    ctx.response().end(body)
-                } else {
-                    ctx.response().end()
-                }
+                ctx.response().end()
             }
         } else if (databaseName != null && resourceName == null) {
             val buffer = StringBuilder()
@@ -199,7 +194,7 @@ class GetHandler(
         buffer: StringBuilder,
         databaseName: Path
     ) {
-        val database = Databases.openJsonDatabase(location.resolve(databaseName))
+        val database = DatabasePool.openJsonDatabase(location.resolve(databaseName))
 
         database.use {
             buffer.append("\"resources\":[")
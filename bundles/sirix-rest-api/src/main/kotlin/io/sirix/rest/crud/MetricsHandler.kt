@@ -0,0 +1,59 @@
+package io.sirix.rest.crud
+
+import io.sirix.metrics.SirixMetrics
+import io.vertx.core.http.HttpHeaders
+import io.vertx.core.json.JsonArray
+import io.vertx.core.json.JsonObject
+import io.vertx.ext.web.Route
+import io.vertx.ext.web.RoutingContext
+
+/**
+ * Serializes a snapshot of the counters and histograms of the installed metrics registry.
+ */
+class MetricsHandler : Handler {
+    override suspend fun handle(ctx: RoutingContext): Route {
+        val registry = SirixMetrics.get().registry
+
+        val counters = JsonArray()
+        registry.counters.entries.sortedBy { it.key.toString() }.forEach { (id, counter) ->
+            counters.add(
+                JsonObject()
+                    .put("name", id.name)
+                    .put("tags", tagsToJson(id.tags))
+                    .put("count", counter.count)
+            )
+        }
+
+        val histograms = JsonArray()
+        registry.histograms.entries.sortedBy { it.key.toString() }.forEach { (id, histogram) ->
+            histograms.add(
+                JsonObject()
+                    .put("name", id.name)
+                    .put("tags", tagsToJson(id.tags))
+                    .put("count", histogram.count)
+                    .put("total", histogram.total)
+                    .put("mean", histogram.mean)
+                    .put("max", histogram.max)
+                    .put("p50", histogram.getValueAtPercentile(0.5))
+                    .put("p90", histogram.getValueAtPercentile(0.9))
+                    .put("p99", histogram.getValueAtPercentile(0.99))
+            )
+        }
+
+        val content = JsonObject().put("counters", counters).put("histograms", histograms).encode()
+
+        ctx.response().setStatusCode(200)
+            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+            .end(content)
+
+        return ctx.currentRoute()
+    }
+
+    private fun tagsToJson(tags: List<String>): JsonObject {
+        val json = JsonObject()
+        for (i in tags.indices step 2) {
+            json.put(tags[i], tags[i + 1])
+        }
+        return json
+    }
+}
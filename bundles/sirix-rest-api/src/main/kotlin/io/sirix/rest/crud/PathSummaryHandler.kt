@@ -7,6 +7,7 @@ import io.vertx.kotlin.coroutines.await
 import io.sirix.access.DatabaseType
 import io.sirix.access.Databases.*
 import io.sirix.api.Database
+import io.sirix.rest.DatabasePool
 import io.sirix.axis.DescendantAxis
 import java.nio.charset.StandardCharsets
 import java.nio.file.Path
@@ -19,8 +20,8 @@ class PathSummaryHandler(private val location: Path) {
 
         @Suppress("WHEN_ENUM_CAN_BE_NULL_IN_JAVA") val database: Database<*> =
             when (getDatabaseType(location.resolve(databaseName).toAbsolutePath())) {
-                DatabaseType.JSON -> openJsonDatabase(location.resolve(databaseName))
-                DatabaseType.XML -> openXmlDatabase(location.resolve(databaseName))
+                DatabaseType.JSON -> DatabasePool.openJsonDatabase(location.resolve(databaseName))
+                DatabaseType.XML -> DatabasePool.openXmlDatabase(location.resolve(databaseName))
             }
 
         context.executeBlocking<String> {
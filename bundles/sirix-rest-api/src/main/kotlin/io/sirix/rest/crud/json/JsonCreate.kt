@@ -14,6 +14,7 @@ import io.sirix.access.ResourceConfiguration
 import io.sirix.access.User
 import io.sirix.access.trx.node.HashType
 import io.sirix.api.Database
+import io.sirix.rest.DatabasePool
 import io.sirix.api.json.JsonResourceSession
 import io.sirix.rest.KotlinJsonStreamingShredder
 import io.sirix.rest.crud.AbstractCreateHandler
@@ -39,7 +40,7 @@ class JsonCreate(
         withContext(Dispatchers.IO) {
             var body: String? = null
             val sirixDBUser = SirixDBUser.create(ctx)
-            val database = Databases.openJsonDatabase(dbFile, sirixDBUser)
+            val database = DatabasePool.openJsonDatabase(dbFile, sirixDBUser)
             val dispatcher = ctx.vertx().dispatcher()
 
             database.use {
@@ -146,6 +147,6 @@ class JsonCreate(
     }
 
     override suspend fun openDatabase(dbFile: Path, sirixDBUser: User): Database<JsonResourceSession> {
-        return Databases.openJsonDatabase(dbFile, sirixDBUser)
+        return DatabasePool.openJsonDatabase(dbFile, sirixDBUser)
     }
 }
@@ -6,7 +6,7 @@ import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
 import io.brackit.query.jdm.StructuredItemStore
 import io.sirix.access.DatabaseType
-import io.sirix.access.Databases
+import io.sirix.rest.DatabasePool
 import io.sirix.access.trx.node.HashType
 import io.sirix.api.Database
 import io.sirix.api.ResourceSession
@@ -35,7 +35,7 @@ class JsonDelete(location: Path, private val authz: AuthorizationProvider) : Abs
     }
 
     override fun database(dbFile: Path, sirixDBUser: io.sirix.access.User): Database<*> {
-        return Databases.openJsonDatabase(dbFile,  sirixDBUser)
+        return DatabasePool.openJsonDatabase(dbFile, sirixDBUser)
     }
 
     override fun hashType(manager: ResourceSession<*, *>): HashType {
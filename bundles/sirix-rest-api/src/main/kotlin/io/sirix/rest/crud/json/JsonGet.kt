@@ -12,7 +12,8 @@ import io.vertx.ext.auth.oauth2.OAuth2Auth
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
 import io.vertx.kotlin.coroutines.await
-import io.sirix.access.Databases
+import io.sirix.rest.DatabasePool
+import io.sirix.rest.HttpResponseOutputStream
 import io.sirix.api.Database
 import io.sirix.api.json.JsonNodeReadOnlyTrx
 import io.sirix.api.json.JsonNodeTrx
@@ -32,7 +33,7 @@ import io.sirix.query.json.*
 import io.sirix.query.node.BasicXmlDBStore
 import io.sirix.query.node.XmlDBCollection
 import io.vertx.core.json.Json
-import java.io.StringWriter
+import java.io.Writer
 import java.nio.file.Path
 
 class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, private val authz: AuthorizationProvider): AbstractGetHandler <JsonResourceSession, JsonDBCollection, JsonNodeReadOnlyTrx> (location, authz) {
@@ -124,33 +125,29 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
         queryCtx: SirixQueryContext,
         endResultSeqIndex: Long?,
         routingContext: RoutingContext
-    ): String {
-        val out = StringBuilder()
-
-        executeQueryAndSerialize(
-            routingContext,
-            xmlDBStore,
-            jsonDBStore,
-            out,
-            startResultSeqIndex,
-            query,
-            queryCtx,
-            endResultSeqIndex
-        )
-
-        val body = out.toString()
-
+    ) {
         routingContext.response().setStatusCode(200)
             .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
 
-        return body
+        HttpResponseOutputStream.writer(routingContext.response()).use { out ->
+            executeQueryAndSerialize(
+                routingContext,
+                xmlDBStore,
+                jsonDBStore,
+                out,
+                startResultSeqIndex,
+                query,
+                queryCtx,
+                endResultSeqIndex
+            )
+        }
     }
 
     private fun executeQueryAndSerialize(
         routingContext: RoutingContext,
         xmlDBStore: XmlSessionDBStore,
         jsonDBStore: JsonSessionDBStore,
-        out: StringBuilder,
+        out: Writer,
         startResultSeqIndex: Long?,
         query: String,
         queryCtx: SirixQueryContext,
@@ -186,15 +183,17 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
         manager: JsonResourceSession, revisions: IntArray, nodeId: Long?,
         ctx: RoutingContext,
         vertxContext: Context
-    ): String {
-        val serializedString = vertxContext.executeBlocking { promise: Promise<String> ->
+    ) {
+        vertxContext.executeBlocking { promise: Promise<Unit> ->
             val nextTopLevelNodes = ctx.queryParam("nextTopLevelNodes").getOrNull(0)?.toInt()
             val lastTopLevelNodeKey = ctx.queryParam("lastTopLevelNodeKey").getOrNull(0)?.toLong()
 
             val numberOfNodes = ctx.queryParam("numberOfNodes").getOrNull(0)?.toLong()
             val maxChildren = ctx.queryParam("maxChildren").getOrNull(0)?.toLong()
 
-            val out = StringWriter()
+            JsonSerializeHelper().putResponseHeaders(ctx, manager, revisions, nodeId)
+
+            val out = HttpResponseOutputStream.writer(ctx.response())
 
             val withMetaData: String? = ctx.queryParam("withMetaData").getOrNull(0)
             val maxLevel: String? = ctx.queryParam("maxLevel").getOrNull(0)
@@ -231,7 +230,7 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
 
                 val serializer = serializerBuilder.build()
 
-                promise.complete(JsonSerializeHelper().serialize(serializer, out, ctx, manager, revisions, nodeId))
+                out.use { serializer.call() }
             } else {
                 val serializerBuilder =
                     JsonRecordSerializer.newBuilder(manager, nextTopLevelNodes, out).revisions(revisions)
@@ -268,18 +267,15 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
 
                 val serializer = serializerBuilder.build()
 
-                promise.complete(JsonSerializeHelper().serialize(serializer, out, ctx, manager, revisions, nodeId))
+                out.use { serializer.call() }
             }
-        }.await()
-
-        ctx.response().setStatusCode(200)
-            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
 
-        return serializedString!!
+            promise.complete()
+        }.await()
     }
 
     override suspend fun openDatabase(dbFile: Path): Database<JsonResourceSession> {
-        return Databases.openJsonDatabase(dbFile)
+        return DatabasePool.openJsonDatabase(dbFile)
     }
 
     override suspend fun getDBCollection(databaseName: String?, database: Database<JsonResourceSession>): JsonDBCollection {
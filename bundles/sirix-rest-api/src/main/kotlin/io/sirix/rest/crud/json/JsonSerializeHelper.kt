@@ -20,13 +20,26 @@ class JsonSerializeHelper {
 
         val body = out.toString()
 
+        putResponseHeaders(ctx, manager, revisions, nodeId)
+
+        return body
+    }
+
+    /**
+     * Set the status code and the headers of the response, including the ETag, if the resource
+     * stores hashes. Must be called before the body is streamed.
+     */
+    fun putResponseHeaders(
+        ctx: RoutingContext,
+        manager: JsonResourceSession,
+        revisions: IntArray,
+        nodeId: Long?
+    ) {
         if (manager.resourceConfig.hashType == HashType.NONE) {
             writeResponseWithoutHashValue(ctx)
         } else {
             writeResponseWithHashValue(manager, revisions[0], ctx, nodeId)
         }
-
-        return body
     }
 
     private fun writeResponseWithoutHashValue(ctx: RoutingContext) {
@@ -7,7 +7,7 @@ import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
 import io.vertx.kotlin.coroutines.await
-import io.sirix.access.Databases
+import io.sirix.rest.DatabasePool
 import io.sirix.access.trx.node.HashType
 import io.sirix.access.trx.node.json.objectvalue.*
 import io.sirix.api.json.JsonNodeTrx
@@ -317,7 +317,7 @@ class JsonUpdate(private val location: Path) {
             val dbFile = location.resolve(databaseName)
 
             var body: String? = null
-            val database = Databases.openJsonDatabase(dbFile, sirixDBUser)
+            val database = DatabasePool.openJsonDatabase(dbFile, sirixDBUser)
 
             database.use {
                 val manager = database.beginResourceSession(resPathName)
@@ -15,6 +15,7 @@ import io.sirix.access.ResourceConfiguration
 import io.sirix.access.User
 import io.sirix.access.trx.node.HashType
 import io.sirix.api.Database
+import io.sirix.rest.DatabasePool
 import io.sirix.api.xml.XmlNodeTrx
 import io.sirix.api.xml.XmlResourceSession
 import io.sirix.rest.crud.AbstractCreateHandler
@@ -54,7 +55,7 @@ class XmlCreate(
         withContext(Dispatchers.IO) {
             var body: String? = null
             val sirixDBUser = SirixDBUser.create(ctx)
-            val database = Databases.openXmlDatabase(dbFile, sirixDBUser)
+            val database = DatabasePool.openXmlDatabase(dbFile, sirixDBUser)
 
             database.use {
                 val hashType = ctx.queryParam("hashType").getOrNull(0) ?: "NONE"
@@ -140,6 +141,6 @@ class XmlCreate(
     }
 
     override suspend fun openDatabase(dbFile: Path, sirixDBUser: User): Database<XmlResourceSession> {
-        return Databases.openXmlDatabase(dbFile, sirixDBUser)
+        return DatabasePool.openXmlDatabase(dbFile, sirixDBUser)
     }
 }
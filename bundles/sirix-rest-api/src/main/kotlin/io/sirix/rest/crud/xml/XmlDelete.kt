@@ -6,7 +6,7 @@ import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
 import io.brackit.query.jdm.StructuredItemStore
 import io.sirix.access.DatabaseType
-import io.sirix.access.Databases
+import io.sirix.rest.DatabasePool
 import io.sirix.access.trx.node.HashType
 import io.sirix.api.Database
 import io.sirix.api.ResourceSession
@@ -35,7 +35,7 @@ class XmlDelete(location: Path, private val authz: AuthorizationProvider) : Abst
     }
 
     override fun database(dbFile: Path, sirixDBUser: io.sirix.access.User): Database<*> {
-        return Databases.openXmlDatabase(dbFile,  sirixDBUser)
+        return DatabasePool.openXmlDatabase(dbFile, sirixDBUser)
     }
 
     override fun hashType(manager: ResourceSession<*, *>): HashType {
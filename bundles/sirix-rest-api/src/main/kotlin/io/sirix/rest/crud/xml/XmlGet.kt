@@ -14,7 +14,8 @@ import io.vertx.ext.web.RoutingContext
 import io.vertx.kotlin.coroutines.await
 import io.vertx.kotlin.coroutines.dispatcher
 import kotlinx.coroutines.withContext
-import io.sirix.access.Databases
+import io.sirix.rest.DatabasePool
+import io.sirix.rest.HttpResponseOutputStream
 import io.sirix.api.Database
 import io.sirix.api.json.JsonNodeReadOnlyTrx
 import io.sirix.api.xml.XmlNodeReadOnlyTrx
@@ -32,7 +33,6 @@ import io.sirix.rest.crud.AbstractGetHandler
 import io.sirix.query.node.BasicXmlDBStore
 import io.sirix.query.node.XmlDBCollection
 import io.sirix.query.node.XmlDBNode
-import java.io.ByteArrayOutputStream
 import java.io.PrintStream
 import java.nio.file.Path
 
@@ -126,39 +126,33 @@ class XmlGet(private val location: Path, private val keycloak: OAuth2Auth, priva
         queryCtx: SirixQueryContext,
         endResultSeqIndex: Long?,
         routingContext: RoutingContext
-    ): String {
-        val out = ByteArrayOutputStream()
+    ) {
+        routingContext.response().setStatusCode(200)
+            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
 
         executeQueryAndSerialize(
             routingContext,
             xmlDBStore,
             jsonDBStore,
-            out,
+            HttpResponseOutputStream.printStream(routingContext.response()),
             startResultSeqIndex,
             query,
             queryCtx,
             endResultSeqIndex
         )
-
-        val body = out.toString()
-
-        routingContext.response().setStatusCode(200)
-            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
-
-        return body
     }
 
     private fun executeQueryAndSerialize(
         routingContext: RoutingContext,
         xmlDBStore: XmlSessionDBStore,
         jsonDBStore: JsonSessionDBStore,
-        out: ByteArrayOutputStream,
+        printStream: PrintStream,
         startResultSeqIndex: Long?,
         query: String,
         queryCtx: SirixQueryContext,
         endResultSeqIndex: Long?
     ) {
-        PrintStream(out).use { printStream ->
+        printStream.use {
             SirixCompileChain.createWithNodeAndJsonStore(xmlDBStore, jsonDBStore).use { sirixCompileChain ->
                 if (startResultSeqIndex == null) {
                     PermissionCheckingQuery(
@@ -192,19 +186,25 @@ class XmlGet(private val location: Path, private val keycloak: OAuth2Auth, priva
         manager: XmlResourceSession, revisions: IntArray, nodeId: Long?,
         ctx: RoutingContext,
         vertxContext: Context
-    ): String {
-        val out = ByteArrayOutputStream()
+    ) {
+        vertxContext.executeBlocking { promise: Promise<Unit> ->
+            XmlSerializeHelper().putResponseHeaders(ctx, manager, nodeId)
 
-        val serializerBuilder = XmlSerializer.XmlSerializerBuilder(manager, out).revisions(revisions)
+            HttpResponseOutputStream(ctx.response()).use { out ->
+                val serializerBuilder = XmlSerializer.XmlSerializerBuilder(manager, out).revisions(revisions)
 
-        nodeId?.let { serializerBuilder.startNodeKey(nodeId) }
+                nodeId?.let { serializerBuilder.startNodeKey(nodeId) }
 
-        if (ctx.queryParam("maxLevel").isNotEmpty())
-            serializerBuilder.maxLevel(ctx.queryParam("maxLevel")[0].toLong())
+                if (ctx.queryParam("maxLevel").isNotEmpty())
+                    serializerBuilder.maxLevel(ctx.queryParam("maxLevel")[0].toLong())
 
-        val serializer = serializerBuilder.emitIDs().emitRESTful().emitRESTSequence().prettyPrint().build()
+                val serializer = serializerBuilder.emitIDs().emitRESTful().emitRESTSequence().prettyPrint().build()
+
+                serializer.call()
+            }
 
-        return XmlSerializeHelper().serializeXml(serializer, out, ctx, manager, nodeId)
+            promise.complete()
+        }.await()
     }
 
     override fun  handleQueryExtra(rtx: XmlNodeReadOnlyTrx, dbCollection: XmlDBCollection, queryCtx: SirixQueryContext, jsonDBStore: JsonSessionDBStore) {
@@ -215,7 +215,7 @@ class XmlGet(private val location: Path, private val keycloak: OAuth2Auth, priva
 
 
     override suspend fun openDatabase(dbFile: Path): Database<XmlResourceSession> {
-        return Databases.openXmlDatabase(dbFile)
+        return DatabasePool.openXmlDatabase(dbFile)
     }
 
     override suspend fun getDBCollection(databaseName: String?, database: Database<XmlResourceSession>): XmlDBCollection {
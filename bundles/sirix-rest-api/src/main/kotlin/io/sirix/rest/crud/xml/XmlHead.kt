@@ -4,7 +4,7 @@ import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
 import io.vertx.kotlin.coroutines.await
-import io.sirix.access.Databases
+import io.sirix.rest.DatabasePool
 import io.sirix.access.trx.node.HashType
 import io.sirix.api.Database
 import io.sirix.api.xml.XmlNodeReadOnlyTrx
@@ -16,6 +16,6 @@ import java.time.ZoneId
 
 class XmlHead(private val location: Path): AbstractHeadHandler<XmlResourceSession>(location) {
     override fun openDatabase(dbFile: Path): Database<XmlResourceSession> {
-        return Databases.openXmlDatabase(dbFile)
+        return DatabasePool.openXmlDatabase(dbFile)
     }
 }
\ No newline at end of file
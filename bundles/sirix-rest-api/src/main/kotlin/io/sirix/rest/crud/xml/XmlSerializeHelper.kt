@@ -19,13 +19,25 @@ class XmlSerializeHelper {
         serializer.call()
         val body = String(out.toByteArray(), StandardCharsets.UTF_8)
 
+        putResponseHeaders(ctx, manager, nodeId)
+
+        return body
+    }
+
+    /**
+     * Set the status code and the headers of the response, including the ETag, if the resource
+     * stores hashes. Must be called before the body is streamed.
+     */
+    fun putResponseHeaders(
+        ctx: RoutingContext,
+        manager: XmlResourceSession,
+        nodeId: Long?
+    ) {
         if (manager.resourceConfig.hashType == HashType.NONE) {
             writeResponseWithoutHashValue(ctx)
         } else {
             writeResponseWithHashValue(manager, ctx, nodeId)
         }
-
-        return body
     }
 
     private fun writeResponseWithoutHashValue(ctx: RoutingContext) {
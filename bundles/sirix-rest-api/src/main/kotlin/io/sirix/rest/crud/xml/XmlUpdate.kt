@@ -5,7 +5,7 @@ import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.Route
 import io.vertx.ext.web.RoutingContext
 import io.vertx.kotlin.coroutines.await
-import io.sirix.access.Databases
+import io.sirix.rest.DatabasePool
 import io.sirix.access.trx.node.HashType
 import io.sirix.api.xml.XmlNodeTrx
 import io.sirix.rest.crud.Revisions
@@ -93,7 +93,7 @@ class XmlUpdate(private val location: Path) {
 
             var body: String? = null
 
-            val database = Databases.openXmlDatabase(dbFile, sirixDBUser)
+            val database = DatabasePool.openXmlDatabase(dbFile, sirixDBUser)
 
             database.use {
                 val manager = database.beginResourceSession(resPathName)
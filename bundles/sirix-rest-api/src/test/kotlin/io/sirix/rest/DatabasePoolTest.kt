@@ -0,0 +1,110 @@
+package io.sirix.rest
+
+import io.sirix.access.DatabaseConfiguration
+import io.sirix.access.Databases
+import io.sirix.access.DatabasesInternals
+import io.sirix.access.ResourceConfiguration
+import io.sirix.access.User
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import java.nio.file.Path
+import java.nio.file.Paths
+import java.time.Duration
+import java.util.UUID
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import kotlin.concurrent.thread
+
+private val databaseDirectory: Path = Paths.get(System.getProperty("java.io.tmpdir"), "sirix", "pool")
+
+/**
+ * Test the leases of the [DatabasePool].
+ */
+class DatabasePoolTest {
+
+    @BeforeEach
+    fun setup() {
+        Databases.removeDatabase(databaseDirectory)
+        Databases.createJsonDatabase(DatabaseConfiguration(databaseDirectory))
+    }
+
+    @AfterEach
+    fun tearDown() {
+        DatabasePool.evictAll()
+        Databases.removeDatabase(databaseDirectory)
+    }
+
+    @Test
+    fun testUsersShareTheDatabaseAndAreStoredWithTheirCommits() {
+        val alice = User("alice", UUID.randomUUID())
+        val bob = User("bob", UUID.randomUUID())
+
+        DatabasePool.openJsonDatabase(databaseDirectory, alice).use { aliceDatabase ->
+            DatabasePool.openJsonDatabase(databaseDirectory, bob).use { bobDatabase ->
+                aliceDatabase.createResource(ResourceConfiguration.newBuilder("resource").build())
+
+                aliceDatabase.beginResourceSession("resource").use { session ->
+                    session.beginNodeTrx().use { wtx ->
+                        wtx.insertArrayAsFirstChild()
+                        wtx.commit()
+                    }
+                }
+
+                bobDatabase.beginResourceSession("resource").use { session ->
+                    session.beginNodeTrx().use { wtx ->
+                        wtx.moveTo(1)
+                        wtx.insertNumberValueAsFirstChild(1)
+                        wtx.commit()
+                    }
+
+                    assertEquals(alice, session.beginNodeReadOnlyTrx(1).use { it.user.get() })
+                    assertEquals(bob, session.beginNodeReadOnlyTrx(2).use { it.user.get() })
+                }
+
+                assertEquals(1, DatabasesInternals.getOpenDatabases().values.sumOf { it.size })
+            }
+        }
+    }
+
+    @Test
+    fun testEvictWaitsForTheLeases() {
+        val lease = DatabasePool.openJsonDatabase(databaseDirectory)
+
+        val evicted = CountDownLatch(1)
+        thread {
+            DatabasePool.evict(databaseDirectory)
+            evicted.countDown()
+        }
+        assertFalse(evicted.await(200, TimeUnit.MILLISECONDS))
+
+        // No new leases are handed out, while the database is evicted.
+        val leased = CountDownLatch(1)
+        thread {
+            DatabasePool.openJsonDatabase(databaseDirectory).use { leased.countDown() }
+        }
+        assertFalse(leased.await(200, TimeUnit.MILLISECONDS))
+
+        // The current lease is still usable.
+        assertTrue(lease.isOpen)
+        assertTrue(lease.listResources().isEmpty())
+
+        lease.close()
+        assertTrue(evicted.await(5, TimeUnit.SECONDS))
+        assertTrue(leased.await(5, TimeUnit.SECONDS))
+    }
+
+    @Test
+    fun testEvictIdleKeepsLeasedDatabasesOpen() {
+        DatabasePool.openJsonDatabase(databaseDirectory).use { lease ->
+            DatabasePool.evictIdle(Duration.ZERO)
+            assertTrue(lease.isOpen)
+        }
+
+        DatabasePool.evictIdle(Duration.ZERO)
+        assertTrue(DatabasesInternals.getOpenDatabases().values.all { it.isEmpty() })
+    }
+}